@@ -0,0 +1,59 @@
+package com.example.lotto.benchmark;
+
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.repository.StatLottoRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 없이 추첨 경로만 측정하기 위한 고정 데이터
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 실제 통계와 비슷하게 번호마다 조금씩 다른 가중치
+     */
+    static List<StatLotto> statLottoList() {
+        List<StatLotto> statLottoList = new ArrayList<>();
+        for (int n = 1; n <= 45; n++) {
+            double probability = 0.02 + (n % 7) * 0.001;
+            statLottoList.add(StatLotto.builder()
+                    .number(n)
+                    .count(150 + n % 7)
+                    .probability(probability)
+                    .bonusCount(25 + n % 5)
+                    .bonusProbability(probability / 6)
+                    .build());
+        }
+        return statLottoList;
+    }
+
+    /**
+     * findAll 만 고정 목록을 돌려주는 저장소, 나머지 메서드는 지원하지 않음
+     */
+    static StatLottoRepository statLottoRepository(List<StatLotto> statLottoList) {
+        return (StatLottoRepository) Proxy.newProxyInstance(
+                StatLottoRepository.class.getClassLoader(),
+                new Class<?>[]{StatLottoRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAll":
+                            return statLottoList;
+                        case "toString":
+                            return "StubStatLottoRepository";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
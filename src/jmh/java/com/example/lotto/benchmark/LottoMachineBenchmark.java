@@ -0,0 +1,69 @@
+package com.example.lotto.benchmark;
+
+import com.example.lotto.simulation.machine.AliasTable;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.utils.TicketMask;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LottoMachine 추첨 경로
+ * ./gradlew jmh -Pjmh.includes=LottoMachineBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LottoMachineBenchmark {
+
+    private LottoMachine lottoMachine;
+    private WeightSnapshot snapshot;
+    private AliasTable numberTable;
+    private SplittableRandom random;
+
+    // 이미 5개를 고른 상태에서 마지막 번호를 고르는 경우
+    private final long selectedMask = TicketMask.of(new int[]{3, 13, 30, 33, 43});
+
+    @Setup
+    public void setUp() {
+        lottoMachine = new LottoMachine(BenchmarkFixtures.statLottoRepository(BenchmarkFixtures.statLottoList()));
+        snapshot = lottoMachine.getWeightSnapshot();
+        numberTable = snapshot.getNumberTable();
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public LottoNumber drawLottoNumbers() {
+        return lottoMachine.drawLottoNumbers();
+    }
+
+    @Benchmark
+    public long drawTicket() {
+        return lottoMachine.drawTicket(random, snapshot);
+    }
+
+    @Benchmark
+    public long drawUniformTicket() {
+        return lottoMachine.drawUniformTicket(random);
+    }
+
+    /**
+     * selectNumber 가 감싸는 비복원 alias 추첨
+     */
+    @Benchmark
+    public int selectNumber() {
+        return numberTable.sample(random, selectedMask);
+    }
+
+    /**
+     * 저장소 조회 + initializeWeightedNumbers + alias table 생성
+     */
+    @Benchmark
+    public WeightSnapshot refreshWeightSnapshot() {
+        return lottoMachine.refreshWeightSnapshot();
+    }
+
+}
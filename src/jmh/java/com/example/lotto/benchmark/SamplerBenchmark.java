@@ -0,0 +1,65 @@
+package com.example.lotto.benchmark;
+
+import com.example.lotto.simulation.machine.ConstrainedSampler;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조건부 추첨과 조합 순위 계산
+ * ./gradlew jmh -Pjmh.includes=SamplerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SamplerBenchmark {
+
+    // 합, 홀수, 연속 조건을 모두 쓰는 가장 큰 테이블
+    private final ConstrainedSampler.Key key = new ConstrainedSampler.Key(
+            TicketMask.of(Arrays.asList(1, 2, 3)), TicketMask.of(Arrays.asList(7)), 100, 160, 2, 4, 2);
+
+    private ConstrainedSampler uniformSampler;
+    private ConstrainedSampler weightedSampler;
+    private double[] numberWeights;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        LottoMachine lottoMachine = new LottoMachine(BenchmarkFixtures.statLottoRepository(BenchmarkFixtures.statLottoList()));
+        WeightSnapshot snapshot = lottoMachine.getWeightSnapshot();
+
+        numberWeights = snapshot.getNumberWeights();
+        uniformSampler = ConstrainedSampler.of(key, null);
+        weightedSampler = ConstrainedSampler.of(key, numberWeights);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public long sampleUniform() {
+        return uniformSampler.sample(random);
+    }
+
+    @Benchmark
+    public long sampleWeighted() {
+        return weightedSampler.sample(random);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public ConstrainedSampler buildTable() {
+        return ConstrainedSampler.of(key, numberWeights);
+    }
+
+    @Benchmark
+    public long combinationRoundTrip() {
+        return Combination.rank(Combination.unrank(random.nextInt(Combination.COUNT)));
+    }
+
+}
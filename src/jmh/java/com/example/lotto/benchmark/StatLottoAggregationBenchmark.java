@@ -0,0 +1,144 @@
+package com.example.lotto.benchmark;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.service.StatLottoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * stat_lotto 집계 파이프라인 비교 (번호별 $lookup vs $facet 한 번)
+ * 내장 MongoDB 에 가상의 10,000 회차를 넣고 측정
+ * ./gradlew jmh -Pjmh.includes=StatLottoAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatLottoAggregationBenchmark {
+
+    private static final String DATABASE = "lotto_benchmark";
+
+    @Param({"10000"})
+    private int roundCount;
+
+    private TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private StatLottoService statLottoService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongod = Mongod.instance().start(Version.Main.V7_0);
+        ServerAddress serverAddress = mongod.current().getServerAddress();
+        mongoClient = MongoClients.create("mongodb://" + serverAddress.getHost() + ":" + serverAddress.getPort());
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        StatLottoRepository statLottoRepository = BenchmarkFixtures.statLottoRepository(new ArrayList<>());
+        statLottoService = new StatLottoService(statLottoRepository, mongoTemplate, (event) -> { },
+                new StatLottoReadModel(statLottoRepository, new ObjectMapper()));
+
+        // 실제 result 컬렉션처럼 round 에만 인덱스가 있고 bonusNumber 에는 없음
+        mongoTemplate.indexOps(Result.class).ensureIndex(
+                new Index("round", Sort.Direction.ASC).unique());
+        mongoTemplate.insert(resultList(roundCount), Result.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoClient.close();
+        mongod.close();
+    }
+
+    /**
+     * 기존 방식: 번호 그룹마다 result 를 다시 읽는 $lookup
+     */
+    @Benchmark
+    public List<StatLotto> lookupPipeline() {
+        return mongoTemplate.aggregate(lookupAggregation(), "result", StatLotto.class).getMappedResults();
+    }
+
+    /**
+     * 현재 방식: $facet 으로 result 를 한 번만 읽음
+     */
+    @Benchmark
+    public List<StatLottoDTO> facetPipeline() {
+        return statLottoService.aggregateStatLotto();
+    }
+
+    private static Aggregation lookupAggregation() {
+        return Aggregation.newAggregation(
+                Aggregation.unwind("numbers"),
+                Aggregation.group("numbers")
+                        .count().as("count"),
+                Aggregation.lookup("result", "_id", "bonusNumber", "bonusMatches"),
+                Aggregation.addFields()
+                        .addField("bonusCount")
+                        .withValueOf(ArrayOperators.Size.lengthOfArray("bonusMatches")).build(),
+                Aggregation.project()
+                        .andInclude("count", "bonusCount")
+                        .and("_id").as("number")
+                        .andExclude("_id"),
+                Aggregation.group()
+                        .sum("count").as("totalCount")
+                        .sum("bonusCount").as("totalBonus")
+                        .push("$$ROOT").as("details"),
+                Aggregation.unwind("details"),
+                Aggregation.project()
+                        .and("details.number").as("number")
+                        .and("details.count").as("count")
+                        .and("details.bonusCount").as("bonusCount")
+                        .andExpression("details.count / totalCount * 100").as("probability")
+                        .andExpression("details.bonusCount / totalBonus * 100").as("bonusProbability"),
+                Aggregation.sort(Sort.Direction.ASC, "number")
+        );
+    }
+
+    private static List<Result> resultList(int roundCount) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate firstDate = LocalDate.parse("2002-12-07");
+        List<Result> resultList = new ArrayList<>(roundCount);
+
+        for (int round = 1; round <= roundCount; round++) {
+            List<Integer> numbers = new ArrayList<>(7);
+            long selectedMask = 0L;
+            while (numbers.size() < 7) {
+                int number = 1 + random.nextInt(45);
+                if ((selectedMask & (1L << number)) == 0) {
+                    selectedMask |= 1L << number;
+                    numbers.add(number);
+                }
+            }
+            Integer bonusNumber = numbers.remove(6);
+            numbers.sort(null);
+
+            resultList.add(Result.builder()
+                    .round(round)
+                    .numbers(numbers)
+                    .bonusNumber(bonusNumber)
+                    .date(firstDate.plusWeeks(round - 1))
+                    .build());
+        }
+        return resultList;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.lotto.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "lotto.export")
+public class ExportProperties {
+
+    // 동시에 진행할 수 있는 전체 이력 내보내기 수
+    private int maxConcurrent = 2;
+
+    private int bufferSize = 64 * 1024;
+
+    // 내보내기 응답의 비동기 타임아웃 (ms), 0 이하면 제한 없음
+    private long timeout = 30 * 60 * 1000L;
+
+}
@@ -0,0 +1,75 @@
+package com.example.lotto.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "lotto.machine")
+public class LottoMachineProperties {
+
+    // /get/count, /get/parallel 등 목록 응답 한 번에 만들 수 있는 최대 티켓 수, 더 많으면 /get/stream 사용
+    private int maxListCount = 10_000;
+
+    private Stream stream = new Stream();
+
+    private Parallel parallel = new Parallel();
+
+    private Backtest backtest = new Backtest();
+
+    private Randomness randomness = new Randomness();
+
+    @Data
+    public static class Stream {
+
+        // 스트리밍 요청 한 번의 최대 티켓 수
+        private long maxCount = 100_000_000L;
+
+        // 동시에 진행할 수 있는 스트리밍 요청 수
+        private int maxConcurrent = 4;
+
+        private int bufferSize = 64 * 1024;
+
+        // 스트리밍 응답의 비동기 타임아웃 (ms), 0 이하면 제한 없음
+        private long timeout = 30 * 60 * 1000L;
+
+    }
+
+    @Data
+    public static class Parallel {
+
+        // 병렬 추첨에 사용할 ForkJoinPool 스레드 수
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        // 요청 하나가 나눌 수 있는 최대 파티션 수
+        private int maxPartitions = 256;
+
+    }
+
+    @Data
+    public static class Backtest {
+
+        // 백테스트 한 번에 만들 수 있는 최대 티켓 수 (평가 횟수는 티켓 수 x 회차 수)
+        private long maxCount = 10_000_000L;
+
+        // 1게임 가격, 수익률 계산에 사용
+        private long ticketPrice = 1000L;
+
+        // 대기 + 실행 중인 작업 수 상한 (넘으면 429), 조회를 위해 메모리에 남겨두는 최근 작업 수도 같음
+        private int maxJobs = 32;
+
+    }
+
+    @Data
+    public static class Randomness {
+
+        // 무작위성 검정 한 번에 만들 수 있는 최대 추첨 수
+        private long maxCount = 1_000_000_000L;
+
+        // 대기 + 실행 중인 작업 수 상한, 넘으면 429
+        private int maxJobs = 8;
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.lotto.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "lotto.page")
+public class PageProperties {
+
+    // 커서 페이지 크기를 주지 않았을 때
+    private int defaultSize = 10;
+
+    // 한 번에 조회할 수 있는 최대 개수
+    private int maxSize = 100;
+
+    public int sizeOrDefault(Integer size) {
+        return size == null ? defaultSize : size;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.lotto.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "lotto.profile")
+public class ProfileProperties {
+
+    // 조합별 당첨 이력 파일 (약 65MB)
+    private String path = "data/hit-profile.bin";
+
+    // 분석 전용 ForkJoinPool 스레드 수, 추첨 풀과 따로 둬서 분석 중에도 추첨 요청이 밀리지 않음
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+}
@@ -0,0 +1,15 @@
+package com.example.lotto.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "lotto.snapshot")
+public class SnapshotProperties {
+
+    // 재시작할 때 바로 읽는 통계 스냅샷 파일
+    private String path = "data/stat-snapshot.bin";
+
+}
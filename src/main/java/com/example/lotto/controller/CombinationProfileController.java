@@ -0,0 +1,50 @@
+package com.example.lotto.controller;
+
+import com.example.lotto.domain.dto.HitProfileDTO;
+import com.example.lotto.domain.dto.ProfileScanDTO;
+import com.example.lotto.service.CombinationProfileService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/profile")
+public class CombinationProfileController {
+
+    private final CombinationProfileService combinationProfileService;
+
+    @Autowired
+    public CombinationProfileController(CombinationProfileService combinationProfileService) {
+        this.combinationProfileService = combinationProfileService;
+    }
+
+    @PostMapping("/post/scan")
+    public ResponseEntity<ProfileScanDTO> startScan() {
+        ProfileScanDTO profileScanDTO = combinationProfileService.startScan();
+        return new ResponseEntity<>(profileScanDTO, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/get/scan")
+    public ResponseEntity<ProfileScanDTO> getScanStatus() {
+        ProfileScanDTO profileScanDTO = combinationProfileService.readScanStatus();
+        return new ResponseEntity<>(profileScanDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/rank/{rank}")
+    public ResponseEntity<HitProfileDTO> getByRank(@PathVariable @Min(0) @Max(8_145_059) Integer rank) {
+        HitProfileDTO hitProfileDTO = combinationProfileService.readByRank(rank);
+        return new ResponseEntity<>(hitProfileDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/numbers")
+    public ResponseEntity<HitProfileDTO> getByNumbers(@RequestParam List<Integer> numbers) {
+        HitProfileDTO hitProfileDTO = combinationProfileService.readByNumbers(numbers);
+        return new ResponseEntity<>(hitProfileDTO, HttpStatus.OK);
+    }
+
+}
@@ -1,15 +1,28 @@
 package com.example.lotto.controller;
 
 import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.ResultMatchDTO;
+import com.example.lotto.domain.dto.ResultSearchDTO;
+import com.example.lotto.domain.dto.SliceDTO;
+import com.example.lotto.domain.dto.TicketCheckDTO;
+import com.example.lotto.domain.dto.TicketCheckRequestDTO;
+import com.example.lotto.service.ExportFormat;
+import com.example.lotto.service.ExportService;
 import com.example.lotto.service.ResultService;
+import com.example.lotto.service.TicketCheckService;
+import com.example.lotto.utils.StreamingTask;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Past;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,10 +32,16 @@ import java.util.List;
 public class ResultController {
 
     private final ResultService resultService;
+    private final TicketCheckService ticketCheckService;
+    private final ExportService exportService;
 
     @Autowired
-    public ResultController(ResultService resultService) {
+    public ResultController(ResultService resultService,
+                            TicketCheckService ticketCheckService,
+                            ExportService exportService) {
         this.resultService = resultService;
+        this.ticketCheckService = ticketCheckService;
+        this.exportService = exportService;
     }
 
     @GetMapping("/get/round/{round}")
@@ -57,6 +76,13 @@ public class ResultController {
         return new ResponseEntity<>(resultDTOList, HttpStatus.OK);
     }
 
+    @GetMapping("/get/slice")
+    public ResponseEntity<SliceDTO<ResultDTO>> getBySlice(@RequestParam(value = "cursor", required = false) @Min(1) Integer cursor,
+                                                          @RequestParam(value = "size", required = false) @Min(1) Integer size) {
+        SliceDTO<ResultDTO> resultSliceDTO = resultService.readBySlice(cursor, size);
+        return new ResponseEntity<>(resultSliceDTO, HttpStatus.OK);
+    }
+
     @GetMapping("/get/date")
     public ResponseEntity<List<ResultDTO>> getByDate(@RequestParam("startDate") @Past LocalDate startDate,
                                                      @RequestParam("endDate") @Past LocalDate endDate) {
@@ -64,6 +90,43 @@ public class ResultController {
         return new ResponseEntity<>(resultDTOList, HttpStatus.OK);
     }
 
+    @GetMapping("/get/export")
+    public ResponseEntity<StreamingResponseBody> getExport(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @RequestParam(defaultValue = "false") boolean gzip,
+                                                           HttpServletRequest request) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        StreamingTask streamingTask = exportService.exportResults(exportFormat, gzip).bind(request);
+
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("result." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            bodyBuilder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return bodyBuilder.body(streamingTask);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ResultSearchDTO> search(@RequestParam(value = "query", required = false) String query,
+                                                  @RequestParam(value = "fromRound", required = false) @Min(1) Integer fromRound,
+                                                  @RequestParam(value = "toRound", required = false) @Min(1) Integer toRound,
+                                                  @RequestParam(value = "startDate", required = false) LocalDate startDate,
+                                                  @RequestParam(value = "endDate", required = false) LocalDate endDate) {
+        ResultSearchDTO resultSearchDTO = resultService.search(query, fromRound, toRound, startDate, endDate);
+        return new ResponseEntity<>(resultSearchDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/search/match")
+    public ResponseEntity<List<ResultMatchDTO>> searchMatch(@RequestParam("numbers") List<Integer> numbers,
+                                                            @RequestParam("minMatch") @Min(1) @Max(6) Integer minMatch,
+                                                            @RequestParam(value = "bonus", defaultValue = "false") boolean bonus) {
+        List<ResultMatchDTO> resultMatchDTOList = resultService.readByMatch(numbers, minMatch, bonus);
+        return new ResponseEntity<>(resultMatchDTOList, HttpStatus.OK);
+    }
+
     @PostMapping("/post/insert")
     public ResponseEntity<ResultDTO> insert(@RequestBody @Validated
                                                 ResultDTO resultDTO) {
@@ -71,6 +134,13 @@ public class ResultController {
         return new ResponseEntity<>(createResultDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping("/post/check")
+    public ResponseEntity<List<TicketCheckDTO>> check(@RequestBody @Validated
+                                                          TicketCheckRequestDTO ticketCheckRequestDTO) {
+        List<TicketCheckDTO> ticketCheckDTOList = ticketCheckService.check(ticketCheckRequestDTO.getTicketList());
+        return new ResponseEntity<>(ticketCheckDTOList, HttpStatus.OK);
+    }
+
     @PutMapping("/put/update/{round}")
     public ResponseEntity<ResultDTO> update(@PathVariable @Min(1) Integer round,
                                             @RequestBody @Validated ResultDTO resultDTO) {
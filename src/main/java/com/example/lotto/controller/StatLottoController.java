@@ -1,9 +1,17 @@
 package com.example.lotto.controller;
 
+import com.example.lotto.domain.dto.CoOccurrenceDTO;
+import com.example.lotto.domain.dto.NumberGapDTO;
 import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.domain.dto.StatWindowDTO;
+import com.example.lotto.service.CoOccurrenceService;
+import com.example.lotto.service.StatAsOfService;
+import com.example.lotto.service.StatGapService;
 import com.example.lotto.service.StatLottoService;
+import com.example.lotto.service.StatWindowService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,10 +23,22 @@ import java.util.List;
 public class StatLottoController {
 
     private final StatLottoService statLottoService;
+    private final CoOccurrenceService coOccurrenceService;
+    private final StatWindowService statWindowService;
+    private final StatGapService statGapService;
+    private final StatAsOfService statAsOfService;
 
     @Autowired
-    public StatLottoController(StatLottoService statLottoService) {
+    public StatLottoController(StatLottoService statLottoService,
+                               CoOccurrenceService coOccurrenceService,
+                               StatWindowService statWindowService,
+                               StatGapService statGapService,
+                               StatAsOfService statAsOfService) {
         this.statLottoService = statLottoService;
+        this.coOccurrenceService = coOccurrenceService;
+        this.statWindowService = statWindowService;
+        this.statGapService = statGapService;
+        this.statAsOfService = statAsOfService;
     }
 
     @GetMapping("/get/calc")
@@ -39,10 +59,82 @@ public class StatLottoController {
         return new ResponseEntity<>(statLottoDTOList, HttpStatus.OK);
     }
 
+    /**
+     * 통계가 바뀔 때 미리 직렬화해 둔 JSON 을 그대로 응답
+     */
     @GetMapping("/get/all")
-    public ResponseEntity<List<StatLottoDTO>> getAll() {
-        List<StatLottoDTO> statLottoDTOList = statLottoService.readAll();
-        return new ResponseEntity<>(statLottoDTOList, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAll() {
+        byte[] statLottoJson = statLottoService.readAllJson();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(statLottoJson);
+    }
+
+    /**
+     * 회차 구간 통계, lastN 또는 fromRound / toRound 중 하나로 지정
+     */
+    @GetMapping("/get/window")
+    public ResponseEntity<StatWindowDTO> getWindow(@RequestParam(required = false) Integer fromRound,
+                                                   @RequestParam(required = false) Integer toRound,
+                                                   @RequestParam(required = false) Integer lastN) {
+        StatWindowDTO statWindowDTO = statWindowService.readWindow(fromRound, toRound, lastN);
+        return new ResponseEntity<>(statWindowDTO, HttpStatus.OK);
+    }
+
+    /**
+     * round 회차 추첨 직후 시점의 통계 (이후 회차는 반영하지 않음)
+     */
+    @GetMapping("/get/asOf/{round}")
+    public ResponseEntity<StatWindowDTO> getAsOf(@PathVariable Integer round) {
+        StatWindowDTO statWindowDTO = statAsOfService.readAsOf(round);
+        return new ResponseEntity<>(statWindowDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/gap/{number}")
+    public ResponseEntity<NumberGapDTO> getGapByNumber(@PathVariable Integer number) {
+        NumberGapDTO numberGapDTO = statGapService.readByNumber(number);
+        return new ResponseEntity<>(numberGapDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/gap/all")
+    public ResponseEntity<List<NumberGapDTO>> getGapAll() {
+        List<NumberGapDTO> numberGapDTOList = statGapService.readAll();
+        return new ResponseEntity<>(numberGapDTOList, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/gap/overdue")
+    public ResponseEntity<List<NumberGapDTO>> getOverdue(@RequestParam(defaultValue = "10") Integer size) {
+        List<NumberGapDTO> numberGapDTOList = statGapService.readOverdue(size);
+        return new ResponseEntity<>(numberGapDTOList, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/pair/{number}")
+    public ResponseEntity<List<CoOccurrenceDTO>> getPartners(@PathVariable Integer number) {
+        List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readPartners(number);
+        return new ResponseEntity<>(coOccurrenceDTOList, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/pair/top")
+    public ResponseEntity<List<CoOccurrenceDTO>> getTopPairs(@RequestParam(defaultValue = "20") Integer size) {
+        List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readTopPairs(size);
+        return new ResponseEntity<>(coOccurrenceDTOList, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/triple/top")
+    public ResponseEntity<List<CoOccurrenceDTO>> getTopTriples(@RequestParam(defaultValue = "20") Integer size) {
+        List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readTopTriples(size);
+        return new ResponseEntity<>(coOccurrenceDTOList, HttpStatus.OK);
+    }
+
+    /**
+     * 45 x 45 int 행렬 (행 우선, big-endian), [a - 1][b - 1] = a, b 가 같이 나온 횟수
+     */
+    @GetMapping("/get/pair/matrix")
+    public ResponseEntity<byte[]> getPairMatrix() {
+        byte[] matrix = coOccurrenceService.readPairMatrix();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(matrix);
     }
 
 }
@@ -1,14 +1,22 @@
 package com.example.lotto.controller;
 
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.domain.dto.WinningReportDTO;
+import com.example.lotto.service.ExportFormat;
+import com.example.lotto.service.ExportService;
 import com.example.lotto.service.WinningReportService;
+import com.example.lotto.utils.StreamingTask;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Past;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,10 +26,13 @@ import java.util.List;
 public class WinningReportController {
 
     private final WinningReportService winningReportService;
+    private final ExportService exportService;
 
     @Autowired
-    public WinningReportController(WinningReportService winningReportService) {
+    public WinningReportController(WinningReportService winningReportService,
+                                   ExportService exportService) {
         this.winningReportService = winningReportService;
+        this.exportService = exportService;
     }
 
     @GetMapping("/get/round/{round}")
@@ -42,6 +53,32 @@ public class WinningReportController {
         return new ResponseEntity<>(winningReportDTOList, HttpStatus.OK);
     }
 
+    @GetMapping("/get/slice")
+    public ResponseEntity<SliceDTO<WinningReportDTO>> getBySlice(@RequestParam(required = false) @Min(1) Integer cursor,
+                                                                 @RequestParam(required = false) @Min(1) Integer size) {
+        SliceDTO<WinningReportDTO> winningReportSliceDTO = winningReportService.readBySlice(cursor, size);
+        return new ResponseEntity<>(winningReportSliceDTO, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/export")
+    public ResponseEntity<StreamingResponseBody> getExport(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @RequestParam(defaultValue = "false") boolean gzip,
+                                                           HttpServletRequest request) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        StreamingTask streamingTask = exportService.exportWinningReports(exportFormat, gzip).bind(request);
+
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("winning_report." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            bodyBuilder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return bodyBuilder.body(streamingTask);
+    }
+
     @GetMapping("/get/date")
     public ResponseEntity<List<WinningReportDTO>> getByDate(@RequestParam @Past LocalDate startDate,
                                                             @RequestParam @Past LocalDate endDate) {
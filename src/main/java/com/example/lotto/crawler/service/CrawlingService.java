@@ -5,14 +5,18 @@ import com.example.lotto.crawler.utils.CrawlingUtils;
 import com.example.lotto.domain.Rank;
 import com.example.lotto.domain.Result;
 import com.example.lotto.domain.WinningReport;
+import com.example.lotto.domain.dto.ResultDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.event.WinningReportChangeEvent;
 import com.example.lotto.repository.ResultRepository;
 import com.example.lotto.repository.WinningReportRepository;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,14 +34,17 @@ public class CrawlingService {
     private final ResultRepository resultRepository;
     private final WinningReportRepository winningReportRepository;
     private final CrawlingUtils crawlingUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CrawlingService(ResultRepository resultRepository,
                            WinningReportRepository winningReportRepository,
-                           CrawlingUtils crawlingUtils) {
+                           CrawlingUtils crawlingUtils,
+                           ApplicationEventPublisher eventPublisher) {
         this.resultRepository = resultRepository;
         this.winningReportRepository = winningReportRepository;
         this.crawlingUtils = crawlingUtils;
+        this.eventPublisher = eventPublisher;
     }
 
     public CrawlingModel crawlWebsite(Integer page) throws IOException {
@@ -179,8 +186,12 @@ public class CrawlingService {
 
     @Transactional
     public void insertByCrawl(CrawlingModel crawlingModel) {
-        resultRepository.save(bindingResult(crawlingModel));
+        Result result = bindingResult(crawlingModel);
+        resultRepository.save(result);
         winningReportRepository.save(bindingWinningReport(crawlingModel));
+
+        eventPublisher.publishEvent(ResultChangeEvent.inserted(List.of(result.toDTO())));
+        eventPublisher.publishEvent(new WinningReportChangeEvent(List.of(result.getRound())));
     }
 
     @Transactional
@@ -197,6 +208,16 @@ public class CrawlingService {
         resultRepository.saveAll(resultList);
         winningReportRepository.saveAll(winningReportList);
 
+        List<ResultDTO> resultDTOList = new ArrayList<>();
+        List<Integer> roundList = new ArrayList<>();
+        resultList.forEach((r) -> {
+            resultDTOList.add(r.toDTO());
+            roundList.add(r.getRound());
+        });
+
+        eventPublisher.publishEvent(ResultChangeEvent.inserted(resultDTOList));
+        eventPublisher.publishEvent(new WinningReportChangeEvent(roundList));
+
     }
 
 }
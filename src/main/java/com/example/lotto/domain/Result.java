@@ -4,6 +4,7 @@ import com.example.lotto.domain.dto.ResultDTO;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Past;
+import com.example.lotto.utils.TicketMask;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,6 +29,10 @@ public class Result {
     private List<Integer> numbers;
     private Integer bonusNumber;
     private LocalDate date;
+    // 당첨 번호 6개 비트마스크 (번호 n 은 비트 n), $bitsAllSet / $bitsAnySet 조회용, 저장할 때 ResultMaskCallback 이 채움
+    private Long mask;
+    // 보너스 번호 비트 하나 (번호 n 은 비트 n), mask 와 같은 방식으로 비트 조회
+    private Long bonusMask;
 
     public ResultDTO toDTO() {
         return ResultDTO.builder()
@@ -38,4 +43,11 @@ public class Result {
                     .build();
     }
 
+    /**
+     * 당첨 번호 + 보너스 번호 비트마스크
+     */
+    public long toMask() {
+        return TicketMask.of(numbers, bonusNumber);
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.example.lotto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 회차 BLOCK_SIZE 개 단위의 누적 통계
+ * 블록 시작 직전까지의 누적 횟수 + 블록 안 회차별 당첨 번호(차분)로 저장
+ * 블록 안 임의 회차 시점의 통계는 누적 횟수에 앞쪽 회차 번호만 더하면 됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "stat_checkpoint")
+public class StatCheckpoint {
+
+    public static final int BLOCK_SIZE = 64;
+
+    @Id
+    private String id;
+
+    // (회차 - 1) / BLOCK_SIZE
+    @Indexed(unique = true)
+    private Integer blockIndex;
+
+    // 블록의 첫 회차 (blockIndex * BLOCK_SIZE + 1)
+    private Integer fromRound;
+
+    // 전체 이력의 첫 회차
+    private Integer firstRound;
+
+    // fromRound 이전까지의 회차 수, 번호별 누적 횟수 (인덱스가 번호, 길이 46)
+    private Integer roundCount;
+    private int[] counts;
+    private int[] bonusCounts;
+
+    // [회차 - fromRound] = TicketMask (번호 + 보너스), 없는 회차는 0
+    private long[] masks;
+
+    public static int blockIndexOf(int round) {
+        return (round - 1) / BLOCK_SIZE;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CoOccurrenceDTO {
+
+    // 오름차순 번호 2개 또는 3개 (번호별 조회는 기준 번호가 먼저)
+    private List<Integer> numbers;
+
+    // 같은 회차에 같이 나온 횟수 (보너스 번호 제외)
+    private Integer count;
+
+}
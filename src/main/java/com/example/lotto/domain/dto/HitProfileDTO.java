@@ -0,0 +1,28 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class HitProfileDTO {
+
+    // 조합의 colex 순위 (0 ~ 8,145,059)
+    private Integer rank;
+
+    private List<Integer> numbers;
+
+    // 최고 등수, 한 번도 3개 이상 맞은 적이 없으면 0
+    private Integer bestRank;
+
+    // 3 / 4 / 5개 이상 일치한 회차 수
+    private Integer hit3Count;
+    private Integer hit4Count;
+    private Integer hit5Count;
+
+    // 마지막으로 3개 이상 일치한 회차, 없으면 0
+    private Integer lastHitRound;
+
+}
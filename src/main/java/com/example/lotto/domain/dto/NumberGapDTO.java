@@ -0,0 +1,29 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class NumberGapDTO {
+
+    private Integer number;
+
+    // 보너스 번호 제외
+    private Integer appearanceCount;
+
+    // 한 번도 안 나왔으면 0
+    private Integer lastSeenRound;
+
+    // 마지막으로 나온 뒤 지난 회차 수, 가장 최근 회차에 나왔으면 0
+    private Integer currentGap;
+
+    private Integer maxGap;
+    private Double meanGap;
+
+    // [k] = 간격이 k + 1 회차였던 횟수, 마지막 값은 그 이상 전부
+    private List<Integer> gapHistogram;
+
+}
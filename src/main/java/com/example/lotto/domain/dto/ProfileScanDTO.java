@@ -0,0 +1,26 @@
+package com.example.lotto.domain.dto;
+
+import com.example.lotto.simulation.model.JobStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ProfileScanDTO {
+
+    // 한 번도 실행하지 않았으면 null
+    private JobStatus status;
+    private String message;
+
+    private Long processedCount;
+    private Long totalCount;
+    private Long elapsedMillis;
+
+    // 현재 조회에 사용하는 파일 기준
+    private Integer roundCount;
+    private Integer latestRound;
+    private LocalDateTime createdAt;
+
+}
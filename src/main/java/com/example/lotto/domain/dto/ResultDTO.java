@@ -1,6 +1,7 @@
 package com.example.lotto.domain.dto;
 
 import com.example.lotto.domain.Result;
+import com.example.lotto.utils.TicketMask;
 import jakarta.validation.constraints.*;
 import lombok.Builder;
 import lombok.Data;
@@ -37,4 +38,11 @@ public class ResultDTO {
                 .build();
     }
 
+    /**
+     * 당첨 번호 + 보너스 번호 비트마스크
+     */
+    public long toMask() {
+        return TicketMask.of(numbers, bonusNumber);
+    }
+
 }
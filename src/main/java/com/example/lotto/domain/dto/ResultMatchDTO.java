@@ -0,0 +1,27 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class ResultMatchDTO {
+
+    private Integer round;
+
+    private List<Integer> numbers;
+
+    private Integer bonusNumber;
+
+    private LocalDate date;
+
+    // 당첨 번호와 겹치는 개수
+    private Integer matchCount;
+
+    // 보너스 번호가 내 번호에 있는지
+    private Boolean bonusMatch;
+
+}
@@ -0,0 +1,19 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ResultSearchDTO {
+
+    private String query;
+
+    private Integer count;
+
+    // 회차 오름차순
+    private List<ResultDTO> resultList;
+
+}
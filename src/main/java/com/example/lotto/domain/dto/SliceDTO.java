@@ -0,0 +1,25 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 응답, 전체 개수는 세지 않음
+ */
+@Data
+@Builder
+public class SliceDTO<T> {
+
+    // 회차 내림차순
+    private List<T> content;
+
+    private Integer size;
+
+    private Boolean hasNext;
+
+    // 다음 페이지 요청에 cursor 로 넘길 회차, 마지막 페이지면 null
+    private Integer nextCursor;
+
+}
@@ -5,6 +5,9 @@ import com.example.lotto.domain.StatLotto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @Builder
 public class StatLottoDTO {
@@ -15,6 +18,34 @@ public class StatLottoDTO {
     private Integer bonusCount;
     private Double bonusProbability;
 
+    /**
+     * 번호를 인덱스로 하는 횟수 배열(길이 46)로 확률(%)까지 계산
+     * 일반 번호 / 보너스 번호 모두 한 번도 안 나온 번호는 제외
+     */
+    public static List<StatLottoDTO> listOf(int[] count, int[] bonusCount) {
+        long totalCount = 0;
+        long totalBonusCount = 0;
+        for (int number = 1; number < count.length; number++) {
+            totalCount += count[number];
+            totalBonusCount += bonusCount[number];
+        }
+
+        List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+        for (int number = 1; number < count.length; number++) {
+            if (count[number] == 0 && bonusCount[number] == 0) {
+                continue;
+            }
+            statLottoDTOList.add(StatLottoDTO.builder()
+                    .number(number)
+                    .count(count[number])
+                    .probability(totalCount == 0 ? 0 : (double) count[number] / totalCount * 100)
+                    .bonusCount(bonusCount[number])
+                    .bonusProbability(totalBonusCount == 0 ? 0 : (double) bonusCount[number] / totalBonusCount * 100)
+                    .build());
+        }
+        return statLottoDTOList;
+    }
+
     public StatLotto toEntity() {
         return StatLotto.builder()
                 .number(number)
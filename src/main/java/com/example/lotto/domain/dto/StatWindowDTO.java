@@ -0,0 +1,20 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StatWindowDTO {
+
+    // 실제로 집계한 회차 구간 (양 끝 포함)
+    private Integer fromRound;
+    private Integer toRound;
+    private Integer roundCount;
+
+    // 구간 안에서 한 번이라도 나온 번호만, 번호 오름차순
+    private List<StatLottoDTO> statLottoList;
+
+}
@@ -0,0 +1,19 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TicketCheckDTO {
+
+    private List<Integer> numbers;
+
+    // 당첨된 회차만 회차 오름차순
+    private List<TicketWinDTO> winList;
+
+    private Long totalWinningAmount;
+
+}
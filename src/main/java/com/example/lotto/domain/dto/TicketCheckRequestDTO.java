@@ -0,0 +1,20 @@
+package com.example.lotto.domain.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketCheckRequestDTO {
+
+    @NotEmpty
+    private List<@NotNull @Size(min = 6, max = 6) List<@NotNull @Min(value = 1) @Max(value = 45) Integer>> ticketList;
+
+}
@@ -0,0 +1,17 @@
+package com.example.lotto.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TicketWinDTO {
+
+    private Integer round;
+
+    private Integer ranking;
+
+    // 해당 회차 당첨 내역이 없으면 0
+    private Long winningAmount;
+
+}
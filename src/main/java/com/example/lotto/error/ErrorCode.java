@@ -8,8 +8,10 @@ import lombok.Getter;
  * 000번대: UNKNOWN
  * 100번대: RESULT
  * 200번대: WINNING_REPORT
- * 300번대: CRAWLING_MODEL
- * 400번대: VALIDATION
+ * 300번대: STAT_LOTTO
+ * 400번대: CRAWLING_MODEL
+ * 500번대: VALIDATION
+ * 600번대: LOTTO_MACHINE
  **/
 @Getter
 @RequiredArgsConstructor
@@ -25,6 +27,13 @@ public enum ErrorCode {
     NOT_EXIST_RESULT_BONUS_NUMBER("103_NOT_EXIST_RESULT_BONUS_NUMBER", "보너스 번호가 존재하지 않습니다."),
     DUPLICATE_RESULT_ROUND("104_DUPLICATE_ROUND", "해당 회차는 이미 존재합니다."),
     INCORRECT_RESULT_DATE("105_INCORRECT_DATE_RESULT", "올바른 날짜가 아닙니다."),
+    INVALID_TICKET("106_INVALID_TICKET", "중복 없는 6개의 번호가 아닌 티켓이 있습니다."),
+    EXCEED_TICKET_COUNT("107_EXCEED_TICKET_COUNT", "한 번에 확인할 수 있는 티켓 수를 초과했습니다."),
+    RUNNING_PROFILE_SCAN("108_RUNNING_PROFILE_SCAN", "조합 분석이 이미 진행 중입니다."),
+    NOT_EXIST_PROFILE("109_NOT_EXIST_PROFILE", "조합 분석 결과가 존재하지 않습니다."),
+    INVALID_SEARCH_QUERY("110_INVALID_SEARCH_QUERY", "검색식이 올바르지 않습니다."),
+    INVALID_SEARCH_RANGE("111_INVALID_SEARCH_RANGE", "검색할 회차 또는 날짜 구간이 올바르지 않습니다."),
+    INVALID_MATCH_COUNT("112_INVALID_MATCH_COUNT", "일치 개수는 1 ~ 6 사이여야 합니다."),
 
     // 200번대
     NOT_EXIST_WINNING_REPORT("200_NOT_EXIST_WINNING_REPORT", "내용이 존재하지 않습니다."),
@@ -35,12 +44,29 @@ public enum ErrorCode {
     // 300번대
     NOT_EXIST_STAT_LOTTO("300_NOT_EXIST_STAT_LOTTO", "해당 로또 분석 결과가 존재하지 않습니다"),
     NOT_EXIST_STAT_LOTTO_LIST("301_NOT_EXIST_STAT_LOTTO_LIST", "모든 로또 분석 결과가 존재하지 않습니다."),
+    INVALID_STAT_NUMBER("302_INVALID_STAT_NUMBER", "1 ~ 45 사이의 번호가 아닙니다."),
+    INVALID_TOP_SIZE("303_INVALID_TOP_SIZE", "조회 개수가 허용 범위를 벗어났습니다."),
+    INVALID_ROUND_RANGE("304_INVALID_ROUND_RANGE", "조회할 회차 구간이 올바르지 않습니다."),
 
     // 400번대
     NOT_EXIST_CRAWLING_MODEL("400_NOT_EXIST_CRAWLING_MODEL", "크롤링 데이터가 존재하지 않습니다."),
 
     // 500번대
-    VALIDATION("500_VALIDATION", "형식이 일치하지 않습니다.");
+    VALIDATION("500_VALIDATION", "형식이 일치하지 않습니다."),
+    INVALID_PAGE_SIZE("501_INVALID_PAGE_SIZE", "페이지 크기가 허용 범위를 벗어났습니다."),
+    INVALID_EXPORT_FORMAT("502_INVALID_EXPORT_FORMAT", "지원하지 않는 내보내기 형식입니다."),
+    EXCEED_EXPORT_STREAM("503_EXCEED_EXPORT_STREAM", "동시에 처리할 수 있는 내보내기 요청을 초과했습니다."),
+
+    // 600번대
+    INVALID_DRAW_COUNT("600_INVALID_DRAW_COUNT", "추첨 개수가 허용 범위를 벗어났습니다."),
+    EXCEED_DRAW_STREAM("601_EXCEED_DRAW_STREAM", "동시에 처리할 수 있는 추첨 요청을 초과했습니다."),
+    INVALID_DRAW_FORMAT("602_INVALID_DRAW_FORMAT", "지원하지 않는 추첨 결과 형식입니다."),
+    NOT_EXIST_BACKTEST("603_NOT_EXIST_BACKTEST", "백테스트 작업이 존재하지 않습니다."),
+    INVALID_DRAW_MODE("604_INVALID_DRAW_MODE", "지원하지 않는 추첨 방식입니다."),
+    INFEASIBLE_CONSTRAINT("605_INFEASIBLE_CONSTRAINT", "조건을 만족하는 번호 조합이 없습니다."),
+    INVALID_RANDOMNESS_SOURCE("606_INVALID_RANDOMNESS_SOURCE", "지원하지 않는 무작위성 검정 대상입니다."),
+    NOT_EXIST_RANDOMNESS_REPORT("607_NOT_EXIST_RANDOMNESS_REPORT", "무작위성 검정 결과가 존재하지 않습니다."),
+    EXCEED_SIMULATION_JOB("608_EXCEED_SIMULATION_JOB", "대기 중인 시뮬레이션 작업이 너무 많습니다.");
 
     private final String code;
     private final String detail;
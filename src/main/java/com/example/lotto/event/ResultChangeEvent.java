@@ -0,0 +1,35 @@
+package com.example.lotto.event;
+
+import com.example.lotto.domain.dto.ResultDTO;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * result 컬렉션에 쓰기가 끝났을 때 발행
+ * 수정은 기존 값 삭제 + 새 값 추가로 표현
+ */
+@Getter
+public class ResultChangeEvent {
+
+    private final List<ResultDTO> insertedList;
+    private final List<ResultDTO> deletedList;
+
+    public ResultChangeEvent(List<ResultDTO> insertedList, List<ResultDTO> deletedList) {
+        this.insertedList = List.copyOf(insertedList);
+        this.deletedList = List.copyOf(deletedList);
+    }
+
+    public static ResultChangeEvent inserted(List<ResultDTO> insertedList) {
+        return new ResultChangeEvent(insertedList, List.of());
+    }
+
+    public static ResultChangeEvent updated(ResultDTO before, ResultDTO after) {
+        return new ResultChangeEvent(List.of(after), List.of(before));
+    }
+
+    public static ResultChangeEvent deleted(ResultDTO deleted) {
+        return new ResultChangeEvent(List.of(), List.of(deleted));
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.lotto.event;
+
+import com.example.lotto.domain.dto.StatLottoDTO;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * stat_lotto 갱신이 끝났을 때 발행
+ * 메모리에 올려둔 가중치 등을 교체하는 용도
+ */
+@Getter
+public class StatLottoUpdateEvent {
+
+    private final List<StatLottoDTO> statLottoDTOList;
+
+    public StatLottoUpdateEvent(List<StatLottoDTO> statLottoDTOList) {
+        this.statLottoDTOList = List.copyOf(statLottoDTOList);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.lotto.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * winning_report 컬렉션에 쓰기가 끝났을 때 발행
+ */
+@Getter
+public class WinningReportChangeEvent {
+
+    private final List<Integer> roundList;
+
+    public WinningReportChangeEvent(List<Integer> roundList) {
+        this.roundList = List.copyOf(roundList);
+    }
+
+}
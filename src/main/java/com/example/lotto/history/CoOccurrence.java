@@ -0,0 +1,118 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * 전체 회차에서 번호 2개 / 3개가 같이 나온 횟수 (보너스 번호 제외)
+ *
+ * 2개: 46 x 46 int 배열, [a * 46 + b] = [b * 46 + a]
+ * 3개: 3개 조합의 colex 순위(0 ~ 14,189)를 인덱스로 하는 int 배열
+ */
+public final class CoOccurrence {
+
+    public static final int TRIPLE_COUNT = 14_190;
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+
+    private final int roundCount;
+    private final int latestRound;
+    private final int[] pairCounts;
+    private final int[] tripleCounts;
+
+    private CoOccurrence(int roundCount, int latestRound, int[] pairCounts, int[] tripleCounts) {
+        this.roundCount = roundCount;
+        this.latestRound = latestRound;
+        this.pairCounts = pairCounts;
+        this.tripleCounts = tripleCounts;
+    }
+
+    public static CoOccurrence of(ResultHistory history) {
+        int[] pairCounts = new int[SIZE * SIZE];
+        int[] tripleCounts = new int[TRIPLE_COUNT];
+        int[] numbers = new int[TicketMask.NUMBER_COUNT];
+
+        for (int i = 0; i < history.size(); i++) {
+            long mask = TicketMask.numbers(history.getMask(i));
+            for (int k = 0; mask != 0; k++, mask &= mask - 1) {
+                numbers[k] = Long.numberOfTrailingZeros(mask);
+            }
+
+            // 오름차순 a < b < c, 회차당 쌍 15개 / 3개 조합 20개
+            for (int x = 0; x < numbers.length; x++) {
+                int a = numbers[x];
+                for (int y = x + 1; y < numbers.length; y++) {
+                    int b = numbers[y];
+                    pairCounts[a * SIZE + b]++;
+                    pairCounts[b * SIZE + a]++;
+                    for (int z = y + 1; z < numbers.length; z++) {
+                        tripleCounts[tripleRank(a, b, numbers[z])]++;
+                    }
+                }
+            }
+        }
+
+        return new CoOccurrence(history.size(), history.getLatestRound(), pairCounts, tripleCounts);
+    }
+
+    /**
+     * 오름차순 번호 a < b < c 의 colex 순위
+     */
+    public static int tripleRank(int a, int b, int c) {
+        return Combination.binomial(a - 1, 1) + Combination.binomial(b - 1, 2) + Combination.binomial(c - 1, 3);
+    }
+
+    /**
+     * @return 오름차순 번호 3개
+     */
+    public static int[] unrankTriple(int rank) {
+        if (rank < 0 || rank >= TRIPLE_COUNT) {
+            throw new IllegalArgumentException("rank out of range: " + rank);
+        }
+
+        int[] numbers = new int[3];
+        int n = TicketMask.MAX_NUMBER;
+        for (int i = 3; i >= 1; i--) {
+            while (Combination.binomial(n - 1, i) > rank) {
+                n--;
+            }
+            rank -= Combination.binomial(n - 1, i);
+            numbers[i - 1] = n;
+            n--;
+        }
+        return numbers;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getLatestRound() {
+        return latestRound;
+    }
+
+    public int getPairCount(int a, int b) {
+        return a == b ? 0 : pairCounts[a * SIZE + b];
+    }
+
+    public int getTripleCount(int rank) {
+        return tripleCounts[rank];
+    }
+
+    /**
+     * 1 ~ 45번 행렬을 행 우선 순서로 (45 x 45 x 4 바이트, big-endian, 대각선은 0)
+     */
+    public byte[] toPairMatrixBytes() {
+        int max = TicketMask.MAX_NUMBER;
+        ByteBuffer buffer = ByteBuffer.allocate(max * max * Integer.BYTES);
+        IntBuffer intBuffer = buffer.asIntBuffer();
+        for (int a = 1; a <= max; a++) {
+            intBuffer.put(pairCounts, a * SIZE + 1, max);
+        }
+        return buffer.array();
+    }
+
+}
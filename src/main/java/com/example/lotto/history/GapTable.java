@@ -0,0 +1,112 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.TicketMask;
+
+import java.util.Arrays;
+
+/**
+ * 번호별 출현 간격 통계 (보너스 번호 제외)
+ * 간격은 같은 번호가 연속으로 나온 두 회차의 회차 번호 차이
+ *
+ * 회차가 뒤에 추가되기만 했으면 번호별 누적값에 새 회차만 반영해서 확장
+ */
+public final class GapTable {
+
+    // 간격 분포 구간 수, [k] = 간격 k + 1 인 횟수, 마지막 구간은 HISTOGRAM_SIZE 이상 전부
+    public static final int HISTOGRAM_SIZE = 32;
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+
+    private final ResultHistory history;
+
+    private final int[] appearanceCount;
+    private final int[] lastSeenRound;  // 한 번도 안 나왔으면 0
+    private final int[] maxGap;
+    private final long[] gapSum;
+    private final int[] gapHistogram;   // [n * HISTOGRAM_SIZE + k]
+
+    private GapTable(ResultHistory history, int[] appearanceCount, int[] lastSeenRound,
+                     int[] maxGap, long[] gapSum, int[] gapHistogram) {
+        this.history = history;
+        this.appearanceCount = appearanceCount;
+        this.lastSeenRound = lastSeenRound;
+        this.maxGap = maxGap;
+        this.gapSum = gapSum;
+        this.gapHistogram = gapHistogram;
+    }
+
+    public static GapTable of(ResultHistory history) {
+        GapTable empty = new GapTable(ResultHistory.EMPTY, new int[SIZE], new int[SIZE],
+                new int[SIZE], new long[SIZE], new int[SIZE * HISTOGRAM_SIZE]);
+        return empty.extend(history);
+    }
+
+    /**
+     * 기존 회차가 그대로이고 뒤에만 추가된 경우 새 회차만 반영, 아니면 처음부터 다시 만듦
+     * 번호당 값 몇 개뿐이라 배열을 복사해서 기존 인스턴스는 그대로 둠
+     */
+    public GapTable extend(ResultHistory next) {
+        if (!next.startsWith(history)) {
+            return of(next);
+        }
+
+        int[] nextAppearanceCount = appearanceCount.clone();
+        int[] nextLastSeenRound = lastSeenRound.clone();
+        int[] nextMaxGap = maxGap.clone();
+        long[] nextGapSum = gapSum.clone();
+        int[] nextGapHistogram = gapHistogram.clone();
+
+        for (int i = history.size(); i < next.size(); i++) {
+            int round = next.getRound(i);
+            for (long numbers = TicketMask.numbers(next.getMask(i)); numbers != 0; numbers &= numbers - 1) {
+                int number = Long.numberOfTrailingZeros(numbers);
+                if (nextAppearanceCount[number] > 0) {
+                    int gap = round - nextLastSeenRound[number];
+                    nextMaxGap[number] = Math.max(nextMaxGap[number], gap);
+                    nextGapSum[number] += gap;
+                    nextGapHistogram[number * HISTOGRAM_SIZE + Math.min(gap, HISTOGRAM_SIZE) - 1]++;
+                }
+                nextAppearanceCount[number]++;
+                nextLastSeenRound[number] = round;
+            }
+        }
+
+        return new GapTable(next, nextAppearanceCount, nextLastSeenRound, nextMaxGap, nextGapSum, nextGapHistogram);
+    }
+
+    public ResultHistory getHistory() {
+        return history;
+    }
+
+    public int getAppearanceCount(int number) {
+        return appearanceCount[number];
+    }
+
+    public int getLastSeenRound(int number) {
+        return lastSeenRound[number];
+    }
+
+    /**
+     * 마지막으로 나온 뒤 지난 회차 수, 마지막 회차에 나왔으면 0
+     */
+    public int getCurrentGap(int number) {
+        return history.getLatestRound() - lastSeenRound[number];
+    }
+
+    public int getMaxGap(int number) {
+        return maxGap[number];
+    }
+
+    /**
+     * 간격이 없으면 (0 ~ 1번 출현) 0
+     */
+    public double getMeanGap(int number) {
+        int gapCount = appearanceCount[number] - 1;
+        return gapCount <= 0 ? 0 : (double) gapSum[number] / gapCount;
+    }
+
+    public int[] getGapHistogram(int number) {
+        return Arrays.copyOfRange(gapHistogram, number * HISTOGRAM_SIZE, (number + 1) * HISTOGRAM_SIZE);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.lotto.history;
+
+/**
+ * 조합 하나의 과거 당첨 이력을 long 하나에 압축
+ *
+ * bit 0 ~ 2   : 최고 등수 (1 ~ 5, 한 번도 없으면 0)
+ * bit 3 ~ 18  : 3개 이상 일치한 회차 수
+ * bit 19 ~ 30 : 4개 이상 일치한 회차 수
+ * bit 31 ~ 38 : 5개 이상 일치한 회차 수
+ * bit 39 ~ 54 : 마지막으로 3개 이상 일치한 회차
+ */
+public final class HitProfile {
+
+    public static final int BYTES = Long.BYTES;
+
+    private static final int BEST_RANK_SHIFT = 0;
+    private static final int HIT3_SHIFT = 3;
+    private static final int HIT4_SHIFT = 19;
+    private static final int HIT5_SHIFT = 31;
+    private static final int LAST_HIT_SHIFT = 39;
+
+    private static final long BEST_RANK_BITS = 0x7L;
+    private static final long HIT3_BITS = 0xFFFFL;
+    private static final long HIT4_BITS = 0xFFFL;
+    private static final long HIT5_BITS = 0xFFL;
+    private static final long LAST_HIT_BITS = 0xFFFFL;
+
+    private HitProfile() {
+    }
+
+    /**
+     * 개수가 칸을 넘으면 최대값으로 고정
+     */
+    public static long pack(int bestRank, int hit3Count, int hit4Count, int hit5Count, int lastHitRound) {
+        return (Math.min(bestRank, BEST_RANK_BITS) << BEST_RANK_SHIFT)
+                | (Math.min(hit3Count, HIT3_BITS) << HIT3_SHIFT)
+                | (Math.min(hit4Count, HIT4_BITS) << HIT4_SHIFT)
+                | (Math.min(hit5Count, HIT5_BITS) << HIT5_SHIFT)
+                | (Math.min(lastHitRound, LAST_HIT_BITS) << LAST_HIT_SHIFT);
+    }
+
+    public static int bestRank(long profile) {
+        return (int) ((profile >>> BEST_RANK_SHIFT) & BEST_RANK_BITS);
+    }
+
+    public static int hit3Count(long profile) {
+        return (int) ((profile >>> HIT3_SHIFT) & HIT3_BITS);
+    }
+
+    public static int hit4Count(long profile) {
+        return (int) ((profile >>> HIT4_SHIFT) & HIT4_BITS);
+    }
+
+    public static int hit5Count(long profile) {
+        return (int) ((profile >>> HIT5_SHIFT) & HIT5_BITS);
+    }
+
+    public static int lastHitRound(long profile) {
+        return (int) ((profile >>> LAST_HIT_SHIFT) & LAST_HIT_BITS);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.Combination;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 조합별 HitProfile 파일 (colex 순위 순서로 8바이트씩)
+ *
+ * header (32 bytes): magic, version, 레코드 수, 회차 수, 마지막 회차, 생성 시각(epoch millis)
+ * body: Combination.COUNT 개의 long (little endian)
+ *
+ * 읽을 때는 파일 전체를 메모리 매핑하므로 조회마다 디스크를 읽지 않음
+ */
+public final class HitProfileFile {
+
+    public static final int MAGIC = 0x4C485031;    // "LHP1"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final long FILE_SIZE = HEADER_SIZE + (long) Combination.COUNT * HitProfile.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final int roundCount;
+    private final int latestRound;
+    private final long createdAt;
+
+    private HitProfileFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.roundCount = buffer.getInt(12);
+        this.latestRound = buffer.getInt(16);
+        this.createdAt = buffer.getLong(20);
+    }
+
+    /**
+     * @throws IOException 파일이 없거나 형식이 맞지 않을 때
+     */
+    public static HitProfileFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != FILE_SIZE) {
+                throw new IOException("unexpected hit profile file size: " + channel.size());
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != Combination.COUNT) {
+                throw new IOException("invalid hit profile header");
+            }
+            return new HitProfileFile(buffer);
+        }
+    }
+
+    public static ByteBuffer header(int roundCount, int latestRound, long createdAt) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(Combination.COUNT)
+                .putInt(roundCount)
+                .putInt(latestRound)
+                .putLong(createdAt);
+        return header.clear();
+    }
+
+    public static long offset(long rank) {
+        return HEADER_SIZE + rank * HitProfile.BYTES;
+    }
+
+    public long get(int rank) {
+        return buffer.getLong((int) offset(rank));
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getLatestRound() {
+        return latestRound;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.TicketMask;
+
+import java.util.Arrays;
+
+/**
+ * 회차 구간별 번호 출현 횟수를 O(1)로 계산하기 위한 누적 횟수 표
+ *
+ * 행 i 는 ResultHistory 의 앞에서 i개 회차까지의 번호별 누적 횟수 (행 0 은 모두 0)
+ * [i * 46 + n] = 0 ~ i-1 번째 회차에서 번호 n 이 나온 횟수
+ * 구간 [from, to) 의 횟수는 행 to 에서 행 from 을 뺀 값
+ *
+ * 회차가 뒤에 추가되기만 했으면 기존 행을 그대로 두고 새 행만 계산해서 확장
+ * 배열은 여유 있게 잡아두고 여러 인스턴스가 공유하며, 각 인스턴스는 자기 size 까지의 행만 읽음
+ */
+public final class PrefixCount {
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+
+    private final ResultHistory history;
+    private final int[] counts;
+    private final int[] bonusCounts;
+
+    private PrefixCount(ResultHistory history, int[] counts, int[] bonusCounts) {
+        this.history = history;
+        this.counts = counts;
+        this.bonusCounts = bonusCounts;
+    }
+
+    public static PrefixCount of(ResultHistory history) {
+        int capacity = capacity(history.size());
+        int[] counts = new int[capacity * SIZE];
+        int[] bonusCounts = new int[capacity * SIZE];
+        fillRows(history, 0, counts, bonusCounts);
+        return new PrefixCount(history, counts, bonusCounts);
+    }
+
+    /**
+     * 기존 회차가 그대로이고 뒤에만 추가된 경우 새 행만 계산, 아니면 처음부터 다시 만듦
+     * 가장 최근에 만든 인스턴스에서만 호출해야 함 (공유 배열의 뒤쪽 행을 덮어씀)
+     */
+    public PrefixCount extend(ResultHistory next) {
+        if (!next.startsWith(history)) {
+            return of(next);
+        }
+        if (next.size() == history.size()) {
+            return new PrefixCount(next, counts, bonusCounts);
+        }
+
+        int[] nextCounts = counts;
+        int[] nextBonusCounts = bonusCounts;
+        if ((next.size() + 1) * SIZE > counts.length) {
+            int capacity = capacity(next.size());
+            nextCounts = Arrays.copyOf(counts, capacity * SIZE);
+            nextBonusCounts = Arrays.copyOf(bonusCounts, capacity * SIZE);
+        }
+        fillRows(next, history.size(), nextCounts, nextBonusCounts);
+        return new PrefixCount(next, nextCounts, nextBonusCounts);
+    }
+
+    public ResultHistory getHistory() {
+        return history;
+    }
+
+    public int size() {
+        return history.size();
+    }
+
+    /**
+     * ResultHistory 인덱스 구간 [fromIndex, toIndex) 에서 번호 n 이 나온 횟수
+     */
+    public int count(int fromIndex, int toIndex, int number) {
+        checkRange(fromIndex, toIndex);
+        return counts[toIndex * SIZE + number] - counts[fromIndex * SIZE + number];
+    }
+
+    public int bonusCount(int fromIndex, int toIndex, int number) {
+        checkRange(fromIndex, toIndex);
+        return bonusCounts[toIndex * SIZE + number] - bonusCounts[fromIndex * SIZE + number];
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > history.size()) {
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") of " + history.size());
+        }
+    }
+
+    private static void fillRows(ResultHistory history, int fromIndex, int[] counts, int[] bonusCounts) {
+        for (int i = fromIndex; i < history.size(); i++) {
+            int row = i * SIZE;
+            int nextRow = row + SIZE;
+            System.arraycopy(counts, row, counts, nextRow, SIZE);
+            System.arraycopy(bonusCounts, row, bonusCounts, nextRow, SIZE);
+
+            long mask = history.getMask(i);
+            for (long numbers = TicketMask.numbers(mask); numbers != 0; numbers &= numbers - 1) {
+                counts[nextRow + Long.numberOfTrailingZeros(numbers)]++;
+            }
+            bonusCounts[nextRow + TicketMask.bonus(mask)]++;
+        }
+    }
+
+    /**
+     * 회차가 추가될 때마다 배열을 복사하지 않도록 여유 행을 둠
+     */
+    private static int capacity(int size) {
+        return size + 1 + Math.max(64, size / 4);
+    }
+
+}
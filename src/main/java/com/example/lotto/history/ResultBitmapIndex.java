@@ -0,0 +1,129 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.TicketMask;
+
+import java.util.Arrays;
+
+/**
+ * ResultColumns 의 행 인덱스를 비트로 쓰는 번호별 역색인
+ * 번호 n 이 당첨 번호로 나온 행, 보너스 번호로 나온 행을 long[] 비트맵으로 따로 들고 있음
+ *
+ * 비트맵은 모두 같은 길이이고, 행 수를 넘는 비트는 항상 0
+ * 연산 결과는 새 배열로 돌려주고 색인의 비트맵은 바꾸지 않음
+ */
+public final class ResultBitmapIndex {
+
+    private final int size;
+    private final int wordCount;
+    private final long[][] numberBitmaps;   // [번호][word]
+    private final long[][] bonusBitmaps;    // [보너스 번호][word]
+    private final long[] allBitmap;
+
+    private ResultBitmapIndex(int size) {
+        this.size = size;
+        this.wordCount = (size + 63) >>> 6;
+        this.numberBitmaps = new long[TicketMask.MAX_NUMBER + 1][wordCount];
+        this.bonusBitmaps = new long[TicketMask.MAX_NUMBER + 1][wordCount];
+        this.allBitmap = new long[wordCount];
+        for (int i = 0; i < size; i++) {
+            set(allBitmap, i);
+        }
+    }
+
+    /**
+     * @param masks 행 순서의 TicketMask (번호 + 보너스)
+     */
+    static ResultBitmapIndex of(long[] masks) {
+        ResultBitmapIndex index = new ResultBitmapIndex(masks.length);
+        for (int i = 0; i < masks.length; i++) {
+            long numbers = TicketMask.numbers(masks[i]);
+            while (numbers != 0) {
+                set(index.numberBitmaps[Long.numberOfTrailingZeros(numbers)], i);
+                numbers &= numbers - 1;
+            }
+            int bonus = TicketMask.bonus(masks[i]);
+            if (bonus >= TicketMask.MIN_NUMBER && bonus <= TicketMask.MAX_NUMBER) {
+                set(index.bonusBitmaps[bonus], i);
+            }
+        }
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 번호가 당첨 번호로 나온 행
+     */
+    public long[] number(int number) {
+        return checkNumber(number) ? numberBitmaps[number].clone() : new long[wordCount];
+    }
+
+    /**
+     * 번호가 보너스 번호로 나온 행
+     */
+    public long[] bonus(int number) {
+        return checkNumber(number) ? bonusBitmaps[number].clone() : new long[wordCount];
+    }
+
+    public long[] all() {
+        return allBitmap.clone();
+    }
+
+    /**
+     * [from, to) 행
+     */
+    public long[] range(int from, int to) {
+        long[] bitmap = new long[wordCount];
+        for (int i = Math.max(from, 0); i < Math.min(to, size); i++) {
+            set(bitmap, i);
+        }
+        return bitmap;
+    }
+
+    public long[] and(long[] left, long[] right) {
+        long[] bitmap = new long[wordCount];
+        for (int w = 0; w < wordCount; w++) {
+            bitmap[w] = left[w] & right[w];
+        }
+        return bitmap;
+    }
+
+    public long[] or(long[] left, long[] right) {
+        long[] bitmap = new long[wordCount];
+        for (int w = 0; w < wordCount; w++) {
+            bitmap[w] = left[w] | right[w];
+        }
+        return bitmap;
+    }
+
+    public long[] not(long[] operand) {
+        long[] bitmap = new long[wordCount];
+        for (int w = 0; w < wordCount; w++) {
+            bitmap[w] = ~operand[w] & allBitmap[w];
+        }
+        return bitmap;
+    }
+
+    public static int cardinality(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public static boolean isEmpty(long[] bitmap) {
+        return Arrays.stream(bitmap).allMatch((w) -> w == 0);
+    }
+
+    private static boolean checkNumber(int number) {
+        return number >= TicketMask.MIN_NUMBER && number <= TicketMask.MAX_NUMBER;
+    }
+
+    private static void set(long[] bitmap, int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+}
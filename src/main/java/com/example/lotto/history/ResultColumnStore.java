@@ -0,0 +1,73 @@
+package com.example.lotto.history;
+
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.repository.ResultRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ResultColumns 를 메모리에 유지
+ * 시작할 때 한 번 읽고, 이후 result 쓰기는 ResultChangeEvent 로 받은 값만 반영해서 DB 를 다시 읽지 않음
+ */
+@Slf4j
+@Component
+public class ResultColumnStore {
+
+    private final ResultRepository resultRepository;
+
+    private final AtomicReference<ResultColumns> columns = new AtomicReference<>();
+    // 읽는 도중 변경이 들어오면 읽은 결과를 버리기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public ResultColumnStore(ResultRepository resultRepository) {
+        this.resultRepository = resultRepository;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        try {
+            getColumns();
+        } catch (RuntimeException e) {
+            // 첫 조회에서 다시 읽음
+            log.warn("result columns load failed", e);
+        }
+    }
+
+    public ResultColumns getColumns() {
+        ResultColumns resultColumns = columns.get();
+        if (resultColumns == null) {
+            resultColumns = refresh();
+        }
+        return resultColumns;
+    }
+
+    public ResultColumns refresh() {
+        long loadGeneration = generation.get();
+
+        ResultColumns resultColumns = ResultColumns.of(resultRepository.findAll());
+
+        if (generation.get() == loadGeneration) {
+            columns.set(resultColumns);
+            // 올리는 사이에 변경이 들어와 반영되지 못했으면 되돌려서 다음 조회에서 다시 읽음
+            if (generation.get() != loadGeneration) {
+                columns.compareAndSet(resultColumns, null);
+            }
+        }
+        return resultColumns;
+    }
+
+    @EventListener
+    public void onResultChange(ResultChangeEvent event) {
+        generation.incrementAndGet();
+        // 아직 읽기 전이면 다음 조회에서 읽음
+        columns.updateAndGet((c) -> c == null ? null : c.apply(event.getDeletedList(), event.getInsertedList()));
+    }
+
+}
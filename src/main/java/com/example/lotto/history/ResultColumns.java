@@ -0,0 +1,355 @@
+package com.example.lotto.history;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.ResultMatchDTO;
+import com.example.lotto.utils.TicketMask;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * result 컬렉션 전체를 회차 오름차순 기본형 배열로 들고 있는 불변 이미지 (ResultService 조회용)
+ * 인덱스 i 의 회차, 추첨일(epoch day), 번호 + 보너스 번호 마스크를 열마다 따로 저장
+ *
+ * 번호는 오름차순으로 돌려줌
+ * 번호 6개 + 보너스 번호로 표현할 수 없는 행도 컬렉션과 같게 조회되도록 저장된 값 그대로 raws 에 따로 들고 있음
+ * (마스크에는 범위 안의 번호만 넣어 번호 검색에는 걸리게 함)
+ */
+public final class ResultColumns {
+
+    public static final ResultColumns EMPTY = new ResultColumns(new int[0], new int[0], new long[0], null);
+
+    // 날짜가 없는 행
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final int[] rounds;
+    private final int[] epochDays;
+    private final long[] masks;     // TicketMask 형식 (번호 + 보너스)
+    private final ResultDTO[] raws; // 표현할 수 없는 행의 원본, 없으면 null
+
+    // 검색할 때 처음 한 번 만듦
+    private volatile ResultBitmapIndex index;
+
+    private ResultColumns(int[] rounds, int[] epochDays, long[] masks, ResultDTO[] raws) {
+        this.rounds = rounds;
+        this.epochDays = epochDays;
+        this.masks = masks;
+        this.raws = raws;
+    }
+
+    public static ResultColumns of(List<Result> resultList) {
+        TreeMap<Integer, Row> rowMap = new TreeMap<>();
+        for (Result result : resultList) {
+            Row row = Row.of(result.getRound(), result.getNumbers(), result.getBonusNumber(), result.getDate());
+            if (row != null) {
+                rowMap.put(row.round(), row);
+            }
+        }
+        return of(rowMap);
+    }
+
+    /**
+     * 삭제된 회차를 빼고 추가된 회차를 넣은 새 이미지, 기존 인스턴스는 그대로 둠
+     * 수정은 삭제 + 추가로 들어옴
+     */
+    public ResultColumns apply(List<ResultDTO> deletedList, List<ResultDTO> insertedList) {
+        Set<Integer> deletedRounds = new HashSet<>();
+        deletedList.forEach((r) -> deletedRounds.add(r.getRound()));
+
+        TreeMap<Integer, Row> rowMap = new TreeMap<>();
+        for (int i = 0; i < rounds.length; i++) {
+            if (!deletedRounds.contains(rounds[i])) {
+                rowMap.put(rounds[i], new Row(rounds[i], epochDays[i], masks[i], raws == null ? null : raws[i]));
+            }
+        }
+        for (ResultDTO resultDTO : insertedList) {
+            Row row = Row.of(resultDTO.getRound(), resultDTO.getNumbers(), resultDTO.getBonusNumber(), resultDTO.getDate());
+            if (row != null) {
+                rowMap.put(row.round(), row);
+            }
+        }
+        return of(rowMap);
+    }
+
+    private static ResultColumns of(TreeMap<Integer, Row> rowMap) {
+        int size = rowMap.size();
+        int[] rounds = new int[size];
+        int[] epochDays = new int[size];
+        long[] masks = new long[size];
+        ResultDTO[] raws = null;
+
+        int i = 0;
+        for (Row row : rowMap.values()) {
+            rounds[i] = row.round();
+            epochDays[i] = row.epochDay();
+            masks[i] = row.mask();
+            if (row.raw() != null) {
+                if (raws == null) {
+                    raws = new ResultDTO[size];
+                }
+                raws[i] = row.raw();
+            }
+            i++;
+        }
+        return new ResultColumns(rounds, epochDays, masks, raws);
+    }
+
+    public int size() {
+        return rounds.length;
+    }
+
+    public boolean isEmpty() {
+        return rounds.length == 0;
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    public ResultDTO findByRound(int round) {
+        int index = Arrays.binarySearch(rounds, round);
+        return index < 0 ? null : toDTO(index);
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    public ResultDTO findLatest() {
+        return rounds.length == 0 ? null : toDTO(rounds.length - 1);
+    }
+
+    public List<ResultDTO> findByNumber(int number) {
+        List<ResultDTO> resultDTOList = new ArrayList<>();
+        if (number < TicketMask.MIN_NUMBER || number > TicketMask.MAX_NUMBER) {
+            return resultDTOList;
+        }
+
+        long bit = 1L << number;
+        for (int i = 0; i < masks.length; i++) {
+            if ((masks[i] & bit) != 0) {
+                resultDTOList.add(toDTO(i));
+            }
+        }
+        return resultDTOList;
+    }
+
+    public List<ResultDTO> findByBonusNumber(int bonusNumber) {
+        List<ResultDTO> resultDTOList = new ArrayList<>();
+        if (bonusNumber < TicketMask.MIN_NUMBER || bonusNumber > TicketMask.MAX_NUMBER) {
+            return resultDTOList;
+        }
+
+        for (int i = 0; i < masks.length; i++) {
+            if (TicketMask.bonus(masks[i]) == bonusNumber) {
+                resultDTOList.add(toDTO(i));
+            }
+        }
+        return resultDTOList;
+    }
+
+    /**
+     * 기존 findByDateBetween 과 같이 양 끝 날짜는 제외
+     */
+    public List<ResultDTO> findByDateBetween(LocalDate startDate, LocalDate endDate) {
+        List<ResultDTO> resultDTOList = new ArrayList<>();
+        if (startDate == null || endDate == null) {
+            return resultDTOList;
+        }
+
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        for (int i = 0; i < epochDays.length; i++) {
+            if (epochDays[i] != NO_DATE && epochDays[i] > start && epochDays[i] < end) {
+                resultDTOList.add(toDTO(i));
+            }
+        }
+        return resultDTOList;
+    }
+
+    /**
+     * 당첨 번호와 minMatch 개 이상 겹치는 회차, 겹친 개수 내림차순 (같으면 회차 오름차순)
+     * includeBonus 이면 보너스 번호가 겹친 것도 한 개로 셈
+     *
+     * @param ticket TicketMask 형식의 내 번호 (보너스는 무시)
+     */
+    public List<ResultMatchDTO> findByMatch(long ticket, int minMatch, boolean includeBonus) {
+        byte[] scores = new byte[masks.length];
+        // 0 ~ 6개 (보너스를 세도 6개를 넘지 않지만 여유를 둠)
+        int[] scoreCounts = new int[TicketMask.NUMBER_COUNT + 2];
+        for (int i = 0; i < masks.length; i++) {
+            int score = TicketMask.matchCount(ticket, masks[i]);
+            if (includeBonus && TicketMask.contains(ticket, TicketMask.bonus(masks[i]))) {
+                score++;
+            }
+            scores[i] = (byte) score;
+            scoreCounts[score]++;
+        }
+
+        int size = 0;
+        for (int score = Math.max(minMatch, 0); score < scoreCounts.length; score++) {
+            size += scoreCounts[score];
+        }
+
+        List<ResultMatchDTO> resultMatchDTOList = new ArrayList<>(size);
+        for (int score = scoreCounts.length - 1; score >= Math.max(minMatch, 0); score--) {
+            if (scoreCounts[score] == 0) {
+                continue;
+            }
+            for (int i = 0; i < scores.length; i++) {
+                if (scores[i] == score) {
+                    resultMatchDTOList.add(toMatchDTO(i, ticket));
+                }
+            }
+        }
+        return resultMatchDTOList;
+    }
+
+    /**
+     * 검색식과 회차, 날짜 구간을 모두 만족하는 행, 회차 오름차순
+     * 검색식이 null 이면 구간 조건만 적용하고, 구간은 null 인 쪽을 제한하지 않으며 양 끝을 포함
+     */
+    public List<ResultDTO> search(ResultQuery query, Integer fromRound, Integer toRound,
+                                  LocalDate startDate, LocalDate endDate) {
+        ResultBitmapIndex bitmapIndex = getIndex();
+
+        long[] bitmap = query == null ? bitmapIndex.all() : query.evaluate(bitmapIndex);
+        if (fromRound != null || toRound != null) {
+            bitmap = bitmapIndex.and(bitmap, bitmapIndex.range(
+                    fromRound == null ? 0 : lowerBound(fromRound),
+                    toRound == null ? rounds.length : lowerBound(toRound + 1L)));
+        }
+        if (startDate != null || endDate != null) {
+            bitmap = bitmapIndex.and(bitmap, dateBitmap(startDate, endDate));
+        }
+
+        List<ResultDTO> resultDTOList = new ArrayList<>(ResultBitmapIndex.cardinality(bitmap));
+        for (int w = 0; w < bitmap.length; w++) {
+            long word = bitmap[w];
+            while (word != 0) {
+                resultDTOList.add(toDTO((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return resultDTOList;
+    }
+
+    public ResultBitmapIndex getIndex() {
+        ResultBitmapIndex bitmapIndex = index;
+        if (bitmapIndex == null) {
+            // 동시에 만들어도 결과는 같으므로 잠그지 않음
+            bitmapIndex = ResultBitmapIndex.of(masks);
+            index = bitmapIndex;
+        }
+        return bitmapIndex;
+    }
+
+    private long[] dateBitmap(LocalDate startDate, LocalDate endDate) {
+        long start = startDate == null ? Long.MIN_VALUE : startDate.toEpochDay();
+        long end = endDate == null ? Long.MAX_VALUE : endDate.toEpochDay();
+
+        long[] bitmap = new long[(rounds.length + 63) >>> 6];
+        for (int i = 0; i < epochDays.length; i++) {
+            if (epochDays[i] != NO_DATE && epochDays[i] >= start && epochDays[i] <= end) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    // round 이상인 첫 행
+    private int lowerBound(long round) {
+        if (round > Integer.MAX_VALUE) {
+            return rounds.length;
+        }
+        int index = Arrays.binarySearch(rounds, (int) round);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private ResultDTO toDTO(int index) {
+        return ResultDTO.builder()
+                .round(rounds[index])
+                .numbers(numbers(index))
+                .bonusNumber(bonusNumber(index))
+                .date(epochDays[index] == NO_DATE ? null : LocalDate.ofEpochDay(epochDays[index]))
+                .build();
+    }
+
+    private ResultMatchDTO toMatchDTO(int index, long ticket) {
+        return ResultMatchDTO.builder()
+                .round(rounds[index])
+                .numbers(numbers(index))
+                .bonusNumber(bonusNumber(index))
+                .date(epochDays[index] == NO_DATE ? null : LocalDate.ofEpochDay(epochDays[index]))
+                .matchCount(TicketMask.matchCount(ticket, masks[index]))
+                .bonusMatch(TicketMask.contains(ticket, TicketMask.bonus(masks[index])))
+                .build();
+    }
+
+    // 원본 행은 호출한 쪽에서 바꿔도 이미지가 변하지 않도록 매번 복사해서 돌려줌
+    private List<Integer> numbers(int index) {
+        if (raws != null && raws[index] != null) {
+            List<Integer> numbers = raws[index].getNumbers();
+            return numbers == null ? null : new ArrayList<>(numbers);
+        }
+        return TicketMask.toList(masks[index]);
+    }
+
+    private Integer bonusNumber(int index) {
+        if (raws != null && raws[index] != null) {
+            return raws[index].getBonusNumber();
+        }
+        return TicketMask.bonus(masks[index]);
+    }
+
+    /**
+     * @param raw 번호 6개 + 보너스 번호로 표현할 수 없는 행의 원본, 표현할 수 있으면 null
+     */
+    private record Row(int round, int epochDay, long mask, ResultDTO raw) {
+
+        /**
+         * @return 회차가 없으면 null
+         */
+        static Row of(Integer round, List<Integer> numbers, Integer bonusNumber, LocalDate date) {
+            if (round == null) {
+                return null;
+            }
+            int epochDay = date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+
+            // 범위 안의 번호만 마스크에 넣음
+            long mask = 0L;
+            if (numbers != null) {
+                for (Integer number : numbers) {
+                    if (isNumber(number)) {
+                        mask |= TicketMask.bit(number);
+                    }
+                }
+            }
+            if (isNumber(bonusNumber)) {
+                mask = TicketMask.withBonus(mask, bonusNumber);
+            }
+
+            if (numbers != null && numbers.size() == TicketMask.NUMBER_COUNT
+                    && bonusNumber != null && TicketMask.isValid(mask) && TicketMask.bonus(mask) != 0) {
+                return new Row(round, epochDay, mask, null);
+            }
+            ResultDTO raw = ResultDTO.builder()
+                    .round(round)
+                    .numbers(numbers == null ? null : new ArrayList<>(numbers))
+                    .bonusNumber(bonusNumber)
+                    .date(date)
+                    .build();
+            return new Row(round, epochDay, mask, raw);
+        }
+
+        private static boolean isNumber(Integer number) {
+            return number != null && number >= TicketMask.MIN_NUMBER && number <= TicketMask.MAX_NUMBER;
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.example.lotto.history;
+
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.utils.TicketMask;
+
+import java.util.*;
+
+/**
+ * result / winning_report 전체를 회차 오름차순 기본형 배열로 들고 있는 불변 이미지
+ * 인덱스 i 는 i번째로 오래된 회차
+ */
+public final class ResultHistory {
+
+    public static final int RANK_COUNT = 5;
+
+    public static final ResultHistory EMPTY = new ResultHistory(new int[0], new long[0], new long[0]);
+
+    private final int[] rounds;
+    private final long[] masks;     // TicketMask 형식 (번호 + 보너스)
+    private final long[] prizes;    // [i * RANK_COUNT + (등수 - 1)] = 1게임 당첨금, 모르면 0
+
+    private ResultHistory(int[] rounds, long[] masks, long[] prizes) {
+        this.rounds = rounds;
+        this.masks = masks;
+        this.prizes = prizes;
+    }
+
+    public static ResultHistory of(List<Result> resultList, List<WinningReport> winningReportList) {
+        List<Result> sortedList = new ArrayList<>(resultList.size());
+        for (Result result : resultList) {
+            // 형식이 맞지 않는 데이터는 이미지에서 제외
+            if (result.getRound() != null && isValidResult(result)) {
+                sortedList.add(result);
+            }
+        }
+        sortedList.sort(Comparator.comparing(Result::getRound));
+
+        Map<Integer, WinningReport> winningReportMap = new HashMap<>();
+        winningReportList.forEach((w) -> winningReportMap.put(w.getRound(), w));
+
+        int size = sortedList.size();
+        int[] rounds = new int[size];
+        long[] masks = new long[size];
+        long[] prizes = new long[size * RANK_COUNT];
+
+        for (int i = 0; i < size; i++) {
+            Result result = sortedList.get(i);
+            rounds[i] = result.getRound();
+            masks[i] = result.toMask();
+
+            WinningReport winningReport = winningReportMap.get(rounds[i]);
+            if (winningReport != null && winningReport.getRankList() != null) {
+                for (Rank rank : winningReport.getRankList()) {
+                    Integer ranking = rank.getRanking();
+                    if (ranking != null && ranking >= 1 && ranking <= RANK_COUNT && rank.getWinningAmount() != null) {
+                        prizes[i * RANK_COUNT + ranking - 1] = rank.getWinningAmount();
+                    }
+                }
+            }
+        }
+
+        return new ResultHistory(rounds, masks, prizes);
+    }
+
+    /**
+     * 이미 회차 오름차순으로 검증된 배열 (StatSnapshotFile) 을 복사 없이 사용
+     */
+    static ResultHistory wrap(int[] rounds, long[] masks, long[] prizes) {
+        return new ResultHistory(rounds, masks, prizes);
+    }
+
+    private static boolean isValidResult(Result result) {
+        try {
+            long mask = result.toMask();
+            return TicketMask.isValid(mask) && TicketMask.bonus(mask) != 0;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    public int size() {
+        return rounds.length;
+    }
+
+    public boolean isEmpty() {
+        return rounds.length == 0;
+    }
+
+    public int getRound(int index) {
+        return rounds[index];
+    }
+
+    public long getMask(int index) {
+        return masks[index];
+    }
+
+    public long getPrize(int index, int ranking) {
+        return prizes[index * RANK_COUNT + ranking - 1];
+    }
+
+    public int getLatestRound() {
+        return rounds.length == 0 ? 0 : rounds[rounds.length - 1];
+    }
+
+    /**
+     * @return 회차가 없으면 음수 (Arrays.binarySearch 규칙)
+     */
+    public int indexOf(int round) {
+        return Arrays.binarySearch(rounds, round);
+    }
+
+    /**
+     * prefix 의 회차가 모두 같은 번호로 앞쪽에 그대로 있는지 (뒤에 회차만 추가된 경우)
+     */
+    public boolean startsWith(ResultHistory prefix) {
+        if (prefix.size() > size()) {
+            return false;
+        }
+        return Arrays.equals(rounds, 0, prefix.size(), prefix.rounds, 0, prefix.size())
+                && Arrays.equals(masks, 0, prefix.size(), prefix.masks, 0, prefix.size());
+    }
+
+    /**
+     * 계산 루프에서 바로 쓰기 위한 사본들
+     */
+    public int[] copyRounds() {
+        return rounds.clone();
+    }
+
+    public long[] copyNumberMasks() {
+        long[] numberMasks = new long[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            numberMasks[i] = TicketMask.numbers(masks[i]);
+        }
+        return numberMasks;
+    }
+
+    public long[] copyBonusBits() {
+        long[] bonusBits = new long[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            bonusBits[i] = 1L << TicketMask.bonus(masks[i]);
+        }
+        return bonusBits;
+    }
+
+    public long[] copyPrizes() {
+        return prizes.clone();
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.lotto.history;
+
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.event.WinningReportChangeEvent;
+import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.repository.WinningReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ResultHistory 를 메모리에 유지
+ * 처음 사용할 때 읽어오고 result / winning_report 가 바뀌면 다시 읽음
+ */
+@Component
+public class ResultHistoryStore {
+
+    private final ResultRepository resultRepository;
+    private final WinningReportRepository winningReportRepository;
+
+    private final AtomicReference<ResultHistory> history = new AtomicReference<>();
+    // 읽는 도중 변경이 들어오면 읽은 결과를 버리기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public ResultHistoryStore(ResultRepository resultRepository,
+                              WinningReportRepository winningReportRepository) {
+        this.resultRepository = resultRepository;
+        this.winningReportRepository = winningReportRepository;
+    }
+
+    public ResultHistory getHistory() {
+        ResultHistory resultHistory = history.get();
+        if (resultHistory == null) {
+            resultHistory = refresh();
+        }
+        return resultHistory;
+    }
+
+    public ResultHistory refresh() {
+        long loadGeneration = generation.get();
+
+        ResultHistory resultHistory = ResultHistory.of(resultRepository.findAll(), winningReportRepository.findAll());
+
+        if (generation.get() == loadGeneration) {
+            history.set(resultHistory);
+            // 올리는 사이에 변경이 들어왔으면 되돌림
+            if (generation.get() != loadGeneration) {
+                history.compareAndSet(resultHistory, null);
+            }
+        }
+        return resultHistory;
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 스냅샷 파일에서 읽은 이미지를 DB 를 읽지 않고 올림
+     * loadGeneration 이후 변경이 있었거나 이미 올라와 있으면 무시
+     */
+    public boolean preload(ResultHistory resultHistory, long loadGeneration) {
+        if (generation.get() != loadGeneration || !history.compareAndSet(null, resultHistory)) {
+            return false;
+        }
+        // 올리는 사이에 변경이 들어왔으면 되돌림
+        if (generation.get() != loadGeneration) {
+            history.compareAndSet(resultHistory, null);
+            return false;
+        }
+        return true;
+    }
+
+    @EventListener
+    public void onResultChange(ResultChangeEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onWinningReportChange(WinningReportChangeEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        history.set(null);
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.example.lotto.history;
+
+import com.example.lotto.utils.TicketMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * result 검색식
+ *
+ *   7 AND 23 AND NOT 41
+ *   (1 OR 2) AND NOT B7
+ *
+ * 숫자는 당첨 번호, B 를 붙이면 보너스 번호
+ * 연산자는 대소문자 구분 없이 NOT > AND > OR 순으로 묶고, 괄호로 순서를 바꿀 수 있음
+ * 한 번 파싱해 두고 ResultBitmapIndex 에 대해 비트맵 연산으로 평가
+ */
+public final class ResultQuery {
+
+    public static final int MAX_LENGTH = 512;
+    private static final int MAX_DEPTH = 32;
+
+    private final Node root;
+
+    private ResultQuery(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @throws IllegalArgumentException 검색식이 비었거나 문법, 번호가 올바르지 않을 때
+     */
+    public static ResultQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("empty query");
+        }
+        if (query.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("query too long: " + query.length());
+        }
+
+        Parser parser = new Parser(tokenize(query));
+        Node root = parser.parseOr(0);
+        if (parser.hasNext()) {
+            throw new IllegalArgumentException("unexpected token: " + parser.peek());
+        }
+        return new ResultQuery(root);
+    }
+
+    public long[] evaluate(ResultBitmapIndex index) {
+        return root.evaluate(index);
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokenList = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (!token.isEmpty()) {
+                    tokenList.add(token.toString());
+                    token.setLength(0);
+                }
+                if (c == '(' || c == ')') {
+                    tokenList.add(String.valueOf(c));
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        if (!token.isEmpty()) {
+            tokenList.add(token.toString());
+        }
+        return tokenList;
+    }
+
+    private interface Node {
+        long[] evaluate(ResultBitmapIndex index);
+    }
+
+    private record NumberNode(int number, boolean bonus) implements Node {
+        @Override
+        public long[] evaluate(ResultBitmapIndex index) {
+            return bonus ? index.bonus(number) : index.number(number);
+        }
+    }
+
+    private record AndNode(Node left, Node right) implements Node {
+        @Override
+        public long[] evaluate(ResultBitmapIndex index) {
+            return index.and(left.evaluate(index), right.evaluate(index));
+        }
+    }
+
+    private record OrNode(Node left, Node right) implements Node {
+        @Override
+        public long[] evaluate(ResultBitmapIndex index) {
+            return index.or(left.evaluate(index), right.evaluate(index));
+        }
+    }
+
+    private record NotNode(Node operand) implements Node {
+        @Override
+        public long[] evaluate(ResultBitmapIndex index) {
+            return index.not(operand.evaluate(index));
+        }
+    }
+
+    private static final class Parser {
+
+        private final List<String> tokenList;
+        private int position;
+
+        Parser(List<String> tokenList) {
+            this.tokenList = tokenList;
+        }
+
+        boolean hasNext() {
+            return position < tokenList.size();
+        }
+
+        String peek() {
+            return tokenList.get(position);
+        }
+
+        // or := and (OR and)*
+        Node parseOr(int depth) {
+            Node node = parseAnd(depth);
+            while (accept("OR")) {
+                node = new OrNode(node, parseAnd(depth));
+            }
+            return node;
+        }
+
+        // and := not (AND not)*
+        Node parseAnd(int depth) {
+            Node node = parseNot(depth);
+            while (accept("AND")) {
+                node = new AndNode(node, parseNot(depth));
+            }
+            return node;
+        }
+
+        // not := NOT not | ( or ) | 번호
+        Node parseNot(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("query nested too deep");
+            }
+            if (accept("NOT")) {
+                return new NotNode(parseNot(depth + 1));
+            }
+            if (accept("(")) {
+                Node node = parseOr(depth + 1);
+                if (!accept(")")) {
+                    throw new IllegalArgumentException("missing ')'");
+                }
+                return node;
+            }
+            if (!hasNext()) {
+                throw new IllegalArgumentException("unexpected end of query");
+            }
+            return parseNumber(tokenList.get(position++));
+        }
+
+        private boolean accept(String expected) {
+            if (hasNext() && peek().toUpperCase(Locale.ROOT).equals(expected)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static Node parseNumber(String token) {
+            boolean bonus = token.charAt(0) == 'B' || token.charAt(0) == 'b';
+            String digits = bonus ? token.substring(1) : token;
+
+            int number;
+            try {
+                number = Integer.parseInt(digits);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("unexpected token: " + token);
+            }
+            if (number < TicketMask.MIN_NUMBER || number > TicketMask.MAX_NUMBER) {
+                throw new IllegalArgumentException("number out of range: " + token);
+            }
+            return new NumberNode(number, bonus);
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.lotto.history;
+
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.repository.StatLottoRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * stat_lotto 조회용 메모리 이미지
+ * 처음 조회할 때 한 번 읽고, 이후에는 통계를 다시 계산할 때(StatLottoUpdateEvent)만 교체
+ */
+@Component
+public class StatLottoReadModel {
+
+    private final StatLottoRepository statLottoRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<StatLottoSnapshot> snapshot = new AtomicReference<>();
+
+    @Autowired
+    public StatLottoReadModel(StatLottoRepository statLottoRepository, ObjectMapper objectMapper) {
+        this.statLottoRepository = statLottoRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public StatLottoSnapshot getSnapshot() {
+        StatLottoSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+        statLottoRepository.findAll().forEach(s -> statLottoDTOList.add(s.toDTO()));
+        StatLottoSnapshot loaded = createSnapshot(statLottoDTOList);
+
+        // 아직 계산 전이면 보관하지 않고 다음 조회에서 다시 읽음
+        if (loaded.isEmpty()) {
+            return loaded;
+        }
+        // 읽는 동안 이벤트로 교체됐으면 그쪽을 사용
+        return snapshot.compareAndSet(null, loaded) ? loaded : snapshot.get();
+    }
+
+    /**
+     * 스냅샷 파일에서 읽은 통계를 DB 를 읽지 않고 올림, 이미 올라와 있으면 무시
+     */
+    public boolean preload(List<StatLottoDTO> statLottoDTOList) {
+        if (statLottoDTOList.isEmpty()) {
+            return false;
+        }
+        return snapshot.compareAndSet(null, createSnapshot(statLottoDTOList));
+    }
+
+    @EventListener
+    public void onStatLottoUpdate(StatLottoUpdateEvent event) {
+        if (event.getStatLottoDTOList().isEmpty()) {
+            return;
+        }
+        snapshot.set(createSnapshot(event.getStatLottoDTOList()));
+    }
+
+    private StatLottoSnapshot createSnapshot(List<StatLottoDTO> statLottoDTOList) {
+        // 번호 정렬, 중복 제거가 끝난 목록으로 직렬화
+        StatLottoSnapshot unserialized = new StatLottoSnapshot(statLottoDTOList, null);
+        try {
+            return new StatLottoSnapshot(unserialized.getList(), objectMapper.writeValueAsBytes(unserialized.getList()));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN);
+        }
+    }
+
+}
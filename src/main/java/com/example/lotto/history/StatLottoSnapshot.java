@@ -0,0 +1,83 @@
+package com.example.lotto.history;
+
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.utils.TicketMask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * stat_lotto 전체의 불변 이미지
+ * 번호를 인덱스로 하는 배열과 전체 목록, 전체 목록의 JSON 을 같이 들고 있음
+ * 조회할 때마다 같은 객체를 돌려주므로 받은 쪽에서 수정하면 안 됨
+ */
+public final class StatLottoSnapshot {
+
+    public static final StatLottoSnapshot EMPTY = new StatLottoSnapshot(List.of(), new byte[0]);
+
+    private final StatLottoDTO[] byNumber = new StatLottoDTO[TicketMask.MAX_NUMBER + 1];
+    private final List<StatLottoDTO> statLottoDTOList;
+    private final byte[] json;
+
+    /**
+     * @param json statLottoDTOList 를 번호 오름차순으로 직렬화한 값
+     */
+    public StatLottoSnapshot(List<StatLottoDTO> statLottoDTOList, byte[] json) {
+        List<StatLottoDTO> sortedList = new ArrayList<>();
+        for (StatLottoDTO statLottoDTO : statLottoDTOList) {
+            Integer number = statLottoDTO.getNumber();
+            if (number != null && number >= TicketMask.MIN_NUMBER && number <= TicketMask.MAX_NUMBER
+                    && byNumber[number] == null) {
+                byNumber[number] = statLottoDTO;
+                sortedList.add(statLottoDTO);
+            }
+        }
+        sortedList.sort(Comparator.comparing(StatLottoDTO::getNumber));
+
+        this.statLottoDTOList = Collections.unmodifiableList(sortedList);
+        this.json = json;
+    }
+
+    public boolean isEmpty() {
+        return statLottoDTOList.isEmpty();
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    public StatLottoDTO get(Integer number) {
+        if (number == null || number < TicketMask.MIN_NUMBER || number > TicketMask.MAX_NUMBER) {
+            return null;
+        }
+        return byNumber[number];
+    }
+
+    /**
+     * 요청한 번호 중 있는 것만 번호 오름차순 (중복 제거)
+     */
+    public List<StatLottoDTO> get(List<Integer> numberList) {
+        long mask = 0L;
+        for (Integer number : numberList) {
+            if (get(number) != null) {
+                mask |= 1L << number;
+            }
+        }
+
+        List<StatLottoDTO> foundList = new ArrayList<>(Long.bitCount(mask));
+        for (; mask != 0; mask &= mask - 1) {
+            foundList.add(byNumber[Long.numberOfTrailingZeros(mask)]);
+        }
+        return foundList;
+    }
+
+    public List<StatLottoDTO> getList() {
+        return statLottoDTOList;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+}
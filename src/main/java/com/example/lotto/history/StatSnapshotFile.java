@@ -0,0 +1,204 @@
+package com.example.lotto.history;
+
+import com.example.lotto.domain.dto.StatLottoDTO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 재시작할 때 Mongo 를 읽지 않고 바로 올리기 위한 ResultHistory + stat_lotto 파일
+ *
+ * header (40 bytes): magic, version, 회차 수, 마지막 회차, 통계 수, 0, 생성 시각(epoch millis), body 의 CRC32
+ * body: rounds (int x 회차 수), masks (long x 회차 수), prizes (long x 회차 수 x 5),
+ *       통계 (number, count, probability, bonusCount, bonusProbability) x 통계 수
+ * 모두 little endian
+ *
+ * 읽을 때는 파일 전체를 메모리 매핑하고 checksum 이 맞을 때만 사용
+ */
+public final class StatSnapshotFile {
+
+    public static final int MAGIC = 0x4C535331;    // "LSS1"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 40;
+
+    private static final int ROUND_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES * ResultHistory.RANK_COUNT;
+    private static final int STAT_BYTES = Integer.BYTES * 3 + Double.BYTES * 2;
+
+    private final MappedByteBuffer buffer;
+    private final int roundCount;
+    private final int latestRound;
+    private final int statCount;
+    private final long createdAt;
+
+    private StatSnapshotFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.roundCount = buffer.getInt(8);
+        this.latestRound = buffer.getInt(12);
+        this.statCount = buffer.getInt(16);
+        this.createdAt = buffer.getLong(24);
+    }
+
+    /**
+     * @throws IOException 파일이 없거나 형식, 버전, checksum 이 맞지 않을 때
+     */
+    public static StatSnapshotFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("unexpected stat snapshot file size: " + size);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("invalid stat snapshot header");
+            }
+            if (size != fileSize(buffer.getInt(8), buffer.getInt(16))) {
+                throw new IOException("unexpected stat snapshot file size: " + size);
+            }
+            if (buffer.getLong(32) != checksum(buffer, (int) size)) {
+                throw new IOException("stat snapshot checksum mismatch");
+            }
+            return new StatSnapshotFile(buffer);
+        }
+    }
+
+    /**
+     * 임시 파일에 모두 쓴 뒤 target 으로 교체
+     */
+    public static void write(Path target, ResultHistory history, List<StatLottoDTO> statLottoDTOList,
+                             long createdAt) throws IOException {
+        int roundCount = history.size();
+        int statCount = statLottoDTOList.size();
+        long size = fileSize(roundCount, statCount);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("stat snapshot too large: " + size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(HEADER_SIZE);
+        for (int i = 0; i < roundCount; i++) {
+            buffer.putInt(history.getRound(i));
+        }
+        for (int i = 0; i < roundCount; i++) {
+            buffer.putLong(history.getMask(i));
+        }
+        for (int i = 0; i < roundCount; i++) {
+            for (int ranking = 1; ranking <= ResultHistory.RANK_COUNT; ranking++) {
+                buffer.putLong(history.getPrize(i, ranking));
+            }
+        }
+        for (StatLottoDTO statLottoDTO : statLottoDTOList) {
+            buffer.putInt(orZero(statLottoDTO.getNumber()))
+                    .putInt(orZero(statLottoDTO.getCount()))
+                    .putDouble(orZero(statLottoDTO.getProbability()))
+                    .putInt(orZero(statLottoDTO.getBonusCount()))
+                    .putDouble(orZero(statLottoDTO.getBonusProbability()));
+        }
+
+        buffer.putInt(0, MAGIC)
+                .putInt(4, VERSION)
+                .putInt(8, roundCount)
+                .putInt(12, history.getLatestRound())
+                .putInt(16, statCount)
+                .putInt(20, 0)
+                .putLong(24, createdAt)
+                .putLong(32, checksum(buffer, (int) size));
+
+        Path absoluteTarget = target.toAbsolutePath();
+        Files.createDirectories(absoluteTarget.getParent());
+        Path temp = absoluteTarget.resolveSibling(absoluteTarget.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        Files.move(temp, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public ResultHistory toHistory() {
+        int[] rounds = new int[roundCount];
+        long[] masks = new long[roundCount];
+        long[] prizes = new long[roundCount * ResultHistory.RANK_COUNT];
+
+        int position = HEADER_SIZE;
+        for (int i = 0; i < roundCount; i++, position += Integer.BYTES) {
+            rounds[i] = buffer.getInt(position);
+        }
+        for (int i = 0; i < roundCount; i++, position += Long.BYTES) {
+            masks[i] = buffer.getLong(position);
+        }
+        for (int i = 0; i < prizes.length; i++, position += Long.BYTES) {
+            prizes[i] = buffer.getLong(position);
+        }
+        return ResultHistory.wrap(rounds, masks, prizes);
+    }
+
+    public List<StatLottoDTO> toStatLottoList() {
+        List<StatLottoDTO> statLottoDTOList = new ArrayList<>(statCount);
+        int position = HEADER_SIZE + roundCount * ROUND_BYTES;
+        for (int i = 0; i < statCount; i++, position += STAT_BYTES) {
+            statLottoDTOList.add(StatLottoDTO.builder()
+                    .number(buffer.getInt(position))
+                    .count(buffer.getInt(position + 4))
+                    .probability(buffer.getDouble(position + 8))
+                    .bonusCount(buffer.getInt(position + 16))
+                    .bonusProbability(buffer.getDouble(position + 20))
+                    .build());
+        }
+        return statLottoDTOList;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getLatestRound() {
+        return latestRound;
+    }
+
+    public int getStatCount() {
+        return statCount;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    private static long fileSize(int roundCount, int statCount) {
+        if (roundCount < 0 || statCount < 0) {
+            return -1;
+        }
+        return HEADER_SIZE + (long) roundCount * ROUND_BYTES + (long) statCount * STAT_BYTES;
+    }
+
+    private static long checksum(ByteBuffer buffer, int size) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.slice(HEADER_SIZE, size - HEADER_SIZE));
+        return crc32.getValue();
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static double orZero(Double value) {
+        return value == null ? 0 : value;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.example.lotto.repository;
+
+import com.example.lotto.simulation.model.RandomnessReport;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RandomnessReportRepository extends MongoRepository<RandomnessReport, String> {
+
+}
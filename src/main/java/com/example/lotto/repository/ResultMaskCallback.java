@@ -0,0 +1,51 @@
+package com.example.lotto.repository;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.utils.TicketMask;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * result 를 저장할 때마다 번호로 mask / bonusMask 를 다시 계산
+ * insert / save / saveAll 어느 경로로 써도 mask 가 번호와 어긋나지 않음
+ * TicketMask 는 보너스 번호를 값으로 담으므로 그대로 저장하지 않고, 번호와 보너스 번호를 각각 비트 하나씩으로 나눠 저장
+ */
+@Component
+public class ResultMaskCallback implements BeforeConvertCallback<Result> {
+
+    @Override
+    public Result onBeforeConvert(Result result, String collection) {
+        result.setMask(toMask(result));
+        result.setBonusMask(toBonusMask(result));
+        return result;
+    }
+
+    /**
+     * @return 당첨 번호 비트마스크, 번호 6개 + 보너스 번호로 표현할 수 없으면 null
+     */
+    public static Long toMask(Result result) {
+        Long ticket = toTicket(result);
+        return ticket == null ? null : TicketMask.numbers(ticket);
+    }
+
+    /**
+     * @return 보너스 번호 비트, 번호 6개 + 보너스 번호로 표현할 수 없으면 null
+     */
+    public static Long toBonusMask(Result result) {
+        Long ticket = toTicket(result);
+        return ticket == null ? null : TicketMask.bit(TicketMask.bonus(ticket));
+    }
+
+    private static Long toTicket(Result result) {
+        if (result.getNumbers() == null || result.getBonusNumber() == null) {
+            return null;
+        }
+        try {
+            long ticket = result.toMask();
+            return TicketMask.isValid(ticket) ? ticket : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.example.lotto.repository;
 
 import com.example.lotto.domain.Result;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,7 +19,19 @@ public interface ResultRepository extends MongoRepository<Result, String> {
     List<Result> findByBonusNumber(Integer bonusNumber);
     List<Result> findByNumbersContaining(Integer number);
     List<Result> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    List<Result> findByRoundGreaterThanEqual(Integer round);
     Result findFirstByOrderByRoundDesc();
+    // round 인덱스를 타는 커서 페이지 (count 조회 없음)
+    Slice<Result> findByRoundLessThanOrderByRoundDesc(Integer round, Pageable pageable);
     Integer deleteByRound(Integer round);
 
+    // 당첨 번호 비트가 모두 / 하나라도 켜진 회차, 인자는 번호 비트만 (TicketMask.numbers), 보너스 번호는 findByBonusMaskBitsAnySet
+    @Query("{ 'mask': { $bitsAllSet: ?0 } }")
+    List<Result> findByMaskBitsAllSet(long numberMask);
+    @Query("{ 'mask': { $bitsAnySet: ?0 } }")
+    List<Result> findByMaskBitsAnySet(long numberMask);
+    // 보너스 번호가 인자의 비트 중 하나인 회차 (TicketMask.bit 로 만듦)
+    @Query("{ 'bonusMask': { $bitsAnySet: ?0 } }")
+    List<Result> findByBonusMaskBitsAnySet(long bonusMask);
+
 }
@@ -0,0 +1,13 @@
+package com.example.lotto.repository;
+
+import com.example.lotto.domain.StatCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatCheckpointRepository extends MongoRepository<StatCheckpoint, String> {
+
+    StatCheckpoint findByBlockIndex(Integer blockIndex);
+    Long deleteByBlockIndexGreaterThan(Integer blockIndex);
+
+}
@@ -2,6 +2,8 @@ package com.example.lotto.repository;
 
 import com.example.lotto.domain.Result;
 import com.example.lotto.domain.WinningReport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +19,8 @@ public interface WinningReportRepository extends MongoRepository<WinningReport,
     List<WinningReport> findByDateBetween(LocalDate startDate, LocalDate endDate);
     List<WinningReport> findByTotalWinningAmountGreaterThanEqual(Long totalWinningAmount);
     WinningReport findFirstByOrderByRoundDesc();
+    // round 인덱스를 타는 커서 페이지 (count 조회 없음)
+    Slice<WinningReport> findByRoundLessThanOrderByRoundDesc(Integer round, Pageable pageable);
     Integer deleteByRound(Integer round);
 
 }
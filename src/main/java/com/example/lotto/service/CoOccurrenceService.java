@@ -0,0 +1,169 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.dto.CoOccurrenceDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.CoOccurrence;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.utils.TicketMask;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 번호 2개 / 3개 동시 출현 통계
+ * ResultHistory 가 바뀔 때만 다시 계산하고 나머지 요청은 메모리에서 응답
+ */
+@Service
+public class CoOccurrenceService {
+
+    public static final int MAX_TOP_SIZE = 1000;
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+
+    private final ResultHistoryStore resultHistoryStore;
+
+    // 계산에 사용한 ResultHistory 와 결과를 같이 보관
+    private final AtomicReference<CachedCoOccurrence> cache = new AtomicReference<>();
+
+    @Autowired
+    public CoOccurrenceService(ResultHistoryStore resultHistoryStore) {
+        this.resultHistoryStore = resultHistoryStore;
+    }
+
+    /**
+     * 번호 하나와 같이 나온 나머지 44개 번호, 횟수 내림차순
+     */
+    public List<CoOccurrenceDTO> readPartners(Integer number) {
+        if (number == null || number < TicketMask.MIN_NUMBER || number > TicketMask.MAX_NUMBER) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_STAT_NUMBER);
+        }
+        CoOccurrence coOccurrence = getCoOccurrence();
+
+        long[] keys = new long[TicketMask.MAX_NUMBER - 1];
+        int size = 0;
+        for (int partner = TicketMask.MIN_NUMBER; partner <= TicketMask.MAX_NUMBER; partner++) {
+            if (partner != number) {
+                keys[size++] = sortKey(coOccurrence.getPairCount(number, partner), partner);
+            }
+        }
+
+        List<CoOccurrenceDTO> coOccurrenceDTOList = new ArrayList<>();
+        for (long key : sortDescending(keys, keys.length)) {
+            coOccurrenceDTOList.add(CoOccurrenceDTO.builder()
+                    .numbers(Arrays.asList(number, sortIndex(key)))
+                    .count(sortCount(key))
+                    .build());
+        }
+        return coOccurrenceDTOList;
+    }
+
+    public List<CoOccurrenceDTO> readTopPairs(Integer size) {
+        checkSize(size);
+        CoOccurrence coOccurrence = getCoOccurrence();
+
+        // 인덱스는 a * 46 + b (a < b)
+        long[] keys = new long[TicketMask.MAX_NUMBER * (TicketMask.MAX_NUMBER - 1) / 2];
+        int keyCount = 0;
+        for (int a = TicketMask.MIN_NUMBER; a <= TicketMask.MAX_NUMBER; a++) {
+            for (int b = a + 1; b <= TicketMask.MAX_NUMBER; b++) {
+                keys[keyCount++] = sortKey(coOccurrence.getPairCount(a, b), a * SIZE + b);
+            }
+        }
+
+        List<CoOccurrenceDTO> coOccurrenceDTOList = new ArrayList<>();
+        for (long key : sortDescending(keys, size)) {
+            int index = sortIndex(key);
+            coOccurrenceDTOList.add(CoOccurrenceDTO.builder()
+                    .numbers(Arrays.asList(index / SIZE, index % SIZE))
+                    .count(sortCount(key))
+                    .build());
+        }
+        return coOccurrenceDTOList;
+    }
+
+    public List<CoOccurrenceDTO> readTopTriples(Integer size) {
+        checkSize(size);
+        CoOccurrence coOccurrence = getCoOccurrence();
+
+        long[] keys = new long[CoOccurrence.TRIPLE_COUNT];
+        for (int rank = 0; rank < CoOccurrence.TRIPLE_COUNT; rank++) {
+            keys[rank] = sortKey(coOccurrence.getTripleCount(rank), rank);
+        }
+
+        List<CoOccurrenceDTO> coOccurrenceDTOList = new ArrayList<>();
+        for (long key : sortDescending(keys, size)) {
+            int[] numbers = CoOccurrence.unrankTriple(sortIndex(key));
+            coOccurrenceDTOList.add(CoOccurrenceDTO.builder()
+                    .numbers(Arrays.asList(numbers[0], numbers[1], numbers[2]))
+                    .count(sortCount(key))
+                    .build());
+        }
+        return coOccurrenceDTOList;
+    }
+
+    /**
+     * 45 x 45 int 행렬 (행 우선, big-endian)
+     */
+    public byte[] readPairMatrix() {
+        return getCoOccurrence().toPairMatrixBytes();
+    }
+
+    public CoOccurrence getCoOccurrence() {
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        // ResultHistoryStore 는 result 가 바뀌면 새 인스턴스를 만들므로 참조 비교로 충분
+        CachedCoOccurrence cached = cache.get();
+        if (cached != null && cached.history() == history) {
+            return cached.coOccurrence();
+        }
+
+        CoOccurrence coOccurrence = CoOccurrence.of(history);
+        cache.set(new CachedCoOccurrence(history, coOccurrence));
+        return coOccurrence;
+    }
+
+    private void checkSize(Integer size) {
+        if (size == null || size < 1 || size > MAX_TOP_SIZE) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TOP_SIZE);
+        }
+    }
+
+    /**
+     * 횟수 내림차순, 같으면 인덱스 오름차순이 되도록 long 하나로 묶음
+     */
+    private static long sortKey(int count, int index) {
+        return ((long) count << 32) | (Integer.MAX_VALUE - index);
+    }
+
+    private static int sortCount(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int sortIndex(long key) {
+        return Integer.MAX_VALUE - (int) key;
+    }
+
+    private static long[] sortDescending(long[] keys, int limit) {
+        Arrays.sort(keys);
+        int size = Math.min(limit, keys.length);
+        long[] top = new long[size];
+        for (int i = 0; i < size; i++) {
+            top[i] = keys[keys.length - 1 - i];
+        }
+        return top;
+    }
+
+    private record CachedCoOccurrence(ResultHistory history, CoOccurrence coOccurrence) {
+    }
+
+}
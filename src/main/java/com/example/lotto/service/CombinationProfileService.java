@@ -0,0 +1,191 @@
+package com.example.lotto.service;
+
+import com.example.lotto.configuration.ProfileProperties;
+import com.example.lotto.domain.dto.HitProfileDTO;
+import com.example.lotto.domain.dto.ProfileScanDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.HitProfile;
+import com.example.lotto.history.HitProfileFile;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.simulation.model.JobStatus;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 조합 분석 작업 실행과 결과 조회
+ * 분석은 백그라운드에서 한 번에 하나만 실행하고, 끝나면 새 파일로 조회 대상을 교체
+ */
+@Slf4j
+@Service
+public class CombinationProfileService {
+
+    private final HitProfileScanner hitProfileScanner;
+    private final ResultHistoryStore resultHistoryStore;
+    private final Path profilePath;
+
+    private final ExecutorService scanExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "profile-scan");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<HitProfileFile> profileFile = new AtomicReference<>();
+
+    // 진행 중이거나 마지막으로 실행한 작업 상태
+    private final AtomicReference<JobStatus> scanStatus = new AtomicReference<>();
+    private final AtomicLong processedCount = new AtomicLong();
+    private volatile String scanMessage;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    @Autowired
+    public CombinationProfileService(HitProfileScanner hitProfileScanner,
+                                     ResultHistoryStore resultHistoryStore,
+                                     ProfileProperties profileProperties) {
+        this.hitProfileScanner = hitProfileScanner;
+        this.resultHistoryStore = resultHistoryStore;
+        this.profilePath = Paths.get(profileProperties.getPath());
+    }
+
+    public ProfileScanDTO startScan() {
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        JobStatus previous = scanStatus.get();
+        if (previous == JobStatus.RUNNING || !scanStatus.compareAndSet(previous, JobStatus.RUNNING)) {
+            throw new CustomException(HttpStatus.CONFLICT, ErrorCode.RUNNING_PROFILE_SCAN);
+        }
+
+        processedCount.set(0);
+        scanMessage = null;
+        startedAt = System.currentTimeMillis();
+        finishedAt = 0;
+
+        scanExecutor.execute(() -> scan(history));
+        return readScanStatus();
+    }
+
+    private void scan(ResultHistory history) {
+        try {
+            hitProfileScanner.scan(history, profilePath, processedCount);
+            profileFile.set(HitProfileFile.open(profilePath));
+            finishedAt = System.currentTimeMillis();
+            scanStatus.set(JobStatus.DONE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("profile scan failed", e);
+            scanMessage = e.getMessage();
+            finishedAt = System.currentTimeMillis();
+            scanStatus.set(JobStatus.FAILED);
+        }
+    }
+
+    public ProfileScanDTO readScanStatus() {
+        JobStatus status = scanStatus.get();
+        long end = finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+
+        ProfileScanDTO profileScanDTO = ProfileScanDTO.builder()
+                .status(status)
+                .message(scanMessage)
+                .processedCount(processedCount.get())
+                .totalCount((long) Combination.COUNT)
+                .elapsedMillis(status == null ? null : end - startedAt)
+                .build();
+
+        HitProfileFile hitProfileFile = findProfileFile();
+        if (hitProfileFile != null) {
+            profileScanDTO.setRoundCount(hitProfileFile.getRoundCount());
+            profileScanDTO.setLatestRound(hitProfileFile.getLatestRound());
+            profileScanDTO.setCreatedAt(LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(hitProfileFile.getCreatedAt()), ZoneId.systemDefault()));
+        }
+        return profileScanDTO;
+    }
+
+    public HitProfileDTO readByRank(Integer rank) {
+        if (rank < 0 || rank >= Combination.COUNT) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION);
+        }
+        return toDTO(rank, getProfileFile().get(rank));
+    }
+
+    public HitProfileDTO readByNumbers(List<Integer> numbers) {
+        long ticket;
+        try {
+            ticket = TicketMask.of(numbers);
+        } catch (RuntimeException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TICKET);
+        }
+        if (!TicketMask.isValid(ticket)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TICKET);
+        }
+
+        int rank = Combination.rank(ticket);
+        return toDTO(rank, getProfileFile().get(rank));
+    }
+
+    private HitProfileFile getProfileFile() {
+        HitProfileFile hitProfileFile = findProfileFile();
+        if (hitProfileFile == null) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_PROFILE);
+        }
+        return hitProfileFile;
+    }
+
+    /**
+     * 재시작 후에는 이전에 만든 파일을 그대로 사용
+     */
+    private HitProfileFile findProfileFile() {
+        HitProfileFile hitProfileFile = profileFile.get();
+        if (hitProfileFile != null || !Files.exists(profilePath)) {
+            return hitProfileFile;
+        }
+
+        try {
+            hitProfileFile = HitProfileFile.open(profilePath);
+        } catch (IOException e) {
+            log.warn("cannot open hit profile file {}", profilePath, e);
+            return null;
+        }
+        profileFile.compareAndSet(null, hitProfileFile);
+        return profileFile.get();
+    }
+
+    private HitProfileDTO toDTO(int rank, long profile) {
+        return HitProfileDTO.builder()
+                .rank(rank)
+                .numbers(TicketMask.toList(Combination.unrank(rank)))
+                .bestRank(HitProfile.bestRank(profile))
+                .hit3Count(HitProfile.hit3Count(profile))
+                .hit4Count(HitProfile.hit4Count(profile))
+                .hit5Count(HitProfile.hit5Count(profile))
+                .lastHitRound(HitProfile.lastHitRound(profile))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanExecutor.shutdownNow();
+    }
+
+}
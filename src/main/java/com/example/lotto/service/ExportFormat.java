@@ -0,0 +1,35 @@
+package com.example.lotto.service;
+
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON: 한 줄에 DTO JSON 하나 (조회 API 와 같은 형식)
+ * CSV: 첫 줄은 헤더
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat of(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.name().equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.example.lotto.service;
+
+import com.example.lotto.configuration.ExportProperties;
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.WinningReportDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.utils.StreamingTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * result / winning_report 전체를 회차 오름차순으로 내보냄
+ * MongoTemplate.stream 커서에서 한 건씩 읽어 바로 쓰므로 이력 길이와 상관없이 메모리 사용량이 일정함
+ * 컨트롤러에서 StreamingTask.bind 해야 본문이 실행되지 않은 요청의 permit 도 반환됨
+ */
+@Service
+public class ExportService {
+
+    private static final String RESULT_CSV_HEADER =
+            "round,date,number1,number2,number3,number4,number5,number6,bonusNumber\n";
+    // 등수마다 한 줄
+    private static final String WINNING_REPORT_CSV_HEADER =
+            "round,date,totalWinningAmount,ranking,winningCount,rankTotalWinningAmount,winningAmount\n";
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+    private final Semaphore exportPermits;
+
+    @Autowired
+    public ExportService(MongoTemplate mongoTemplate,
+                         ObjectMapper objectMapper,
+                         ExportProperties exportProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.exportProperties = exportProperties;
+        this.exportPermits = new Semaphore(exportProperties.getMaxConcurrent());
+    }
+
+    public StreamingTask exportResults(ExportFormat format, boolean gzip) {
+        ObjectWriter objectWriter = objectMapper.writerFor(ResultDTO.class);
+
+        return export(Result.class, format, gzip, RESULT_CSV_HEADER, (result, writer) -> {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(objectWriter.writeValueAsString(result.toDTO()));
+                writer.write('\n');
+                return;
+            }
+
+            writer.write(toCsv(result.getRound()));
+            writer.write(',');
+            writer.write(toCsv(result.getDate()));
+            List<Integer> numbers = result.getNumbers() == null ? List.of() : result.getNumbers();
+            for (int i = 0; i < 6; i++) {
+                writer.write(',');
+                writer.write(i < numbers.size() ? toCsv(numbers.get(i)) : "");
+            }
+            writer.write(',');
+            writer.write(toCsv(result.getBonusNumber()));
+            writer.write('\n');
+        });
+    }
+
+    public StreamingTask exportWinningReports(ExportFormat format, boolean gzip) {
+        ObjectWriter objectWriter = objectMapper.writerFor(WinningReportDTO.class);
+
+        return export(WinningReport.class, format, gzip, WINNING_REPORT_CSV_HEADER, (winningReport, writer) -> {
+            if (format == ExportFormat.NDJSON) {
+                if (winningReport.getRankList() == null) {
+                    winningReport.setRankList(List.of());
+                }
+                writer.write(objectWriter.writeValueAsString(winningReport.toDTO()));
+                writer.write('\n');
+                return;
+            }
+
+            String prefix = toCsv(winningReport.getRound()) + ','
+                    + toCsv(winningReport.getDate()) + ','
+                    + toCsv(winningReport.getTotalWinningAmount()) + ',';
+            List<Rank> rankList = winningReport.getRankList() == null ? List.of() : winningReport.getRankList();
+            for (Rank rank : rankList) {
+                writer.write(prefix);
+                writer.write(toCsv(rank.getRanking()));
+                writer.write(',');
+                writer.write(toCsv(rank.getWinningCount()));
+                writer.write(',');
+                writer.write(toCsv(rank.getTotalWinningAmount()));
+                writer.write(',');
+                writer.write(toCsv(rank.getWinningAmount()));
+                writer.write('\n');
+            }
+        });
+    }
+
+    private <T> StreamingTask export(Class<T> type, ExportFormat format, boolean gzip,
+                                       String csvHeader, RowWriter<T> rowWriter) {
+        if (!exportPermits.tryAcquire()) {
+            throw new CustomException(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.EXCEED_EXPORT_STREAM);
+        }
+
+        return new StreamingTask(exportPermits, exportProperties.getTimeout(), outputStream -> {
+            // round 인덱스 순서로 읽음
+            Query query = new Query().with(Sort.by(Sort.Direction.ASC, "round"));
+
+            // writer 를 닫아 gzip trailer 를 쓰고 Deflater 까지 정리, 응답 스트림 자체는 닫지 않음
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                         openTarget(outputStream, gzip), StandardCharsets.UTF_8), exportProperties.getBufferSize());
+                 Stream<T> stream = mongoTemplate.stream(query, type)) {
+                if (format == ExportFormat.CSV) {
+                    writer.write(csvHeader);
+                }
+                for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+                    rowWriter.write(iterator.next(), writer);
+                }
+            }
+            outputStream.flush();
+        });
+    }
+
+    private OutputStream openTarget(OutputStream outputStream, boolean gzip) throws IOException {
+        OutputStream target = new NonClosingOutputStream(outputStream);
+        return gzip ? new GZIPOutputStream(target, exportProperties.getBufferSize()) : target;
+    }
+
+    private static String toCsv(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row, Writer writer) throws IOException;
+    }
+
+    // close 는 flush 만 하고 응답 스트림은 서블릿 컨테이너가 닫도록 둠
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
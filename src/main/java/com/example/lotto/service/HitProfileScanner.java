@@ -0,0 +1,151 @@
+package com.example.lotto.service;
+
+import com.example.lotto.configuration.ProfileProperties;
+import com.example.lotto.history.HitProfile;
+import com.example.lotto.history.HitProfileFile;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.utils.Combination;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 45개 중 6개 전체 조합을 colex 순서로 돌며 HitProfile 파일 생성
+ * 순위 구간을 파티션으로 나눠 분석 전용 ForkJoinPool 에서 처리하고
+ * 파티션마다 버퍼 하나를 재사용하며 자기 구간 위치에 바로 기록
+ */
+@Component
+public class HitProfileScanner {
+
+    // 파티션 하나가 한 번에 모아서 쓰는 레코드 수
+    private static final int CHUNK_RECORDS = 8192;
+    // 파티션이 작을수록 스레드 간 작업량이 고르게 나뉨
+    private static final int PARTITIONS = 256;
+
+    // 추첨용 ParallelDrawEngine 풀과 공유하지 않음
+    private final ForkJoinPool forkJoinPool;
+
+    @Autowired
+    public HitProfileScanner(ProfileProperties profileProperties) {
+        this.forkJoinPool = new ForkJoinPool(Math.max(1, profileProperties.getParallelism()));
+    }
+
+    /**
+     * 임시 파일에 모두 쓴 뒤 target 으로 교체
+     * @param progress 처리한 조합 수를 누적
+     */
+    public void scan(ResultHistory history, Path target, AtomicLong progress) throws IOException {
+        Path absoluteTarget = target.toAbsolutePath();
+        Files.createDirectories(absoluteTarget.getParent());
+        Path temp = absoluteTarget.resolveSibling(absoluteTarget.getFileName() + ".tmp");
+
+        long[] winningMasks = history.copyNumberMasks();
+        long[] bonusBits = history.copyBonusBits();
+        int[] rounds = history.copyRounds();
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, HitProfileFile.header(history.size(), history.getLatestRound(), System.currentTimeMillis()), 0);
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(PARTITIONS);
+            for (int p = 0; p < PARTITIONS; p++) {
+                int from = (int) ((long) Combination.COUNT * p / PARTITIONS);
+                int to = (int) ((long) Combination.COUNT * (p + 1) / PARTITIONS);
+                tasks.add(forkJoinPool.submit(() ->
+                        scanRange(channel, from, to, winningMasks, bonusBits, rounds, progress)));
+            }
+            tasks.forEach(ForkJoinTask::join);
+
+            channel.force(false);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Files.move(temp, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void scanRange(FileChannel channel, int from, int to,
+                           long[] winningMasks, long[] bonusBits, int[] rounds, AtomicLong progress) {
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_RECORDS * HitProfile.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int chunkStart = from;
+        long combination = Combination.unrank(from);
+
+        try {
+            for (int rank = from; rank < to; rank++) {
+                chunk.putLong(profile(combination, winningMasks, bonusBits, rounds));
+                combination = Combination.next(combination);
+
+                if (!chunk.hasRemaining()) {
+                    writeFully(channel, chunk.flip(), HitProfileFile.offset(chunkStart));
+                    chunk.clear();
+                    progress.addAndGet(rank + 1 - chunkStart);
+                    chunkStart = rank + 1;
+                }
+            }
+            if (chunk.position() > 0) {
+                writeFully(channel, chunk.flip(), HitProfileFile.offset(chunkStart));
+                progress.addAndGet(to - chunkStart);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long profile(long combination, long[] winningMasks, long[] bonusBits, int[] rounds) {
+        int bestRank = 0;
+        int hit3Count = 0, hit4Count = 0, hit5Count = 0;
+        int lastHitRound = 0;
+
+        for (int i = 0; i < winningMasks.length; i++) {
+            int matchCount = Long.bitCount(combination & winningMasks[i]);
+            if (matchCount < 3) {
+                continue;
+            }
+
+            hit3Count++;
+            lastHitRound = rounds[i];   // 회차 오름차순이므로 마지막 값이 최근 회차
+
+            int ranking = 5;
+            if (matchCount >= 4) {
+                hit4Count++;
+                ranking = 4;
+            }
+            if (matchCount >= 5) {
+                hit5Count++;
+                ranking = matchCount == 6 ? 1 : (combination & bonusBits[i]) != 0 ? 2 : 3;
+            }
+            if (bestRank == 0 || ranking < bestRank) {
+                bestRank = ranking;
+            }
+        }
+
+        return HitProfile.pack(bestRank, hit3Count, hit4Count, hit5Count, lastHitRound);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+}
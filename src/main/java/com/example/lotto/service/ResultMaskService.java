@@ -0,0 +1,71 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.repository.ResultMaskCallback;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * mask / bonusMask 필드가 생기기 전에 저장된 result 에 두 필드를 채움
+ * 보너스 번호를 값으로 담던 예전 mask 도 bonusMask 가 없으므로 같이 다시 계산
+ * 이후 저장은 ResultMaskCallback 이 처리하므로 시작할 때 한 번만 실행
+ */
+@Slf4j
+@Service
+public class ResultMaskService {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public ResultMaskService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        try {
+            int count = backfill();
+            if (count > 0) {
+                log.info("result mask backfilled for {} rounds", count);
+            }
+        } catch (RuntimeException e) {
+            // 다음 시작 때 다시 시도
+            log.warn("result mask backfill failed", e);
+        }
+    }
+
+    /**
+     * @return mask 를 채운 회차 수
+     */
+    public int backfill() {
+        List<Result> resultList = mongoTemplate.find(Query.query(Criteria.where("bonusMask").exists(false)), Result.class);
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Result.class);
+        int count = 0;
+        for (Result result : resultList) {
+            Long mask = ResultMaskCallback.toMask(result);
+            if (mask == null) {
+                continue;
+            }
+            bulkOperations.updateOne(Query.query(Criteria.where("round").is(result.getRound())),
+                    Update.update("mask", mask).set("bonusMask", ResultMaskCallback.toBonusMask(result)));
+            count++;
+        }
+
+        if (count > 0) {
+            bulkOperations.execute();
+        }
+        return count;
+    }
+
+}
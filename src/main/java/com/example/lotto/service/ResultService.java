@@ -1,14 +1,24 @@
 package com.example.lotto.service;
 
+import com.example.lotto.configuration.PageProperties;
 import com.example.lotto.domain.Result;
 import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.ResultMatchDTO;
+import com.example.lotto.domain.dto.ResultSearchDTO;
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.history.ResultColumnStore;
+import com.example.lotto.history.ResultQuery;
 import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.utils.TicketMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,59 +34,59 @@ public class ResultService {
     @Autowired
     private ResultRepository resultRepository;
 
+    @Autowired
+    private ResultColumnStore resultColumnStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PageProperties pageProperties;
+
     private static final int PAGE_SIZE = 10;
 
-    @Transactional
+    // 단건 / 조건 조회는 메모리의 ResultColumns 에서 응답
     public ResultDTO readByRound(Integer round) {
-        boolean exist = resultRepository.existsByRound(round);
+        ResultDTO resultDTO = round == null ? null : resultColumnStore.getColumns().findByRound(round);
 
-        if(!exist) {
+        if(Objects.isNull(resultDTO)) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT_ROUND);
         }
 
-        return resultRepository.findByRound(round).toDTO();
+        return resultDTO;
     }
 
-    @Transactional
     public List<ResultDTO> readByBonusNumber(Integer bonusNumber) {
-        List<Result> resultList = resultRepository.findByBonusNumber(bonusNumber);
+        List<ResultDTO> resultDTOList = bonusNumber == null
+                ? List.of()
+                : resultColumnStore.getColumns().findByBonusNumber(bonusNumber);
 
-        if(resultList.isEmpty()) {
+        if(resultDTOList.isEmpty()) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT_BONUS_NUMBER);
         }
 
-        List<ResultDTO> resultDTOList = new ArrayList<>();
-        resultList.forEach((r) ->
-                resultDTOList.add(r.toDTO()));
-
         return resultDTOList;
     }
 
-    @Transactional
     public List<ResultDTO> readByNumber(Integer number) {
-        List<Result> resultList = resultRepository.findByNumbersContaining(number);
+        List<ResultDTO> resultDTOList = number == null
+                ? List.of()
+                : resultColumnStore.getColumns().findByNumber(number);
 
-        if(resultList.isEmpty()) {
+        if(resultDTOList.isEmpty()) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT_NUMBER);
         }
 
-        List<ResultDTO> resultDTOList = new ArrayList<>();
-
-        resultList.forEach((r)->
-                resultDTOList.add(r.toDTO()));
-
         return resultDTOList;
     }
 
-    @Transactional
     public ResultDTO readLastOne() {
-        Result result = resultRepository.findFirstByOrderByRoundDesc();
+        ResultDTO resultDTO = resultColumnStore.getColumns().findLatest();
 
-        if(Objects.isNull(result)) {
+        if(Objects.isNull(resultDTO)) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT);
         }
 
-        ResultDTO resultDTO = result.toDTO();
         return resultDTO;
     }
 
@@ -98,22 +108,91 @@ public class ResultService {
         return resultDTOList;
     }
 
-    @Transactional
-    public List<ResultDTO> readByDate(LocalDate startDate, LocalDate endDate) {
-        List<Result> resultList = resultRepository.findByDateBetween(startDate, endDate);
+    /**
+     * cursor 보다 작은 회차를 회차 내림차순으로 size 개, cursor 가 없으면 마지막 회차부터
+     * round 인덱스로 바로 찾아가므로 뒤 페이지도 앞 페이지와 같은 비용
+     */
+    public SliceDTO<ResultDTO> readBySlice(Integer cursor, Integer size) {
+        int pageSize = pageProperties.sizeOrDefault(size);
 
-        if(resultList.isEmpty()) {
-            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INCORRECT_RESULT_DATE);
+        if(pageSize < 1 || pageSize > pageProperties.getMaxSize()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        Slice<Result> resultSlice = resultRepository.findByRoundLessThanOrderByRoundDesc(
+                cursor == null ? Integer.MAX_VALUE : cursor, PageRequest.of(0, pageSize));
+
+        if(resultSlice.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT);
         }
 
         List<ResultDTO> resultDTOList = new ArrayList<>();
 
-        resultList.forEach((r) ->
+        resultSlice.getContent().forEach((r) ->
                 resultDTOList.add(r.toDTO()));
 
+        return SliceDTO.<ResultDTO>builder()
+                .content(resultDTOList)
+                .size(pageSize)
+                .hasNext(resultSlice.hasNext())
+                .nextCursor(resultSlice.hasNext() ? resultDTOList.get(resultDTOList.size() - 1).getRound() : null)
+                .build();
+    }
+
+    public List<ResultDTO> readByDate(LocalDate startDate, LocalDate endDate) {
+        List<ResultDTO> resultDTOList = resultColumnStore.getColumns().findByDateBetween(startDate, endDate);
+
+        if(resultDTOList.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INCORRECT_RESULT_DATE);
+        }
+
         return resultDTOList;
     }
 
+    /**
+     * 검색식 (예: 7 AND 23 AND NOT 41, B 를 붙이면 보너스 번호) 과 회차, 날짜 구간으로 검색
+     * 번호별 비트맵 색인으로 계산하고, 조건에 맞는 회차가 없으면 빈 목록
+     */
+    public ResultSearchDTO search(String query, Integer fromRound, Integer toRound,
+                                  LocalDate startDate, LocalDate endDate) {
+        if ((fromRound != null && toRound != null && fromRound > toRound)
+                || (startDate != null && endDate != null && startDate.isAfter(endDate))) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_SEARCH_RANGE);
+        }
+
+        ResultQuery resultQuery = null;
+        if (query != null && !query.isBlank()) {
+            try {
+                resultQuery = ResultQuery.parse(query);
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_SEARCH_QUERY);
+            }
+        }
+
+        List<ResultDTO> resultDTOList = resultColumnStore.getColumns()
+                .search(resultQuery, fromRound, toRound, startDate, endDate);
+
+        return ResultSearchDTO.builder()
+                .query(query)
+                .count(resultDTOList.size())
+                .resultList(resultDTOList)
+                .build();
+    }
+
+    /**
+     * 내 번호 6개와 minMatch 개 이상 겹치는 회차, 겹친 개수 내림차순
+     * includeBonus 이면 보너스 번호가 겹친 것도 한 개로 세고, 조건에 맞는 회차가 없으면 빈 목록
+     */
+    public List<ResultMatchDTO> readByMatch(List<Integer> numbers, Integer minMatch, boolean includeBonus) {
+        if (minMatch == null || minMatch < 1 || minMatch > TicketMask.NUMBER_COUNT) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_MATCH_COUNT);
+        }
+
+        long ticket = toTicket(numbers);
+
+        return resultColumnStore.getColumns().findByMatch(ticket, minMatch, includeBonus);
+    }
+
     @Transactional
     public ResultDTO insert(ResultDTO resultDTO) {
         boolean exist = resultRepository.existsByRound(resultDTO.getRound());
@@ -124,6 +203,8 @@ public class ResultService {
 
         ResultDTO saveResultDTO = resultRepository.insert(resultDTO.toEntity()).toDTO();
 
+        eventPublisher.publishEvent(ResultChangeEvent.inserted(List.of(saveResultDTO)));
+
         return saveResultDTO;
     }
 
@@ -135,22 +216,45 @@ public class ResultService {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT);
         }
 
+        ResultDTO beforeResultDTO = result.toDTO();
+
         result.setBonusNumber(resultDTO.getBonusNumber());
         result.setNumbers(resultDTO.getNumbers());
         result.setDate(resultDTO.getDate());
 
         ResultDTO updateResultDTO = resultRepository.save(result).toDTO();
 
+        eventPublisher.publishEvent(ResultChangeEvent.updated(beforeResultDTO, updateResultDTO));
+
         return updateResultDTO;
     }
 
     @Transactional
     public void delete(Integer round) {
+        // 통계에서 빼야 하므로 지우기 전의 번호를 확보
+        Result result = resultRepository.findByRound(round);
+
         Integer token = resultRepository.deleteByRound(round);
 
         if(token.equals(0)) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT);
         }
 
+        if(Objects.nonNull(result)) {
+            eventPublisher.publishEvent(ResultChangeEvent.deleted(result.toDTO()));
+        }
+
+    }
+
+    private long toTicket(List<Integer> numbers) {
+        try {
+            long ticket = TicketMask.of(numbers);
+            if (TicketMask.isValid(ticket)) {
+                return ticket;
+            }
+        } catch (RuntimeException e) {
+            // 범위를 벗어난 번호는 아래에서 같은 에러로 처리
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TICKET);
     }
 }
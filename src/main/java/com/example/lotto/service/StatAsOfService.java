@@ -0,0 +1,241 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.StatCheckpoint;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.domain.dto.StatWindowDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.repository.StatCheckpointRepository;
+import com.example.lotto.utils.TicketMask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 특정 회차 직후 시점의 번호 통계 (백테스트에서 미래 데이터를 보지 않기 위함)
+ * stat_checkpoint 블록 하나 + 블록 안 최대 BLOCK_SIZE 회차만 더하므로 이력 길이와 관계없이 일정한 비용
+ */
+@Slf4j
+@Service
+public class StatAsOfService {
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+
+    private final StatCheckpointRepository statCheckpointRepository;
+    private final ResultRepository resultRepository;
+    private final MongoTemplate mongoTemplate;
+
+    // 다시 만들지 못한 가장 앞 회차, 없으면 Integer.MAX_VALUE
+    private final AtomicInteger failedRound = new AtomicInteger(Integer.MAX_VALUE);
+
+    @Autowired
+    public StatAsOfService(StatCheckpointRepository statCheckpointRepository,
+                           ResultRepository resultRepository,
+                           MongoTemplate mongoTemplate) {
+        this.statCheckpointRepository = statCheckpointRepository;
+        this.resultRepository = resultRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public StatWindowDTO readAsOf(Integer round) {
+        if (round == null || round < 1) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_ROUND_RANGE);
+        }
+
+        // 앞서 실패한 블록이 이 회차 이전이면 먼저 다시 만듦
+        int failed = failedRound.get();
+        if (failed <= round) {
+            rebuildSafely(failed);
+        }
+
+        int blockIndex = StatCheckpoint.blockIndexOf(round);
+        StatCheckpoint checkpoint = statCheckpointRepository.findByBlockIndex(blockIndex);
+        if (checkpoint == null && statCheckpointRepository.count() == 0) {
+            // 아직 한 번도 만들지 않았으면 처음 조회할 때 전체 생성
+            rebuildFrom(1);
+            checkpoint = statCheckpointRepository.findByBlockIndex(blockIndex);
+        }
+
+        int offset = round - blockIndex * StatCheckpoint.BLOCK_SIZE - 1;
+        if (checkpoint == null || checkpoint.getMasks()[offset] == 0) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT_ROUND);
+        }
+
+        int[] count = checkpoint.getCounts().clone();
+        int[] bonusCount = checkpoint.getBonusCounts().clone();
+        int roundCount = checkpoint.getRoundCount() + applyMasks(checkpoint.getMasks(), offset + 1, count, bonusCount);
+
+        return StatWindowDTO.builder()
+                .fromRound(checkpoint.getFirstRound())
+                .toRound(round)
+                .roundCount(roundCount)
+                .statLottoList(StatLottoDTO.listOf(count, bonusCount))
+                .build();
+    }
+
+    /**
+     * 바뀐 회차 중 가장 앞 회차의 블록부터 다시 만듦
+     */
+    @EventListener
+    public void onResultChange(ResultChangeEvent event) {
+        int minRound = Integer.MAX_VALUE;
+        for (List<ResultDTO> resultDTOList : List.of(event.getInsertedList(), event.getDeletedList())) {
+            for (ResultDTO resultDTO : resultDTOList) {
+                if (resultDTO.getRound() != null) {
+                    minRound = Math.min(minRound, resultDTO.getRound());
+                }
+            }
+        }
+        if (minRound == Integer.MAX_VALUE) {
+            return;
+        }
+
+        rebuildSafely(minRound);
+    }
+
+    /**
+     * 앞서 실패한 회차까지 포함해 다시 만듦
+     * result 쓰기는 이미 끝났으므로 예외는 밖으로 던지지 않고, 실패하면 그 회차를 기록하고 실패한 블록부터 지움
+     * 다음 변경이나 그 이후 회차 조회 때 기록한 회차부터 다시 만듦
+     */
+    private void rebuildSafely(int round) {
+        int fromRound = Math.max(Math.min(round, failedRound.get()), 1);
+        try {
+            rebuildFrom(fromRound);
+            // 그 사이 더 앞 회차에서 실패한 기록이 생기지 않았을 때만 지움
+            failedRound.accumulateAndGet(fromRound, (failed, rebuilt) -> failed >= rebuilt ? Integer.MAX_VALUE : failed);
+        } catch (RuntimeException e) {
+            failedRound.accumulateAndGet(fromRound, Math::min);
+            log.warn("stat_checkpoint rebuild failed from round {}", fromRound, e);
+
+            // 오래된 블록으로 답하지 않도록 지움, 지우지 못해도 failedRound 로 다시 만듦
+            try {
+                statCheckpointRepository.deleteByBlockIndexGreaterThan(StatCheckpoint.blockIndexOf(fromRound) - 1);
+            } catch (RuntimeException deleteException) {
+                log.warn("stat_checkpoint cleanup failed from round {}", fromRound, deleteException);
+            }
+        }
+    }
+
+    /**
+     * round 가 속한 블록부터 마지막 블록까지 다시 만들고 앞 블록은 그대로 둠
+     * 보통은 마지막 블록 하나만 다시 쓰게 됨
+     *
+     * @return 다시 쓴 블록 수
+     */
+    public synchronized int rebuildFrom(int round) {
+        int blockIndex = StatCheckpoint.blockIndexOf(Math.max(round, 1));
+
+        int[] counts = new int[SIZE];
+        int[] bonusCounts = new int[SIZE];
+        int roundCount = 0;
+        Integer firstRound = null;
+
+        if (blockIndex > 0) {
+            StatCheckpoint previous = statCheckpointRepository.findByBlockIndex(blockIndex - 1);
+            if (previous == null) {
+                // 앞 블록이 없으면 처음부터
+                blockIndex = 0;
+            } else {
+                counts = previous.getCounts().clone();
+                bonusCounts = previous.getBonusCounts().clone();
+                roundCount = previous.getRoundCount()
+                        + applyMasks(previous.getMasks(), StatCheckpoint.BLOCK_SIZE, counts, bonusCounts);
+                firstRound = previous.getFirstRound();
+            }
+        }
+
+        int fromRound = blockIndex * StatCheckpoint.BLOCK_SIZE + 1;
+        List<Result> resultList = new ArrayList<>();
+        for (Result result : resultRepository.findByRoundGreaterThanEqual(fromRound)) {
+            if (result.getRound() != null && isValidResult(result)) {
+                resultList.add(result);
+            }
+        }
+        resultList.sort(Comparator.comparing(Result::getRound));
+        if (firstRound == null && !resultList.isEmpty()) {
+            firstRound = resultList.get(0).getRound();
+        }
+
+        // 중간에 빈 블록이 있어도 조회할 수 있도록 마지막 블록까지 모두 만듦
+        int lastBlockIndex = resultList.isEmpty()
+                ? blockIndex - 1
+                : StatCheckpoint.blockIndexOf(resultList.get(resultList.size() - 1).getRound());
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatCheckpoint.class);
+        int next = 0;
+        for (int index = blockIndex; index <= lastBlockIndex; index++) {
+            int blockFromRound = index * StatCheckpoint.BLOCK_SIZE + 1;
+            long[] masks = new long[StatCheckpoint.BLOCK_SIZE];
+            for (; next < resultList.size() && resultList.get(next).getRound() < blockFromRound + StatCheckpoint.BLOCK_SIZE; next++) {
+                Result result = resultList.get(next);
+                masks[result.getRound() - blockFromRound] = result.toMask();
+            }
+
+            bulkOperations.upsert(Query.query(Criteria.where("blockIndex").is(index)),
+                    new Update().set("fromRound", blockFromRound)
+                            .set("firstRound", firstRound)
+                            .set("roundCount", roundCount)
+                            .set("counts", counts.clone())
+                            .set("bonusCounts", bonusCounts.clone())
+                            .set("masks", masks));
+
+            roundCount += applyMasks(masks, StatCheckpoint.BLOCK_SIZE, counts, bonusCounts);
+        }
+        if (lastBlockIndex >= blockIndex) {
+            bulkOperations.execute();
+        }
+
+        // 삭제로 회차가 줄었으면 남는 블록 제거
+        statCheckpointRepository.deleteByBlockIndexGreaterThan(lastBlockIndex);
+
+        return lastBlockIndex - blockIndex + 1;
+    }
+
+    /**
+     * masks 앞쪽 length 개 회차의 번호를 누적 횟수에 더함
+     *
+     * @return 더한 회차 수
+     */
+    private static int applyMasks(long[] masks, int length, int[] counts, int[] bonusCounts) {
+        int roundCount = 0;
+        for (int i = 0; i < length; i++) {
+            long mask = masks[i];
+            if (mask == 0) {
+                continue;
+            }
+            for (long numbers = TicketMask.numbers(mask); numbers != 0; numbers &= numbers - 1) {
+                counts[Long.numberOfTrailingZeros(numbers)]++;
+            }
+            bonusCounts[TicketMask.bonus(mask)]++;
+            roundCount++;
+        }
+        return roundCount;
+    }
+
+    private static boolean isValidResult(Result result) {
+        try {
+            long mask = result.toMask();
+            return TicketMask.isValid(mask) && TicketMask.bonus(mask) != 0;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.dto.NumberGapDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.GapTable;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.utils.TicketMask;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 번호별 출현 간격 / 미출현 기간 통계
+ * 회차가 추가되면 GapTable 에 새 회차만 반영하고, 응답 목록은 표를 바꿀 때 한 번만 만듦
+ */
+@Service
+public class StatGapService {
+
+    public static final int MAX_OVERDUE_SIZE = TicketMask.MAX_NUMBER;
+
+    private final ResultHistoryStore resultHistoryStore;
+
+    // 가장 최근에 만든 표와 번호 오름차순 응답 목록
+    private GapSnapshot snapshot;
+
+    @Autowired
+    public StatGapService(ResultHistoryStore resultHistoryStore) {
+        this.resultHistoryStore = resultHistoryStore;
+    }
+
+    public NumberGapDTO readByNumber(Integer number) {
+        if (number == null || number < TicketMask.MIN_NUMBER || number > TicketMask.MAX_NUMBER) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_STAT_NUMBER);
+        }
+        return getSnapshot().numberGapDTOList().get(number - TicketMask.MIN_NUMBER);
+    }
+
+    public List<NumberGapDTO> readAll() {
+        return getSnapshot().numberGapDTOList();
+    }
+
+    /**
+     * 오래 안 나온 번호 순 (현재 간격 내림차순, 같으면 번호 오름차순)
+     */
+    public List<NumberGapDTO> readOverdue(Integer size) {
+        if (size == null || size < 1 || size > MAX_OVERDUE_SIZE) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TOP_SIZE);
+        }
+        return getSnapshot().overdueList().subList(0, size);
+    }
+
+    private synchronized GapSnapshot getSnapshot() {
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        if (snapshot == null || snapshot.gapTable().getHistory() != history) {
+            GapTable gapTable = snapshot == null ? GapTable.of(history) : snapshot.gapTable().extend(history);
+            snapshot = GapSnapshot.of(gapTable);
+        }
+        return snapshot;
+    }
+
+    private record GapSnapshot(GapTable gapTable, List<NumberGapDTO> numberGapDTOList, List<NumberGapDTO> overdueList) {
+
+        static GapSnapshot of(GapTable gapTable) {
+            List<NumberGapDTO> numberGapDTOList = new ArrayList<>();
+            for (int number = TicketMask.MIN_NUMBER; number <= TicketMask.MAX_NUMBER; number++) {
+                numberGapDTOList.add(NumberGapDTO.builder()
+                        .number(number)
+                        .appearanceCount(gapTable.getAppearanceCount(number))
+                        .lastSeenRound(gapTable.getLastSeenRound(number))
+                        .currentGap(gapTable.getCurrentGap(number))
+                        .maxGap(gapTable.getMaxGap(number))
+                        .meanGap(gapTable.getMeanGap(number))
+                        .gapHistogram(Arrays.stream(gapTable.getGapHistogram(number)).boxed().toList())
+                        .build());
+            }
+
+            List<NumberGapDTO> overdueList = new ArrayList<>(numberGapDTOList);
+            overdueList.sort(Comparator.comparing(NumberGapDTO::getCurrentGap).reversed()
+                    .thenComparing(NumberGapDTO::getNumber));
+
+            return new GapSnapshot(gapTable,
+                    Collections.unmodifiableList(numberGapDTOList), Collections.unmodifiableList(overdueList));
+        }
+
+    }
+
+}
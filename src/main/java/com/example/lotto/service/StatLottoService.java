@@ -1,118 +1,288 @@
 package com.example.lotto.service;
 
 import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.dto.ResultDTO;
 import com.example.lotto.domain.dto.StatLottoDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.history.StatLottoSnapshot;
 import com.example.lotto.repository.StatLottoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.*;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+@Slf4j
 @Service
 public class StatLottoService {
 
+    private static final int MAX_NUMBER = 45;
+
     private final StatLottoRepository statLottoRepository;
     private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatLottoReadModel statLottoReadModel;
 
     @Autowired
     public StatLottoService(StatLottoRepository statLottoRepository,
-                            MongoTemplate mongoTemplate) {
+                            MongoTemplate mongoTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            StatLottoReadModel statLottoReadModel) {
         this.statLottoRepository = statLottoRepository;
         this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.statLottoReadModel = statLottoReadModel;
     }
 
     @Transactional
     public List<StatLottoDTO> calcStatLotto() {
-            // 집계 파이프라인 정의
+        List<StatLottoDTO> statLottoDTOList = aggregateStatLotto();
+
+        // number 기준 upsert 를 한 번의 bulk 로 반영, 다시 실행해도 같은 문서를 덮어씀
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class);
+        statLottoDTOList.forEach(sDTO ->
+                bulkOperations.upsert(Query.query(Criteria.where("number").is(sDTO.getNumber())),
+                        new Update().set("count", sDTO.getCount())
+                                .set("probability", sDTO.getProbability())
+                                .set("bonusCount", sDTO.getBonusCount())
+                                .set("bonusProbability", sDTO.getBonusProbability())));
+        if (!statLottoDTOList.isEmpty()) {
+            bulkOperations.execute();
+        }
+
+        // 추첨기 가중치 등 메모리 데이터 교체
+        eventPublisher.publishEvent(new StatLottoUpdateEvent(statLottoDTOList));
+
+        return statLottoDTOList;
+    }
+
+    /**
+     * result 를 한 번만 읽어서 일반 번호 / 보너스 번호 빈도를 같이 집계 (저장하지 않음)
+     * 번호별 $lookup 으로 result 를 다시 읽지 않도록 $facet 두 갈래로 나누고 확률은 메모리에서 계산
+     */
+    public List<StatLottoDTO> aggregateStatLotto() {
+        // 집계 파이프라인 정의
         Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.unwind("numbers"),
-                Aggregation.group("numbers")
-                        .count().as("count"),
-                Aggregation.lookup("result", "_id", "bonusNumber", "bonusMatches"),
-                Aggregation.addFields()
-                        .addField("bonusCount")
-                        .withValueOf(ArrayOperators.Size.lengthOfArray("bonusMatches")).build(),
-                Aggregation.project()
-                        .andInclude("count", "bonusCount")
-                        .and("_id").as("number")
-                        .andExclude("_id"),
-                Aggregation.group()
-                        .sum("count").as("totalCount")
-                        .sum("bonusCount").as("totalBonus")
-                        .push("$$ROOT").as("details"),
-                Aggregation.unwind("details"),
-                Aggregation.project()
-                        .and("details.number").as("number")
-                        .and("details.count").as("count")
-                        .and("details.bonusCount").as("bonusCount")
-                        .andExpression("details.count / totalCount * 100").as("probability")
-                        .andExpression("details.bonusCount / totalBonus * 100").as("bonusProbability"),
-                Aggregation.sort(Sort.Direction.ASC, "number")
+                Aggregation.facet(
+                                Aggregation.unwind("numbers"),
+                                Aggregation.group("numbers").count().as("count"))
+                        .as("numberCounts")
+                        .and(Aggregation.group("bonusNumber").count().as("count"))
+                        .as("bonusCounts")
         );
 
-            // 집계 실행
-            AggregationResults<StatLotto> results = mongoTemplate.aggregate(aggregation, "result", StatLotto.class);
+        // 집계 실행
+        AggregationResults<Document> results = mongoTemplate.aggregate(aggregation, "result", Document.class);
+        Document facet = results.getUniqueMappedResult();
 
-            List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+        int[] count = new int[MAX_NUMBER + 1];
+        int[] bonusCount = new int[MAX_NUMBER + 1];
+        if (facet != null) {
+            fillCount(facet.getList("numberCounts", Document.class), count);
+            fillCount(facet.getList("bonusCounts", Document.class), bonusCount);
+        }
 
-            // 결과 반환
-            results.getMappedResults().forEach(s -> {
-                StatLottoDTO sDTO = s.toDTO();
-                statLottoDTOList.add(sDTO);
-                mongoTemplate.insert(sDTO, "stat_lotto");
-            });
+        // 결과 반환
+        return StatLottoDTO.listOf(count, bonusCount);
+    }
 
-            return statLottoDTOList;
+    private void fillCount(List<Document> groupList, int[] count) {
+        if (groupList == null) {
+            return;
+        }
+        for (Document group : groupList) {
+            Object number = group.get("_id");
+            if (number instanceof Number n && n.intValue() >= 1 && n.intValue() <= MAX_NUMBER) {
+                count[n.intValue()] += ((Number) group.get("count")).intValue();
+            }
+        }
     }
 
-    @Transactional
+    /**
+     * result 가 바뀌면 바뀐 회차의 번호만 count / bonusCount 를 증감하고 확률을 다시 계산
+     * 전체 result 를 다시 집계하지 않으므로 회차 수와 관계없이 비용이 일정
+     * stat_lotto 가 45개 번호를 모두 갖고 있고 회차 합계가 result 와 맞을 때만 증분으로 처리하고,
+     * 아니면 (아직 calcStatLotto 를 하지 않았거나 어긋난 경우) 전체를 다시 집계
+     */
+    @EventListener
+    public void onResultChange(ResultChangeEvent event) {
+        int[] countDelta = new int[MAX_NUMBER + 1];
+        int[] bonusCountDelta = new int[MAX_NUMBER + 1];
+        accumulateDelta(event.getInsertedList(), 1, countDelta, bonusCountDelta);
+        accumulateDelta(event.getDeletedList(), -1, countDelta, bonusCountDelta);
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class);
+        boolean changed = false;
+        for (int number = 1; number <= MAX_NUMBER; number++) {
+            if (countDelta[number] == 0 && bonusCountDelta[number] == 0) {
+                continue;
+            }
+            bulkOperations.upsert(Query.query(Criteria.where("number").is(number)),
+                    new Update().inc("count", countDelta[number]).inc("bonusCount", bonusCountDelta[number]));
+            changed = true;
+        }
+
+        // 번호가 바뀌지 않은 수정
+        if (!changed) {
+            return;
+        }
+
+        // result 쓰기는 이미 끝났으므로 통계 갱신 실패는 기록만 하고 calcStatLotto 로 복구
+        try {
+            // result 에는 이미 반영됐으므로 변경 전 회차 수와 비교
+            long roundCount = mongoTemplate.count(new Query(), "result")
+                    - event.getInsertedList().size() + event.getDeletedList().size();
+            if (!isComplete(roundCount)) {
+                log.info("stat_lotto is incomplete, recalculating from result");
+                calcStatLotto();
+                return;
+            }
+
+            bulkOperations.execute();
+            List<StatLottoDTO> statLottoDTOList = updateProbability();
+
+            eventPublisher.publishEvent(new StatLottoUpdateEvent(statLottoDTOList));
+        } catch (RuntimeException e) {
+            log.warn("incremental stat_lotto update failed", e);
+        }
+    }
+
+    /**
+     * 1 ~ 45 번호가 모두 있고, 보너스 합계가 회차 수, 번호 합계가 회차 수 x 6 인지
+     */
+    private boolean isComplete(long roundCount) {
+        List<StatLotto> statLottoList = statLottoRepository.findAll();
+
+        boolean[] exist = new boolean[MAX_NUMBER + 1];
+        long totalCount = 0;
+        long totalBonusCount = 0;
+        for (StatLotto statLotto : statLottoList) {
+            Integer number = statLotto.getNumber();
+            if (number == null || number < 1 || number > MAX_NUMBER || exist[number]) {
+                return false;
+            }
+            exist[number] = true;
+            totalCount += statLotto.getCount() == null ? 0 : statLotto.getCount();
+            totalBonusCount += statLotto.getBonusCount() == null ? 0 : statLotto.getBonusCount();
+        }
+
+        return statLottoList.size() == MAX_NUMBER
+                && totalBonusCount == roundCount
+                && totalCount == roundCount * 6;
+    }
+
+    // 1 ~ 45 를 벗어난 번호는 통계에 넣지 않음 (aggregateStatLotto 와 같음)
+    private void accumulateDelta(List<ResultDTO> resultDTOList, int sign, int[] countDelta, int[] bonusCountDelta) {
+        for (ResultDTO resultDTO : resultDTOList) {
+            if (resultDTO.getNumbers() != null) {
+                resultDTO.getNumbers().forEach((n) -> {
+                    if (isNumber(n)) {
+                        countDelta[n] += sign;
+                    }
+                });
+            }
+            if (isNumber(resultDTO.getBonusNumber())) {
+                bonusCountDelta[resultDTO.getBonusNumber()] += sign;
+            }
+        }
+    }
+
+    private static boolean isNumber(Integer number) {
+        return number != null && number >= 1 && number <= MAX_NUMBER;
+    }
+
+    /**
+     * 현재 count / bonusCount 로 확률(%)을 다시 계산해서 한 번에 반영
+     */
+    private List<StatLottoDTO> updateProbability() {
+        List<StatLotto> statLottoList = new ArrayList<>(statLottoRepository.findAll());
+        statLottoList.sort(Comparator.comparing(StatLotto::getNumber));
+
+        long totalCount = 0;
+        long totalBonusCount = 0;
+        for (StatLotto statLotto : statLottoList) {
+            totalCount += statLotto.getCount() == null ? 0 : statLotto.getCount();
+            totalBonusCount += statLotto.getBonusCount() == null ? 0 : statLotto.getBonusCount();
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class);
+        List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+        for (StatLotto statLotto : statLottoList) {
+            int count = statLotto.getCount() == null ? 0 : statLotto.getCount();
+            int bonusCount = statLotto.getBonusCount() == null ? 0 : statLotto.getBonusCount();
+            statLotto.setProbability(totalCount == 0 ? 0 : (double) count / totalCount * 100);
+            statLotto.setBonusProbability(totalBonusCount == 0 ? 0 : (double) bonusCount / totalBonusCount * 100);
+
+            bulkOperations.updateOne(Query.query(Criteria.where("number").is(statLotto.getNumber())),
+                    new Update().set("probability", statLotto.getProbability())
+                            .set("bonusProbability", statLotto.getBonusProbability()));
+            statLottoDTOList.add(statLotto.toDTO());
+        }
+        if (!statLottoList.isEmpty()) {
+            bulkOperations.execute();
+        }
+
+        return statLottoDTOList;
+    }
+
+    /**
+     * 조회는 모두 메모리 이미지(StatLottoReadModel)에서 처리
+     */
     public StatLottoDTO readByNumber(Integer number) {
-        boolean flag = statLottoRepository.existsByNumber(number);
+        StatLottoDTO statLottoDTO = statLottoReadModel.getSnapshot().get(number);
 
-        if(!flag) {
+        if(statLottoDTO == null) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_STAT_LOTTO);
         }
 
-        return statLottoRepository.findByNumber(number).toDTO();
+        return statLottoDTO;
     }
 
-    @Transactional
     public List<StatLottoDTO> readByNumberList(List<Integer> numberList) {
-        List<StatLotto> statLottoList = statLottoRepository.findByNumberIn(numberList);
+        List<StatLottoDTO> statLottoDTOList = statLottoReadModel.getSnapshot().get(numberList);
 
-        if(statLottoList.isEmpty()) {
+        if(statLottoDTOList.isEmpty()) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_STAT_LOTTO);
         }
 
-        List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
-        statLottoList.forEach(s -> {
-            statLottoDTOList.add(s.toDTO());
-        });
-
         return statLottoDTOList;
     }
 
-    @Transactional
     public List<StatLottoDTO> readAll() {
-        List<StatLotto> statLottoList = statLottoRepository.findAll();
+        return readAllSnapshot().getList();
+    }
+
+    /**
+     * readAll 결과를 미리 직렬화한 JSON
+     */
+    public byte[] readAllJson() {
+        return readAllSnapshot().getJson();
+    }
+
+    private StatLottoSnapshot readAllSnapshot() {
+        StatLottoSnapshot snapshot = statLottoReadModel.getSnapshot();
 
-        if(statLottoList.isEmpty()) {
+        if(snapshot.isEmpty()) {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_STAT_LOTTO_LIST);
         }
 
-        List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
-        statLottoList.forEach(s -> {
-            statLottoDTOList.add(s.toDTO());
-        });
-
-        return statLottoDTOList;
+        return snapshot;
     }
 }
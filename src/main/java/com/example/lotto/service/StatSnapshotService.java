@@ -0,0 +1,170 @@
+package com.example.lotto.service;
+
+import com.example.lotto.configuration.SnapshotProperties;
+import com.example.lotto.domain.Result;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.event.WinningReportChangeEvent;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.history.StatSnapshotFile;
+import com.example.lotto.repository.ResultRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재시작할 때 통계 스냅샷 파일로 ResultHistory / stat_lotto 를 바로 올림
+ * 파일의 마지막 회차가 DB 와 같을 때만 사용하고, 없거나 오래됐으면 백그라운드에서 DB 로 다시 만듦
+ * 누적 횟수 표, 간격 표, 동시 출현 표는 올린 ResultHistory 로 메모리에서 바로 계산
+ */
+@Slf4j
+@Service
+public class StatSnapshotService {
+
+    private final ResultRepository resultRepository;
+    private final ResultHistoryStore resultHistoryStore;
+    private final StatLottoReadModel statLottoReadModel;
+    private final StatWindowService statWindowService;
+    private final StatGapService statGapService;
+    private final CoOccurrenceService coOccurrenceService;
+    private final Path snapshotPath;
+
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "stat-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 변경이 몰려도 파일은 한 번만 다시 씀
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    @Autowired
+    public StatSnapshotService(ResultRepository resultRepository,
+                               ResultHistoryStore resultHistoryStore,
+                               StatLottoReadModel statLottoReadModel,
+                               StatWindowService statWindowService,
+                               StatGapService statGapService,
+                               CoOccurrenceService coOccurrenceService,
+                               SnapshotProperties snapshotProperties) {
+        this.resultRepository = resultRepository;
+        this.resultHistoryStore = resultHistoryStore;
+        this.statLottoReadModel = statLottoReadModel;
+        this.statWindowService = statWindowService;
+        this.statGapService = statGapService;
+        this.coOccurrenceService = coOccurrenceService;
+        this.snapshotPath = Paths.get(snapshotProperties.getPath());
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!warmStart()) {
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * @return 스냅샷 파일을 그대로 사용했으면 true
+     */
+    public boolean warmStart() {
+        long loadGeneration = resultHistoryStore.getGeneration();
+
+        StatSnapshotFile snapshotFile = openSnapshotFile();
+        if (snapshotFile == null) {
+            return false;
+        }
+
+        Result latest = resultRepository.findFirstByOrderByRoundDesc();
+        int latestRound = latest == null || latest.getRound() == null ? 0 : latest.getRound();
+        if (latestRound == 0 || snapshotFile.getLatestRound() != latestRound) {
+            log.info("stat snapshot is stale (snapshot round {}, latest round {})", snapshotFile.getLatestRound(), latestRound);
+            return false;
+        }
+
+        if (!resultHistoryStore.preload(snapshotFile.toHistory(), loadGeneration)) {
+            return false;
+        }
+        statLottoReadModel.preload(snapshotFile.toStatLottoList());
+        warmTables();
+        return true;
+    }
+
+    @EventListener
+    public void onResultChange(ResultChangeEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onStatLottoUpdate(StatLottoUpdateEvent event) {
+        scheduleRefresh();
+    }
+
+    // 스냅샷 파일에 당첨 금액 이력도 들어 있으므로 winning_report 가 바뀌어도 다시 씀
+    @EventListener
+    public void onWinningReportChange(WinningReportChangeEvent event) {
+        scheduleRefresh();
+    }
+
+    public void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            snapshotExecutor.execute(() -> {
+                refreshPending.set(false);
+                refresh();
+            });
+        }
+    }
+
+    /**
+     * 현재 메모리 이미지 (없으면 DB) 로 표를 채우고 스냅샷 파일을 다시 씀
+     */
+    public void refresh() {
+        try {
+            ResultHistory history = resultHistoryStore.getHistory();
+            if (history.isEmpty()) {
+                return;
+            }
+            warmTables();
+            StatSnapshotFile.write(snapshotPath, history, statLottoReadModel.getSnapshot().getList(), System.currentTimeMillis());
+        } catch (IOException | RuntimeException e) {
+            log.warn("stat snapshot refresh failed", e);
+        }
+    }
+
+    private void warmTables() {
+        if (resultHistoryStore.getHistory().isEmpty()) {
+            return;
+        }
+        statWindowService.getPrefixCount();
+        statGapService.readAll();
+        coOccurrenceService.getCoOccurrence();
+    }
+
+    private StatSnapshotFile openSnapshotFile() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        try {
+            return StatSnapshotFile.open(snapshotPath);
+        } catch (IOException e) {
+            log.warn("cannot open stat snapshot file {}", snapshotPath, e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotExecutor.shutdownNow();
+    }
+
+}
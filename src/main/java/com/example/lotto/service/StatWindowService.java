@@ -0,0 +1,113 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.domain.dto.StatWindowDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.PrefixCount;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.utils.TicketMask;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 회차 구간별 번호 통계
+ * 누적 횟수 표(PrefixCount)를 메모리에 두고 구간마다 번호당 뺄셈 두 번으로 계산
+ */
+@Service
+public class StatWindowService {
+
+    private final ResultHistoryStore resultHistoryStore;
+
+    // 가장 최근에 만든 표, 새 회차가 추가되면 이 표를 확장
+    private PrefixCount prefixCount;
+
+    @Autowired
+    public StatWindowService(ResultHistoryStore resultHistoryStore) {
+        this.resultHistoryStore = resultHistoryStore;
+    }
+
+    /**
+     * lastN 을 주면 최근 N회차, 아니면 fromRound ~ toRound (없는 쪽은 처음 / 마지막 회차)
+     */
+    public StatWindowDTO readWindow(Integer fromRound, Integer toRound, Integer lastN) {
+        if (lastN != null && (fromRound != null || toRound != null || lastN < 1)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_ROUND_RANGE);
+        }
+
+        PrefixCount table = getPrefixCount();
+        ResultHistory history = table.getHistory();
+
+        int fromIndex;
+        int toIndex;
+        if (lastN != null) {
+            fromIndex = Math.max(0, history.size() - lastN);
+            toIndex = history.size();
+        } else {
+            int from = fromRound == null ? history.getRound(0) : fromRound;
+            int to = toRound == null ? history.getLatestRound() : toRound;
+            if (from > to) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_ROUND_RANGE);
+            }
+            fromIndex = lowerBound(history, from);
+            toIndex = upperBound(history, to);
+        }
+
+        // 구간 안에 저장된 회차가 하나도 없음
+        if (fromIndex >= toIndex) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT_ROUND);
+        }
+
+        return StatWindowDTO.builder()
+                .fromRound(history.getRound(fromIndex))
+                .toRound(history.getRound(toIndex - 1))
+                .roundCount(toIndex - fromIndex)
+                .statLottoList(toStatLottoList(table, fromIndex, toIndex))
+                .build();
+    }
+
+    public synchronized PrefixCount getPrefixCount() {
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        if (prefixCount == null) {
+            prefixCount = PrefixCount.of(history);
+        } else if (prefixCount.getHistory() != history) {
+            prefixCount = prefixCount.extend(history);
+        }
+        return prefixCount;
+    }
+
+    private List<StatLottoDTO> toStatLottoList(PrefixCount table, int fromIndex, int toIndex) {
+        int[] count = new int[TicketMask.MAX_NUMBER + 1];
+        int[] bonusCount = new int[TicketMask.MAX_NUMBER + 1];
+        for (int number = TicketMask.MIN_NUMBER; number <= TicketMask.MAX_NUMBER; number++) {
+            count[number] = table.count(fromIndex, toIndex, number);
+            bonusCount[number] = table.bonusCount(fromIndex, toIndex, number);
+        }
+        return StatLottoDTO.listOf(count, bonusCount);
+    }
+
+    /**
+     * round 이상인 첫 회차의 인덱스
+     */
+    private static int lowerBound(ResultHistory history, int round) {
+        int index = history.indexOf(round);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * round 보다 큰 첫 회차의 인덱스
+     */
+    private static int upperBound(ResultHistory history, int round) {
+        int index = history.indexOf(round);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+}
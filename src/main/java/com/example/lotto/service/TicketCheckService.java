@@ -0,0 +1,95 @@
+package com.example.lotto.service;
+
+import com.example.lotto.domain.dto.TicketCheckDTO;
+import com.example.lotto.domain.dto.TicketWinDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.utils.TicketMask;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 장의 티켓을 지난 모든 회차와 비교
+ * DB 조회 없이 메모리의 ResultHistory 비트마스크로만 계산
+ */
+@Service
+public class TicketCheckService {
+
+    private static final int MAX_TICKET_COUNT = 10_000;
+
+    private final ResultHistoryStore resultHistoryStore;
+
+    @Autowired
+    public TicketCheckService(ResultHistoryStore resultHistoryStore) {
+        this.resultHistoryStore = resultHistoryStore;
+    }
+
+    public List<TicketCheckDTO> check(List<List<Integer>> ticketList) {
+        if (ticketList.size() > MAX_TICKET_COUNT) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.EXCEED_TICKET_COUNT);
+        }
+
+        long[] tickets = new long[ticketList.size()];
+        for (int t = 0; t < tickets.length; t++) {
+            tickets[t] = toTicket(ticketList.get(t));
+        }
+
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        List<TicketCheckDTO> ticketCheckDTOList = new ArrayList<>(tickets.length);
+        for (long ticket : tickets) {
+            ticketCheckDTOList.add(checkTicket(ticket, history));
+        }
+
+        return ticketCheckDTOList;
+    }
+
+    private TicketCheckDTO checkTicket(long ticket, ResultHistory history) {
+        List<TicketWinDTO> winList = new ArrayList<>();
+        long totalWinningAmount = 0;
+
+        for (int i = 0; i < history.size(); i++) {
+            int ranking = TicketMask.rank(ticket, history.getMask(i));
+            if (ranking == 0) {
+                continue;
+            }
+
+            long winningAmount = history.getPrize(i, ranking);
+            totalWinningAmount += winningAmount;
+
+            winList.add(TicketWinDTO.builder()
+                    .round(history.getRound(i))
+                    .ranking(ranking)
+                    .winningAmount(winningAmount)
+                    .build());
+        }
+
+        return TicketCheckDTO.builder()
+                .numbers(TicketMask.toList(ticket))
+                .winList(winList)
+                .totalWinningAmount(totalWinningAmount)
+                .build();
+    }
+
+    private long toTicket(List<Integer> numbers) {
+        try {
+            long ticket = TicketMask.of(numbers);
+            if (TicketMask.isValid(ticket)) {
+                return ticket;
+            }
+        } catch (RuntimeException e) {
+            // 범위를 벗어난 번호는 아래에서 같은 에러로 처리
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_TICKET);
+    }
+
+}
@@ -1,14 +1,19 @@
 package com.example.lotto.service;
 
+import com.example.lotto.configuration.PageProperties;
 import com.example.lotto.domain.WinningReport;
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.domain.dto.WinningReportDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.WinningReportChangeEvent;
 import com.example.lotto.repository.WinningReportRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,12 @@ public class WinningReportService {
     @Autowired
     private WinningReportRepository winningReportRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PageProperties pageProperties;
+
     private static final int PAGE_SIZE = 10;
 
     @Transactional
@@ -68,6 +79,39 @@ public class WinningReportService {
         return winningReportDTOList;
     }
 
+    /**
+     * cursor 보다 작은 회차를 회차 내림차순으로 size 개, cursor 가 없으면 마지막 회차부터
+     * round 인덱스로 바로 찾아가므로 뒤 페이지도 앞 페이지와 같은 비용
+     */
+    public SliceDTO<WinningReportDTO> readBySlice(Integer cursor, Integer size) {
+        int pageSize = pageProperties.sizeOrDefault(size);
+
+        if(pageSize < 1 || pageSize > pageProperties.getMaxSize()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        Slice<WinningReport> winningReportSlice = winningReportRepository.findByRoundLessThanOrderByRoundDesc(
+                cursor == null ? Integer.MAX_VALUE : cursor, PageRequest.of(0, pageSize));
+
+        if(winningReportSlice.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_WINNING_REPORT);
+        }
+
+        List<WinningReportDTO> winningReportDTOList = new ArrayList<>();
+
+        winningReportSlice.getContent().forEach((w) ->
+                winningReportDTOList.add(w.toDTO()));
+
+        return SliceDTO.<WinningReportDTO>builder()
+                .content(winningReportDTOList)
+                .size(pageSize)
+                .hasNext(winningReportSlice.hasNext())
+                .nextCursor(winningReportSlice.hasNext()
+                        ? winningReportDTOList.get(winningReportDTOList.size() - 1).getRound()
+                        : null)
+                .build();
+    }
+
     @Transactional
     public List<WinningReportDTO> readByDate(LocalDate startDate, LocalDate endDate) {
         List<WinningReport> winningReportList = winningReportRepository.findByDateBetween(startDate, endDate);
@@ -109,6 +153,8 @@ public class WinningReportService {
 
         WinningReportDTO updateWinningReportDTO = winningReportRepository.insert(winningReportDTO.toEntity()).toDTO();
 
+        eventPublisher.publishEvent(new WinningReportChangeEvent(List.of(updateWinningReportDTO.getRound())));
+
         return updateWinningReportDTO;
     }
 
@@ -126,6 +172,8 @@ public class WinningReportService {
 
         WinningReportDTO updateWinningReportDTO = winningReportRepository.save(winningReport).toDTO();
 
+        eventPublisher.publishEvent(new WinningReportChangeEvent(List.of(updateWinningReportDTO.getRound())));
+
         return updateWinningReportDTO;
     }
 
@@ -137,5 +185,7 @@ public class WinningReportService {
             throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_WINNING_REPORT);
         }
 
+        eventPublisher.publishEvent(new WinningReportChangeEvent(List.of(round)));
+
     }
 }
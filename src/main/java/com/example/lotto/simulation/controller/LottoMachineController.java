@@ -1,17 +1,27 @@
 package com.example.lotto.simulation.controller;
 
+import com.example.lotto.simulation.model.BacktestReport;
+import com.example.lotto.simulation.model.DrawMode;
 import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.simulation.model.RandomnessReport;
+import com.example.lotto.simulation.model.RandomnessSource;
+import com.example.lotto.simulation.model.StreamFormat;
+import com.example.lotto.simulation.model.TicketConstraint;
+import com.example.lotto.simulation.model.WeightVersion;
+import com.example.lotto.simulation.service.BacktestService;
 import com.example.lotto.simulation.service.LottoMachineService;
+import com.example.lotto.simulation.service.RandomnessService;
+import com.example.lotto.utils.StreamingTask;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -20,21 +30,93 @@ import java.util.List;
 public class LottoMachineController {
 
     private final LottoMachineService lottoMachineService;
+    private final BacktestService backtestService;
+    private final RandomnessService randomnessService;
 
     @Autowired
-    public LottoMachineController(LottoMachineService lottoMachineService) {
+    public LottoMachineController(LottoMachineService lottoMachineService,
+                                  BacktestService backtestService,
+                                  RandomnessService randomnessService) {
         this.lottoMachineService = lottoMachineService;
+        this.backtestService = backtestService;
+        this.randomnessService = randomnessService;
     }
 
     @GetMapping("/get/count/{count}")
     public ResponseEntity<List<LottoNumber>> getNumberDraw(@PathVariable Integer count) {
-        List<LottoNumber> lottoNumberList = new ArrayList<>();
-        for(int i=0; i<count; i++) {
-            LottoNumber lottoNumber = lottoMachineService.drawNumbers();
-            log.info("numbers: {}, bonusNumber: {}",lottoNumber.getNumbers(), lottoNumber.getBonusNumber());
-            lottoNumberList.add(lottoNumber);
-        }
+        List<LottoNumber> lottoNumberList = lottoMachineService.drawNumbers(count);
+        log.debug("drawn {} tickets", lottoNumberList.size());
         return new ResponseEntity<>(lottoNumberList, HttpStatus.OK);
     }
 
+    @GetMapping("/get/parallel/{count}")
+    public ResponseEntity<List<LottoNumber>> getNumberDrawParallel(@PathVariable Integer count,
+                                                                   @RequestParam(required = false) Long seed,
+                                                                   @RequestParam(required = false) @Min(1) Integer partitions) {
+        List<LottoNumber> lottoNumberList = lottoMachineService.drawNumbersParallel(count, seed, partitions);
+        return new ResponseEntity<>(lottoNumberList, HttpStatus.OK);
+    }
+
+    @PostMapping("/post/constrained/{count}")
+    public ResponseEntity<List<LottoNumber>> postNumberDrawConstrained(@PathVariable Integer count,
+                                                                       @RequestParam(defaultValue = "uniform") String mode,
+                                                                       @RequestBody @Validated TicketConstraint ticketConstraint) {
+        List<LottoNumber> lottoNumberList = lottoMachineService.drawNumbersConstrained(count, ticketConstraint, DrawMode.of(mode));
+        return new ResponseEntity<>(lottoNumberList, HttpStatus.OK);
+    }
+
+    @GetMapping("/get/stream/{count}")
+    public ResponseEntity<StreamingResponseBody> getNumberStream(@PathVariable @Min(1) Long count,
+                                                                 @RequestParam(defaultValue = "ndjson") String format,
+                                                                 HttpServletRequest request) {
+        StreamFormat streamFormat = StreamFormat.of(format);
+        StreamingTask streamingTask = lottoMachineService.streamNumbers(count, streamFormat).bind(request);
+        return ResponseEntity.ok()
+                .contentType(streamFormat.getMediaType())
+                .body(streamingTask);
+    }
+
+    @GetMapping("/get/weight/version")
+    public ResponseEntity<WeightVersion> getWeightVersion() {
+        WeightVersion weightVersion = lottoMachineService.readWeightVersion();
+        return new ResponseEntity<>(weightVersion, HttpStatus.OK);
+    }
+
+    @PostMapping("/post/weight/refresh")
+    public ResponseEntity<WeightVersion> refreshWeight() {
+        WeightVersion weightVersion = lottoMachineService.refreshWeight();
+        return new ResponseEntity<>(weightVersion, HttpStatus.OK);
+    }
+
+    @PostMapping("/post/backtest/{count}")
+    public ResponseEntity<BacktestReport> postBacktest(@PathVariable Long count,
+                                                       @RequestParam(defaultValue = "machine") String mode,
+                                                       @RequestParam(required = false) Long seed) {
+        BacktestReport backtestReport = backtestService.submitBacktest(count, DrawMode.of(mode), seed);
+        return new ResponseEntity<>(backtestReport, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/get/backtest/{id}")
+    public ResponseEntity<BacktestReport> getBacktest(@PathVariable String id) {
+        BacktestReport backtestReport = backtestService.readBacktest(id);
+        return new ResponseEntity<>(backtestReport, HttpStatus.OK);
+    }
+
+    /**
+     * source 가 history 이면 count 는 무시하고 저장된 모든 회차를 검정
+     */
+    @PostMapping("/post/randomness")
+    public ResponseEntity<RandomnessReport> postRandomness(@RequestParam(defaultValue = "machine") String source,
+                                                           @RequestParam(required = false) Long count,
+                                                           @RequestParam(required = false) Long seed) {
+        RandomnessReport randomnessReport = randomnessService.submitRandomness(RandomnessSource.of(source), count, seed);
+        return new ResponseEntity<>(randomnessReport, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/get/randomness/{id}")
+    public ResponseEntity<RandomnessReport> getRandomness(@PathVariable String id) {
+        RandomnessReport randomnessReport = randomnessService.readRandomness(id);
+        return new ResponseEntity<>(randomnessReport, HttpStatus.OK);
+    }
+
 }
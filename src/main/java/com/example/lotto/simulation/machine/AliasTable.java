@@ -0,0 +1,143 @@
+package com.example.lotto.simulation.machine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Vose 방식 Alias Table
+ * 번호(1~45)별 가중치로 한 번 생성해두면
+ * 한 번의 추첨을 O(1)로 처리할 수 있음
+ */
+public final class AliasTable {
+
+    public static final int MIN_NUMBER = 1;
+    public static final int MAX_NUMBER = 45;
+
+    // 중복 추첨시 재시도 횟수, 넘어가면 남은 번호 중 선형 탐색
+    private static final int MAX_REJECTION = 32;
+
+    private final double[] weights;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights 인덱스가 번호인 가중치 배열 (길이 46, 0번 인덱스는 사용하지 않음)
+     */
+    public AliasTable(double[] weights) {
+        if (weights.length != MAX_NUMBER + 1) {
+            throw new IllegalArgumentException("weights length must be " + (MAX_NUMBER + 1));
+        }
+
+        this.weights = weights.clone();
+        this.weights[0] = 0;
+        this.probability = new double[MAX_NUMBER + 1];
+        this.alias = new int[MAX_NUMBER + 1];
+
+        double totalWeight = 0;
+        for (int n = MIN_NUMBER; n <= MAX_NUMBER; n++) {
+            if (!(this.weights[n] >= 0) || Double.isInfinite(this.weights[n])) {
+                throw new IllegalArgumentException("invalid weight for number " + n);
+            }
+            totalWeight += this.weights[n];
+        }
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("total weight must be positive");
+        }
+
+        // 평균이 1이 되도록 정규화 후 small / large 로 분리
+        double[] scaled = new double[MAX_NUMBER + 1];
+        int[] small = new int[MAX_NUMBER];
+        int[] large = new int[MAX_NUMBER];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int n = MIN_NUMBER; n <= MAX_NUMBER; n++) {
+            scaled[n] = this.weights[n] * MAX_NUMBER / totalWeight;
+            if (scaled[n] < 1.0) {
+                small[smallSize++] = n;
+            } else {
+                large[largeSize++] = n;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            int s = small[--smallSize];
+            int l = large[--largeSize];
+
+            probability[s] = scaled[s];
+            alias[s] = l;
+
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallSize++] = l;
+            } else {
+                large[largeSize++] = l;
+            }
+        }
+
+        // 부동소수점 오차로 남은 항목은 확률 1로 고정
+        while (largeSize > 0) {
+            int l = large[--largeSize];
+            probability[l] = 1.0;
+            alias[l] = l;
+        }
+        while (smallSize > 0) {
+            int s = small[--smallSize];
+            probability[s] = 1.0;
+            alias[s] = s;
+        }
+    }
+
+    /**
+     * 복원 추첨
+     */
+    public int sample(RandomGenerator random) {
+        int column = MIN_NUMBER + random.nextInt(MAX_NUMBER);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * 비복원 추첨
+     * excludedMask 의 n번 비트가 켜져 있으면 n번은 제외
+     */
+    public int sample(RandomGenerator random, long excludedMask) {
+        for (int i = 0; i < MAX_REJECTION; i++) {
+            int number = sample(random);
+            if ((excludedMask & (1L << number)) == 0) {
+                return number;
+            }
+        }
+
+        return sampleLinear(random, excludedMask);
+    }
+
+    /**
+     * 제외된 번호의 가중치 비중이 커서 재시도가 계속 실패한 경우
+     * 남은 번호만으로 누적 가중치 탐색
+     */
+    private int sampleLinear(RandomGenerator random, long excludedMask) {
+        double remainWeight = 0;
+        for (int n = MIN_NUMBER; n <= MAX_NUMBER; n++) {
+            if ((excludedMask & (1L << n)) == 0) {
+                remainWeight += weights[n];
+            }
+        }
+        if (remainWeight <= 0) {
+            throw new IllegalStateException("no selectable number left");
+        }
+
+        double target = random.nextDouble() * remainWeight;
+        int last = -1;
+        for (int n = MIN_NUMBER; n <= MAX_NUMBER; n++) {
+            if ((excludedMask & (1L << n)) != 0 || weights[n] == 0) {
+                continue;
+            }
+            target -= weights[n];
+            last = n;
+            if (target < 0) {
+                return n;
+            }
+        }
+        return last;
+    }
+
+}
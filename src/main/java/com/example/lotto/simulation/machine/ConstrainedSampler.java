@@ -0,0 +1,346 @@
+package com.example.lotto.simulation.machine;
+
+import com.example.lotto.utils.TicketMask;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 조건을 만족하는 조합만 대상으로 하는 추첨기
+ *
+ * 번호를 45번부터 1번까지 내려가며 넣을지 뺄지 정할 때
+ * (고른 개수, 합, 홀수 개수, 연속 길이) 상태에서 남은 번호로 조건을 채우는 경우의 수(가중치 합)를
+ * 미리 테이블로 계산해두고, 테이블 값에 비례해서 분기하므로 재시도 없이 티켓 한 장이 45단계로 끝남
+ *
+ * 큰 번호부터 정하므로 조합의 순서는 Combination 과 같은 colex 순서이고
+ * 균등 추첨은 [0, count) 의 순위 하나를 뽑아 unrank 하는 것과 같음
+ */
+public final class ConstrainedSampler {
+
+    private static final int PICK_DIM = TicketMask.NUMBER_COUNT + 1;
+    // 홀수 번호 비트
+    private static final long ODD_MASK = 0xAAAA_AAAA_AAAA_AAAAL & TicketMask.NUMBER_MASK;
+
+    private final Key key;
+    private final double[] weights;    // null 이면 균등
+
+    private final boolean trackSum;
+    private final boolean trackOdd;
+    private final boolean trackRun;
+    private final int sumDim;
+    private final int oddDim;
+    private final int runDim;
+
+    // table[n][state] = 1 ~ n 번을 정해서 조건을 채우는 경우의 수(가중치 합)
+    // 균등일 때 값은 최대 C(45,6) < 2^24 이므로 float 으로 정확히 표현됨
+    private final float[][] table;
+
+    private ConstrainedSampler(Key key, double[] weights) {
+        this.key = key;
+        this.weights = weights;
+
+        this.trackSum = key.minSum > minPossibleSum() || key.maxSum < maxPossibleSum();
+        this.trackOdd = key.minOdd > 0 || key.maxOdd < TicketMask.NUMBER_COUNT;
+        this.trackRun = key.maxRun < TicketMask.NUMBER_COUNT;
+        this.sumDim = trackSum ? key.maxSum + 1 : 1;
+        this.oddDim = trackOdd ? key.maxOdd + 1 : 1;
+        this.runDim = trackRun ? key.maxRun + 1 : 1;
+
+        this.table = new float[TicketMask.MAX_NUMBER + 1][PICK_DIM * sumDim * oddDim * runDim];
+        buildTable();
+    }
+
+    /**
+     * @param weights 인덱스가 번호인 가중치 (길이 46), null 이면 균등 추첨
+     */
+    public static ConstrainedSampler of(Key key, double[] weights) {
+        return new ConstrainedSampler(key, weights == null ? null : normalize(weights));
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * 균등이면 조건을 만족하는 조합 수, 가중치면 가중치 합
+     */
+    public double total() {
+        return table[TicketMask.MAX_NUMBER][index(0, 0, 0, 0)];
+    }
+
+    public boolean isEmpty() {
+        return total() <= 0;
+    }
+
+    /**
+     * @return 번호 6개 비트마스크, 조건을 만족하는 조합이 없으면 0
+     */
+    public long sample(RandomGenerator random) {
+        if (isEmpty()) {
+            return 0L;
+        }
+        if (weights == null) {
+            return unrank(random.nextLong((long) total()));
+        }
+
+        long mask = 0L;
+        int pick = 0, sum = 0, odd = 0, run = 0;
+        for (int n = TicketMask.MAX_NUMBER; n >= 1 && pick < TicketMask.NUMBER_COUNT; n--) {
+            double skipWeight = skipWeight(n, pick, sum, odd);
+            double takeWeight = takeWeight(n, pick, sum, odd, run);
+
+            if (random.nextDouble() * (skipWeight + takeWeight) < takeWeight) {
+                mask |= 1L << n;
+                pick++;
+                sum = trackSum ? sum + n : 0;
+                odd = trackOdd ? odd + (n & 1) : 0;
+                run = trackRun ? run + 1 : 0;
+            } else {
+                run = 0;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 균등 추첨용, 조건을 만족하는 조합 중 colex 순서로 rank 번째
+     */
+    public long unrank(long rank) {
+        if (weights != null) {
+            throw new IllegalStateException("rank is defined only for uniform sampler");
+        }
+        if (rank < 0 || rank >= total()) {
+            throw new IllegalArgumentException("rank out of range: " + rank);
+        }
+
+        long mask = 0L;
+        int pick = 0, sum = 0, odd = 0, run = 0;
+        for (int n = TicketMask.MAX_NUMBER; n >= 1 && pick < TicketMask.NUMBER_COUNT; n--) {
+            // n 을 뺀 조합이 n 을 넣은 조합보다 colex 순서가 앞
+            long skipCount = (long) skipWeight(n, pick, sum, odd);
+            if (rank < skipCount) {
+                run = 0;
+                continue;
+            }
+            rank -= skipCount;
+            mask |= 1L << n;
+            pick++;
+            sum = trackSum ? sum + n : 0;
+            odd = trackOdd ? odd + (n & 1) : 0;
+            run = trackRun ? run + 1 : 0;
+        }
+        return mask;
+    }
+
+    /**
+     * unrank 의 역, 조건을 만족하지 않는 조합이면 -1
+     */
+    public long rank(long ticket) {
+        if (weights != null) {
+            throw new IllegalStateException("rank is defined only for uniform sampler");
+        }
+        long mask = TicketMask.numbers(ticket);
+        if (Long.bitCount(mask) != TicketMask.NUMBER_COUNT) {
+            return -1;
+        }
+
+        long rank = 0;
+        int pick = 0, sum = 0, odd = 0, run = 0;
+        for (int n = TicketMask.MAX_NUMBER; n >= 1 && pick < TicketMask.NUMBER_COUNT; n--) {
+            if ((mask & (1L << n)) == 0) {
+                if ((key.forcedMask & (1L << n)) != 0) {
+                    return -1;
+                }
+                run = 0;
+                continue;
+            }
+            if (takeWeight(n, pick, sum, odd, run) <= 0) {
+                return -1;
+            }
+            rank += (long) skipWeight(n, pick, sum, odd);
+            pick++;
+            sum = trackSum ? sum + n : 0;
+            odd = trackOdd ? odd + (n & 1) : 0;
+            run = trackRun ? run + 1 : 0;
+        }
+        return rank;
+    }
+
+    /**
+     * 테이블을 거치지 않고 조합 하나가 조건을 만족하는지 확인
+     */
+    public boolean accepts(long ticket) {
+        long mask = TicketMask.numbers(ticket);
+        if (Long.bitCount(mask) != TicketMask.NUMBER_COUNT
+                || (mask & key.excludedMask) != 0 || (mask & key.forcedMask) != key.forcedMask) {
+            return false;
+        }
+
+        int sum = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            sum += Long.numberOfTrailingZeros(rest);
+        }
+        int odd = Long.bitCount(mask & ODD_MASK);
+        // 연속된 비트를 한 칸씩 줄여 가며 가장 긴 연속 길이를 셈
+        int run = 0;
+        for (long rest = mask; rest != 0; rest &= rest >>> 1) {
+            run++;
+        }
+        return sum >= key.minSum && sum <= key.maxSum
+                && odd >= key.minOdd && odd <= key.maxOdd
+                && run <= key.maxRun;
+    }
+
+    /**
+     * 조합 하나의 추첨 가중치, 균등이면 1
+     */
+    public double weight(long ticket) {
+        if (weights == null) {
+            return 1;
+        }
+        double weight = 1;
+        for (long rest = TicketMask.numbers(ticket); rest != 0; rest &= rest - 1) {
+            weight *= weights[Long.numberOfTrailingZeros(rest)];
+        }
+        return weight;
+    }
+
+    private void buildTable() {
+        float[] base = table[0];
+        for (int pick = 0; pick < PICK_DIM; pick++) {
+            for (int sum = 0; sum < sumDim; sum++) {
+                for (int odd = 0; odd < oddDim; odd++) {
+                    for (int run = 0; run < runDim; run++) {
+                        boolean valid = pick == TicketMask.NUMBER_COUNT
+                                && (!trackSum || sum >= key.minSum)
+                                && (!trackOdd || odd >= key.minOdd);
+                        base[index(pick, sum, odd, run)] = valid ? 1f : 0f;
+                    }
+                }
+            }
+        }
+
+        for (int n = 1; n <= TicketMask.MAX_NUMBER; n++) {
+            float[] layer = table[n];
+            for (int pick = 0; pick < PICK_DIM; pick++) {
+                for (int sum = 0; sum < sumDim; sum++) {
+                    for (int odd = 0; odd < oddDim; odd++) {
+                        for (int run = 0; run < runDim; run++) {
+                            layer[index(pick, sum, odd, run)] =
+                                    (float) (skipWeight(n, pick, sum, odd) + takeWeight(n, pick, sum, odd, run));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * n 번을 넣지 않고 n - 1 번으로 넘어갈 때의 경우의 수
+     */
+    private double skipWeight(int n, int pick, int sum, int odd) {
+        if ((key.forcedMask & (1L << n)) != 0) {
+            return 0;
+        }
+        return table[n - 1][index(pick, sum, odd, 0)];
+    }
+
+    /**
+     * n 번을 넣고 n - 1 번으로 넘어갈 때의 경우의 수
+     */
+    private double takeWeight(int n, int pick, int sum, int odd, int run) {
+        if ((key.excludedMask & (1L << n)) != 0 || pick >= TicketMask.NUMBER_COUNT) {
+            return 0;
+        }
+
+        int nextSum = trackSum ? sum + n : 0;
+        int nextOdd = trackOdd ? odd + (n & 1) : 0;
+        int nextRun = trackRun ? run + 1 : 0;
+        if (nextSum >= sumDim || nextOdd >= oddDim || nextRun >= runDim) {
+            return 0;
+        }
+
+        double count = table[n - 1][index(pick + 1, nextSum, nextOdd, nextRun)];
+        return weights == null ? count : weights[n] * count;
+    }
+
+    private int index(int pick, int sum, int odd, int run) {
+        return ((pick * sumDim + sum) * oddDim + odd) * runDim + run;
+    }
+
+    /**
+     * 곱이 float 범위를 벗어나지 않도록 평균 1로 정규화
+     */
+    private static double[] normalize(double[] weights) {
+        double total = 0;
+        for (int n = TicketMask.MIN_NUMBER; n <= TicketMask.MAX_NUMBER; n++) {
+            total += weights[n];
+        }
+        double[] normalized = new double[TicketMask.MAX_NUMBER + 1];
+        for (int n = TicketMask.MIN_NUMBER; n <= TicketMask.MAX_NUMBER; n++) {
+            normalized[n] = total > 0 ? weights[n] * TicketMask.MAX_NUMBER / total : 0;
+        }
+        return normalized;
+    }
+
+    private static int minPossibleSum() {
+        return 21;  // 1 + 2 + ... + 6
+    }
+
+    private static int maxPossibleSum() {
+        return 255; // 40 + 41 + ... + 45
+    }
+
+    /**
+     * 정규화된 조건, 캐시 키로 사용
+     */
+    public static final class Key {
+
+        private final long excludedMask;
+        private final long forcedMask;
+        private final int minSum;
+        private final int maxSum;
+        private final int minOdd;
+        private final int maxOdd;
+        private final int maxRun;
+
+        public Key(long excludedMask, long forcedMask, int minSum, int maxSum, int minOdd, int maxOdd, int maxRun) {
+            this.excludedMask = excludedMask & TicketMask.NUMBER_MASK;
+            this.forcedMask = forcedMask & TicketMask.NUMBER_MASK;
+            this.minSum = Math.max(minSum, minPossibleSum());
+            this.maxSum = Math.min(maxSum, maxPossibleSum());
+            this.minOdd = Math.max(minOdd, 0);
+            this.maxOdd = Math.min(maxOdd, TicketMask.NUMBER_COUNT);
+            this.maxRun = Math.max(1, Math.min(maxRun, TicketMask.NUMBER_COUNT));
+        }
+
+        public static Key unconstrained() {
+            return new Key(0L, 0L, minPossibleSum(), maxPossibleSum(), 0, TicketMask.NUMBER_COUNT, TicketMask.NUMBER_COUNT);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return excludedMask == other.excludedMask && forcedMask == other.forcedMask
+                    && minSum == other.minSum && maxSum == other.maxSum
+                    && minOdd == other.minOdd && maxOdd == other.maxOdd
+                    && maxRun == other.maxRun;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(excludedMask, forcedMask, minSum, maxSum, minOdd, maxOdd, maxRun);
+        }
+
+    }
+
+}
@@ -1,21 +1,66 @@
 package com.example.lotto.simulation.machine;
 
+import com.example.lotto.domain.dto.StatLottoDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
-import com.example.lotto.simulation.model.LottoNumber;
-import com.example.lotto.domain.StatLotto;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.history.ResultHistory;
 import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.utils.TicketMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 @Component
 public class LottoMachine {
 
     private final StatLottoRepository statLottoRepository;
-    private Random random = new Random();
+
+    // 조건부 추첨 테이블 캐시 크기
+    private static final int MAX_CONSTRAINED_SAMPLER = 4;
+    // 겹침 조건 비트셋(약 1MB), 겹침 조건 추첨기(약 2MB) 캐시 크기
+    private static final int MAX_OVERLAP_SAMPLER = 4;
+
+    // 추첨마다 DB를 조회하지 않도록 가중치를 메모리에 유지
+    private final AtomicReference<WeightSnapshot> weightSnapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // 같은 조건이 반복되면 테이블을 다시 만들지 않음, 가중치 버전이 바뀌면 새로 만듦
+    // 키마다 future 를 두고 테이블은 잠금 밖에서 만들어 같은 키를 요청한 스레드만 기다림
+    private final Map<SamplerCacheKey, CompletableFuture<ConstrainedSampler>> constrainedSamplerCache =
+            new LinkedHashMap<>(MAX_CONSTRAINED_SAMPLER, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SamplerCacheKey, CompletableFuture<ConstrainedSampler>> eldest) {
+                    return size() > MAX_CONSTRAINED_SAMPLER;
+                }
+            };
+
+    // 지난 회차 이미지가 바뀌면 새로 만듦
+    private final Map<AdmissibleCacheKey, CompletableFuture<long[]>> admissibleCache =
+            new LinkedHashMap<>(MAX_OVERLAP_SAMPLER, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<AdmissibleCacheKey, CompletableFuture<long[]>> eldest) {
+                    return size() > MAX_OVERLAP_SAMPLER;
+                }
+            };
+    private final Map<OverlapCacheKey, CompletableFuture<OverlapSampler>> overlapSamplerCache =
+            new LinkedHashMap<>(MAX_OVERLAP_SAMPLER, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<OverlapCacheKey, CompletableFuture<OverlapSampler>> eldest) {
+                    return size() > MAX_OVERLAP_SAMPLER;
+                }
+            };
 
     @Autowired
     public LottoMachine(StatLottoRepository statLottoRepository) {
@@ -23,48 +68,206 @@ public class LottoMachine {
     }
 
     public LottoNumber drawLottoNumbers() {
-        Map<Integer, Integer> weightedNumbers = initializeWeightedNumbers(false);  // 일반 번호의 가중치
-        List<Integer> selectedNumbers = new ArrayList<>();
+        return LottoNumber.of(drawTicket());
+    }
 
-        for (int i = 0; i < 6; i++) {
-            int selected = selectNumber(weightedNumbers);
-            selectedNumbers.add(selected);
-            weightedNumbers.remove(selected); // 선택된 번호 완전 제거
-        }
+    /**
+     * 객체 생성 없이 대량 추첨할 때 사용
+     */
+    public long drawTicket() {
+        // 요청 스레드끼리 난수 시드를 두고 경쟁하지 않도록 스레드별 생성기 사용
+        return drawTicket(ThreadLocalRandom.current(), getWeightSnapshot());
+    }
+
+    /**
+     * @return TicketMask 형식 (번호 비트마스크 + 보너스 번호)
+     */
+    public long drawTicket(RandomGenerator random, WeightSnapshot snapshot) {
+        AliasTable numberTable = snapshot.getNumberTable();  // 일반 번호의 가중치
+        long selectedMask = 0L;
 
-        Collections.sort(selectedNumbers);
+        for (int i = 0; i < TicketMask.NUMBER_COUNT; i++) {
+            int selected = selectNumber(numberTable, random, selectedMask);
+            selectedMask |= 1L << selected; // 선택된 번호 완전 제거
+        }
 
         // 보너스 번호 추출: 이미 선택된 번호를 제외하고 보너스 가중치 적용
-        Map<Integer, Integer> bonusWeightedNumbers = initializeWeightedNumbers(true); // 보너스 번호의 가중치
-        selectedNumbers.forEach(bonusWeightedNumbers::remove); // 이미 선택된 번호 제거
-        Integer bonusNumber = selectNumber(bonusWeightedNumbers);
-
-        LottoNumber lottoNumber = new LottoNumber();
-        lottoNumber.setNumbers(selectedNumbers);
-        lottoNumber.setBonusNumber(bonusNumber);
-        return lottoNumber;
-    }
-
-    private Map<Integer, Integer> initializeWeightedNumbers(boolean forBonus) {
-        List<StatLotto> lottoStats = statLottoRepository.findAll();
-        Map<Integer, Integer> weightedNumbers = new HashMap<>();
-        for (StatLotto stat : lottoStats) {
-            int weight = (int) (forBonus ? stat.getBonusProbability() * 10000 : stat.getProbability() * 10000);
-            weightedNumbers.put(stat.getNumber(), weight);
+        AliasTable bonusTable = snapshot.getBonusTable(); // 보너스 번호의 가중치
+        int bonusNumber = selectNumber(bonusTable, random, selectedMask);
+
+        return TicketMask.withBonus(selectedMask, bonusNumber);
+    }
+
+    /**
+     * 가중치 없이 45개 번호 중 6개를 균등하게 추첨 (보너스 번호 없음)
+     */
+    public long drawUniformTicket(RandomGenerator random) {
+        long selectedMask = 0L;
+        while (Long.bitCount(selectedMask) < TicketMask.NUMBER_COUNT) {
+            selectedMask |= 1L << (TicketMask.MIN_NUMBER + random.nextInt(TicketMask.MAX_NUMBER));
+        }
+        return selectedMask;
+    }
+
+    /**
+     * @param snapshot null 이면 균등 추첨기
+     */
+    public ConstrainedSampler getConstrainedSampler(ConstrainedSampler.Key key, WeightSnapshot snapshot) {
+        SamplerCacheKey cacheKey = new SamplerCacheKey(key, snapshot == null ? 0L : snapshot.getVersion());
+        return getCached(constrainedSamplerCache, cacheKey, () ->
+                ConstrainedSampler.of(key, snapshot == null ? null : snapshot.getNumberWeights()));
+    }
+
+    /**
+     * 조건부 추첨기 조건에 지난 회차와 maxOverlap 개를 넘게 겹치지 않는 조건을 더한 추첨기
+     * @param snapshot null 이면 균등 추첨기
+     */
+    public OverlapSampler getOverlapSampler(ConstrainedSampler.Key key, WeightSnapshot snapshot,
+                                            ResultHistory history, int maxOverlap) {
+        SamplerCacheKey samplerKey = new SamplerCacheKey(key, snapshot == null ? 0L : snapshot.getVersion());
+        AdmissibleCacheKey admissibleKey = new AdmissibleCacheKey(history, maxOverlap);
+
+        return getCached(overlapSamplerCache, new OverlapCacheKey(samplerKey, admissibleKey), () -> {
+            long[] admissible = getCached(admissibleCache, admissibleKey, () ->
+                    OverlapSampler.admissible(history.copyNumberMasks(), maxOverlap));
+            return OverlapSampler.of(getConstrainedSampler(key, snapshot), admissible);
+        });
+    }
+
+    /**
+     * 키마다 future 를 두고 값은 잠금 밖에서 만들어 같은 키를 요청한 스레드만 기다림
+     */
+    private <K, V> V getCached(Map<K, CompletableFuture<V>> cache, K cacheKey, Supplier<V> builder) {
+        CompletableFuture<V> future;
+        boolean owner = false;
+        // 잠금은 맵 조회, 등록에만 사용
+        synchronized (cache) {
+            future = cache.get(cacheKey);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                cache.put(cacheKey, future);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                future.complete(builder.get());
+            } catch (RuntimeException | Error e) {
+                // 실패한 키는 캐시에 남기지 않고 기다리던 스레드에도 같은 예외를 전달
+                synchronized (cache) {
+                    cache.remove(cacheKey, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        return weightedNumbers;
     }
 
-    private int selectNumber(Map<Integer, Integer> weightedNumbers) {
-        int totalWeight = weightedNumbers.values().stream().mapToInt(Integer::intValue).sum();
-        int randomIndex = random.nextInt(totalWeight);
-        int cumulativeWeight = 0;
-        for (Map.Entry<Integer, Integer> entry : weightedNumbers.entrySet()) {
-            cumulativeWeight += entry.getValue();
-            if (randomIndex < cumulativeWeight) {
-                return entry.getKey();
+    /**
+     * 번호 6개가 정해진 티켓에 보너스 번호 추가
+     * @param snapshot null 이면 남은 번호 중 균등 추첨
+     */
+    public long drawBonus(long ticket, RandomGenerator random, WeightSnapshot snapshot) {
+        long selectedMask = TicketMask.numbers(ticket);
+        if (snapshot != null) {
+            return TicketMask.withBonus(selectedMask, selectNumber(snapshot.getBonusTable(), random, selectedMask));
+        }
+
+        int bonusNumber;
+        do {
+            bonusNumber = TicketMask.MIN_NUMBER + random.nextInt(TicketMask.MAX_NUMBER);
+        } while ((selectedMask & (1L << bonusNumber)) != 0);
+        return TicketMask.withBonus(selectedMask, bonusNumber);
+    }
+
+    public WeightSnapshot getWeightSnapshot() {
+        WeightSnapshot snapshot = weightSnapshot.get();
+        if (snapshot == null) {
+            snapshot = refreshWeightSnapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * stat_lotto 를 한 번 조회해서 스냅샷 교체
+     */
+    public WeightSnapshot refreshWeightSnapshot() {
+        List<StatLottoDTO> lottoStats = new ArrayList<>();
+        statLottoRepository.findAll().forEach(s ->
+                lottoStats.add(s.toDTO()));
+
+        return swapWeightSnapshot(lottoStats);
+    }
+
+    @EventListener
+    public void onStatLottoUpdate(StatLottoUpdateEvent event) {
+        if (event.getStatLottoDTOList().isEmpty()) {
+            return;
+        }
+        swapWeightSnapshot(event.getStatLottoDTOList());
+    }
+
+    private WeightSnapshot swapWeightSnapshot(List<StatLottoDTO> lottoStats) {
+        WeightSnapshot next = createWeightSnapshot(lottoStats);
+
+        // 동시에 갱신되더라도 더 최신 버전만 남김
+        return weightSnapshot.accumulateAndGet(next, (prev, candidate) ->
+                prev == null || candidate.getVersion() > prev.getVersion() ? candidate : prev);
+    }
+
+    private WeightSnapshot createWeightSnapshot(List<StatLottoDTO> lottoStats) {
+        double[] numberWeights = initializeWeightedNumbers(lottoStats, false);
+        double[] bonusWeights = initializeWeightedNumbers(lottoStats, true);
+        try {
+            return new WeightSnapshot(versionSequence.incrementAndGet(), numberWeights, bonusWeights);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.NOT_EXIST_STAT_LOTTO_LIST);
+        }
+    }
+
+    /**
+     * 인덱스가 번호인 가중치 배열 반환 (0번 인덱스 미사용)
+     */
+    private double[] initializeWeightedNumbers(List<StatLottoDTO> lottoStats, boolean forBonus) {
+        double[] weightedNumbers = new double[AliasTable.MAX_NUMBER + 1];
+        for (StatLottoDTO stat : lottoStats) {
+            Integer number = stat.getNumber();
+            Double weight = forBonus ? stat.getBonusProbability() : stat.getProbability();
+            if (number == null || weight == null
+                    || number < AliasTable.MIN_NUMBER || number > AliasTable.MAX_NUMBER) {
+                continue;
             }
+            weightedNumbers[number] = weight;
+        }
+        return weightedNumbers;
+    }
+
+    private int selectNumber(AliasTable aliasTable, RandomGenerator random, long excludedMask) {
+        try {
+            return aliasTable.sample(random, excludedMask);
+        } catch (IllegalStateException e) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN);
         }
-        throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN);
     }
+
+    private record SamplerCacheKey(ConstrainedSampler.Key key, long weightVersion) {
+    }
+
+    // ResultHistory 는 equals 를 정의하지 않으므로 같은 이미지일 때만 같은 키
+    private record AdmissibleCacheKey(ResultHistory history, int maxOverlap) {
+    }
+
+    private record OverlapCacheKey(SamplerCacheKey samplerKey, AdmissibleCacheKey admissibleKey) {
+    }
+
 }
@@ -0,0 +1,224 @@
+package com.example.lotto.simulation.machine;
+
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * ConstrainedSampler 조건에 지난 회차와 겹치는 번호 수 조건까지 더한 추첨기
+ *
+ * 겹침 조건은 ConstrainedSampler 테이블 상태로 표현할 수 없으므로
+ * 겹침 조건을 만족하는 조합의 colex 순위 비트셋(약 1MB)과 ConstrainedSampler 조건의 교집합을 미리 구해 두고
+ * 교집합 안에서만 뽑으므로 재추첨이 없음, 교집합이 비었을 때만 만족하는 조합이 없음
+ * 교집합이 작으면 조합을 배열로 펼쳐서 들고 있음
+ */
+public final class OverlapSampler {
+
+    // colex 순위 비트셋의 word 수
+    public static final int WORDS = (Combination.COUNT + 63) >>> 6;
+
+    // 이 개수 이하이면 비트셋 대신 조합 배열로 들고 있음
+    private static final int SMALL_COUNT = 4096;
+
+    private final ConstrainedSampler sampler;
+    private final long count;
+    private final double total;
+
+    // 교집합이 클 때: 순위 비트셋과 word 까지의 누적 가중치
+    private final long[] words;
+    private final double[] wordTotals;
+
+    // 교집합이 작을 때: 조합과 누적 가중치
+    private final long[] tickets;
+    private final double[] ticketTotals;
+
+    private OverlapSampler(ConstrainedSampler sampler, long count, double total,
+                           long[] words, double[] wordTotals, long[] tickets, double[] ticketTotals) {
+        this.sampler = sampler;
+        this.count = count;
+        this.total = total;
+        this.words = words;
+        this.wordTotals = wordTotals;
+        this.tickets = tickets;
+        this.ticketTotals = ticketTotals;
+    }
+
+    /**
+     * 지난 회차 어느 것과도 maxOverlap 개를 넘게 겹치지 않는 조합의 colex 순위 비트셋
+     *
+     * 조합이 제외되는 것은 지난 회차 번호에 들어 있는 (maxOverlap + 1)개짜리 부분집합을 포함할 때뿐이므로
+     * 지난 회차의 부분집합을 순위 비트셋으로 표시해 두고, 조합마다 자기 부분집합만 찾아봄
+     *
+     * @param pastMasks 지난 회차 번호 비트마스크
+     */
+    public static long[] admissible(long[] pastMasks, int maxOverlap) {
+        long[] admissible = new long[WORDS];
+        if (maxOverlap < 0) {
+            return admissible;
+        }
+        if (maxOverlap >= TicketMask.NUMBER_COUNT) {
+            for (int rank = 0; rank < Combination.COUNT; rank++) {
+                admissible[rank >>> 6] |= 1L << rank;
+            }
+            return admissible;
+        }
+
+        int subsetSize = maxOverlap + 1;
+        int[] subsets = subsetsOfSize(subsetSize);
+        long[] forbidden = new long[(Combination.binomial(TicketMask.MAX_NUMBER, subsetSize) + 63) >>> 6];
+
+        int[] numbers = new int[TicketMask.NUMBER_COUNT];
+        for (long pastMask : pastMasks) {
+            if (Long.bitCount(pastMask) != TicketMask.NUMBER_COUNT) {
+                continue;
+            }
+            toNumbers(pastMask, numbers);
+            for (int subset : subsets) {
+                int subsetRank = subsetRank(numbers, subset);
+                forbidden[subsetRank >>> 6] |= 1L << subsetRank;
+            }
+        }
+
+        long combination = Combination.unrank(0);
+        for (int rank = 0; rank < Combination.COUNT; rank++, combination = Combination.next(combination)) {
+            toNumbers(combination, numbers);
+            boolean allowed = true;
+            for (int subset : subsets) {
+                int subsetRank = subsetRank(numbers, subset);
+                if ((forbidden[subsetRank >>> 6] & (1L << subsetRank)) != 0) {
+                    allowed = false;
+                    break;
+                }
+            }
+            if (allowed) {
+                admissible[rank >>> 6] |= 1L << rank;
+            }
+        }
+        return admissible;
+    }
+
+    /**
+     * @param admissible admissible 로 만든 순위 비트셋
+     */
+    public static OverlapSampler of(ConstrainedSampler sampler, long[] admissible) {
+        long[] words = new long[WORDS];
+        double[] wordTotals = new double[WORDS];
+        long count = 0;
+        double total = 0;
+
+        long combination = Combination.unrank(0);
+        for (int rank = 0; rank < Combination.COUNT; rank++, combination = Combination.next(combination)) {
+            if ((admissible[rank >>> 6] & (1L << rank)) != 0 && sampler.accepts(combination)) {
+                double weight = sampler.weight(combination);
+                if (weight > 0) {
+                    words[rank >>> 6] |= 1L << rank;
+                    count++;
+                    total += weight;
+                }
+            }
+            wordTotals[rank >>> 6] = total;
+        }
+
+        if (count > SMALL_COUNT) {
+            return new OverlapSampler(sampler, count, total, words, wordTotals, null, null);
+        }
+
+        long[] tickets = new long[(int) count];
+        double[] ticketTotals = new double[(int) count];
+        double ticketTotal = 0;
+        int i = 0;
+        for (int w = 0; w < WORDS; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                tickets[i] = Combination.unrank((w << 6) + Long.numberOfTrailingZeros(word));
+                ticketTotal += sampler.weight(tickets[i]);
+                ticketTotals[i] = ticketTotal;
+                i++;
+            }
+        }
+        return new OverlapSampler(sampler, count, ticketTotal, null, null, tickets, ticketTotals);
+    }
+
+    /**
+     * 조건을 모두 만족하는 조합 수
+     */
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return 번호 6개 비트마스크, 조건을 만족하는 조합이 없으면 0
+     */
+    public long sample(RandomGenerator random) {
+        if (isEmpty()) {
+            return 0L;
+        }
+        // 균등이면 정수 순번을 그대로 사용
+        double target = sampler.isWeighted() ? random.nextDouble() * total : random.nextLong(count);
+
+        if (tickets != null) {
+            return tickets[Math.min(upperBound(ticketTotals, target), tickets.length - 1)];
+        }
+
+        int w = Math.min(upperBound(wordTotals, target), WORDS - 1);
+        double rest = target - (w == 0 ? 0 : wordTotals[w - 1]);
+        long ticket = 0L;
+        for (long word = words[w]; word != 0; word &= word - 1) {
+            ticket = Combination.unrank((w << 6) + Long.numberOfTrailingZeros(word));
+            rest -= sampler.weight(ticket);
+            if (rest < 0) {
+                return ticket;
+            }
+        }
+        // 부동소수 오차로 끝까지 오면 word 의 마지막 조합
+        return ticket;
+    }
+
+    // totals[i] > target 인 첫 인덱스
+    private static int upperBound(double[] totals, double target) {
+        int low = 0, high = totals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (totals[mid] > target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // 6자리 중 size 개가 켜진 자리 마스크
+    private static int[] subsetsOfSize(int size) {
+        int[] subsets = new int[Combination.binomial(TicketMask.NUMBER_COUNT, size)];
+        int i = 0;
+        for (int subset = 0; subset < 1 << TicketMask.NUMBER_COUNT; subset++) {
+            if (Integer.bitCount(subset) == size) {
+                subsets[i++] = subset;
+            }
+        }
+        return subsets;
+    }
+
+    // 오름차순 번호
+    private static void toNumbers(long mask, int[] numbers) {
+        int i = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            numbers[i++] = Long.numberOfTrailingZeros(rest);
+        }
+    }
+
+    // numbers 중 subset 자리의 번호로 만든 부분집합의 colex 순위 (Combination.rank 와 같은 방식)
+    private static int subsetRank(int[] numbers, int subset) {
+        int rank = 0;
+        for (int i = 1; subset != 0; i++, subset &= subset - 1) {
+            rank += Combination.binomial(numbers[Integer.numberOfTrailingZeros(subset)] - 1, i);
+        }
+        return rank;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.lotto.simulation.machine;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * 대량 추첨을 파티션으로 나눠 ForkJoinPool 에서 병렬 처리
+ * 파티션마다 독립된 난수 생성기를 쓰므로 스레드 간 경쟁이 없음
+ *
+ * seed 를 주면 루트 생성기에서 파티션 순서대로 split 하므로
+ * 같은 seed, 같은 파티션 수에 대해 항상 같은 결과가 나옴
+ */
+@Component
+public class ParallelDrawEngine {
+
+    private static final String GENERATOR_ALGORITHM = "L64X128MixRandom";
+
+    private final LottoMachine lottoMachine;
+    private final ForkJoinPool forkJoinPool;
+    private final int maxPartitions;
+
+    @Autowired
+    public ParallelDrawEngine(LottoMachine lottoMachine,
+                              LottoMachineProperties lottoMachineProperties) {
+        LottoMachineProperties.Parallel parallel = lottoMachineProperties.getParallel();
+        this.lottoMachine = lottoMachine;
+        this.forkJoinPool = new ForkJoinPool(Math.max(1, parallel.getParallelism()));
+        this.maxPartitions = Math.max(1, parallel.getMaxPartitions());
+    }
+
+    public int getParallelism() {
+        return forkJoinPool.getParallelism();
+    }
+
+    /**
+     * @param seed null 이면 매번 다른 결과
+     * @param partitions null 이면 풀의 스레드 수
+     * @return TicketMask 형식의 티켓 배열
+     */
+    public long[] draw(int count, Long seed, Integer partitions) {
+        long[] tickets = new long[count];
+
+        // 파티션이 도는 동안 가중치가 교체되어도 같은 스냅샷을 사용
+        WeightSnapshot snapshot = lottoMachine.getWeightSnapshot();
+
+        forEachPartition(count, seed, partitions, (from, to, random) -> {
+            for (int i = (int) from; i < to; i++) {
+                tickets[i] = lottoMachine.drawTicket(random, snapshot);
+            }
+        });
+
+        return tickets;
+    }
+
+    /**
+     * [0, count) 를 파티션으로 나눠 병렬 실행하고 모두 끝날 때까지 대기
+     * 파티션 p 는 항상 같은 구간과 같은 난수 생성기를 받음
+     */
+    public void forEachPartition(long count, Long seed, Integer partitions, PartitionTask task) {
+        int partitionCount = resolvePartitions(count, partitions);
+        List<RandomGenerator> generators = createGenerators(seed, partitionCount);
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            long from = count * p / partitionCount;
+            long to = count * (p + 1) / partitionCount;
+            RandomGenerator random = generators.get(p);
+            tasks.add(forkJoinPool.submit(() -> task.run(from, to, random)));
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private int resolvePartitions(long count, Integer partitions) {
+        int partitionCount = partitions == null ? forkJoinPool.getParallelism() : partitions;
+        partitionCount = Math.min(partitionCount, maxPartitions);
+        return (int) Math.max(1, Math.min(partitionCount, count));
+    }
+
+    private List<RandomGenerator> createGenerators(Long seed, int partitionCount) {
+        RandomGeneratorFactory<RandomGenerator.SplittableGenerator> factory = RandomGeneratorFactory.of(GENERATOR_ALGORITHM);
+        RandomGenerator.SplittableGenerator root = seed == null ? factory.create() : factory.create(seed);
+
+        List<RandomGenerator> generators = new ArrayList<>(partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            generators.add(root.split());
+        }
+        return generators;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface PartitionTask {
+
+        void run(long from, long to, RandomGenerator random);
+
+    }
+
+}
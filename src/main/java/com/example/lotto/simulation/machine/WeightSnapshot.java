@@ -0,0 +1,39 @@
+package com.example.lotto.simulation.machine;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추첨에 사용하는 가중치의 불변 스냅샷
+ * 통계가 바뀌면 새 스냅샷을 만들어 통째로 교체
+ */
+@Getter
+public final class WeightSnapshot {
+
+    private final long version;
+    private final LocalDateTime createdAt;
+    private final AliasTable numberTable;
+    private final AliasTable bonusTable;
+
+    private final double[] numberWeights;
+    private final double[] bonusWeights;
+
+    public WeightSnapshot(long version, double[] numberWeights, double[] bonusWeights) {
+        this.version = version;
+        this.createdAt = LocalDateTime.now();
+        this.numberWeights = numberWeights.clone();
+        this.bonusWeights = bonusWeights.clone();
+        this.numberTable = new AliasTable(this.numberWeights);
+        this.bonusTable = new AliasTable(this.bonusWeights);
+    }
+
+    public double[] getNumberWeights() {
+        return numberWeights.clone();
+    }
+
+    public double[] getBonusWeights() {
+        return bonusWeights.clone();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.example.lotto.simulation.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BacktestReport {
+
+    private String id;
+    private DrawMode mode;
+    private JobStatus status;
+    private String message;
+
+    private Long ticketCount;
+    private Long processedTickets;
+    private Integer roundCount;
+    private Integer latestRound;
+    private Long weightVersion;
+
+    // 티켓 x 회차 평가 횟수
+    private Long evaluations;
+    // 인덱스 0 = 1등 ... 4 = 5등
+    private List<Long> rankCountList;
+    private Long loseCount;
+
+    private Long totalPrize;
+    private Long totalCost;
+    private Double returnRate;
+    // 1게임 평균 당첨금
+    private Double expectedPrize;
+
+    private Long elapsedMillis;
+
+}
@@ -0,0 +1,25 @@
+package com.example.lotto.simulation.model;
+
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * MACHINE: LottoMachine 가중치 추첨
+ * UNIFORM: 45개 번호 균등 추첨
+ */
+public enum DrawMode {
+
+    MACHINE,
+    UNIFORM;
+
+    public static DrawMode of(String mode) {
+        for (DrawMode drawMode : values()) {
+            if (drawMode.name().equalsIgnoreCase(mode)) {
+                return drawMode;
+            }
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_MODE);
+    }
+
+}
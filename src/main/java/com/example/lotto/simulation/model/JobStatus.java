@@ -0,0 +1,10 @@
+package com.example.lotto.simulation.model;
+
+public enum JobStatus {
+
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+
+}
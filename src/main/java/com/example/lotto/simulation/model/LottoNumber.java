@@ -1,5 +1,6 @@
 package com.example.lotto.simulation.model;
 
+import com.example.lotto.utils.TicketMask;
 import lombok.Data;
 
 import java.util.List;
@@ -10,4 +11,15 @@ public class LottoNumber {
     private List<Integer> numbers;
     private Integer bonusNumber;
 
+    public static LottoNumber of(long ticket) {
+        LottoNumber lottoNumber = new LottoNumber();
+        lottoNumber.setNumbers(TicketMask.toList(ticket));
+        lottoNumber.setBonusNumber(TicketMask.bonus(ticket));
+        return lottoNumber;
+    }
+
+    public long toMask() {
+        return TicketMask.of(numbers, bonusNumber);
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.example.lotto.simulation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "randomness_report")
+public class RandomnessReport {
+
+    @Id
+    private String id;
+    private RandomnessSource source;
+    private JobStatus status;
+    private String message;
+
+    private Long sampleCount;
+    private Long processedDraws;
+    private Long seed;
+    private Long weightVersion;
+    // HISTORY 이면 검정한 마지막 회차
+    private Integer latestRound;
+
+    // 인덱스 0 = 1번 ... 44 = 45번
+    private List<Long> numberCountList;
+    private List<Long> bonusCountList;
+
+    // 번호별 출현 횟수 카이제곱 검정
+    private RandomnessTestResult frequencyTest;
+    // 번호 합이 기대값보다 큰지 작은지의 연속 구간 수 검정
+    private RandomnessTestResult runsTest;
+    // 연속한 두 추첨의 번호 합 상관계수 검정
+    private RandomnessTestResult serialCorrelationTest;
+    // 같은 번호가 다시 나올 때까지의 간격 분포 카이제곱 검정
+    private RandomnessTestResult gapTest;
+
+    private LocalDateTime createdAt;
+    private Long elapsedMillis;
+
+}
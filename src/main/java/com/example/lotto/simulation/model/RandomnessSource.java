@@ -0,0 +1,27 @@
+package com.example.lotto.simulation.model;
+
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * HISTORY: 저장된 당첨 번호 전체
+ * MACHINE: LottoMachine 가중치 추첨 표본
+ * UNIFORM: 45개 번호 균등 추첨 표본 (검정 자체의 기준선)
+ */
+public enum RandomnessSource {
+
+    HISTORY,
+    MACHINE,
+    UNIFORM;
+
+    public static RandomnessSource of(String source) {
+        for (RandomnessSource randomnessSource : values()) {
+            if (randomnessSource.name().equalsIgnoreCase(source)) {
+                return randomnessSource;
+            }
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_RANDOMNESS_SOURCE);
+    }
+
+}
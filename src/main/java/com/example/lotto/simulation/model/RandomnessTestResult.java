@@ -0,0 +1,21 @@
+package com.example.lotto.simulation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RandomnessTestResult {
+
+    // 카이제곱 통계량 또는 z 값
+    private Double statistic;
+    // z 검정이면 null
+    private Integer degreesOfFreedom;
+    // 표본이 부족해서 계산할 수 없으면 null
+    private Double pValue;
+
+}
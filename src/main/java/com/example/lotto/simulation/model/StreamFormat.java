@@ -0,0 +1,32 @@
+package com.example.lotto.simulation.model;
+
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * NDJSON: 한 줄에 LottoNumber JSON 하나
+ * BINARY: 티켓당 7바이트 (번호 6개 오름차순 + 보너스 번호)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StreamFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    BINARY(MediaType.APPLICATION_OCTET_STREAM);
+
+    private final MediaType mediaType;
+
+    public static StreamFormat of(String format) {
+        for (StreamFormat streamFormat : values()) {
+            if (streamFormat.name().equalsIgnoreCase(format)) {
+                return streamFormat;
+            }
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_FORMAT);
+    }
+
+}
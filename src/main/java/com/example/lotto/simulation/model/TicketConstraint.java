@@ -0,0 +1,55 @@
+package com.example.lotto.simulation.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 조건부 추첨 조건, 값이 없는 항목은 제한하지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketConstraint {
+
+    private List<@Min(value = 1) @Max(value = 45) Integer> excludedNumbers;
+
+    @Size(max = 6)
+    private List<@Min(value = 1) @Max(value = 45) Integer> forcedNumbers;
+
+    // 번호 6개의 합
+    @Min(value = 21)
+    @Max(value = 255)
+    private Integer minSum;
+
+    @Min(value = 21)
+    @Max(value = 255)
+    private Integer maxSum;
+
+    // 홀수 개수
+    @Min(value = 0)
+    @Max(value = 6)
+    private Integer minOdd;
+
+    @Min(value = 0)
+    @Max(value = 6)
+    private Integer maxOdd;
+
+    // 연속 번호의 최대 길이
+    @Min(value = 1)
+    @Max(value = 6)
+    private Integer maxRun;
+
+    // 지난 모든 회차와 겹쳐도 되는 최대 번호 수
+    @Min(value = 0)
+    @Max(value = 6)
+    private Integer maxOverlap;
+
+}
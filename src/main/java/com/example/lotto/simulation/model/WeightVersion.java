@@ -0,0 +1,27 @@
+package com.example.lotto.simulation.model;
+
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class WeightVersion {
+
+    private Long version;
+    private LocalDateTime createdAt;
+    private double[] numberWeights;
+    private double[] bonusWeights;
+
+    public static WeightVersion of(WeightSnapshot weightSnapshot) {
+        return WeightVersion.builder()
+                .version(weightSnapshot.getVersion())
+                .createdAt(weightSnapshot.getCreatedAt())
+                .numberWeights(weightSnapshot.getNumberWeights())
+                .bonusWeights(weightSnapshot.getBonusWeights())
+                .build();
+    }
+
+}
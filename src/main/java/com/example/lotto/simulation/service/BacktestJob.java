@@ -0,0 +1,136 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.BacktestReport;
+import com.example.lotto.simulation.model.DrawMode;
+import com.example.lotto.simulation.model.JobStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백테스트 한 건의 진행 상태와 집계
+ * 파티션은 지역 카운터로 계산하고 끝날 때 한 번만 merge
+ */
+class BacktestJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final DrawMode mode;
+    private final long ticketCount;
+    private final Long seed;
+    private final long ticketPrice;
+    private final ResultHistory history;
+    private final WeightSnapshot snapshot;    // UNIFORM 이면 null
+
+    private final AtomicLong processedTickets = new AtomicLong();
+    private final long[] rankCounts = new long[ResultHistory.RANK_COUNT + 1];   // 0 = 낙첨
+    private long totalPrize;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile String message;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    BacktestJob(DrawMode mode, long ticketCount, Long seed, long ticketPrice,
+                ResultHistory history, WeightSnapshot snapshot) {
+        this.mode = mode;
+        this.ticketCount = ticketCount;
+        this.seed = seed;
+        this.ticketPrice = ticketPrice;
+        this.history = history;
+        this.snapshot = snapshot;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    DrawMode getMode() {
+        return mode;
+    }
+
+    long getTicketCount() {
+        return ticketCount;
+    }
+
+    Long getSeed() {
+        return seed;
+    }
+
+    ResultHistory getHistory() {
+        return history;
+    }
+
+    WeightSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    boolean isFinished() {
+        return status == JobStatus.DONE || status == JobStatus.FAILED;
+    }
+
+    void start() {
+        startedAt = System.currentTimeMillis();
+        status = JobStatus.RUNNING;
+    }
+
+    void addProcessed(long tickets) {
+        processedTickets.addAndGet(tickets);
+    }
+
+    synchronized void merge(long[] partitionRankCounts, long partitionPrize) {
+        for (int i = 0; i < rankCounts.length; i++) {
+            rankCounts[i] += partitionRankCounts[i];
+        }
+        totalPrize += partitionPrize;
+    }
+
+    void complete() {
+        finishedAt = System.currentTimeMillis();
+        status = JobStatus.DONE;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = System.currentTimeMillis();
+        status = JobStatus.FAILED;
+    }
+
+    synchronized BacktestReport toReport() {
+        int roundCount = history.size();
+        long evaluations = ticketCount * roundCount;
+        long totalCost = evaluations * ticketPrice;
+
+        List<Long> rankCountList = new ArrayList<>(ResultHistory.RANK_COUNT);
+        for (int ranking = 1; ranking <= ResultHistory.RANK_COUNT; ranking++) {
+            rankCountList.add(rankCounts[ranking]);
+        }
+
+        boolean done = status == JobStatus.DONE;
+        long end = finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+
+        return BacktestReport.builder()
+                .id(id)
+                .mode(mode)
+                .status(status)
+                .message(message)
+                .ticketCount(ticketCount)
+                .processedTickets(processedTickets.get())
+                .roundCount(roundCount)
+                .latestRound(history.getLatestRound())
+                .weightVersion(snapshot == null ? null : snapshot.getVersion())
+                .evaluations(evaluations)
+                .rankCountList(rankCountList)
+                .loseCount(rankCounts[0])
+                .totalPrize(totalPrize)
+                .totalCost(totalCost)
+                .returnRate(done && totalCost > 0 ? (double) totalPrize / totalCost : null)
+                .expectedPrize(done && evaluations > 0 ? (double) totalPrize / evaluations : null)
+                .elapsedMillis(startedAt == 0 ? null : end - startedAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.BacktestReport;
+import com.example.lotto.simulation.model.DrawMode;
+import com.example.lotto.utils.TicketMask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * 티켓 N장을 추첨해서 저장된 모든 회차와 비교하는 몬테카를로 백테스트
+ * 티켓 한 장을 매 회차 1게임씩 샀다고 보고 등수 분포와 수익률을 계산
+ */
+@Slf4j
+@Service
+public class BacktestService {
+
+    // 이 간격마다 진행률 반영
+    private static final int PROGRESS_INTERVAL = 1024;
+
+    private final LottoMachine lottoMachine;
+    private final ParallelDrawEngine parallelDrawEngine;
+    private final ResultHistoryStore resultHistoryStore;
+    private final LottoMachineProperties.Backtest backtestProperties;
+
+    // 백테스트 하나가 병렬 풀 전체를 쓰므로 작업은 한 번에 하나씩 실행
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "backtest-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, BacktestJob> jobMap = Collections.synchronizedMap(new LinkedHashMap<>());
+    // 대기 + 실행 중인 작업 수
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+
+    @Autowired
+    public BacktestService(LottoMachine lottoMachine,
+                           ParallelDrawEngine parallelDrawEngine,
+                           ResultHistoryStore resultHistoryStore,
+                           LottoMachineProperties lottoMachineProperties) {
+        this.lottoMachine = lottoMachine;
+        this.parallelDrawEngine = parallelDrawEngine;
+        this.resultHistoryStore = resultHistoryStore;
+        this.backtestProperties = lottoMachineProperties.getBacktest();
+    }
+
+    /**
+     * 작업을 등록하고 바로 반환, 결과는 readBacktest 로 조회
+     * 대기 + 실행 중인 작업이 max-jobs 에 이르면 429
+     */
+    public BacktestReport submitBacktest(Long count, DrawMode mode, Long seed) {
+        BacktestJob job = createJob(count, mode, seed);
+
+        int maxJobs = backtestProperties.getMaxJobs();
+        if (pendingJobs.incrementAndGet() > maxJobs) {
+            pendingJobs.decrementAndGet();
+            throw new CustomException(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.EXCEED_SIMULATION_JOB);
+        }
+
+        synchronized (jobMap) {
+            jobMap.put(job.getId(), job);
+            // 끝난 작업부터 오래된 순으로 지움, 대기 중인 작업은 max-jobs 를 넘지 않으므로 크기가 제한됨
+            Iterator<BacktestJob> iterator = jobMap.values().iterator();
+            while (jobMap.size() > maxJobs && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    execute(job);
+                } finally {
+                    pendingJobs.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingJobs.decrementAndGet();
+            job.fail("backtest executor is shut down");
+            throw e;
+        }
+        return job.toReport();
+    }
+
+    /**
+     * 호출한 스레드에서 끝까지 실행
+     */
+    public BacktestReport runBacktest(Long count, DrawMode mode, Long seed) {
+        BacktestJob job = createJob(count, mode, seed);
+        execute(job);
+        return job.toReport();
+    }
+
+    public BacktestReport readBacktest(String id) {
+        BacktestJob job = jobMap.get(id);
+        if (job == null) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_BACKTEST);
+        }
+        return job.toReport();
+    }
+
+    private BacktestJob createJob(Long count, DrawMode mode, Long seed) {
+        if (count == null || count < 1 || count > backtestProperties.getMaxCount()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+        ResultHistory history = resultHistoryStore.getHistory();
+        if (history.isEmpty()) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+        }
+
+        // 가중치가 없으면 작업을 등록하기 전에 실패시킴, 작업 중 가중치가 바뀌어도 이 스냅샷을 사용
+        WeightSnapshot snapshot = mode == DrawMode.MACHINE ? lottoMachine.getWeightSnapshot() : null;
+
+        return new BacktestJob(mode, count, seed, backtestProperties.getTicketPrice(), history, snapshot);
+    }
+
+    private void execute(BacktestJob job) {
+        job.start();
+        try {
+            ResultHistory history = job.getHistory();
+            long[] winningMasks = history.copyNumberMasks();
+            long[] bonusBits = history.copyBonusBits();
+            long[] prizes = history.copyPrizes();
+            WeightSnapshot snapshot = job.getSnapshot();
+
+            parallelDrawEngine.forEachPartition(job.getTicketCount(), job.getSeed(), null, (from, to, random) ->
+                    evaluateRange(job, to - from, random, snapshot, winningMasks, bonusBits, prizes));
+
+            job.complete();
+        } catch (RuntimeException e) {
+            log.warn("backtest {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void evaluateRange(BacktestJob job, long tickets, RandomGenerator random, WeightSnapshot snapshot,
+                               long[] winningMasks, long[] bonusBits, long[] prizes) {
+        long[] rankCounts = new long[ResultHistory.RANK_COUNT + 1];
+        long prize = 0;
+        int roundCount = winningMasks.length;
+
+        for (long t = 0; t < tickets; t++) {
+            long ticket = snapshot == null
+                    ? lottoMachine.drawUniformTicket(random)
+                    : TicketMask.numbers(lottoMachine.drawTicket(random, snapshot));
+
+            for (int i = 0; i < roundCount; i++) {
+                int matchCount = Long.bitCount(ticket & winningMasks[i]);
+                if (matchCount < 3) {
+                    continue;
+                }
+                int ranking = switch (matchCount) {
+                    case 6 -> 1;
+                    case 5 -> (ticket & bonusBits[i]) != 0 ? 2 : 3;
+                    case 4 -> 4;
+                    default -> 5;
+                };
+                rankCounts[ranking]++;
+                prize += prizes[i * ResultHistory.RANK_COUNT + ranking - 1];
+            }
+
+            if ((t + 1) % PROGRESS_INTERVAL == 0) {
+                job.addProcessed(PROGRESS_INTERVAL);
+            }
+        }
+        job.addProcessed(tickets % PROGRESS_INTERVAL);
+
+        long winCount = 0;
+        for (int ranking = 1; ranking <= ResultHistory.RANK_COUNT; ranking++) {
+            winCount += rankCounts[ranking];
+        }
+        rankCounts[0] = tickets * roundCount - winCount;
+
+        job.merge(rankCounts, prize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+}
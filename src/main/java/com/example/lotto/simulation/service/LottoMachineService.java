@@ -1,21 +1,172 @@
 package com.example.lotto.simulation.service;
 
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.simulation.machine.ConstrainedSampler;
 import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.OverlapSampler;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.DrawMode;
 import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.simulation.model.StreamFormat;
+import com.example.lotto.simulation.model.TicketConstraint;
+import com.example.lotto.simulation.model.WeightVersion;
+import com.example.lotto.utils.StreamingTask;
+import com.example.lotto.utils.TicketMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 @Service
 public class LottoMachineService {
 
     private final LottoMachine lottoMachine;
+    private final ParallelDrawEngine parallelDrawEngine;
+    private final ResultHistoryStore resultHistoryStore;
+    private final LottoMachineProperties lottoMachineProperties;
+    private final Semaphore streamPermits;
 
     @Autowired
-    public LottoMachineService(LottoMachine lottoMachine) {
+    public LottoMachineService(LottoMachine lottoMachine,
+                               ParallelDrawEngine parallelDrawEngine,
+                               ResultHistoryStore resultHistoryStore,
+                               LottoMachineProperties lottoMachineProperties) {
         this.lottoMachine = lottoMachine;
+        this.parallelDrawEngine = parallelDrawEngine;
+        this.resultHistoryStore = resultHistoryStore;
+        this.lottoMachineProperties = lottoMachineProperties;
+        this.streamPermits = new Semaphore(lottoMachineProperties.getStream().getMaxConcurrent());
     }
 
     public LottoNumber drawNumbers() {
         return lottoMachine.drawLottoNumbers();
     }
+
+    public List<LottoNumber> drawNumbers(Integer count) {
+        validateListCount(count);
+
+        List<LottoNumber> lottoNumberList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lottoNumberList.add(lottoMachine.drawLottoNumbers());
+        }
+        return lottoNumberList;
+    }
+
+    /**
+     * seed 와 partitions 가 같으면 같은 결과를 반환
+     */
+    public List<LottoNumber> drawNumbersParallel(Integer count, Long seed, Integer partitions) {
+        validateListCount(count);
+
+        long[] tickets = parallelDrawEngine.draw(count, seed, partitions);
+
+        List<LottoNumber> lottoNumberList = new ArrayList<>(count);
+        for (long ticket : tickets) {
+            lottoNumberList.add(LottoNumber.of(ticket));
+        }
+        return lottoNumberList;
+    }
+
+    /**
+     * 조건을 만족하는 조합 중에서만 추첨
+     * UNIFORM 은 조합마다 같은 확률, MACHINE 은 번호 가중치의 곱에 비례
+     * 지난 회차와 겹치는 번호 수 조건이 있으면 그 조건까지 만족하는 조합의 집합에서 뽑음
+     */
+    public List<LottoNumber> drawNumbersConstrained(Integer count, TicketConstraint constraint, DrawMode mode) {
+        validateListCount(count);
+
+        WeightSnapshot snapshot = mode == DrawMode.MACHINE ? lottoMachine.getWeightSnapshot() : null;
+        ConstrainedSampler.Key key = toSamplerKey(constraint);
+        ConstrainedSampler sampler = lottoMachine.getConstrainedSampler(key, snapshot);
+        if (sampler.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INFEASIBLE_CONSTRAINT);
+        }
+
+        RandomGenerator random = ThreadLocalRandom.current();
+        List<LottoNumber> lottoNumberList = new ArrayList<>(count);
+
+        Integer maxOverlap = constraint.getMaxOverlap();
+        if (maxOverlap == null || maxOverlap >= TicketMask.NUMBER_COUNT) {
+            for (int i = 0; i < count; i++) {
+                lottoNumberList.add(LottoNumber.of(lottoMachine.drawBonus(sampler.sample(random), random, snapshot)));
+            }
+            return lottoNumberList;
+        }
+
+        OverlapSampler overlapSampler = lottoMachine.getOverlapSampler(
+                key, snapshot, resultHistoryStore.getHistory(), maxOverlap);
+        if (overlapSampler.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INFEASIBLE_CONSTRAINT);
+        }
+        for (int i = 0; i < count; i++) {
+            lottoNumberList.add(LottoNumber.of(lottoMachine.drawBonus(overlapSampler.sample(random), random, snapshot)));
+        }
+        return lottoNumberList;
+    }
+
+    private ConstrainedSampler.Key toSamplerKey(TicketConstraint constraint) {
+        return new ConstrainedSampler.Key(
+                toMask(constraint.getExcludedNumbers()),
+                toMask(constraint.getForcedNumbers()),
+                constraint.getMinSum() == null ? 0 : constraint.getMinSum(),
+                constraint.getMaxSum() == null ? Integer.MAX_VALUE : constraint.getMaxSum(),
+                constraint.getMinOdd() == null ? 0 : constraint.getMinOdd(),
+                constraint.getMaxOdd() == null ? TicketMask.NUMBER_COUNT : constraint.getMaxOdd(),
+                constraint.getMaxRun() == null ? TicketMask.NUMBER_COUNT : constraint.getMaxRun());
+    }
+
+    private long toMask(List<Integer> numbers) {
+        return numbers == null ? 0L : TicketMask.of(numbers);
+    }
+
+    private void validateListCount(Integer count) {
+        if (count < 1 || count > lottoMachineProperties.getMaxListCount()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_COUNT);
+        }
+    }
+
+    /**
+     * 티켓을 만드는 즉시 응답에 기록
+     * 소켓 쓰기가 막히면 추첨도 같이 멈추므로 클라이언트 속도에 맞춰짐
+     * 컨트롤러에서 bind 해야 본문이 실행되지 않은 요청의 permit 도 반환됨
+     */
+    public StreamingTask streamNumbers(Long count, StreamFormat format) {
+        LottoMachineProperties.Stream streamProperties = lottoMachineProperties.getStream();
+
+        if (count < 1 || count > streamProperties.getMaxCount()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+        // 가중치가 없으면 응답을 시작하기 전에 실패시킴
+        lottoMachine.getWeightSnapshot();
+
+        if (!streamPermits.tryAcquire()) {
+            throw new CustomException(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.EXCEED_DRAW_STREAM);
+        }
+
+        return new StreamingTask(streamPermits, streamProperties.getTimeout(), outputStream -> {
+            TicketStreamWriter writer = new TicketStreamWriter(outputStream, format, streamProperties.getBufferSize());
+            for (long i = 0; i < count; i++) {
+                writer.write(lottoMachine.drawTicket());
+            }
+            writer.flush();
+        });
+    }
+
+    public WeightVersion readWeightVersion() {
+        return WeightVersion.of(lottoMachine.getWeightSnapshot());
+    }
+
+    public WeightVersion refreshWeight() {
+        return WeightVersion.of(lottoMachine.refreshWeightSnapshot());
+    }
 }
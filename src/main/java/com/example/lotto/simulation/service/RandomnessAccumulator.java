@@ -0,0 +1,267 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.history.GapTable;
+import com.example.lotto.simulation.model.RandomnessTestResult;
+import com.example.lotto.utils.Statistics;
+import com.example.lotto.utils.TicketMask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 연속한 추첨 구간 하나의 검정용 집계 (primitive 배열만 사용)
+ * 파티션마다 따로 집계한 뒤 구간 순서대로 merge 하면 전체를 순서대로 집계한 것과 같음
+ * 구간 경계에 걸친 연속 구간, 이웃 추첨 쌍, 출현 간격은 merge 에서 처리
+ */
+class RandomnessAccumulator {
+
+    private static final int SIZE = TicketMask.MAX_NUMBER + 1;
+    private static final int HISTOGRAM_SIZE = GapTable.HISTOGRAM_SIZE;
+
+    // 한 번호가 한 추첨에 나올 확률 6/45
+    private static final double HIT_PROBABILITY = (double) TicketMask.NUMBER_COUNT / TicketMask.MAX_NUMBER;
+    // 번호 합의 기대값 6 x 23, 같으면 runs 검정에서 제외
+    private static final int MEAN_SUM = TicketMask.NUMBER_COUNT * (TicketMask.MIN_NUMBER + TicketMask.MAX_NUMBER) / 2;
+
+    private long index;   // 다음 추첨의 전체 순번
+    private long drawCount;
+
+    private final long[] numberCounts = new long[SIZE];
+    private final long[] bonusCounts = new long[SIZE];
+
+    // runs
+    private long aboveCount;
+    private long belowCount;
+    private long runCount;
+    private int firstSign;   // 0 = 아직 없음
+    private int lastSign;
+
+    // serial correlation (번호 합)
+    private long sum;
+    private long sumSquare;
+    private long lagProduct;
+    private int firstSum;
+    private int lastSum;
+
+    // gap
+    private final long[] firstSeen = new long[SIZE];
+    private final long[] lastSeen = new long[SIZE];
+    private final long[] gapHistogram = new long[HISTOGRAM_SIZE];
+
+    RandomnessAccumulator(long startIndex) {
+        this.index = startIndex;
+        Arrays.fill(firstSeen, -1);
+        Arrays.fill(lastSeen, -1);
+    }
+
+    long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * @param mask TicketMask 형식, 보너스 번호가 없으면 보너스 출현 횟수만 빠짐
+     */
+    void add(long mask) {
+        int drawSum = 0;
+        for (long numbers = TicketMask.numbers(mask); numbers != 0; numbers &= numbers - 1) {
+            int number = Long.numberOfTrailingZeros(numbers);
+            numberCounts[number]++;
+            drawSum += number;
+
+            if (lastSeen[number] < 0) {
+                firstSeen[number] = index;
+            } else {
+                gapHistogram[bucket(index - lastSeen[number])]++;
+            }
+            lastSeen[number] = index;
+        }
+        bonusCounts[TicketMask.bonus(mask)]++;
+
+        int sign = Integer.compare(drawSum, MEAN_SUM);
+        if (sign != 0) {
+            if (sign > 0) {
+                aboveCount++;
+            } else {
+                belowCount++;
+            }
+            if (sign != lastSign) {
+                runCount++;
+            }
+            if (firstSign == 0) {
+                firstSign = sign;
+            }
+            lastSign = sign;
+        }
+
+        if (drawCount == 0) {
+            firstSum = drawSum;
+        } else {
+            lagProduct += (long) lastSum * drawSum;
+        }
+        lastSum = drawSum;
+        sum += drawSum;
+        sumSquare += (long) drawSum * drawSum;
+
+        drawCount++;
+        index++;
+    }
+
+    /**
+     * 바로 뒤 구간의 집계를 합침
+     */
+    void merge(RandomnessAccumulator next) {
+        for (int number = 0; number < SIZE; number++) {
+            numberCounts[number] += next.numberCounts[number];
+            bonusCounts[number] += next.bonusCounts[number];
+
+            if (next.firstSeen[number] >= 0) {
+                if (lastSeen[number] >= 0) {
+                    gapHistogram[bucket(next.firstSeen[number] - lastSeen[number])]++;
+                } else {
+                    firstSeen[number] = next.firstSeen[number];
+                }
+                lastSeen[number] = next.lastSeen[number];
+            }
+        }
+        for (int k = 0; k < HISTOGRAM_SIZE; k++) {
+            gapHistogram[k] += next.gapHistogram[k];
+        }
+
+        aboveCount += next.aboveCount;
+        belowCount += next.belowCount;
+        runCount += next.runCount;
+        if (lastSign != 0 && lastSign == next.firstSign) {
+            runCount--;
+        }
+        if (firstSign == 0) {
+            firstSign = next.firstSign;
+        }
+        if (next.lastSign != 0) {
+            lastSign = next.lastSign;
+        }
+
+        if (next.drawCount > 0) {
+            if (drawCount == 0) {
+                firstSum = next.firstSum;
+            } else {
+                lagProduct += (long) lastSum * next.firstSum;
+            }
+            lastSum = next.lastSum;
+        }
+        lagProduct += next.lagProduct;
+        sum += next.sum;
+        sumSquare += next.sumSquare;
+
+        drawCount += next.drawCount;
+        index = next.index;
+    }
+
+    List<Long> getNumberCountList() {
+        return toList(numberCounts);
+    }
+
+    List<Long> getBonusCountList() {
+        return toList(bonusCounts);
+    }
+
+    /**
+     * 한 추첨 안에서는 같은 번호가 두 번 나오지 않으므로 번호별 횟수가 서로 독립이 아님
+     * 비복원 추출 보정 (45 - 1) / (45 - 6) 을 곱하면 자유도 44 카이제곱 분포를 따름
+     */
+    RandomnessTestResult frequencyTest() {
+        if (drawCount == 0) {
+            return empty(TicketMask.MAX_NUMBER - 1);
+        }
+        double expected = drawCount * HIT_PROBABILITY;
+        double statistic = 0;
+        for (int number = TicketMask.MIN_NUMBER; number <= TicketMask.MAX_NUMBER; number++) {
+            double diff = numberCounts[number] - expected;
+            statistic += diff * diff / expected;
+        }
+        statistic *= (double) (TicketMask.MAX_NUMBER - 1) / (TicketMask.MAX_NUMBER - TicketMask.NUMBER_COUNT);
+
+        int degreesOfFreedom = TicketMask.MAX_NUMBER - 1;
+        return new RandomnessTestResult(statistic, degreesOfFreedom, Statistics.chiSquarePValue(statistic, degreesOfFreedom));
+    }
+
+    /**
+     * Wald-Wolfowitz runs 검정
+     */
+    RandomnessTestResult runsTest() {
+        double n1 = aboveCount;
+        double n2 = belowCount;
+        double n = n1 + n2;
+        if (n1 == 0 || n2 == 0 || n < 2) {
+            return empty(null);
+        }
+        double mean = 2 * n1 * n2 / n + 1;
+        double variance = 2 * n1 * n2 * (2 * n1 * n2 - n) / (n * n * (n - 1));
+        if (variance <= 0) {
+            return empty(null);
+        }
+        double z = (runCount - mean) / Math.sqrt(variance);
+        return new RandomnessTestResult(z, null, Statistics.normalTwoSidedPValue(z));
+    }
+
+    /**
+     * lag 1 자기상관 r, 독립이면 r x sqrt(n) 이 표준정규분포를 따름
+     */
+    RandomnessTestResult serialCorrelationTest() {
+        if (drawCount < 3) {
+            return empty(null);
+        }
+        double n = drawCount;
+        double mean = sum / n;
+        double denominator = sumSquare - n * mean * mean;
+        if (denominator <= 0) {
+            return empty(null);
+        }
+        double numerator = lagProduct - mean * (2.0 * sum - firstSum - lastSum) + (n - 1) * mean * mean;
+        double r = numerator / denominator;
+        double z = r * Math.sqrt(n);
+        return new RandomnessTestResult(r, null, Statistics.normalTwoSidedPValue(z));
+    }
+
+    /**
+     * 간격 k 의 확률은 기하분포 p(1 - p)^(k - 1), 마지막 구간은 HISTOGRAM_SIZE 이상 전부
+     */
+    RandomnessTestResult gapTest() {
+        long total = 0;
+        for (long count : gapHistogram) {
+            total += count;
+        }
+        int degreesOfFreedom = HISTOGRAM_SIZE - 1;
+        if (total == 0) {
+            return empty(degreesOfFreedom);
+        }
+
+        double statistic = 0;
+        double tail = 1.0;   // (1 - p)^k
+        for (int k = 0; k < HISTOGRAM_SIZE; k++) {
+            double probability = k == HISTOGRAM_SIZE - 1 ? tail : HIT_PROBABILITY * tail;
+            double expected = total * probability;
+            double diff = gapHistogram[k] - expected;
+            statistic += diff * diff / expected;
+            tail *= 1 - HIT_PROBABILITY;
+        }
+        return new RandomnessTestResult(statistic, degreesOfFreedom, Statistics.chiSquarePValue(statistic, degreesOfFreedom));
+    }
+
+    private static int bucket(long gap) {
+        return (int) Math.min(gap, HISTOGRAM_SIZE) - 1;
+    }
+
+    private static RandomnessTestResult empty(Integer degreesOfFreedom) {
+        return new RandomnessTestResult(null, degreesOfFreedom, null);
+    }
+
+    private static List<Long> toList(long[] counts) {
+        List<Long> countList = new ArrayList<>(TicketMask.MAX_NUMBER);
+        for (int number = TicketMask.MIN_NUMBER; number <= TicketMask.MAX_NUMBER; number++) {
+            countList.add(counts[number]);
+        }
+        return countList;
+    }
+
+}
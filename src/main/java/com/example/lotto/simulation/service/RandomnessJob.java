@@ -0,0 +1,117 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.JobStatus;
+import com.example.lotto.simulation.model.RandomnessReport;
+import com.example.lotto.simulation.model.RandomnessSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 무작위성 검정 한 건의 진행 상태
+ * 검정 결과는 모든 구간을 merge 한 뒤 complete 에서 한 번만 설정
+ */
+class RandomnessJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final RandomnessSource source;
+    private final long sampleCount;
+    private final Long seed;
+    private final ResultHistory history;      // HISTORY 가 아니면 null
+    private final WeightSnapshot snapshot;    // MACHINE 이 아니면 null
+
+    private final AtomicLong processedDraws = new AtomicLong();
+    private volatile RandomnessAccumulator accumulator;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile String message;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    RandomnessJob(RandomnessSource source, long sampleCount, Long seed,
+                  ResultHistory history, WeightSnapshot snapshot) {
+        this.source = source;
+        this.sampleCount = sampleCount;
+        this.seed = seed;
+        this.history = history;
+        this.snapshot = snapshot;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    RandomnessSource getSource() {
+        return source;
+    }
+
+    long getSampleCount() {
+        return sampleCount;
+    }
+
+    Long getSeed() {
+        return seed;
+    }
+
+    ResultHistory getHistory() {
+        return history;
+    }
+
+    WeightSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    void start() {
+        startedAt = System.currentTimeMillis();
+        status = JobStatus.RUNNING;
+    }
+
+    void addProcessed(long draws) {
+        processedDraws.addAndGet(draws);
+    }
+
+    void complete(RandomnessAccumulator accumulator) {
+        this.accumulator = accumulator;
+        finishedAt = System.currentTimeMillis();
+        status = JobStatus.DONE;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = System.currentTimeMillis();
+        status = JobStatus.FAILED;
+    }
+
+    RandomnessReport toReport() {
+        long end = finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+
+        RandomnessReport.RandomnessReportBuilder builder = RandomnessReport.builder()
+                .id(id)
+                .source(source)
+                .status(status)
+                .message(message)
+                .sampleCount(sampleCount)
+                .processedDraws(processedDraws.get())
+                .seed(seed)
+                .weightVersion(snapshot == null ? null : snapshot.getVersion())
+                .latestRound(history == null ? null : history.getLatestRound())
+                .createdAt(createdAt)
+                .elapsedMillis(startedAt == 0 ? null : end - startedAt);
+
+        RandomnessAccumulator result = accumulator;
+        if (result != null) {
+            builder.numberCountList(result.getNumberCountList())
+                    .bonusCountList(result.getBonusCountList())
+                    .frequencyTest(result.frequencyTest())
+                    .runsTest(result.runsTest())
+                    .serialCorrelationTest(result.serialCorrelationTest())
+                    .gapTest(result.gapTest());
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.repository.RandomnessReportRepository;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.RandomnessReport;
+import com.example.lotto.simulation.model.RandomnessSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * 당첨 이력 또는 추첨기 표본에 대한 무작위성 검정 (빈도 카이제곱, runs, 자기상관, 간격)
+ * 추첨기 표본은 파티션별로 primitive 배열에 집계하고 구간 순서대로 합침
+ * 결과는 randomness_report 에 저장
+ */
+@Slf4j
+@Service
+public class RandomnessService {
+
+    // 이 간격마다 진행률 반영
+    private static final int PROGRESS_INTERVAL = 1 << 16;
+
+    private final LottoMachine lottoMachine;
+    private final ParallelDrawEngine parallelDrawEngine;
+    private final ResultHistoryStore resultHistoryStore;
+    private final RandomnessReportRepository randomnessReportRepository;
+    private final LottoMachineProperties.Randomness randomnessProperties;
+
+    // 검정 하나가 병렬 풀 전체를 쓰므로 작업은 한 번에 하나씩 실행
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "randomness-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 진행 중인 작업만 메모리에 두고 끝난 작업은 저장된 보고서로 조회
+    private final Map<String, RandomnessJob> runningJobMap = new ConcurrentHashMap<>();
+    // 대기 + 실행 중인 작업 수
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+
+    @Autowired
+    public RandomnessService(LottoMachine lottoMachine,
+                             ParallelDrawEngine parallelDrawEngine,
+                             ResultHistoryStore resultHistoryStore,
+                             RandomnessReportRepository randomnessReportRepository,
+                             LottoMachineProperties lottoMachineProperties) {
+        this.lottoMachine = lottoMachine;
+        this.parallelDrawEngine = parallelDrawEngine;
+        this.resultHistoryStore = resultHistoryStore;
+        this.randomnessReportRepository = randomnessReportRepository;
+        this.randomnessProperties = lottoMachineProperties.getRandomness();
+    }
+
+    /**
+     * 작업을 등록하고 바로 반환, 결과는 readRandomness 로 조회
+     * 대기 + 실행 중인 작업이 max-jobs 에 이르면 429
+     */
+    public RandomnessReport submitRandomness(RandomnessSource source, Long count, Long seed) {
+        RandomnessJob job = createJob(source, count, seed);
+
+        if (pendingJobs.incrementAndGet() > randomnessProperties.getMaxJobs()) {
+            pendingJobs.decrementAndGet();
+            throw new CustomException(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.EXCEED_SIMULATION_JOB);
+        }
+
+        RandomnessReport report;
+        try {
+            runningJobMap.put(job.getId(), job);
+            report = randomnessReportRepository.save(job.toReport());
+            jobExecutor.execute(() -> {
+                try {
+                    execute(job);
+                } finally {
+                    pendingJobs.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 등록하지 못한 작업은 대기 목록에 남기지 않음
+            runningJobMap.remove(job.getId());
+            pendingJobs.decrementAndGet();
+            throw e;
+        }
+        return report;
+    }
+
+    /**
+     * 호출한 스레드에서 끝까지 실행
+     */
+    public RandomnessReport runRandomness(RandomnessSource source, Long count, Long seed) {
+        RandomnessJob job = createJob(source, count, seed);
+        return execute(job);
+    }
+
+    public RandomnessReport readRandomness(String id) {
+        RandomnessJob job = runningJobMap.get(id);
+        if (job != null) {
+            return job.toReport();
+        }
+        return randomnessReportRepository.findById(id).orElseThrow(() ->
+                new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RANDOMNESS_REPORT));
+    }
+
+    private RandomnessJob createJob(RandomnessSource source, Long count, Long seed) {
+        if (source == RandomnessSource.HISTORY) {
+            ResultHistory history = resultHistoryStore.getHistory();
+            if (history.isEmpty()) {
+                throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RESULT);
+            }
+            return new RandomnessJob(source, history.size(), null, history, null);
+        }
+
+        if (count == null || count < 1 || count > randomnessProperties.getMaxCount()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+        // 가중치가 없으면 작업을 등록하기 전에 실패시킴, 작업 중 가중치가 바뀌어도 이 스냅샷을 사용
+        WeightSnapshot snapshot = source == RandomnessSource.MACHINE ? lottoMachine.getWeightSnapshot() : null;
+
+        return new RandomnessJob(source, count, seed, null, snapshot);
+    }
+
+    private RandomnessReport execute(RandomnessJob job) {
+        job.start();
+        try {
+            RandomnessAccumulator accumulator = job.getSource() == RandomnessSource.HISTORY
+                    ? accumulateHistory(job)
+                    : accumulateSamples(job);
+            job.complete(accumulator);
+        } catch (RuntimeException e) {
+            log.warn("randomness test {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+
+        RandomnessReport report = job.toReport();
+        try {
+            report = randomnessReportRepository.save(report);
+        } finally {
+            runningJobMap.remove(job.getId());
+        }
+        return report;
+    }
+
+    private RandomnessAccumulator accumulateHistory(RandomnessJob job) {
+        ResultHistory history = job.getHistory();
+        RandomnessAccumulator accumulator = new RandomnessAccumulator(0);
+        for (int i = 0; i < history.size(); i++) {
+            accumulator.add(history.getMask(i));
+        }
+        job.addProcessed(history.size());
+        return accumulator;
+    }
+
+    private RandomnessAccumulator accumulateSamples(RandomnessJob job) {
+        WeightSnapshot snapshot = job.getSnapshot();
+
+        // 파티션이 끝나는 순서와 관계없이 구간 시작 순번 순서로 합침
+        ConcurrentSkipListMap<Long, RandomnessAccumulator> partitionMap = new ConcurrentSkipListMap<>();
+        parallelDrawEngine.forEachPartition(job.getSampleCount(), job.getSeed(), null, (from, to, random) ->
+                partitionMap.put(from, accumulateRange(job, from, to, random, snapshot)));
+
+        RandomnessAccumulator accumulator = new RandomnessAccumulator(0);
+        partitionMap.values().forEach(accumulator::merge);
+        return accumulator;
+    }
+
+    private RandomnessAccumulator accumulateRange(RandomnessJob job, long from, long to,
+                                                  RandomGenerator random, WeightSnapshot snapshot) {
+        RandomnessAccumulator accumulator = new RandomnessAccumulator(from);
+        for (long i = from; i < to; i++) {
+            long ticket = snapshot == null
+                    ? lottoMachine.drawBonus(lottoMachine.drawUniformTicket(random), random, null)
+                    : lottoMachine.drawTicket(random, snapshot);
+            accumulator.add(ticket);
+
+            if ((i - from + 1) % PROGRESS_INTERVAL == 0) {
+                job.addProcessed(PROGRESS_INTERVAL);
+            }
+        }
+        job.addProcessed((to - from) % PROGRESS_INTERVAL);
+        return accumulator;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.example.lotto.simulation.service;
+
+import com.example.lotto.simulation.model.StreamFormat;
+import com.example.lotto.utils.TicketMask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 티켓을 Jackson 없이 바로 바이트로 기록
+ * 버퍼가 차면 내보내므로 티켓 수와 상관없이 메모리 사용량이 일정함
+ */
+public class TicketStreamWriter {
+
+    private static final byte[] NUMBERS_PREFIX = "{\"numbers\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BONUS_PREFIX = "],\"bonusNumber\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SUFFIX = "}\n".getBytes(StandardCharsets.US_ASCII);
+
+    // NDJSON 한 줄의 최대 길이
+    private static final int MAX_TICKET_LENGTH = 64;
+
+    private final OutputStream outputStream;
+    private final StreamFormat format;
+    private final byte[] buffer;
+    private int position;
+
+    public TicketStreamWriter(OutputStream outputStream, StreamFormat format, int bufferSize) {
+        this.outputStream = outputStream;
+        this.format = format;
+        this.buffer = new byte[Math.max(bufferSize, MAX_TICKET_LENGTH)];
+    }
+
+    /**
+     * @param ticket TicketMask 형식
+     */
+    public void write(long ticket) throws IOException {
+        if (buffer.length - position < MAX_TICKET_LENGTH) {
+            drain();
+        }
+
+        long numbers = TicketMask.numbers(ticket);
+        int bonusNumber = TicketMask.bonus(ticket);
+
+        if (format == StreamFormat.BINARY) {
+            for (long mask = numbers; mask != 0; mask &= mask - 1) {
+                buffer[position++] = (byte) Long.numberOfTrailingZeros(mask);
+            }
+            buffer[position++] = (byte) bonusNumber;
+            return;
+        }
+
+        put(NUMBERS_PREFIX);
+        for (long mask = numbers; mask != 0; mask &= mask - 1) {
+            if (mask != numbers) {
+                buffer[position++] = ',';
+            }
+            putNumber(Long.numberOfTrailingZeros(mask));
+        }
+        put(BONUS_PREFIX);
+        putNumber(bonusNumber);
+        put(LINE_SUFFIX);
+    }
+
+    public void flush() throws IOException {
+        drain();
+        outputStream.flush();
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    // 로또 번호는 1~45 이므로 최대 두 자리
+    private void putNumber(int number) {
+        if (number >= 10) {
+            buffer[position++] = (byte) ('0' + number / 10);
+        }
+        buffer[position++] = (byte) ('0' + number % 10);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.lotto.utils;
+
+/**
+ * 45개 중 6개 조합의 colex 순위
+ * colex 순서는 가장 큰 번호부터 비교하는 사전식 순서로
+ * {1,2,3,4,5,6} 이 0, {40,41,42,43,44,45} 가 COUNT - 1
+ *
+ * 번호 조합은 TicketMask 와 같은 비트마스크 (n번 비트 = 번호 n)
+ */
+public final class Combination {
+
+    public static final int COUNT = 8_145_060;
+
+    // BINOMIAL[n][k] = nCk (n <= 45, k <= 6)
+    private static final int[][] BINOMIAL = new int[TicketMask.MAX_NUMBER + 1][TicketMask.NUMBER_COUNT + 1];
+
+    static {
+        for (int n = 0; n <= TicketMask.MAX_NUMBER; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, TicketMask.NUMBER_COUNT); k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+    }
+
+    private Combination() {
+    }
+
+    public static int binomial(int n, int k) {
+        if (n < 0 || k < 0 || k > TicketMask.NUMBER_COUNT || k > n) {
+            return 0;
+        }
+        return BINOMIAL[n][k];
+    }
+
+    /**
+     * @param ticket 번호 6개 비트마스크 (보너스 번호는 무시)
+     */
+    public static int rank(long ticket) {
+        long mask = TicketMask.numbers(ticket);
+        int rank = 0;
+        for (int i = 1; mask != 0; i++, mask &= mask - 1) {
+            // i번째로 작은 번호 n 에 대해 C(n - 1, i)
+            rank += binomial(Long.numberOfTrailingZeros(mask) - 1, i);
+        }
+        return rank;
+    }
+
+    public static long unrank(int rank) {
+        if (rank < 0 || rank >= COUNT) {
+            throw new IllegalArgumentException("rank out of range: " + rank);
+        }
+
+        long mask = 0L;
+        int n = TicketMask.MAX_NUMBER;
+        for (int i = TicketMask.NUMBER_COUNT; i >= 1; i--) {
+            // C(n - 1, i) <= rank 인 가장 큰 n
+            while (binomial(n - 1, i) > rank) {
+                n--;
+            }
+            rank -= binomial(n - 1, i);
+            mask |= 1L << n;
+            n--;
+        }
+        return mask;
+    }
+
+    /**
+     * colex 순서의 다음 조합 (Gosper's hack)
+     * 마지막 조합이면 0
+     */
+    public static long next(long ticket) {
+        // 0번 비트부터 시작하도록 내려서 계산
+        long mask = TicketMask.numbers(ticket) >>> 1;
+        long lowest = mask & -mask;
+        long ripple = mask + lowest;
+        long next = (ripple | (((mask ^ ripple) >>> 2) / lowest)) << 1;
+        return (next & ~TicketMask.NUMBER_MASK) == 0 ? next : 0L;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.lotto.utils;
+
+/**
+ * 검정 통계량의 p-value 계산
+ * 정규화된 상위 불완전 감마 함수 Q(a, x) 하나로 카이제곱과 정규분포를 모두 계산
+ */
+public final class Statistics {
+
+    private static final int MAX_ITERATIONS = 1000;
+    private static final double EPSILON = 1e-15;
+    private static final double FPMIN = Double.MIN_NORMAL / EPSILON;
+
+    private static final double[] LANCZOS = {
+            76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+    };
+
+    private Statistics() {
+    }
+
+    /**
+     * 자유도 degreesOfFreedom 인 카이제곱 분포에서 statistic 이상이 나올 확률
+     */
+    public static double chiSquarePValue(double statistic, int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) {
+            throw new IllegalArgumentException("degreesOfFreedom: " + degreesOfFreedom);
+        }
+        if (statistic <= 0) {
+            return 1.0;
+        }
+        return regularizedGammaQ(degreesOfFreedom / 2.0, statistic / 2.0);
+    }
+
+    /**
+     * 표준정규분포에서 |Z| >= |z| 일 확률 (양측 검정)
+     * erfc(|z| / sqrt(2)) = Q(1/2, z^2 / 2)
+     */
+    public static double normalTwoSidedPValue(double z) {
+        if (z == 0) {
+            return 1.0;
+        }
+        return regularizedGammaQ(0.5, z * z / 2.0);
+    }
+
+    public static double logGamma(double x) {
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : LANCZOS) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+
+    /**
+     * Q(a, x) = Γ(a, x) / Γ(a)
+     * x < a + 1 이면 급수, 아니면 연분수가 빨리 수렴
+     */
+    public static double regularizedGammaQ(double a, double x) {
+        if (x < a + 1) {
+            return 1.0 - gammaSeries(a, x);
+        }
+        return gammaContinuedFraction(a, x);
+    }
+
+    private static double gammaSeries(double a, double x) {
+        double ap = a;
+        double delta = 1.0 / a;
+        double sum = delta;
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            delta *= x / ++ap;
+            sum += delta;
+            if (Math.abs(delta) < Math.abs(sum) * EPSILON) {
+                break;
+            }
+        }
+        return sum * Math.exp(-x + a * Math.log(x) - logGamma(a));
+    }
+
+    private static double gammaContinuedFraction(double a, double x) {
+        double b = x + 1 - a;
+        double c = 1.0 / FPMIN;
+        double d = 1.0 / b;
+        double h = d;
+        for (int i = 1; i <= MAX_ITERATIONS; i++) {
+            double an = -i * (i - a);
+            b += 2;
+            d = an * d + b;
+            if (Math.abs(d) < FPMIN) {
+                d = FPMIN;
+            }
+            c = b + an / c;
+            if (Math.abs(c) < FPMIN) {
+                c = FPMIN;
+            }
+            d = 1.0 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1.0) < EPSILON) {
+                break;
+            }
+        }
+        return Math.exp(-x + a * Math.log(x) - logGamma(a)) * h;
+    }
+
+}
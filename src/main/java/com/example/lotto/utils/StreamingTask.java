@@ -0,0 +1,76 @@
+package com.example.lotto.utils;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 실행 수 permit 을 잡고 있는 StreamingResponseBody
+ * permit 은 서비스에서 미리 얻어 초과하면 응답 전에 429 로 끝내고,
+ * 본문을 다 쓰거나 비동기 요청이 끝날 때 (타임아웃, 오류, 연결 끊김 포함) 한 번만 반환
+ * 본문이 실행되지 않고 끝나도 반환되도록 컨트롤러에서 bind 로 요청에 등록하고, 비동기 타임아웃도 요청마다 지정
+ */
+public final class StreamingTask implements StreamingResponseBody, CallableProcessingInterceptor {
+
+    private final Semaphore permits;
+    // 비동기 요청 타임아웃 (ms), 0 이하면 제한 없음
+    private final long timeout;
+    private final StreamingResponseBody body;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * permits 에서 permit 을 이미 하나 얻은 상태로 만듦
+     */
+    public StreamingTask(Semaphore permits, long timeout, StreamingResponseBody body) {
+        this.permits = permits;
+        this.timeout = timeout;
+        this.body = body;
+    }
+
+    public StreamingTask bind(ServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(this, this);
+        return this;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try {
+            body.writeTo(outputStream);
+        } finally {
+            release();
+        }
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // 비동기 처리를 시작하기 전이므로 이 요청의 타임아웃만 바꿀 수 있음
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout);
+        }
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        release();
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.lotto.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 티켓(번호 6개 + 보너스 번호)을 long 하나로 표현
+ *
+ * 1 ~ 45번 비트: 번호 n 이 있으면 n번 비트가 켜짐
+ * 56 ~ 61번 비트: 보너스 번호 (없으면 0)
+ *
+ * 두 티켓의 일치 개수는 Long.bitCount(a & b) 한 번으로 계산
+ */
+public final class TicketMask {
+
+    public static final int MIN_NUMBER = 1;
+    public static final int MAX_NUMBER = 45;
+    public static final int NUMBER_COUNT = 6;
+
+    public static final long NUMBER_MASK = ((1L << (MAX_NUMBER + 1)) - 1) & ~1L;
+
+    private static final int BONUS_SHIFT = 56;
+    private static final long BONUS_BITS = 0x3FL;
+
+    private TicketMask() {
+    }
+
+    public static long of(int[] numbers) {
+        long mask = 0L;
+        for (int number : numbers) {
+            mask |= bit(number);
+        }
+        return mask;
+    }
+
+    public static long of(List<Integer> numbers) {
+        long mask = 0L;
+        for (Integer number : numbers) {
+            mask |= bit(number);
+        }
+        return mask;
+    }
+
+    public static long of(List<Integer> numbers, Integer bonusNumber) {
+        long mask = of(numbers);
+        return bonusNumber == null ? mask : withBonus(mask, bonusNumber);
+    }
+
+    public static long withBonus(long ticket, int bonusNumber) {
+        checkNumber(bonusNumber);
+        return (ticket & NUMBER_MASK) | ((long) bonusNumber << BONUS_SHIFT);
+    }
+
+    public static long bit(int number) {
+        checkNumber(number);
+        return 1L << number;
+    }
+
+    public static long numbers(long ticket) {
+        return ticket & NUMBER_MASK;
+    }
+
+    public static int bonus(long ticket) {
+        return (int) ((ticket >>> BONUS_SHIFT) & BONUS_BITS);
+    }
+
+    public static boolean contains(long ticket, int number) {
+        return (ticket & (1L << number) & NUMBER_MASK) != 0;
+    }
+
+    public static boolean isValid(long ticket) {
+        long numbers = ticket & NUMBER_MASK;
+        long rest = ticket & ~NUMBER_MASK & ~(BONUS_BITS << BONUS_SHIFT);
+        int bonusNumber = bonus(ticket);
+
+        return rest == 0
+                && Long.bitCount(numbers) == NUMBER_COUNT
+                && bonusNumber <= MAX_NUMBER
+                && (bonusNumber == 0 || (numbers & (1L << bonusNumber)) == 0);
+    }
+
+    public static int matchCount(long a, long b) {
+        return Long.bitCount(a & b & NUMBER_MASK);
+    }
+
+    /**
+     * @param ticket 구매한 티켓 (보너스 번호는 무시)
+     * @param winning 당첨 번호 + 보너스 번호
+     * @return 1 ~ 5등, 낙첨이면 0
+     */
+    public static int rank(long ticket, long winning) {
+        int match = matchCount(ticket, winning);
+        switch (match) {
+            case 6:
+                return 1;
+            case 5:
+                return contains(ticket, bonus(winning)) ? 2 : 3;
+            case 4:
+                return 4;
+            case 3:
+                return 5;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * numbers 에 오름차순으로 번호를 채우고 채운 개수를 반환
+     */
+    public static int toArray(long ticket, int[] numbers) {
+        int index = 0;
+        for (long mask = ticket & NUMBER_MASK; mask != 0; mask &= mask - 1) {
+            numbers[index++] = Long.numberOfTrailingZeros(mask);
+        }
+        return index;
+    }
+
+    public static List<Integer> toList(long ticket) {
+        long mask = ticket & NUMBER_MASK;
+        List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+        for (; mask != 0; mask &= mask - 1) {
+            numbers.add(Long.numberOfTrailingZeros(mask));
+        }
+        return numbers;
+    }
+
+    private static void checkNumber(int number) {
+        if (number < MIN_NUMBER || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("number out of range: " + number);
+        }
+    }
+
+}
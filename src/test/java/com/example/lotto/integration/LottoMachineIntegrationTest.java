@@ -2,6 +2,7 @@ package com.example.lotto.integration;
 
 import com.example.lotto.domain.dto.StatLottoDTO;
 import com.example.lotto.simulation.model.LottoNumber;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +31,9 @@ public class LottoMachineIntegrationTest {
     @Autowired
     private TestRestTemplate testRestTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     @DisplayName("데이터 설정")
     void create() {
@@ -51,11 +60,18 @@ public class LottoMachineIntegrationTest {
                 List<Integer> first = Arrays.asList(11,13,20,21,32,44);
                 Integer bonusNumber = 8;
 
+                // 목록 응답은 max-list-count 까지만 되므로 대량 추첨은 스트리밍으로 받음
                 Integer count = 1000000;
-                ResponseEntity<LottoNumber[]> response =
-                        testRestTemplate.getForEntity("/lottoMachine/get/count/" + count, LottoNumber[].class);
-
-                List<LottoNumber> lottoNumberList = Arrays.asList(response.getBody());
+                List<LottoNumber> lottoNumberList = testRestTemplate.execute("/lottoMachine/get/stream/" + count,
+                        HttpMethod.GET, null, response -> {
+                            List<LottoNumber> list = new ArrayList<>(count);
+                            BufferedReader reader = new BufferedReader(
+                                    new InputStreamReader(response.getBody(), StandardCharsets.US_ASCII));
+                            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                                list.add(objectMapper.readValue(line, LottoNumber.class));
+                            }
+                            return list;
+                        });
 
                 for (LottoNumber lottoNumber : lottoNumberList) {
                     int matchedNumbers = (int) first.stream()
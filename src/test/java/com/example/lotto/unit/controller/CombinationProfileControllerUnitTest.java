@@ -0,0 +1,141 @@
+package com.example.lotto.unit.controller;
+
+import com.example.lotto.controller.CombinationProfileController;
+import com.example.lotto.domain.dto.HitProfileDTO;
+import com.example.lotto.domain.dto.ProfileScanDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.service.CombinationProfileService;
+import com.example.lotto.simulation.model.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CombinationProfileController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class CombinationProfileControllerUnitTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CombinationProfileService combinationProfileService;
+
+    private HitProfileDTO hitProfileDTO;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        hitProfileDTO = HitProfileDTO.builder()
+                .rank(0)
+                .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                .bestRank(5)
+                .hit3Count(3)
+                .hit4Count(0)
+                .hit5Count(0)
+                .lastHitRound(1100)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Scan 테스트")
+    class Test_Scan {
+
+        @Test
+        @DisplayName("startScan 성공")
+        void success_start() throws Exception {
+            // given
+            given(combinationProfileService.startScan()).willReturn(ProfileScanDTO.builder()
+                    .status(JobStatus.RUNNING)
+                    .processedCount(0L)
+                    .totalCount(8_145_060L)
+                    .build());
+
+            // when & then
+            mvc.perform(post("/profile/post/scan")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.status").value(JobStatus.RUNNING.name()))
+                    .andExpect(status().isAccepted());
+        }
+
+        @Test
+        @DisplayName("startScan 실패(진행 중)")
+        void fail_start() throws Exception {
+            // given
+            given(combinationProfileService.startScan())
+                    .willThrow(new CustomException(HttpStatus.CONFLICT, ErrorCode.RUNNING_PROFILE_SCAN));
+
+            // when & then
+            mvc.perform(post("/profile/post/scan")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.RUNNING_PROFILE_SCAN.getCode()))
+                    .andExpect(status().isConflict());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("GET 테스트")
+    class Test_GET {
+
+        @Test
+        @DisplayName("getByRank 성공")
+        void success_rank() throws Exception {
+            // given
+            given(combinationProfileService.readByRank(0)).willReturn(hitProfileDTO);
+
+            // when & then
+            mvc.perform(get("/profile/get/rank/0")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.bestRank").value(hitProfileDTO.getBestRank()))
+                    .andExpect(jsonPath("$.lastHitRound").value(hitProfileDTO.getLastHitRound()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("getByRank 실패(Validation 예외)")
+        void fail_rank() throws Exception {
+            // when & then
+            mvc.perform(get("/profile/get/rank/8145060")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                    .andExpect(status().isBadRequest());
+
+            then(combinationProfileService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("getByNumbers 성공")
+        void success_numbers() throws Exception {
+            // given
+            given(combinationProfileService.readByNumbers(hitProfileDTO.getNumbers())).willReturn(hitProfileDTO);
+
+            // when & then
+            mvc.perform(get("/profile/get/numbers")
+                            .param("numbers", "1,2,3,4,5,6")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.rank").value(0))
+                    .andExpect(jsonPath("$.hit3Count").value(hitProfileDTO.getHit3Count()))
+                    .andExpect(status().isOk());
+        }
+
+    }
+
+}
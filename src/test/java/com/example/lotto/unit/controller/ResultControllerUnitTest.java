@@ -2,9 +2,19 @@ package com.example.lotto.unit.controller;
 
 import com.example.lotto.controller.ResultController;
 import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.ResultMatchDTO;
+import com.example.lotto.domain.dto.ResultSearchDTO;
+import com.example.lotto.domain.dto.SliceDTO;
+import com.example.lotto.domain.dto.TicketCheckDTO;
+import com.example.lotto.domain.dto.TicketCheckRequestDTO;
+import com.example.lotto.domain.dto.TicketWinDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.service.ExportFormat;
+import com.example.lotto.service.ExportService;
 import com.example.lotto.service.ResultService;
+import com.example.lotto.service.TicketCheckService;
+import com.example.lotto.utils.StreamingTask;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +25,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.*;
@@ -30,8 +44,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ResultController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -43,6 +57,12 @@ public class ResultControllerUnitTest {
     @MockBean
     private ResultService resultService;
 
+    @MockBean
+    private TicketCheckService ticketCheckService;
+
+    @MockBean
+    private ExportService exportService;
+
     @Nested
     @DisplayName("GET 테스트")
     class Test_GET {
@@ -222,6 +242,103 @@ public class ResultControllerUnitTest {
             }
         }
 
+        @Nested
+        @DisplayName("getBySlice 테스트")
+        class Test_GetBySlice {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                SliceDTO<ResultDTO> sliceDTO = SliceDTO.<ResultDTO>builder()
+                        .content(Arrays.asList(resultDTO))
+                        .size(1)
+                        .hasNext(true)
+                        .nextCursor(1111)
+                        .build();
+
+                given(resultService.readBySlice(1112, 1)).willReturn(sliceDTO);
+
+                // when & then
+                mvc.perform(get("/result/get/slice")
+                                .param("cursor", "1112")
+                                .param("size", "1"))
+                        .andExpect(jsonPath("$.content", hasSize(1)))
+                        .andExpect(jsonPath("$.content[0].round").value(1111))
+                        .andExpect(jsonPath("$.hasNext").value(true))
+                        .andExpect(jsonPath("$.nextCursor").value(1111))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Controller 예외)")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.NOT_EXIST_RESULT;
+
+                given(resultService.readBySlice(1, null)).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/result/get/slice").param("cursor", "1"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(jsonPath("$.detail").value(errorCode.getDetail()))
+                        .andExpect(status().isBadRequest());
+            }
+
+            @Test
+            @DisplayName("실패(Validation 예외)")
+            void fail_valid() throws Exception {
+                // when & then
+                mvc.perform(get("/result/get/slice").param("size", "0"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getExport 테스트")
+        class Test_GetExport {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                StreamingResponseBody body = outputStream ->
+                        outputStream.write("round,date,number1,number2,number3,number4,number5,number6,bonusNumber\n".getBytes());
+                given(exportService.exportResults(ExportFormat.CSV, true))
+                        .willReturn(new StreamingTask(new Semaphore(0), 60_000L, body));
+
+                // when
+                MvcResult mvcResult = mvc.perform(get("/result/get/export")
+                                .param("format", "csv")
+                                .param("gzip", "true"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                // then
+                mvc.perform(asyncDispatch(mvcResult))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("result.csv")))
+                        .andExpect(content().string("round,date,number1,number2,number3,number4,number5,number6,bonusNumber\n"));
+            }
+
+            @Test
+            @DisplayName("실패(형식)")
+            void fail_format() throws Exception {
+                // when & then
+                mvc.perform(get("/result/get/export")
+                                .param("format", "xml"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_EXPORT_FORMAT.getCode()))
+                        .andExpect(status().isBadRequest());
+
+                then(exportService).shouldHaveNoInteractions();
+            }
+
+        }
+
         @Nested
         @DisplayName("getByDate 테스트")
         class Test_GetByDate {
@@ -279,6 +396,125 @@ public class ResultControllerUnitTest {
 
         }
 
+        @Nested
+        @DisplayName("search 테스트")
+        class Test_Search {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                String query = "3 AND 13 AND NOT B7";
+                ResultSearchDTO resultSearchDTO = ResultSearchDTO.builder()
+                        .query(query)
+                        .count(1)
+                        .resultList(Arrays.asList(resultDTO))
+                        .build();
+
+                given(resultService.search(query, 1000, null, null, LocalDate.parse("2024-03-31")))
+                        .willReturn(resultSearchDTO);
+
+                // when & then
+                mvc.perform(get("/result/search")
+                                .param("query", query)
+                                .param("fromRound", "1000")
+                                .param("endDate", "2024-03-31"))
+                        .andExpect(jsonPath("$.count").value(1))
+                        .andExpect(jsonPath("$.resultList", hasSize(1)))
+                        .andExpect(jsonPath("$.resultList[0].round").value(1111))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Controller 예외)")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.INVALID_SEARCH_QUERY;
+
+                given(resultService.search("3 AND", null, null, null, null))
+                        .willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/result/search").param("query", "3 AND"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(jsonPath("$.detail").value(errorCode.getDetail()))
+                        .andExpect(status().isBadRequest());
+            }
+
+            @Test
+            @DisplayName("실패(Validation 예외)")
+            void fail_valid() throws Exception {
+                // when & then
+                mvc.perform(get("/result/search").param("query", "3").param("fromRound", "0"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("searchMatch 테스트")
+        class Test_SearchMatch {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                List<Integer> numbers = Arrays.asList(3, 13, 30, 33, 43, 45);
+                ResultMatchDTO resultMatchDTO = ResultMatchDTO.builder()
+                        .round(1111)
+                        .numbers(numbers)
+                        .bonusNumber(4)
+                        .date(LocalDate.parse("2024-03-16"))
+                        .matchCount(6)
+                        .bonusMatch(false)
+                        .build();
+
+                given(resultService.readByMatch(numbers, 5, true)).willReturn(Arrays.asList(resultMatchDTO));
+
+                // when & then
+                mvc.perform(get("/result/search/match")
+                                .param("numbers", "3,13,30,33,43,45")
+                                .param("minMatch", "5")
+                                .param("bonus", "true"))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].round").value(1111))
+                        .andExpect(jsonPath("$[0].matchCount").value(6))
+                        .andExpect(jsonPath("$[0].bonusMatch").value(false))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Controller 예외)")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.INVALID_TICKET;
+
+                given(resultService.readByMatch(Arrays.asList(3, 3, 30, 33, 43, 45), 3, false))
+                        .willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/result/search/match")
+                                .param("numbers", "3,3,30,33,43,45")
+                                .param("minMatch", "3"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(jsonPath("$.detail").value(errorCode.getDetail()))
+                        .andExpect(status().isBadRequest());
+            }
+
+            @Test
+            @DisplayName("실패(Validation 예외)")
+            void fail_valid() throws Exception {
+                // when & then
+                mvc.perform(get("/result/search/match")
+                                .param("numbers", "3,13,30,33,43,45")
+                                .param("minMatch", "7"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
     }
 
     @Nested
@@ -687,4 +923,65 @@ public class ResultControllerUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("Check 테스트")
+    class Test_Check {
+
+        private List<Integer> numbers;
+        private ObjectMapper objectMapper;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            objectMapper = new ObjectMapper();
+            numbers = Arrays.asList(3, 13, 30, 33, 43, 45);
+        }
+
+        @Test
+        @DisplayName("성공")
+        void success() throws Exception {
+            // given
+            TicketWinDTO ticketWinDTO = TicketWinDTO.builder()
+                    .round(1111)
+                    .ranking(1)
+                    .winningAmount(2_000_000_000L)
+                    .build();
+            TicketCheckDTO ticketCheckDTO = TicketCheckDTO.builder()
+                    .numbers(numbers)
+                    .winList(List.of(ticketWinDTO))
+                    .totalWinningAmount(ticketWinDTO.getWinningAmount())
+                    .build();
+            given(ticketCheckService.check(List.of(numbers))).willReturn(List.of(ticketCheckDTO));
+
+            String requestJson = objectMapper.writeValueAsString(new TicketCheckRequestDTO(List.of(numbers)));
+
+            // when & then
+            mvc.perform(post("/result/post/check")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].winList[0].round").value(ticketWinDTO.getRound()))
+                    .andExpect(jsonPath("$[0].totalWinningAmount").value(ticketWinDTO.getWinningAmount()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("실패(Validation 예외)")
+        void fail_valid() throws Exception {
+            // given
+            List<Integer> inValidNumbers = Arrays.asList(1, 2, 3, 4, 5, 46);
+            String requestJson = objectMapper.writeValueAsString(new TicketCheckRequestDTO(List.of(inValidNumbers)));
+
+            // when & then
+            mvc.perform(post("/result/post/check")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                    .andExpect(status().isBadRequest());
+
+            then(ticketCheckService).shouldHaveNoInteractions();
+        }
+
+    }
+
 }
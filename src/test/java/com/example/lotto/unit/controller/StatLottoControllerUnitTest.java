@@ -1,10 +1,18 @@
 package com.example.lotto.unit.controller;
 
 import com.example.lotto.controller.StatLottoController;
+import com.example.lotto.domain.dto.CoOccurrenceDTO;
+import com.example.lotto.domain.dto.NumberGapDTO;
 import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.domain.dto.StatWindowDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.service.CoOccurrenceService;
+import com.example.lotto.service.StatAsOfService;
+import com.example.lotto.service.StatGapService;
 import com.example.lotto.service.StatLottoService;
+import com.example.lotto.service.StatWindowService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +32,7 @@ import java.util.List;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +47,18 @@ public class StatLottoControllerUnitTest {
     @MockBean
     private StatLottoService statLottoService;
 
+    @MockBean
+    private CoOccurrenceService coOccurrenceService;
+
+    @MockBean
+    private StatWindowService statWindowService;
+
+    @MockBean
+    private StatGapService statGapService;
+
+    @MockBean
+    private StatAsOfService statAsOfService;
+
     private StatLottoDTO statLottoDTO;
 
     @Nested
@@ -193,8 +214,9 @@ public class StatLottoControllerUnitTest {
             void success() throws Exception {
                 // given
                 List<StatLottoDTO> statLottoDTOList = Arrays.asList(statLottoDTO);
+                byte[] statLottoJson = new ObjectMapper().writeValueAsBytes(statLottoDTOList);
 
-                given(statLottoService.readAll()).willReturn(statLottoDTOList);
+                given(statLottoService.readAllJson()).willReturn(statLottoJson);
 
                 // when & then
                 mvc.perform(get("/statLotto/get/all")
@@ -211,7 +233,7 @@ public class StatLottoControllerUnitTest {
                 // given
                 ErrorCode errorCode = ErrorCode.NOT_EXIST_STAT_LOTTO_LIST;
 
-                given(statLottoService.readAll()).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+                given(statLottoService.readAllJson()).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
 
                 // when & then
                 mvc.perform(get("/statLotto/get/all")
@@ -223,6 +245,285 @@ public class StatLottoControllerUnitTest {
 
         }
 
+        @Nested
+        @DisplayName("getWindow 테스트")
+        class Test_GetWindow {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                StatWindowDTO statWindowDTO = StatWindowDTO.builder()
+                        .fromRound(1062)
+                        .toRound(1111)
+                        .roundCount(50)
+                        .statLottoList(Arrays.asList(statLottoDTO))
+                        .build();
+
+                given(statWindowService.readWindow(null, null, 50)).willReturn(statWindowDTO);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/window")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .queryParam("lastN", "50"))
+                        .andExpect(jsonPath("$.roundCount").value(50))
+                        .andExpect(jsonPath("$.statLottoList", hasSize(1)))
+                        .andExpect(jsonPath("$.statLottoList[0].number").value(statLottoDTO.getNumber()))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.INVALID_ROUND_RANGE;
+
+                given(statWindowService.readWindow(800, 500, null)).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/window")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .queryParam("fromRound", "800")
+                                .queryParam("toRound", "500"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getAsOf 테스트")
+        class Test_GetAsOf {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                StatWindowDTO statWindowDTO = StatWindowDTO.builder()
+                        .fromRound(1)
+                        .toRound(500)
+                        .roundCount(500)
+                        .statLottoList(Arrays.asList(statLottoDTO))
+                        .build();
+
+                given(statAsOfService.readAsOf(500)).willReturn(statWindowDTO);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/asOf/500")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.toRound").value(500))
+                        .andExpect(jsonPath("$.statLottoList[0].count").value(statLottoDTO.getCount()))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.NOT_EXIST_RESULT_ROUND;
+
+                given(statAsOfService.readAsOf(9999)).willThrow(new CustomException(HttpStatus.NOT_FOUND, errorCode));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/asOf/9999")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(status().isNotFound());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getGap 테스트")
+        class Test_GetGap {
+
+            private NumberGapDTO numberGapDTO;
+
+            @BeforeEach
+            @DisplayName("데이터 설정")
+            void setUp() {
+                numberGapDTO = NumberGapDTO.builder()
+                        .number(7)
+                        .appearanceCount(150)
+                        .lastSeenRound(1100)
+                        .currentGap(11)
+                        .maxGap(40)
+                        .meanGap(7.4)
+                        .gapHistogram(Arrays.asList(20, 18, 15))
+                        .build();
+            }
+
+            @Test
+            @DisplayName("성공(getGapByNumber)")
+            void success_number() throws Exception {
+                // given
+                given(statGapService.readByNumber(7)).willReturn(numberGapDTO);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/gap/7")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.number").value(7))
+                        .andExpect(jsonPath("$.currentGap").value(11))
+                        .andExpect(jsonPath("$.gapHistogram", hasSize(3)))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("성공(getOverdue)")
+            void success_overdue() throws Exception {
+                // given
+                given(statGapService.readOverdue(10)).willReturn(Arrays.asList(numberGapDTO));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/gap/overdue")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].maxGap").value(40))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.NOT_EXIST_RESULT;
+
+                given(statGapService.readAll()).willThrow(new CustomException(HttpStatus.NOT_FOUND, errorCode));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/gap/all")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(status().isNotFound());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getPartners 테스트")
+        class Test_GetPartners {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                List<CoOccurrenceDTO> coOccurrenceDTOList = Arrays.asList(CoOccurrenceDTO.builder()
+                        .numbers(Arrays.asList(1, 2))
+                        .count(4)
+                        .build());
+
+                given(coOccurrenceService.readPartners(1)).willReturn(coOccurrenceDTOList);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/pair/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].numbers[1]").value(2))
+                        .andExpect(jsonPath("$[0].count").value(4))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.INVALID_STAT_NUMBER;
+
+                given(coOccurrenceService.readPartners(46)).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/pair/46")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(jsonPath("$.detail").value(errorCode.getDetail()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getTop 테스트")
+        class Test_GetTop {
+
+            @Test
+            @DisplayName("성공(pair)")
+            void success_pair() throws Exception {
+                // given
+                List<CoOccurrenceDTO> coOccurrenceDTOList = Arrays.asList(CoOccurrenceDTO.builder()
+                        .numbers(Arrays.asList(1, 2))
+                        .count(4)
+                        .build());
+
+                given(coOccurrenceService.readTopPairs(20)).willReturn(coOccurrenceDTOList);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/pair/top")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].count").value(4))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("성공(triple)")
+            void success_triple() throws Exception {
+                // given
+                List<CoOccurrenceDTO> coOccurrenceDTOList = Arrays.asList(CoOccurrenceDTO.builder()
+                        .numbers(Arrays.asList(1, 2, 3))
+                        .count(3)
+                        .build());
+
+                given(coOccurrenceService.readTopTriples(5)).willReturn(coOccurrenceDTOList);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/triple/top")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .queryParam("size", "5"))
+                        .andExpect(jsonPath("$[0].numbers", hasSize(3)))
+                        .andExpect(jsonPath("$[0].count").value(3))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.INVALID_TOP_SIZE;
+
+                given(coOccurrenceService.readTopPairs(0)).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/statLotto/get/pair/top")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .queryParam("size", "0"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getPairMatrix 테스트")
+        class Test_GetPairMatrix {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                byte[] matrix = new byte[45 * 45 * 4];
+                matrix[7] = 4;
+
+                given(coOccurrenceService.readPairMatrix()).willReturn(matrix);
+
+                // when & then
+                mvc.perform(get("/statLotto/get/pair/matrix"))
+                        .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                        .andExpect(content().bytes(matrix))
+                        .andExpect(status().isOk());
+            }
+
+        }
+
     }
 
 }
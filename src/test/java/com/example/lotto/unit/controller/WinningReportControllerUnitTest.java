@@ -2,10 +2,14 @@ package com.example.lotto.unit.controller;
 
 import com.example.lotto.controller.WinningReportController;
 import com.example.lotto.domain.dto.RankDTO;
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.domain.dto.WinningReportDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.service.ExportFormat;
+import com.example.lotto.service.ExportService;
 import com.example.lotto.service.WinningReportService;
+import com.example.lotto.utils.StreamingTask;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,14 +20,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,8 +42,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(WinningReportController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -47,6 +55,9 @@ public class WinningReportControllerUnitTest {
     @MockBean
     private WinningReportService winningReportService;
 
+    @MockBean
+    private ExportService exportService;
+
     @Nested
     @DisplayName("GET 테스트")
     class Test_GET {
@@ -130,6 +141,103 @@ public class WinningReportControllerUnitTest {
 
         }
 
+        @Nested
+        @DisplayName("getBySlice 테스트")
+        class Test_GetBySlice {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                SliceDTO<WinningReportDTO> sliceDTO = SliceDTO.<WinningReportDTO>builder()
+                        .content(Arrays.asList(winningReportDTO))
+                        .size(1)
+                        .hasNext(true)
+                        .nextCursor(1111)
+                        .build();
+
+                given(winningReportService.readBySlice(1112, 1)).willReturn(sliceDTO);
+
+                // when & then
+                mvc.perform(get("/winningReport/get/slice")
+                                .param("cursor", "1112")
+                                .param("size", "1"))
+                        .andExpect(jsonPath("$.content", hasSize(1)))
+                        .andExpect(jsonPath("$.content[0].round").value(1111))
+                        .andExpect(jsonPath("$.hasNext").value(true))
+                        .andExpect(jsonPath("$.nextCursor").value(1111))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Controller 예외)")
+            void fail() throws Exception {
+                // given
+                ErrorCode errorCode = ErrorCode.NOT_EXIST_WINNING_REPORT;
+
+                given(winningReportService.readBySlice(1, null)).willThrow(new CustomException(HttpStatus.BAD_REQUEST, errorCode));
+
+                // when & then
+                mvc.perform(get("/winningReport/get/slice").param("cursor", "1"))
+                        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                        .andExpect(jsonPath("$.detail").value(errorCode.getDetail()))
+                        .andExpect(status().isBadRequest());
+            }
+
+            @Test
+            @DisplayName("실패(Validation 예외)")
+            void fail_valid() throws Exception {
+                // when & then
+                mvc.perform(get("/winningReport/get/slice").param("size", "0"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getExport 테스트")
+        class Test_GetExport {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                StreamingResponseBody body = outputStream ->
+                        outputStream.write("round,date,totalWinningAmount,ranking,winningCount,rankTotalWinningAmount,winningAmount\n".getBytes());
+                given(exportService.exportWinningReports(ExportFormat.CSV, true))
+                        .willReturn(new StreamingTask(new Semaphore(0), 60_000L, body));
+
+                // when
+                MvcResult mvcResult = mvc.perform(get("/winningReport/get/export")
+                                .param("format", "csv")
+                                .param("gzip", "true"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                // then
+                mvc.perform(asyncDispatch(mvcResult))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("winning_report.csv")))
+                        .andExpect(content().string("round,date,totalWinningAmount,ranking,winningCount,rankTotalWinningAmount,winningAmount\n"));
+            }
+
+            @Test
+            @DisplayName("실패(형식)")
+            void fail_format() throws Exception {
+                // when & then
+                mvc.perform(get("/winningReport/get/export")
+                                .param("format", "xml"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_EXPORT_FORMAT.getCode()))
+                        .andExpect(status().isBadRequest());
+
+                then(exportService).shouldHaveNoInteractions();
+            }
+
+        }
+
         @Nested
         @DisplayName("getByDate 테스트")
         class Test_GetByDate {
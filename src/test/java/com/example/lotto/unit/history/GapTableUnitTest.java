@@ -0,0 +1,107 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.history.GapTable;
+import com.example.lotto.history.ResultHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GapTableUnitTest {
+
+    /**
+     * 1번은 1, 3, 10, 50회차 / 2번은 1회차에만 / 보너스 번호 7은 간격에 포함하지 않음
+     */
+    private static List<Result> resultList() {
+        return new ArrayList<>(Arrays.asList(
+                Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                Result.builder().round(3).numbers(Arrays.asList(1, 10, 11, 12, 13, 14)).bonusNumber(7).build(),
+                Result.builder().round(10).numbers(Arrays.asList(1, 20, 21, 22, 23, 24)).bonusNumber(7).build(),
+                Result.builder().round(50).numbers(Arrays.asList(1, 30, 31, 32, 33, 34)).bonusNumber(7).build()));
+    }
+
+    @Nested
+    @DisplayName("of 테스트")
+    class Test_Of {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            GapTable gapTable = GapTable.of(ResultHistory.of(resultList(), List.of()));
+
+            // then
+            assertThat(gapTable.getAppearanceCount(1)).isEqualTo(4);
+            assertThat(gapTable.getLastSeenRound(1)).isEqualTo(50);
+            assertThat(gapTable.getCurrentGap(1)).isZero();
+            assertThat(gapTable.getMaxGap(1)).isEqualTo(40);
+            assertThat(gapTable.getMeanGap(1)).isEqualTo(49.0 / 3);
+
+            int[] histogram = gapTable.getGapHistogram(1);
+            assertThat(histogram).hasSize(GapTable.HISTOGRAM_SIZE);
+            assertThat(histogram[2 - 1]).isEqualTo(1);
+            assertThat(histogram[7 - 1]).isEqualTo(1);
+            // 간격 40 은 마지막 구간
+            assertThat(histogram[GapTable.HISTOGRAM_SIZE - 1]).isEqualTo(1);
+
+            assertThat(gapTable.getCurrentGap(2)).isEqualTo(49);
+            assertThat(gapTable.getMeanGap(2)).isZero();
+
+            assertThat(gapTable.getAppearanceCount(7)).isZero();
+            assertThat(gapTable.getLastSeenRound(7)).isZero();
+            assertThat(gapTable.getCurrentGap(7)).isEqualTo(50);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("extend 테스트")
+    class Test_Extend {
+
+        @Test
+        @DisplayName("성공(회차 추가)")
+        void success_append() {
+            // given
+            List<Result> resultList = resultList();
+            GapTable first = GapTable.of(ResultHistory.of(resultList, List.of()));
+            resultList.add(Result.builder().round(52).numbers(Arrays.asList(1, 2, 40, 41, 42, 43)).bonusNumber(7).build());
+
+            // when
+            GapTable second = first.extend(ResultHistory.of(resultList, List.of()));
+
+            // then
+            assertThat(second.getAppearanceCount(1)).isEqualTo(5);
+            assertThat(second.getMeanGap(1)).isEqualTo(51.0 / 4);
+            assertThat(second.getMaxGap(2)).isEqualTo(51);
+            assertThat(second.getCurrentGap(3)).isEqualTo(51);
+            // 기존 표는 그대로
+            assertThat(first.getAppearanceCount(1)).isEqualTo(4);
+            assertThat(first.getCurrentGap(3)).isEqualTo(49);
+        }
+
+        @Test
+        @DisplayName("성공(기존 회차 변경시 다시 만듦)")
+        void success_rebuild() {
+            // given
+            List<Result> resultList = resultList();
+            GapTable first = GapTable.of(ResultHistory.of(resultList, List.of()));
+            resultList.set(1, Result.builder().round(3).numbers(Arrays.asList(2, 10, 11, 12, 13, 14)).bonusNumber(7).build());
+
+            // when
+            GapTable second = first.extend(ResultHistory.of(resultList, List.of()));
+
+            // then
+            assertThat(second.getAppearanceCount(1)).isEqualTo(3);
+            assertThat(second.getAppearanceCount(2)).isEqualTo(2);
+            assertThat(second.getMaxGap(1)).isEqualTo(40);
+        }
+
+    }
+
+}
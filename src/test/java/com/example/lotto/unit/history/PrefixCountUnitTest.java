@@ -0,0 +1,136 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.history.PrefixCount;
+import com.example.lotto.history.ResultHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrefixCountUnitTest {
+
+    private static List<Result> randomResultList(int fromRound, int toRound, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Result> resultList = new ArrayList<>();
+        for (int round = fromRound; round <= toRound; round++) {
+            List<Integer> numbers = new ArrayList<>();
+            while (numbers.size() < 7) {
+                int number = 1 + random.nextInt(45);
+                if (!numbers.contains(number)) {
+                    numbers.add(number);
+                }
+            }
+            Integer bonusNumber = numbers.remove(6);
+            resultList.add(Result.builder().round(round).numbers(numbers).bonusNumber(bonusNumber).build());
+        }
+        return resultList;
+    }
+
+    /**
+     * 구간을 직접 세어 비교
+     */
+    private static void assertSameAsScan(PrefixCount prefixCount, List<Result> resultList) {
+        ResultHistory history = prefixCount.getHistory();
+        for (int from = 0; from <= history.size(); from += 7) {
+            for (int to = from; to <= history.size(); to += 5) {
+                for (int number = 1; number <= 45; number++) {
+                    int count = 0;
+                    int bonusCount = 0;
+                    for (int i = from; i < to; i++) {
+                        Result result = resultList.get(i);
+                        count += result.getNumbers().contains(number) ? 1 : 0;
+                        bonusCount += result.getBonusNumber() == number ? 1 : 0;
+                    }
+                    assertThat(prefixCount.count(from, to, number)).isEqualTo(count);
+                    assertThat(prefixCount.bonusCount(from, to, number)).isEqualTo(bonusCount);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("of 테스트")
+    class Test_Of {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            List<Result> resultList = randomResultList(1, 120, 42);
+
+            // when
+            PrefixCount prefixCount = PrefixCount.of(ResultHistory.of(resultList, List.of()));
+
+            // then
+            assertThat(prefixCount.size()).isEqualTo(120);
+            assertSameAsScan(prefixCount, resultList);
+        }
+
+        @Test
+        @DisplayName("실패(구간 범위)")
+        void fail() {
+            // given
+            PrefixCount prefixCount = PrefixCount.of(ResultHistory.of(randomResultList(1, 10, 42), List.of()));
+
+            // when & then
+            assertThatThrownBy(() -> prefixCount.count(3, 11, 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> prefixCount.count(5, 4, 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("extend 테스트")
+    class Test_Extend {
+
+        @Test
+        @DisplayName("성공(회차 추가)")
+        void success_append() {
+            // given
+            List<Result> resultList = randomResultList(1, 300, 7);
+            PrefixCount first = PrefixCount.of(ResultHistory.of(resultList.subList(0, 100), List.of()));
+
+            // when
+            // 여유 행 안에서 확장, 여유 행을 넘어서 확장
+            PrefixCount second = first.extend(ResultHistory.of(resultList.subList(0, 110), List.of()));
+            PrefixCount third = second.extend(ResultHistory.of(resultList, List.of()));
+
+            // then
+            assertThat(third.size()).isEqualTo(300);
+            assertSameAsScan(third, resultList);
+            // 이전 표는 자기 구간까지 그대로 사용 가능
+            assertSameAsScan(first, resultList.subList(0, 100));
+            assertSameAsScan(second, resultList.subList(0, 110));
+        }
+
+        @Test
+        @DisplayName("성공(기존 회차 변경시 다시 만듦)")
+        void success_rebuild() {
+            // given
+            List<Result> resultList = randomResultList(1, 50, 7);
+            PrefixCount first = PrefixCount.of(ResultHistory.of(resultList, List.of()));
+
+            List<Result> changedList = new ArrayList<>(resultList);
+            changedList.set(10, Result.builder().round(11).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build());
+
+            // when
+            PrefixCount second = first.extend(ResultHistory.of(changedList, List.of()));
+
+            // then
+            assertSameAsScan(second, changedList);
+            assertSameAsScan(first, resultList);
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.history.ResultColumnStore;
+import com.example.lotto.history.ResultColumns;
+import com.example.lotto.repository.ResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class ResultColumnStoreUnitTest {
+
+    @Mock
+    private ResultRepository resultRepository;
+
+    @InjectMocks
+    private ResultColumnStore resultColumnStore;
+
+    private List<Result> resultList;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        // DB 에서는 회차 순서가 보장되지 않고, 형식이 맞지 않는 행도 저장된 그대로 조회
+        resultList = Arrays.asList(
+                Result.builder().round(2).numbers(Arrays.asList(45, 10, 20, 30, 40, 41)).bonusNumber(11)
+                        .date(LocalDate.parse("2024-01-13")).build(),
+                Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7)
+                        .date(LocalDate.parse("2024-01-06")).build(),
+                Result.builder().round(3).numbers(Arrays.asList(1, 1, 2, 3, 4, 5)).bonusNumber(7)
+                        .date(LocalDate.parse("2024-01-20")).build(),
+                Result.builder().round(4).numbers(Arrays.asList(1, 12, 13, 14, 15, 16)).bonusNumber(11).build(),
+                Result.builder().round(5).numbers(Arrays.asList(21, 22, 23, 24, 25, 26)).build());
+    }
+
+    @Nested
+    @DisplayName("ResultColumns 테스트")
+    class Test_ResultColumns {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            ResultColumns resultColumns = ResultColumns.of(resultList);
+
+            // then
+            assertThat(resultColumns.size()).isEqualTo(5);
+            assertThat(resultColumns.findByRound(6)).isNull();
+            assertThat(resultColumns.findByRound(4).getDate()).isNull();
+
+            // 형식이 맞지 않는 행은 저장된 순서, 값 그대로
+            ResultDTO invalid = resultColumns.findByRound(3);
+            assertThat(invalid.getNumbers()).containsExactly(1, 1, 2, 3, 4, 5);
+            assertThat(invalid.getBonusNumber()).isEqualTo(7);
+            assertThat(invalid.getDate()).isEqualTo(LocalDate.parse("2024-01-20"));
+            ResultDTO noBonus = resultColumns.findLatest();
+            assertThat(noBonus.getRound()).isEqualTo(5);
+            assertThat(noBonus.getNumbers()).containsExactly(21, 22, 23, 24, 25, 26);
+            assertThat(noBonus.getBonusNumber()).isNull();
+
+            // 돌려준 목록을 바꿔도 이미지는 그대로
+            invalid.getNumbers().clear();
+            assertThat(resultColumns.findByRound(3).getNumbers()).hasSize(6);
+
+            // 번호는 오름차순
+            ResultDTO second = resultColumns.findByRound(2);
+            assertThat(second.getNumbers()).containsExactly(10, 20, 30, 40, 41, 45);
+            assertThat(second.getBonusNumber()).isEqualTo(11);
+            assertThat(second.getDate()).isEqualTo(LocalDate.parse("2024-01-13"));
+
+            assertThat(resultColumns.findByNumber(1)).extracting("round").containsExactly(1, 3, 4);
+            assertThat(resultColumns.findByNumber(46)).isEmpty();
+            assertThat(resultColumns.findByBonusNumber(11)).extracting("round").containsExactly(2, 4);
+            assertThat(resultColumns.findByBonusNumber(0)).isEmpty();
+
+            // 양 끝 날짜 제외
+            assertThat(resultColumns.findByDateBetween(LocalDate.parse("2024-01-06"), LocalDate.parse("2024-01-20")))
+                    .extracting("round").containsExactly(2);
+            assertThat(resultColumns.findByDateBetween(LocalDate.parse("2024-01-05"), LocalDate.parse("2024-01-14")))
+                    .extracting("round").containsExactly(1, 2);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getColumns 테스트")
+    class Test_GetColumns {
+
+        @Test
+        @DisplayName("성공(한 번만 읽음)")
+        void success() {
+            // given
+            given(resultRepository.findAll()).willReturn(resultList);
+
+            // when
+            ResultColumns first = resultColumnStore.getColumns();
+            ResultColumns second = resultColumnStore.getColumns();
+
+            // then
+            assertThat(second).isSameAs(first);
+            then(resultRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(변경은 DB 를 다시 읽지 않고 반영)")
+        void success_change() {
+            // given
+            given(resultRepository.findAll()).willReturn(resultList);
+            resultColumnStore.getColumns();
+
+            ResultDTO inserted = ResultDTO.builder().round(5).numbers(Arrays.asList(7, 8, 9, 10, 11, 12)).bonusNumber(13)
+                    .date(LocalDate.parse("2024-02-03")).build();
+            ResultDTO before = resultList.get(0).toDTO();
+            ResultDTO after = ResultDTO.builder().round(2).numbers(Arrays.asList(2, 3, 4, 5, 6, 7)).bonusNumber(8)
+                    .date(LocalDate.parse("2024-01-13")).build();
+
+            // when
+            resultColumnStore.onResultChange(ResultChangeEvent.inserted(List.of(inserted)));
+            resultColumnStore.onResultChange(ResultChangeEvent.updated(before, after));
+            resultColumnStore.onResultChange(ResultChangeEvent.deleted(resultList.get(1).toDTO()));
+            ResultColumns resultColumns = resultColumnStore.getColumns();
+
+            // then
+            assertThat(resultColumns.findLatest()).isEqualTo(inserted);
+            assertThat(resultColumns.findByRound(2)).isEqualTo(after);
+            assertThat(resultColumns.findByRound(1)).isNull();
+            assertThat(resultColumns.size()).isEqualTo(4);
+            then(resultRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(읽기 전 변경은 무시하고 처음 조회할 때 읽음)")
+        void success_beforeLoad() {
+            // given
+            given(resultRepository.findAll()).willReturn(resultList);
+
+            // when
+            resultColumnStore.onResultChange(ResultChangeEvent.deleted(resultList.get(1).toDTO()));
+            ResultColumns resultColumns = resultColumnStore.getColumns();
+
+            // then
+            assertThat(resultColumns.findByRound(1)).isNotNull();
+            then(resultRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(읽는 도중 변경이 들어오면 읽은 결과를 올리지 않음)")
+        void success_changeWhileLoading() {
+            // given
+            given(resultRepository.findAll()).willAnswer(invocation -> {
+                resultColumnStore.onResultChange(ResultChangeEvent.deleted(resultList.get(1).toDTO()));
+                return resultList;
+            }).willReturn(resultList.subList(0, 1));
+
+            // when
+            resultColumnStore.getColumns();
+            ResultColumns resultColumns = resultColumnStore.getColumns();
+
+            // then
+            assertThat(resultColumns.size()).isEqualTo(1);
+            assertThat(resultColumnStore.getColumns()).isSameAs(resultColumns);
+            then(resultRepository).should(times(2)).findAll();
+        }
+
+    }
+
+}
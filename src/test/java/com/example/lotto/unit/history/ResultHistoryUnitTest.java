@@ -0,0 +1,67 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultHistoryUnitTest {
+
+    @Nested
+    @DisplayName("of 테스트")
+    class Test_Of {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            List<Result> resultList = Arrays.asList(
+                    Result.builder().round(3).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                    Result.builder().round(1).numbers(Arrays.asList(40, 41, 42, 43, 44, 45)).bonusNumber(1).build(),
+                    // 번호가 5개뿐인 잘못된 데이터는 제외
+                    Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 4, 5)).bonusNumber(7).build());
+            List<WinningReport> winningReportList = Arrays.asList(
+                    WinningReport.builder().round(3).rankList(Arrays.asList(
+                            Rank.builder().ranking(1).winningAmount(1_000_000_000L).build(),
+                            Rank.builder().ranking(5).winningAmount(5_000L).build())).build());
+
+            // when
+            ResultHistory history = ResultHistory.of(resultList, winningReportList);
+
+            // then
+            assertThat(history.size()).isEqualTo(2);
+            assertThat(history.copyRounds()).containsExactly(1, 3);
+            assertThat(history.getLatestRound()).isEqualTo(3);
+            assertThat(history.indexOf(3)).isEqualTo(1);
+            assertThat(history.indexOf(2)).isNegative();
+
+            assertThat(TicketMask.toList(history.getMask(1))).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(history.copyBonusBits()[1]).isEqualTo(1L << 7);
+            assertThat(history.getPrize(1, 1)).isEqualTo(1_000_000_000L);
+            assertThat(history.getPrize(1, 5)).isEqualTo(5_000L);
+            assertThat(history.getPrize(0, 1)).isZero();
+        }
+
+        @Test
+        @DisplayName("성공(빈 목록)")
+        void success_empty() {
+            // when
+            ResultHistory history = ResultHistory.of(List.of(), List.of());
+
+            // then
+            assertThat(history.isEmpty()).isTrue();
+            assertThat(history.getLatestRound()).isZero();
+        }
+
+    }
+
+}
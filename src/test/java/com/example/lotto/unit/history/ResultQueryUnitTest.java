@@ -0,0 +1,182 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.history.ResultBitmapIndex;
+import com.example.lotto.history.ResultColumns;
+import com.example.lotto.history.ResultQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResultQueryUnitTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.parse("2002-12-07");
+
+    private List<Result> resultList;
+    private ResultColumns resultColumns;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        // 비트맵 word 경계를 넘도록 64 회차보다 많이 만듦
+        Random random = new Random(42);
+        resultList = new ArrayList<>();
+        for (int round = 1; round <= 150; round++) {
+            List<Integer> numbers = random.ints(1, 46).distinct().limit(7).boxed().collect(Collectors.toList());
+            resultList.add(Result.builder()
+                    .round(round)
+                    .numbers(numbers.subList(0, 6))
+                    .bonusNumber(numbers.get(6))
+                    .date(FIRST_DATE.plusWeeks(round - 1))
+                    .build());
+        }
+        resultColumns = ResultColumns.of(resultList);
+    }
+
+    private List<Integer> expected(Predicate<Result> predicate) {
+        return resultList.stream().filter(predicate).map(Result::getRound).collect(Collectors.toList());
+    }
+
+    private List<Integer> search(String query, Integer fromRound, Integer toRound,
+                                 LocalDate startDate, LocalDate endDate) {
+        return resultColumns.search(query == null ? null : ResultQuery.parse(query), fromRound, toRound, startDate, endDate)
+                .stream().map(ResultDTO::getRound).collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("검색식 테스트")
+    class Test_Query {
+
+        @Test
+        @DisplayName("성공 - AND / NOT")
+        void success_and_not() {
+            // when
+            List<Integer> roundList = search("7 AND 23 AND NOT 41", null, null, null, null);
+
+            // then
+            assertThat(roundList).isEqualTo(expected((r) -> r.getNumbers().contains(7)
+                    && r.getNumbers().contains(23) && !r.getNumbers().contains(41)));
+        }
+
+        @Test
+        @DisplayName("성공 - 우선순위 NOT > AND > OR, 괄호")
+        void success_precedence() {
+            // when
+            List<Integer> withoutParen = search("1 or 2 and not 3", null, null, null, null);
+            List<Integer> withParen = search("(1 OR 2) AND NOT 3", null, null, null, null);
+
+            // then
+            assertThat(withoutParen).isEqualTo(expected((r) -> r.getNumbers().contains(1)
+                    || (r.getNumbers().contains(2) && !r.getNumbers().contains(3))));
+            assertThat(withParen).isEqualTo(expected((r) -> (r.getNumbers().contains(1)
+                    || r.getNumbers().contains(2)) && !r.getNumbers().contains(3)));
+        }
+
+        @Test
+        @DisplayName("성공 - 보너스 번호")
+        void success_bonus() {
+            // when
+            List<Integer> roundList = search("B7 OR b8", null, null, null, null);
+
+            // then
+            assertThat(roundList).isEqualTo(expected((r) -> r.getBonusNumber() == 7 || r.getBonusNumber() == 8));
+        }
+
+        @Test
+        @DisplayName("성공 - NOT 은 있는 회차 안에서만 뒤집음")
+        void success_not() {
+            // when
+            List<Integer> roundList = search("NOT NOT NOT 5", null, null, null, null);
+
+            // then
+            assertThat(roundList).isEqualTo(expected((r) -> !r.getNumbers().contains(5)));
+            assertThat(roundList).allMatch((round) -> round >= 1 && round <= 150);
+        }
+
+        @Test
+        @DisplayName("실패 - 문법, 번호 오류")
+        void fail() {
+            // when & then
+            for (String query : List.of("", "7 AND", "(7 OR 8", "7 8", "46", "B0", "7 XOR 8", ")")) {
+                assertThatThrownBy(() -> ResultQuery.parse(query))
+                        .as(query)
+                        .isInstanceOf(IllegalArgumentException.class);
+            }
+            assertThatThrownBy(() -> ResultQuery.parse("(".repeat(100) + "7" + ")".repeat(100)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("구간 테스트")
+    class Test_Range {
+
+        @Test
+        @DisplayName("성공 - 회차 구간, 양 끝 포함")
+        void success_round() {
+            // when
+            List<Integer> roundList = search("10 OR 20", 60, 130, null, null);
+
+            // then
+            assertThat(roundList).isEqualTo(expected((r) -> r.getRound() >= 60 && r.getRound() <= 130
+                    && (r.getNumbers().contains(10) || r.getNumbers().contains(20))));
+        }
+
+        @Test
+        @DisplayName("성공 - 날짜 구간만, 양 끝 포함")
+        void success_date() {
+            // when
+            List<Integer> roundList = search(null, null, null, FIRST_DATE.plusWeeks(63), FIRST_DATE.plusWeeks(65));
+
+            // then
+            assertThat(roundList).containsExactly(64, 65, 66);
+        }
+
+        @Test
+        @DisplayName("성공 - 한쪽만 제한")
+        void success_open() {
+            // when & then
+            assertThat(search(null, 149, null, null, null)).containsExactly(149, 150);
+            assertThat(search(null, null, 2, null, null)).containsExactly(1, 2);
+            assertThat(search(null, null, Integer.MAX_VALUE, null, null)).hasSize(150);
+            assertThat(search(null, 151, null, null, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("ResultBitmapIndex 테스트")
+    class Test_Index {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            ResultBitmapIndex index = resultColumns.getIndex();
+
+            // then
+            assertThat(index.size()).isEqualTo(150);
+            assertThat(ResultBitmapIndex.cardinality(index.all())).isEqualTo(150);
+            assertThat(ResultBitmapIndex.cardinality(index.number(7)))
+                    .isEqualTo(expected((r) -> r.getNumbers().contains(7)).size());
+            assertThat(ResultBitmapIndex.isEmpty(index.number(46))).isTrue();
+
+            // 돌려준 비트맵을 바꿔도 색인은 그대로
+            index.number(7)[0] = -1L;
+            assertThat(ResultBitmapIndex.cardinality(index.number(7)))
+                    .isEqualTo(expected((r) -> r.getNumbers().contains(7)).size());
+        }
+    }
+
+}
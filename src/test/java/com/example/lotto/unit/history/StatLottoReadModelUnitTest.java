@@ -0,0 +1,124 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.history.StatLottoSnapshot;
+import com.example.lotto.repository.StatLottoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class StatLottoReadModelUnitTest {
+
+    @Mock
+    private StatLottoRepository statLottoRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StatLottoReadModel statLottoReadModel;
+
+    private List<StatLotto> statLottoList;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        statLottoReadModel = new StatLottoReadModel(statLottoRepository, objectMapper);
+
+        // DB 에서는 번호 순서가 보장되지 않음
+        statLottoList = new ArrayList<>();
+        for (int n = 45; n >= 1; n--) {
+            statLottoList.add(StatLotto.builder()
+                    .number(n)
+                    .count(n)
+                    .probability((double) n)
+                    .bonusCount(n)
+                    .bonusProbability((double) n)
+                    .build());
+        }
+    }
+
+    @Nested
+    @DisplayName("getSnapshot 테스트")
+    class Test_GetSnapshot {
+
+        @Test
+        @DisplayName("성공(처음 한 번만 조회)")
+        void success() throws Exception {
+            // given
+            given(statLottoRepository.findAll()).willReturn(statLottoList);
+
+            // when
+            StatLottoSnapshot first = statLottoReadModel.getSnapshot();
+            StatLottoSnapshot second = statLottoReadModel.getSnapshot();
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(first.get(7).getCount()).isEqualTo(7);
+            assertThat(first.get(46)).isNull();
+            assertThat(first.get(Arrays.asList(3, 1, 3, 50))).extracting("number").containsExactly(1, 3);
+            assertThat(first.getList()).extracting("number").startsWith(1, 2, 3);
+
+            JsonNode parsed = objectMapper.readTree(first.getJson());
+            assertThat(parsed.size()).isEqualTo(45);
+            assertThat(parsed.get(0).get("number").asInt()).isEqualTo(1);
+            assertThat(parsed.get(44).get("bonusProbability").asDouble()).isEqualTo(45.0);
+
+            then(statLottoRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(비어 있으면 보관하지 않음)")
+        void success_empty() {
+            // given
+            given(statLottoRepository.findAll()).willReturn(new ArrayList<>());
+
+            // when
+            StatLottoSnapshot first = statLottoReadModel.getSnapshot();
+            StatLottoSnapshot second = statLottoReadModel.getSnapshot();
+
+            // then
+            assertThat(first.isEmpty()).isTrue();
+            assertThat(second.isEmpty()).isTrue();
+
+            then(statLottoRepository).should(times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(event)")
+        void success_event() {
+            // given
+            List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+            statLottoList.forEach(s -> statLottoDTOList.add(s.toDTO()));
+
+            // when
+            statLottoReadModel.onStatLottoUpdate(new StatLottoUpdateEvent(statLottoDTOList));
+            StatLottoSnapshot snapshot = statLottoReadModel.getSnapshot();
+
+            // then
+            assertThat(snapshot.getList()).hasSize(45);
+            assertThat(snapshot.get(45).getProbability()).isEqualTo(45.0);
+
+            then(statLottoRepository).should(times(0)).findAll();
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.lotto.unit.history;
+
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.StatSnapshotFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StatSnapshotFileUnitTest {
+
+    private ResultHistory history;
+
+    private List<StatLottoDTO> statLottoDTOList;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        history = ResultHistory.of(
+                Arrays.asList(
+                        Result.builder().round(2).numbers(Arrays.asList(10, 20, 30, 40, 41, 45)).bonusNumber(11).build(),
+                        Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build()),
+                Arrays.asList(WinningReport.builder()
+                        .round(2)
+                        .rankList(Arrays.asList(Rank.builder().ranking(1).winningAmount(2_000_000_000L).build()))
+                        .build()));
+
+        statLottoDTOList = StatLottoDTO.listOf(new int[]{0, 1, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                new int[46]);
+    }
+
+    @Nested
+    @DisplayName("write / open 테스트")
+    class Test_WriteOpen {
+
+        @Test
+        @DisplayName("성공")
+        void success(@TempDir Path tempDir) throws IOException {
+            // given
+            Path path = tempDir.resolve("snapshot/stat-snapshot.bin");
+
+            // when
+            StatSnapshotFile.write(path, history, statLottoDTOList, 1234L);
+            StatSnapshotFile snapshotFile = StatSnapshotFile.open(path);
+            ResultHistory loaded = snapshotFile.toHistory();
+
+            // then
+            assertThat(snapshotFile.getRoundCount()).isEqualTo(2);
+            assertThat(snapshotFile.getLatestRound()).isEqualTo(2);
+            assertThat(snapshotFile.getStatCount()).isEqualTo(2);
+            assertThat(snapshotFile.getCreatedAt()).isEqualTo(1234L);
+
+            assertThat(loaded.size()).isEqualTo(2);
+            assertThat(loaded.startsWith(history)).isTrue();
+            assertThat(loaded.getPrize(1, 1)).isEqualTo(2_000_000_000L);
+            assertThat(loaded.getPrize(0, 1)).isZero();
+
+            assertThat(snapshotFile.toStatLottoList()).isEqualTo(statLottoDTOList);
+            assertThat(Files.exists(tempDir.resolve("snapshot/stat-snapshot.bin.tmp"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패(checksum)")
+        void fail_checksum(@TempDir Path tempDir) throws IOException {
+            // given
+            Path path = tempDir.resolve("stat-snapshot.bin");
+            StatSnapshotFile.write(path, history, statLottoDTOList, 1234L);
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                file.seek(StatSnapshotFile.HEADER_SIZE);
+                file.writeByte(99);
+            }
+
+            // when & then
+            assertThatThrownBy(() -> StatSnapshotFile.open(path))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("checksum");
+        }
+
+        @Test
+        @DisplayName("실패(버전)")
+        void fail_version(@TempDir Path tempDir) throws IOException {
+            // given
+            Path path = tempDir.resolve("stat-snapshot.bin");
+            StatSnapshotFile.write(path, history, statLottoDTOList, 1234L);
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                file.seek(4);
+                file.writeInt(Integer.reverseBytes(StatSnapshotFile.VERSION + 1));
+            }
+
+            // when & then
+            assertThatThrownBy(() -> StatSnapshotFile.open(path))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("header");
+        }
+
+    }
+
+}
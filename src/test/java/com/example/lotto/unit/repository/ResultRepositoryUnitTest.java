@@ -1,11 +1,17 @@
 package com.example.lotto.unit.repository;
 
 import com.example.lotto.domain.Result;
+import com.example.lotto.repository.ResultMaskCallback;
 import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.utils.TicketMask;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
@@ -21,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataMongoTest
+@Import(ResultMaskCallback.class)
 public class ResultRepositoryUnitTest {
 
     @Autowired
@@ -196,6 +203,120 @@ public class ResultRepositoryUnitTest {
             }
 
         }
+
+        @Nested
+        @DisplayName("findByRoundLessThanOrderByRoundDesc 테스트")
+        class Test_FindByRoundLessThanOrderByRoundDesc {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                Integer cursor = 1112;
+                Pageable pageable = PageRequest.of(0, 1);
+
+                // when
+                Slice<Result> resultSlice = resultRepository.findByRoundLessThanOrderByRoundDesc(cursor, pageable);
+
+                // then
+                assertThat(resultSlice.getContent())
+                        .extracting("round")
+                        .containsExactly(1111);
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() {
+                // given
+                Integer cursor = 1;
+                Pageable pageable = PageRequest.of(0, 10);
+
+                // when
+                Slice<Result> resultSlice = resultRepository.findByRoundLessThanOrderByRoundDesc(cursor, pageable);
+
+                // then
+                assertThat(resultSlice.hasContent())
+                        .isFalse();
+                assertThat(resultSlice.hasNext())
+                        .isFalse();
+            }
+
+        }
+
+        @Nested
+        @DisplayName("findByMaskBits 테스트")
+        class Test_FindByMaskBits {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                // 다시 저장하면 mask 가 채워짐
+                Result result = resultRepository.save(resultRepository.findByRound(1111));
+                long allSet = TicketMask.of(Arrays.asList(3, 13, 45));
+                long anySet = TicketMask.of(Arrays.asList(1, 2, 3));
+
+                // when
+                List<Result> allSetList = resultRepository.findByMaskBitsAllSet(allSet);
+                List<Result> anySetList = resultRepository.findByMaskBitsAnySet(anySet);
+
+                // then
+                assertThat(result.getMask())
+                        .isEqualTo(TicketMask.numbers(result.toMask()));
+                assertThat(result.getBonusMask())
+                        .isEqualTo(TicketMask.bit(result.getBonusNumber()));
+                assertThat(allSetList)
+                        .extracting("round")
+                        .contains(1111);
+                assertThat(anySetList)
+                        .extracting("round")
+                        .contains(1111);
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() {
+                // given
+                long allSet = TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+
+                // when
+                List<Result> resultList = resultRepository.findByMaskBitsAllSet(allSet);
+
+                // then
+                assertThat(resultList)
+                        .isEmpty();
+            }
+
+            @Test
+            @DisplayName("성공(보너스 번호 조회)")
+            void success_bonus() {
+                // given
+                // 1111 회 보너스 번호는 4, 번호 비트와 보너스 비트를 따로 조회
+                resultRepository.save(resultRepository.findByRound(1111));
+
+                // when
+                List<Result> bonusList = resultRepository.findByBonusMaskBitsAnySet(TicketMask.bit(4));
+                List<Result> otherBonusList = resultRepository.findByBonusMaskBitsAnySet(TicketMask.bit(5));
+                // 보너스 값이 섞인 TicketMask 를 넘겨도 보너스 비트로 잘못 일치하지 않음
+                List<Result> bonusValueList = resultRepository.findByMaskBitsAnySet(TicketMask.withBonus(0L, 5));
+                List<Result> bonusAsNumberList = resultRepository.findByMaskBitsAllSet(TicketMask.of(Arrays.asList(3, 4)));
+
+                // then
+                assertThat(bonusList)
+                        .extracting("round")
+                        .contains(1111);
+                assertThat(otherBonusList)
+                        .extracting("round")
+                        .doesNotContain(1111);
+                assertThat(bonusValueList)
+                        .extracting("round")
+                        .doesNotContain(1111);
+                assertThat(bonusAsNumberList)
+                        .extracting("round")
+                        .doesNotContain(1111);
+            }
+
+        }
     }
 
     @Nested
@@ -0,0 +1,226 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.CoOccurrenceDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.CoOccurrence;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.service.CoOccurrenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CoOccurrenceServiceUnitTest {
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @InjectMocks
+    private CoOccurrenceService coOccurrenceService;
+
+    private ResultHistory history;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        // {1, 2, 3} 은 3번, {1, 2} 는 4번 같이 나옴
+        history = ResultHistory.of(
+                Arrays.asList(
+                        Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                        Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 10, 11, 12)).bonusNumber(7).build(),
+                        Result.builder().round(3).numbers(Arrays.asList(1, 2, 3, 40, 41, 42)).bonusNumber(45).build(),
+                        Result.builder().round(4).numbers(Arrays.asList(1, 2, 20, 21, 22, 23)).bonusNumber(3).build()),
+                new ArrayList<>());
+    }
+
+    @Nested
+    @DisplayName("CoOccurrence 테스트")
+    class Test_CoOccurrence {
+
+        @Test
+        @DisplayName("성공(3개 조합 순위)")
+        void success_tripleRank() {
+            int rank = 0;
+            for (int c = 3; c <= 45; c++) {
+                for (int b = 2; b < c; b++) {
+                    for (int a = 1; a < b; a++) {
+                        // 가장 큰 번호부터 비교하는 colex 순서
+                        assertThat(CoOccurrence.tripleRank(a, b, c)).isEqualTo(rank);
+                        assertThat(CoOccurrence.unrankTriple(rank)).containsExactly(a, b, c);
+                        rank++;
+                    }
+                }
+            }
+            assertThat(rank).isEqualTo(CoOccurrence.TRIPLE_COUNT);
+        }
+
+        @Test
+        @DisplayName("성공(보너스 번호 제외)")
+        void success_count() {
+            // when
+            CoOccurrence coOccurrence = CoOccurrence.of(history);
+
+            // then
+            assertThat(coOccurrence.getRoundCount()).isEqualTo(4);
+            assertThat(coOccurrence.getLatestRound()).isEqualTo(4);
+            assertThat(coOccurrence.getPairCount(1, 2)).isEqualTo(4);
+            assertThat(coOccurrence.getPairCount(2, 1)).isEqualTo(4);
+            assertThat(coOccurrence.getPairCount(1, 3)).isEqualTo(3);
+            assertThat(coOccurrence.getPairCount(3, 7)).isEqualTo(0);
+            assertThat(coOccurrence.getPairCount(1, 1)).isEqualTo(0);
+            assertThat(coOccurrence.getTripleCount(CoOccurrence.tripleRank(1, 2, 3))).isEqualTo(3);
+            assertThat(coOccurrence.getTripleCount(CoOccurrence.tripleRank(40, 41, 42))).isEqualTo(1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("readPartners 테스트")
+    class Test_ReadPartners {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readPartners(1);
+
+            // then
+            assertThat(coOccurrenceDTOList).hasSize(44);
+            assertThat(coOccurrenceDTOList.get(0).getNumbers()).containsExactly(1, 2);
+            assertThat(coOccurrenceDTOList.get(0).getCount()).isEqualTo(4);
+            assertThat(coOccurrenceDTOList.get(1).getNumbers()).containsExactly(1, 3);
+            assertThat(coOccurrenceDTOList.get(1).getCount()).isEqualTo(3);
+            // 같은 횟수는 번호 오름차순
+            assertThat(coOccurrenceDTOList.get(2).getNumbers()).containsExactly(1, 4);
+            assertThat(coOccurrenceDTOList.get(43).getCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("실패(번호 범위)")
+        void fail_number() {
+            // when & then
+            assertThatThrownBy(() -> coOccurrenceService.readPartners(46))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_STAT_NUMBER);
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail_empty() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> coOccurrenceService.readPartners(1))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("readTop 테스트")
+    class Test_ReadTop {
+
+        @Test
+        @DisplayName("성공(pair)")
+        void success_pair() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readTopPairs(3);
+
+            // then
+            assertThat(coOccurrenceDTOList).extracting("numbers")
+                    .containsExactly(Arrays.asList(1, 2), Arrays.asList(1, 3), Arrays.asList(2, 3));
+            assertThat(coOccurrenceDTOList).extracting("count").containsExactly(4, 3, 3);
+        }
+
+        @Test
+        @DisplayName("성공(triple)")
+        void success_triple() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            List<CoOccurrenceDTO> coOccurrenceDTOList = coOccurrenceService.readTopTriples(2);
+
+            // then
+            assertThat(coOccurrenceDTOList.get(0).getNumbers()).containsExactly(1, 2, 3);
+            assertThat(coOccurrenceDTOList.get(0).getCount()).isEqualTo(3);
+            // colex 순위가 가장 작은 1번 조합
+            assertThat(coOccurrenceDTOList.get(1).getNumbers()).containsExactly(1, 2, 4);
+            assertThat(coOccurrenceDTOList.get(1).getCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공(result 가 바뀌지 않으면 다시 계산하지 않음)")
+        void success_cache() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            CoOccurrence first = coOccurrenceService.getCoOccurrence();
+            CoOccurrence second = coOccurrenceService.getCoOccurrence();
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("실패(개수 범위)")
+        void fail_size() {
+            // when & then
+            assertThatThrownBy(() -> coOccurrenceService.readTopTriples(CoOccurrenceService.MAX_TOP_SIZE + 1))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOP_SIZE);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("readPairMatrix 테스트")
+    class Test_ReadPairMatrix {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            byte[] matrix = coOccurrenceService.readPairMatrix();
+
+            // then
+            ByteBuffer buffer = ByteBuffer.wrap(matrix);
+            assertThat(matrix).hasSize(45 * 45 * 4);
+            assertThat(buffer.getInt(((1 - 1) * 45 + (2 - 1)) * 4)).isEqualTo(4);
+            assertThat(buffer.getInt(((2 - 1) * 45 + (1 - 1)) * 4)).isEqualTo(4);
+            assertThat(buffer.getInt(((40 - 1) * 45 + (42 - 1)) * 4)).isEqualTo(1);
+            assertThat(buffer.getInt(0)).isEqualTo(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.configuration.ProfileProperties;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.HitProfileDTO;
+import com.example.lotto.domain.dto.ProfileScanDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.HitProfileFile;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.service.CombinationProfileService;
+import com.example.lotto.service.HitProfileScanner;
+import com.example.lotto.simulation.model.JobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class CombinationProfileServiceUnitTest {
+
+    @Mock
+    private HitProfileScanner hitProfileScanner;
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @TempDir
+    private Path tempDir;
+
+    private CombinationProfileService combinationProfileService;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        ProfileProperties profileProperties = new ProfileProperties();
+        profileProperties.setPath(tempDir.resolve("hit-profile.bin").toString());
+
+        combinationProfileService = new CombinationProfileService(hitProfileScanner, resultHistoryStore, profileProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        combinationProfileService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("startScan 테스트")
+    class Test_StartScan {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws Exception {
+            // given
+            ResultHistory history = ResultHistory.of(List.of(Result.builder()
+                    .round(1)
+                    .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                    .bonusNumber(7)
+                    .build()), List.of());
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // 헤더만 쓰고 나머지는 0으로 채운 파일
+            willAnswer(invocation -> {
+                Path target = invocation.getArgument(1);
+                try (RandomAccessFile file = new RandomAccessFile(target.toFile(), "rw")) {
+                    file.setLength(HitProfileFile.FILE_SIZE);
+                    file.getChannel().write(HitProfileFile.header(1, 1, System.currentTimeMillis()), 0);
+                }
+                return null;
+            }).given(hitProfileScanner).scan(any(), any(), any());
+
+            // when
+            combinationProfileService.startScan();
+
+            ProfileScanDTO profileScanDTO = combinationProfileService.readScanStatus();
+            for (int i = 0; i < 500 && profileScanDTO.getStatus() == JobStatus.RUNNING; i++) {
+                Thread.sleep(10);
+                profileScanDTO = combinationProfileService.readScanStatus();
+            }
+            HitProfileDTO hitProfileDTO = combinationProfileService.readByNumbers(Arrays.asList(6, 5, 4, 3, 2, 1));
+
+            // then
+            assertThat(profileScanDTO.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(profileScanDTO.getLatestRound()).isEqualTo(1);
+            assertThat(hitProfileDTO.getRank()).isZero();
+            assertThat(hitProfileDTO.getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(hitProfileDTO.getBestRank()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> combinationProfileService.startScan())
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("read 테스트")
+    class Test_Read {
+
+        @Test
+        @DisplayName("실패(분석 결과 없음)")
+        void fail_notExist() {
+            // when & then
+            assertThatThrownBy(() -> combinationProfileService.readByRank(0))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_PROFILE);
+        }
+
+        @Test
+        @DisplayName("실패(번호 형식)")
+        void fail_invalidNumbers() {
+            // when & then
+            assertThatThrownBy(() -> combinationProfileService.readByNumbers(Arrays.asList(1, 2, 3)))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TICKET);
+        }
+
+    }
+
+}
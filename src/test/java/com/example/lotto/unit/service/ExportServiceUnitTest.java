@@ -0,0 +1,261 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.configuration.ExportProperties;
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.service.ExportFormat;
+import com.example.lotto.service.ExportService;
+import com.example.lotto.utils.StreamingTask;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceUnitTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private ObjectMapper objectMapper;
+    private ExportProperties exportProperties;
+    private ExportService exportService;
+
+    private Result result;
+    private WinningReport winningReport;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportProperties = new ExportProperties();
+        exportProperties.setMaxConcurrent(1);
+        exportProperties.setBufferSize(16);
+        exportService = new ExportService(mongoTemplate, objectMapper, exportProperties);
+
+        result = Result.builder()
+                .round(1111)
+                .numbers(Arrays.asList(3, 13, 30, 33, 43, 45))
+                .bonusNumber(4)
+                .date(LocalDate.parse("2024-03-16"))
+                .build();
+
+        winningReport = WinningReport.builder()
+                .round(1111)
+                .date(LocalDate.parse("2024-03-16"))
+                .totalWinningAmount(116382835000L)
+                .rankList(Arrays.asList(
+                        Rank.builder().ranking(1).winningCount(16).totalWinningAmount(27434600640L).winningAmount(1714662540L).build(),
+                        Rank.builder().ranking(2).winningCount(88).totalWinningAmount(4572433440L).winningAmount(51959471L).build()))
+                .build();
+    }
+
+    private String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("exportResults 테스트")
+    class Test_ExportResults {
+
+        @Test
+        @DisplayName("성공 - NDJSON")
+        void success_ndjson() throws IOException {
+            // given
+            AtomicBoolean closed = new AtomicBoolean();
+            given(mongoTemplate.stream(any(Query.class), eq(Result.class)))
+                    .willReturn(Stream.of(result, result).onClose(() -> closed.set(true)));
+
+            // when
+            String body = write(exportService.exportResults(ExportFormat.NDJSON, false));
+
+            // then
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode jsonNode = objectMapper.readTree(lines[0]);
+            assertThat(jsonNode.get("round").asInt()).isEqualTo(1111);
+            assertThat(jsonNode.get("date").asText()).isEqualTo("2024-03-16");
+            assertThat(jsonNode.get("numbers")).hasSize(6);
+
+            // 회차 오름차순으로 읽고 커서는 닫음
+            ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+            then(mongoTemplate).should().stream(queryCaptor.capture(), eq(Result.class));
+            assertThat(queryCaptor.getValue().getSortObject().get("round")).isEqualTo(1);
+            assertThat(closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - CSV")
+        void success_csv() throws IOException {
+            // given
+            Result empty = Result.builder().round(1).build();
+            given(mongoTemplate.stream(any(Query.class), eq(Result.class))).willReturn(Stream.of(empty, result));
+
+            // when
+            String body = write(exportService.exportResults(ExportFormat.CSV, false));
+
+            // then
+            assertThat(body).isEqualTo("round,date,number1,number2,number3,number4,number5,number6,bonusNumber\n"
+                    + "1,,,,,,,,\n"
+                    + "1111,2024-03-16,3,13,30,33,43,45,4\n");
+        }
+
+        @Test
+        @DisplayName("성공 - gzip")
+        void success_gzip() throws IOException {
+            // given
+            given(mongoTemplate.stream(any(Query.class), eq(Result.class))).willReturn(Stream.of(result));
+
+            // when
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            exportService.exportResults(ExportFormat.CSV, true).writeTo(outputStream);
+
+            // then
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                assertThat(new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8))
+                        .endsWith("1111,2024-03-16,3,13,30,33,43,45,4\n");
+            }
+        }
+
+        @Test
+        @DisplayName("실패 - 동시 요청 초과")
+        void fail_concurrent() throws IOException {
+            // given
+            given(mongoTemplate.stream(any(Query.class), eq(Result.class))).willReturn(Stream.of(result));
+            StreamingResponseBody body = exportService.exportResults(ExportFormat.NDJSON, false);
+
+            // when & then
+            assertThatThrownBy(() -> exportService.exportResults(ExportFormat.NDJSON, false))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXCEED_EXPORT_STREAM);
+
+            // 다 쓰고 나면 다시 요청할 수 있음
+            write(body);
+            assertThat(exportService.exportResults(ExportFormat.NDJSON, false)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 본문이 실행되지 않아도 요청이 끝나면 permit 반환")
+        void success_release() throws Exception {
+            // given
+            StreamingTask streamingTask = exportService.exportResults(ExportFormat.NDJSON, false);
+
+            // when
+            // 타임아웃, 연결 끊김 등으로 본문 없이 비동기 요청이 끝남
+            streamingTask.afterCompletion(null, null);
+
+            // then
+            assertThat(streamingTask.getTimeout()).isEqualTo(exportProperties.getTimeout());
+            assertThat(exportService.exportResults(ExportFormat.NDJSON, false)).isNotNull();
+            then(mongoTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 응답 스트림은 닫지 않음")
+        void success_not_closed() throws IOException {
+            // given
+            given(mongoTemplate.stream(any(Query.class), eq(Result.class))).willReturn(Stream.of(result));
+            AtomicBoolean closed = new AtomicBoolean();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+
+            // when
+            exportService.exportResults(ExportFormat.CSV, true).writeTo(outputStream);
+
+            // then
+            assertThat(closed).isFalse();
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                assertThat(new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8))
+                        .endsWith("1111,2024-03-16,3,13,30,33,43,45,4\n");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("exportWinningReports 테스트")
+    class Test_ExportWinningReports {
+
+        @Test
+        @DisplayName("성공 - NDJSON")
+        void success_ndjson() throws IOException {
+            // given
+            given(mongoTemplate.stream(any(Query.class), eq(WinningReport.class))).willReturn(Stream.of(winningReport));
+
+            // when
+            String body = write(exportService.exportWinningReports(ExportFormat.NDJSON, false));
+
+            // then
+            JsonNode jsonNode = objectMapper.readTree(body.trim());
+            assertThat(jsonNode.get("round").asInt()).isEqualTo(1111);
+            assertThat(jsonNode.get("totalWinningAmount").asLong()).isEqualTo(116382835000L);
+            assertThat(body).endsWith("\n");
+        }
+
+        @Test
+        @DisplayName("성공 - CSV 는 등수마다 한 줄")
+        void success_csv() throws IOException {
+            // given
+            given(mongoTemplate.stream(any(Query.class), eq(WinningReport.class))).willReturn(Stream.of(winningReport));
+
+            // when
+            String body = write(exportService.exportWinningReports(ExportFormat.CSV, false));
+
+            // then
+            assertThat(body).isEqualTo("round,date,totalWinningAmount,ranking,winningCount,rankTotalWinningAmount,winningAmount\n"
+                    + "1111,2024-03-16,116382835000,1,16,27434600640,1714662540\n"
+                    + "1111,2024-03-16,116382835000,2,88,4572433440,51959471\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("ExportFormat 테스트")
+    class Test_ExportFormat {
+
+        @Test
+        @DisplayName("실패")
+        void fail() {
+            // when & then
+            assertThat(ExportFormat.of("CSV")).isEqualTo(ExportFormat.CSV);
+            assertThatThrownBy(() -> ExportFormat.of("xml"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_EXPORT_FORMAT);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.configuration.ProfileProperties;
+import com.example.lotto.domain.Result;
+import com.example.lotto.history.HitProfile;
+import com.example.lotto.history.HitProfileFile;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.service.HitProfileScanner;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HitProfileScannerUnitTest {
+
+    private HitProfileScanner hitProfileScanner;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        ProfileProperties profileProperties = new ProfileProperties();
+        profileProperties.setParallelism(4);
+
+        hitProfileScanner = new HitProfileScanner(profileProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hitProfileScanner.shutdown();
+    }
+
+    @Nested
+    @DisplayName("HitProfile 테스트")
+    class Test_HitProfile {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            long profile = HitProfile.pack(2, 40, 7, 1, 1111);
+
+            // then
+            assertThat(HitProfile.bestRank(profile)).isEqualTo(2);
+            assertThat(HitProfile.hit3Count(profile)).isEqualTo(40);
+            assertThat(HitProfile.hit4Count(profile)).isEqualTo(7);
+            assertThat(HitProfile.hit5Count(profile)).isEqualTo(1);
+            assertThat(HitProfile.lastHitRound(profile)).isEqualTo(1111);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("scan 테스트")
+    class Test_Scan {
+
+        @Test
+        @DisplayName("성공")
+        void success(@TempDir Path tempDir) throws Exception {
+            // given
+            List<Result> resultList = Arrays.asList(
+                    Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                    Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 4, 5, 8)).bonusNumber(6).build(),
+                    Result.builder().round(3).numbers(Arrays.asList(10, 20, 30, 40, 41, 42)).bonusNumber(1).build());
+            ResultHistory history = ResultHistory.of(resultList, List.of());
+            Path target = tempDir.resolve("profile/hit-profile.bin");
+            AtomicLong progress = new AtomicLong();
+
+            // when
+            hitProfileScanner.scan(history, target, progress);
+            HitProfileFile hitProfileFile = HitProfileFile.open(target);
+
+            // then
+            assertThat(progress.get()).isEqualTo(Combination.COUNT);
+            assertThat(Files.size(target)).isEqualTo(HitProfileFile.FILE_SIZE);
+            assertThat(hitProfileFile.getRoundCount()).isEqualTo(3);
+            assertThat(hitProfileFile.getLatestRound()).isEqualTo(3);
+
+            // 1,2,3,4,5,6 은 1회차 1등, 2회차 2등
+            long first = hitProfileFile.get(0);
+            assertThat(HitProfile.bestRank(first)).isEqualTo(1);
+            assertThat(HitProfile.hit5Count(first)).isEqualTo(2);
+            assertThat(HitProfile.lastHitRound(first)).isEqualTo(2);
+
+            // 나머지는 일부만 직접 계산해서 비교
+            for (int rank = 0; rank < Combination.COUNT; rank += 4_999) {
+                long combination = Combination.unrank(rank);
+                int bestRank = 0, hit3Count = 0, lastHitRound = 0;
+                for (int i = 0; i < history.size(); i++) {
+                    int ranking = TicketMask.rank(combination, history.getMask(i));
+                    if (ranking != 0) {
+                        hit3Count++;
+                        lastHitRound = history.getRound(i);
+                        bestRank = bestRank == 0 ? ranking : Math.min(bestRank, ranking);
+                    }
+                }
+
+                long profile = hitProfileFile.get(rank);
+                assertThat(HitProfile.bestRank(profile)).isEqualTo(bestRank);
+                assertThat(HitProfile.hit3Count(profile)).isEqualTo(hit3Count);
+                assertThat(HitProfile.lastHitRound(profile)).isEqualTo(lastHitRound);
+            }
+        }
+
+    }
+
+}
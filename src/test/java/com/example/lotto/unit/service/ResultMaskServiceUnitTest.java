@@ -0,0 +1,131 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.repository.ResultMaskCallback;
+import com.example.lotto.service.ResultMaskService;
+import com.example.lotto.utils.TicketMask;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ResultMaskServiceUnitTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private ResultMaskService resultMaskService;
+
+    @Nested
+    @DisplayName("backfill 테스트")
+    class Test_Backfill {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            Result result = Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build();
+            // 형식이 맞지 않는 행은 건너뜀
+            Result invalid = Result.builder().round(2).numbers(Arrays.asList(1, 1, 2, 3, 4, 5)).bonusNumber(7).build();
+
+            given(mongoTemplate.find(any(Query.class), eq(Result.class))).willReturn(List.of(result, invalid));
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Result.class)).willReturn(bulkOperations);
+
+            // when
+            int count = resultMaskService.backfill();
+
+            // then
+            assertThat(count).isEqualTo(1);
+
+            ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+            then(bulkOperations).should(times(1)).updateOne(any(Query.class), updateCaptor.capture());
+            Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+            assertThat(set.get("mask")).isEqualTo(TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6)));
+            assertThat(set.get("bonusMask")).isEqualTo(TicketMask.bit(7));
+            then(bulkOperations).should(times(1)).execute();
+        }
+
+        @Test
+        @DisplayName("성공 - 채울 회차가 없음")
+        void success_empty() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(Result.class))).willReturn(List.of());
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Result.class)).willReturn(bulkOperations);
+
+            // when
+            int count = resultMaskService.backfill();
+
+            // then
+            assertThat(count).isZero();
+            then(bulkOperations).should(never()).execute();
+        }
+    }
+
+    @Nested
+    @DisplayName("ResultMaskCallback 테스트")
+    class Test_Callback {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            ResultMaskCallback resultMaskCallback = new ResultMaskCallback();
+            Result result = Result.builder().round(1).numbers(Arrays.asList(6, 5, 4, 3, 2, 1)).bonusNumber(7).build();
+            Result invalid = Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 4, 5)).bonusNumber(7).build();
+            Result empty = Result.builder().round(3).build();
+
+            // when
+            resultMaskCallback.onBeforeConvert(result, "result");
+            resultMaskCallback.onBeforeConvert(invalid, "result");
+            resultMaskCallback.onBeforeConvert(empty, "result");
+
+            // then
+            // 보너스 번호는 mask 에 넣지 않고 bonusMask 에 비트 하나로 저장
+            assertThat(result.getMask()).isEqualTo(TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6)));
+            assertThat(result.getBonusMask()).isEqualTo(TicketMask.bit(7));
+            assertThat(invalid.getMask()).isNull();
+            assertThat(invalid.getBonusMask()).isNull();
+            assertThat(empty.getMask()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공(보너스 번호가 번호 비트와 겹치지 않음)")
+        void success_bonus() {
+            // given
+            // 예전 형식이면 보너스 4 (0b100) 와 5 (0b101) 가 같은 비트를 공유함
+            ResultMaskCallback resultMaskCallback = new ResultMaskCallback();
+            Result result = Result.builder().round(1).numbers(Arrays.asList(3, 13, 30, 33, 43, 45)).bonusNumber(4).build();
+
+            // when
+            resultMaskCallback.onBeforeConvert(result, "result");
+
+            // then
+            long bonusQuery = TicketMask.withBonus(0L, 5);
+            assertThat(result.getMask() & bonusQuery).isZero();
+            assertThat(result.getMask() & TicketMask.bit(4)).isZero();
+            assertThat(result.getBonusMask() & TicketMask.bit(5)).isZero();
+            assertThat(result.getBonusMask() & TicketMask.bit(4)).isNotZero();
+        }
+    }
+
+}
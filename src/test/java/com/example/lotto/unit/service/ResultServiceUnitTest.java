@@ -1,9 +1,15 @@
 package com.example.lotto.unit.service;
 
+import com.example.lotto.configuration.PageProperties;
 import com.example.lotto.domain.Result;
 import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.ResultMatchDTO;
+import com.example.lotto.domain.dto.ResultSearchDTO;
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultColumnStore;
+import com.example.lotto.history.ResultColumns;
 import com.example.lotto.repository.ResultRepository;
 import com.example.lotto.service.ResultService;
 import com.mongodb.DuplicateKeyException;
@@ -14,12 +20,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,6 +47,15 @@ public class ResultServiceUnitTest {
     @Mock
     private ResultRepository resultRepository;
 
+    @Mock
+    private ResultColumnStore resultColumnStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PageProperties pageProperties = new PageProperties();
+
     @InjectMocks
     private ResultService resultService;
 
@@ -71,19 +91,16 @@ public class ResultServiceUnitTest {
             void success() {
                 // given
                 Integer round = 1111;
-                given(resultRepository.existsByRound(round)).willReturn(false);
-                given(resultRepository.findByRound(round)).willReturn(result);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when
                 ResultDTO resultDTO = resultService.readByRound(round);
 
                 // then
-                assertThat(resultDTO.getRound())
-                        .isEqualTo(round);
-
-                then(resultRepository).should(times(1)).existsByRound(round);
-                then(resultRepository).should(times(1)).findByRound(round);
+                assertThat(resultDTO)
+                        .isEqualTo(result.toDTO());
 
+                then(resultRepository).shouldHaveNoInteractions();
             }
 
             @Test
@@ -91,15 +108,14 @@ public class ResultServiceUnitTest {
             void fail() {
                 // given
                 Integer round = -1;
-                given(resultRepository.existsByRound(round)).willReturn(true);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when & then
                 assertThatThrownBy(() -> resultService.readByRound(round))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT_ROUND);
 
-                then(resultRepository).should(times(1)).existsByRound(round);
-                then(resultRepository).should(times(0)).findByRound(round);
+                then(resultRepository).shouldHaveNoInteractions();
             }
         }
 
@@ -112,18 +128,16 @@ public class ResultServiceUnitTest {
             void success() {
                 // given
                 Integer bonusNumber = 4;
-                List<Result> resultList = Arrays.asList(result);
-
-                given(resultRepository.findByBonusNumber(bonusNumber)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when
                 List<ResultDTO> resultDTOList = resultService.readByBonusNumber(bonusNumber);
 
                 // then
                 assertThat(resultDTOList)
-                        .isNotEmpty();
+                        .containsExactly(result.toDTO());
 
-                then(resultRepository).should(times(1)).findByBonusNumber(bonusNumber);
+                then(resultRepository).shouldHaveNoInteractions();
             }
 
             @Test
@@ -131,16 +145,12 @@ public class ResultServiceUnitTest {
             void fail() {
                 // given
                 Integer bonusNumber = -1;
-                List<Result> resultList = new ArrayList<>();
-
-                given(resultRepository.findByBonusNumber(bonusNumber)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when & then
                 assertThatThrownBy(() -> resultService.readByBonusNumber(bonusNumber))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT_BONUS_NUMBER);
-
-                then(resultRepository).should(times(1)).findByBonusNumber(bonusNumber);
             }
         }
 
@@ -153,18 +163,16 @@ public class ResultServiceUnitTest {
             void success() {
                 // given
                 Integer number = 45;
-                List<Result> resultList = Arrays.asList(result);
-
-                given(resultRepository.findByNumbersContaining(number)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when
                 List<ResultDTO> resultDTOList = resultService.readByNumber(number);
 
                 // then
                 assertThat(resultDTOList)
-                        .isNotEmpty();
+                        .containsExactly(result.toDTO());
 
-                then(resultRepository).should(times(1)).findByNumbersContaining(number);
+                then(resultRepository).shouldHaveNoInteractions();
             }
 
             @Test
@@ -172,17 +180,123 @@ public class ResultServiceUnitTest {
             void fail() {
                 // given
                 Integer number = -1;
-                List<Result> resultList = new ArrayList<>();
-
-                given(resultRepository.findByNumbersContaining(number)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when & then
                 assertThatThrownBy(() -> resultService.readByNumber(number))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT_NUMBER);
+            }
+        }
+
+        @Nested
+        @DisplayName("readLastOne 테스트")
+        class Test_ReadLastOne {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                Result previous = Result.builder()
+                        .round(1110)
+                        .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                        .bonusNumber(7)
+                        .date(LocalDate.parse("2024-03-09"))
+                        .build();
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result, previous)));
+
+                // when
+                ResultDTO resultDTO = resultService.readLastOne();
+
+                // then
+                assertThat(resultDTO.getRound())
+                        .isEqualTo(1111);
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() {
+                // given
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.EMPTY);
+
+                // when & then
+                assertThatThrownBy(() -> resultService.readLastOne())
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+            }
+        }
+
+        @Nested
+        @DisplayName("readBySlice 테스트")
+        class Test_ReadBySlice {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                Pageable pageable = PageRequest.of(0, 1);
+                Slice<Result> resultSlice = new SliceImpl<>(Arrays.asList(result), pageable, true);
+
+                given(resultRepository.findByRoundLessThanOrderByRoundDesc(1112, pageable)).willReturn(resultSlice);
+
+                // when
+                SliceDTO<ResultDTO> resultSliceDTO = resultService.readBySlice(1112, 1);
+
+                // then
+                assertThat(resultSliceDTO.getContent())
+                        .containsExactly(result.toDTO());
+                assertThat(resultSliceDTO.getHasNext())
+                        .isTrue();
+                assertThat(resultSliceDTO.getNextCursor())
+                        .isEqualTo(1111);
+            }
+
+            @Test
+            @DisplayName("성공 - 첫 페이지, 기본 크기")
+            void success_first() {
+                // given
+                Pageable pageable = PageRequest.of(0, 10);
+                Slice<Result> resultSlice = new SliceImpl<>(Arrays.asList(result), pageable, false);
+
+                given(resultRepository.findByRoundLessThanOrderByRoundDesc(Integer.MAX_VALUE, pageable)).willReturn(resultSlice);
+
+                // when
+                SliceDTO<ResultDTO> resultSliceDTO = resultService.readBySlice(null, null);
+
+                // then
+                assertThat(resultSliceDTO.getSize())
+                        .isEqualTo(10);
+                assertThat(resultSliceDTO.getHasNext())
+                        .isFalse();
+                assertThat(resultSliceDTO.getNextCursor())
+                        .isNull();
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() {
+                // given
+                Pageable pageable = PageRequest.of(0, 10);
+
+                given(resultRepository.findByRoundLessThanOrderByRoundDesc(1, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+                // when & then
+                assertThatThrownBy(() -> resultService.readBySlice(1, null))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+            }
+
+            @Test
+            @DisplayName("실패 - 페이지 크기 초과")
+            void fail_size() {
+                // when & then
+                assertThatThrownBy(() -> resultService.readBySlice(null, 101))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_SIZE);
 
-                then(resultRepository).should(times(1)).findByNumbersContaining(number);
+                then(resultRepository).shouldHaveNoInteractions();
             }
+
         }
 
         @Nested
@@ -195,20 +309,16 @@ public class ResultServiceUnitTest {
                 // given
                 LocalDate startDate = LocalDate.parse("2024-03-01");
                 LocalDate endDate = LocalDate.parse("2024-03-31");
-
-                List<Result> resultList = Arrays.asList(result);
-
-                given(resultRepository.findByDateBetween(startDate, endDate)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when
                 List<ResultDTO> resultDTOList = resultService.readByDate(startDate, endDate);
 
                 // then
                 assertThat(resultDTOList)
-                        .isNotEmpty();
-
-                then(resultRepository).should(times(1)).findByDateBetween(startDate, endDate);
+                        .containsExactly(result.toDTO());
 
+                then(resultRepository).shouldHaveNoInteractions();
             }
 
             @Test
@@ -217,17 +327,140 @@ public class ResultServiceUnitTest {
                 // given
                 LocalDate startDate = LocalDate.parse("1000-01-01");
                 LocalDate endDate = LocalDate.parse("1000-01-02");
-
-                List<Result> resultList = new ArrayList<>();
-
-                given(resultRepository.findByDateBetween(startDate, endDate)).willReturn(resultList);
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
 
                 // when & then
                 assertThatThrownBy(() -> resultService.readByDate(startDate, endDate))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INCORRECT_RESULT_DATE);
+            }
+        }
+
+        @Nested
+        @DisplayName("search 테스트")
+        class Test_Search {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
+
+                // when
+                ResultSearchDTO resultSearchDTO = resultService.search("3 and 45 and not b5", 1100, null,
+                        LocalDate.parse("2024-03-16"), LocalDate.parse("2024-03-16"));
+
+                // then
+                assertThat(resultSearchDTO.getCount()).isEqualTo(1);
+                assertThat(resultSearchDTO.getResultList()).containsExactly(result.toDTO());
+
+                then(resultRepository).shouldHaveNoInteractions();
+            }
+
+            @Test
+            @DisplayName("성공 - 조건에 맞는 회차가 없으면 빈 목록")
+            void success_empty() {
+                // given
+                given(resultColumnStore.getColumns()).willReturn(ResultColumns.of(Arrays.asList(result)));
+
+                // when
+                ResultSearchDTO resultSearchDTO = resultService.search("3 AND B4 AND NOT 13", null, null, null, null);
+
+                // then
+                assertThat(resultSearchDTO.getCount()).isZero();
+                assertThat(resultSearchDTO.getResultList()).isEmpty();
+            }
+
+            @Test
+            @DisplayName("실패 - 검색식 오류")
+            void fail_query() {
+                // when & then
+                assertThatThrownBy(() -> resultService.search("3 AND (46", null, null, null, null))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_QUERY);
+
+                then(resultColumnStore).shouldHaveNoInteractions();
+            }
+
+            @Test
+            @DisplayName("실패 - 구간 오류")
+            void fail_range() {
+                // when & then
+                assertThatThrownBy(() -> resultService.search("3", 10, 1, null, null))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_RANGE);
+            }
+        }
+
+        @Nested
+        @DisplayName("readByMatch 테스트")
+        class Test_ReadByMatch {
+
+            private ResultColumns resultColumns;
+
+            @BeforeEach
+            @DisplayName("데이터 설정")
+            void setUp() {
+                resultColumns = ResultColumns.of(Arrays.asList(
+                        result,
+                        Result.builder().round(1).numbers(Arrays.asList(3, 13, 30, 1, 2, 5)).bonusNumber(33).build(),
+                        Result.builder().round(2).numbers(Arrays.asList(3, 13, 30, 33, 1, 2)).bonusNumber(43).build(),
+                        Result.builder().round(3).numbers(Arrays.asList(1, 2, 4, 5, 6, 7)).bonusNumber(3).build()));
+            }
+
+            @Test
+            @DisplayName("성공 - 일치 개수 내림차순")
+            void success() {
+                // given
+                given(resultColumnStore.getColumns()).willReturn(resultColumns);
+
+                // when
+                List<ResultMatchDTO> resultMatchDTOList = resultService.readByMatch(
+                        Arrays.asList(45, 43, 33, 30, 13, 3), 3, false);
+
+                // then
+                assertThat(resultMatchDTOList).extracting("round").containsExactly(1111, 2, 1);
+                assertThat(resultMatchDTOList).extracting("matchCount").containsExactly(6, 4, 3);
+                assertThat(resultMatchDTOList).extracting("bonusMatch").containsExactly(false, true, true);
+                assertThat(resultMatchDTOList.get(0).getNumbers()).containsExactly(3, 13, 30, 33, 43, 45);
+
+                then(resultRepository).shouldHaveNoInteractions();
+            }
+
+            @Test
+            @DisplayName("성공 - 보너스 번호 포함")
+            void success_bonus() {
+                // given
+                given(resultColumnStore.getColumns()).willReturn(resultColumns);
+
+                // when
+                List<ResultMatchDTO> resultMatchDTOList = resultService.readByMatch(
+                        Arrays.asList(3, 13, 30, 33, 43, 45), 4, true);
+
+                // then
+                // 2회차는 4개 + 보너스, 1회차는 3개 + 보너스
+                assertThat(resultMatchDTOList).extracting("round").containsExactly(1111, 2, 1);
+                assertThat(resultMatchDTOList).extracting("matchCount").containsExactly(6, 4, 3);
+            }
+
+            @Test
+            @DisplayName("실패 - 일치 개수 오류")
+            void fail_minMatch() {
+                // when & then
+                assertThatThrownBy(() -> resultService.readByMatch(Arrays.asList(3, 13, 30, 33, 43, 45), 7, false))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_MATCH_COUNT);
+            }
+
+            @Test
+            @DisplayName("실패 - 번호 오류")
+            void fail_numbers() {
+                // when & then
+                assertThatThrownBy(() -> resultService.readByMatch(Arrays.asList(3, 3, 30, 33, 43, 45), 3, false))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TICKET);
 
-                then(resultRepository).should(times(1)).findByDateBetween(startDate, endDate);
+                then(resultColumnStore).shouldHaveNoInteractions();
             }
         }
 
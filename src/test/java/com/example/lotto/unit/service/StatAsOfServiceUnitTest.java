@@ -0,0 +1,265 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.StatCheckpoint;
+import com.example.lotto.domain.dto.ResultDTO;
+import com.example.lotto.domain.dto.StatWindowDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.repository.StatCheckpointRepository;
+import com.example.lotto.service.StatAsOfService;
+import com.example.lotto.utils.TicketMask;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatAsOfServiceUnitTest {
+
+    @Mock
+    private StatCheckpointRepository statCheckpointRepository;
+
+    @Mock
+    private ResultRepository resultRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private StatAsOfService statAsOfService;
+
+    private StatCheckpoint checkpoint;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        // 0번 블록: 1, 3회차만 있음 (2회차 없음)
+        long[] masks = new long[StatCheckpoint.BLOCK_SIZE];
+        masks[0] = TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6), 7);
+        masks[2] = TicketMask.of(Arrays.asList(1, 2, 3, 10, 11, 12), 45);
+
+        checkpoint = StatCheckpoint.builder()
+                .blockIndex(0)
+                .fromRound(1)
+                .firstRound(1)
+                .roundCount(0)
+                .counts(new int[46])
+                .bonusCounts(new int[46])
+                .masks(masks)
+                .build();
+    }
+
+    private static Result result(int round, List<Integer> numbers, int bonusNumber) {
+        return Result.builder().round(round).numbers(numbers).bonusNumber(bonusNumber).build();
+    }
+
+    @Nested
+    @DisplayName("readAsOf 테스트")
+    class Test_ReadAsOf {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+
+            // when
+            StatWindowDTO first = statAsOfService.readAsOf(1);
+            StatWindowDTO third = statAsOfService.readAsOf(3);
+
+            // then
+            assertThat(first.getRoundCount()).isEqualTo(1);
+            assertThat(first.getStatLottoList()).extracting("number").containsExactly(1, 2, 3, 4, 5, 6, 7);
+
+            assertThat(third.getFromRound()).isEqualTo(1);
+            assertThat(third.getToRound()).isEqualTo(3);
+            assertThat(third.getRoundCount()).isEqualTo(2);
+            assertThat(third.getStatLottoList().get(0).getCount()).isEqualTo(2);
+            assertThat(third.getStatLottoList()).filteredOn("number", 45)
+                    .extracting("bonusProbability").containsExactly(50.0);
+
+            // 블록의 누적 횟수는 바뀌지 않음
+            assertThat(checkpoint.getCounts()[1]).isZero();
+        }
+
+        @Test
+        @DisplayName("성공(처음 조회시 생성)")
+        void success_build() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(null, checkpoint);
+            given(statCheckpointRepository.count()).willReturn(0L);
+            given(resultRepository.findByRoundGreaterThanEqual(1)).willReturn(Arrays.asList(
+                    result(3, Arrays.asList(1, 2, 3, 10, 11, 12), 45),
+                    result(1, Arrays.asList(1, 2, 3, 4, 5, 6), 7)));
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatCheckpoint.class)).willReturn(bulkOperations);
+
+            // when
+            StatWindowDTO statWindowDTO = statAsOfService.readAsOf(3);
+
+            // then
+            assertThat(statWindowDTO.getRoundCount()).isEqualTo(2);
+            then(bulkOperations).should(times(1)).upsert(any(Query.class), any(Update.class));
+            then(bulkOperations).should(times(1)).execute();
+        }
+
+        @Test
+        @DisplayName("실패(없는 회차)")
+        void fail() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+
+            // when & then
+            assertThatThrownBy(() -> statAsOfService.readAsOf(2))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT_ROUND);
+        }
+
+        @Test
+        @DisplayName("실패(회차 범위)")
+        void fail_round() {
+            // when & then
+            assertThatThrownBy(() -> statAsOfService.readAsOf(0))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ROUND_RANGE);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("rebuildFrom 테스트")
+    class Test_RebuildFrom {
+
+        @Test
+        @DisplayName("성공(앞 블록은 그대로 두고 이어서 생성)")
+        void success() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+            given(resultRepository.findByRoundGreaterThanEqual(65)).willReturn(Arrays.asList(
+                    result(65, Arrays.asList(1, 20, 21, 22, 23, 24), 7),
+                    result(130, Arrays.asList(1, 30, 31, 32, 33, 34), 7)));
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatCheckpoint.class)).willReturn(bulkOperations);
+
+            // when
+            int blockCount = statAsOfService.rebuildFrom(100);
+
+            // then
+            assertThat(blockCount).isEqualTo(2);
+
+            ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+            then(bulkOperations).should(times(2)).upsert(any(Query.class), captor.capture());
+            then(bulkOperations).should(times(1)).execute();
+            then(statCheckpointRepository).should(times(1)).deleteByBlockIndexGreaterThan(2);
+
+            Document block1 = (Document) captor.getAllValues().get(0).getUpdateObject().get("$set");
+            assertThat(block1.get("fromRound")).isEqualTo(65);
+            assertThat(block1.get("roundCount")).isEqualTo(2);
+            assertThat(((int[]) block1.get("counts"))[1]).isEqualTo(2);
+            assertThat(((long[]) block1.get("masks"))[0]).isNotZero();
+
+            Document block2 = (Document) captor.getAllValues().get(1).getUpdateObject().get("$set");
+            assertThat(block2.get("roundCount")).isEqualTo(3);
+            assertThat(((int[]) block2.get("counts"))[1]).isEqualTo(3);
+            assertThat(((int[]) block2.get("bonusCounts"))[7]).isEqualTo(2);
+            assertThat(((long[]) block2.get("masks"))[130 - 129]).isNotZero();
+        }
+
+        @Test
+        @DisplayName("성공(마지막 회차 삭제)")
+        void success_delete() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+            given(resultRepository.findByRoundGreaterThanEqual(65)).willReturn(List.of());
+
+            // when
+            statAsOfService.onResultChange(ResultChangeEvent.deleted(ResultDTO.builder().round(65).build()));
+
+            // then
+            then(bulkOperations).should(times(0)).execute();
+            then(statCheckpointRepository).should(times(1)).deleteByBlockIndexGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("성공(실패한 블록을 지우고 다음 변경 때 실패한 회차부터 다시 만듦)")
+        void success_retry() {
+            // given
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+            given(resultRepository.findByRoundGreaterThanEqual(65))
+                    .willThrow(new RuntimeException("mongo down"))
+                    .willReturn(List.of(result(65, Arrays.asList(1, 20, 21, 22, 23, 24), 7)));
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatCheckpoint.class)).willReturn(bulkOperations);
+
+            // when
+            statAsOfService.onResultChange(ResultChangeEvent.inserted(List.of(ResultDTO.builder().round(65).build())));
+            // 두 번째 변경은 뒤 블록이지만 실패한 65 회차부터 다시 만듦
+            statAsOfService.onResultChange(ResultChangeEvent.inserted(List.of(ResultDTO.builder().round(200).build())));
+
+            // then
+            then(resultRepository).should(times(2)).findByRoundGreaterThanEqual(65);
+            then(resultRepository).should(times(0)).findByRoundGreaterThanEqual(193);
+            // 실패했을 때 1번 블록부터 지우고, 성공했을 때 마지막 블록 뒤를 지움
+            then(statCheckpointRepository).should(times(1)).deleteByBlockIndexGreaterThan(0);
+            then(statCheckpointRepository).should(times(1)).deleteByBlockIndexGreaterThan(1);
+            then(bulkOperations).should(times(1)).execute();
+        }
+
+        @Test
+        @DisplayName("성공(실패한 회차 이후를 조회하면 먼저 다시 만듦)")
+        void success_retryOnRead() {
+            // given
+            long[] masks = new long[StatCheckpoint.BLOCK_SIZE];
+            masks[70 - 65] = TicketMask.of(Arrays.asList(1, 20, 21, 22, 23, 24), 7);
+            StatCheckpoint block1 = StatCheckpoint.builder()
+                    .blockIndex(1)
+                    .fromRound(65)
+                    .firstRound(1)
+                    .roundCount(2)
+                    .counts(new int[46])
+                    .bonusCounts(new int[46])
+                    .masks(masks)
+                    .build();
+
+            given(statCheckpointRepository.findByBlockIndex(0)).willReturn(checkpoint);
+            given(statCheckpointRepository.findByBlockIndex(1)).willReturn(block1);
+            given(resultRepository.findByRoundGreaterThanEqual(65))
+                    .willThrow(new RuntimeException("mongo down"))
+                    .willReturn(List.of(result(70, Arrays.asList(1, 20, 21, 22, 23, 24), 7)));
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatCheckpoint.class)).willReturn(bulkOperations);
+            statAsOfService.onResultChange(ResultChangeEvent.inserted(List.of(ResultDTO.builder().round(70).build())));
+
+            // when
+            // 앞 블록 조회는 다시 만들지 않음
+            statAsOfService.readAsOf(3);
+            StatWindowDTO statWindowDTO = statAsOfService.readAsOf(70);
+
+            // then
+            assertThat(statWindowDTO.getRoundCount()).isEqualTo(3);
+            then(resultRepository).should(times(2)).findByRoundGreaterThanEqual(65);
+            then(bulkOperations).should(times(1)).execute();
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.NumberGapDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.service.StatGapService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class StatGapServiceUnitTest {
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @InjectMocks
+    private StatGapService statGapService;
+
+    private ResultHistory history;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        history = ResultHistory.of(
+                Arrays.asList(
+                        Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                        Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 10, 11, 12)).bonusNumber(7).build(),
+                        Result.builder().round(5).numbers(Arrays.asList(1, 20, 21, 22, 23, 24)).bonusNumber(45).build()),
+                List.of());
+    }
+
+    @Nested
+    @DisplayName("read 테스트")
+    class Test_Read {
+
+        @Test
+        @DisplayName("성공(readByNumber)")
+        void success_number() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            NumberGapDTO numberGapDTO = statGapService.readByNumber(2);
+
+            // then
+            assertThat(numberGapDTO.getNumber()).isEqualTo(2);
+            assertThat(numberGapDTO.getAppearanceCount()).isEqualTo(2);
+            assertThat(numberGapDTO.getLastSeenRound()).isEqualTo(2);
+            assertThat(numberGapDTO.getCurrentGap()).isEqualTo(3);
+            assertThat(numberGapDTO.getMaxGap()).isEqualTo(1);
+            assertThat(numberGapDTO.getMeanGap()).isEqualTo(1.0);
+            assertThat(numberGapDTO.getGapHistogram().get(0)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공(readAll / readOverdue 는 같은 목록 재사용)")
+        void success_all() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            List<NumberGapDTO> numberGapDTOList = statGapService.readAll();
+            List<NumberGapDTO> overdueList = statGapService.readOverdue(3);
+
+            // then
+            assertThat(numberGapDTOList).hasSize(45);
+            assertThat(numberGapDTOList).extracting("number").startsWith(1, 2, 3);
+            assertThat(statGapService.readAll()).isSameAs(numberGapDTOList);
+
+            // 한 번도 안 나온 번호는 현재 간격 5
+            assertThat(overdueList).extracting("number").containsExactly(7, 8, 9);
+            assertThat(overdueList).extracting("currentGap").containsOnly(5);
+        }
+
+        @Test
+        @DisplayName("실패(번호 범위)")
+        void fail_number() {
+            // when & then
+            assertThatThrownBy(() -> statGapService.readByNumber(0))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_STAT_NUMBER);
+        }
+
+        @Test
+        @DisplayName("실패(개수 범위)")
+        void fail_size() {
+            // when & then
+            assertThatThrownBy(() -> statGapService.readOverdue(46))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOP_SIZE);
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail_empty() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> statGapService.readAll())
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+}
@@ -1,9 +1,14 @@
 package com.example.lotto.unit.service;
 
 import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.dto.ResultDTO;
 import com.example.lotto.domain.dto.StatLottoDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.ResultChangeEvent;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.history.StatLottoSnapshot;
 import com.example.lotto.repository.StatLottoRepository;
 import com.example.lotto.service.StatLottoService;
 import org.bson.Document;
@@ -12,20 +17,27 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.*;
 
@@ -38,6 +50,15 @@ public class StatLottoServiceUnitTest {
     @Mock
     private StatLottoRepository statLottoRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private StatLottoReadModel statLottoReadModel;
+
     @InjectMocks
     private StatLottoService statLottoService;
 
@@ -69,33 +90,193 @@ public class StatLottoServiceUnitTest {
         @DisplayName("성공")
         void success() {
             // given
-            List<StatLotto> statLottoList = Arrays.asList(statLotto);
-            AggregationResults<StatLotto> results = new AggregationResults<>(statLottoList, new Document());
-
-            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(StatLotto.class))).willReturn(results);
+            // $facet 결과: 일반 번호 빈도와 보너스 번호 빈도가 한 문서에 같이 옴
+            Document facet = new Document()
+                    .append("numberCounts", Arrays.asList(
+                            new Document("_id", 2).append("count", 1),
+                            new Document("_id", 1).append("count", 3)))
+                    .append("bonusCounts", Arrays.asList(
+                            new Document("_id", 1).append("count", 1),
+                            new Document("_id", 3).append("count", 1)));
+            AggregationResults<Document> results = new AggregationResults<>(Arrays.asList(facet), new Document());
+
+            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(Document.class))).willReturn(results);
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
             // when
             List<StatLottoDTO> calcStatLottoList = statLottoService.calcStatLotto();
 
             // then
             assertThat(calcStatLottoList).isNotNull();
-            assertThat(calcStatLottoList).hasSize(statLottoList.size());
-            assertThat(calcStatLottoList.get(0).getNumber()).isEqualTo(statLottoList.get(0).getNumber());
-            assertThat(calcStatLottoList.get(0).getCount()).isEqualTo(statLottoList.get(0).getCount());
-            assertThat(calcStatLottoList.get(0).getProbability()).isEqualTo(statLottoList.get(0).getProbability());
-            assertThat(calcStatLottoList.get(0).getBonusCount()).isEqualTo(statLottoList.get(0).getBonusCount());
-            assertThat(calcStatLottoList.get(0).getBonusProbability()).isEqualTo(statLottoList.get(0).getBonusProbability());
+            assertThat(calcStatLottoList).hasSize(3);
+            assertThat(calcStatLottoList).extracting("number").containsExactly(1, 2, 3);
+            assertThat(calcStatLottoList).extracting("count").containsExactly(3, 1, 0);
+            assertThat(calcStatLottoList).extracting("probability").containsExactly(75.0, 25.0, 0.0);
+            assertThat(calcStatLottoList).extracting("bonusCount").containsExactly(1, 0, 1);
+            assertThat(calcStatLottoList).extracting("bonusProbability").containsExactly(50.0, 0.0, 50.0);
+
+            // $lookup 없이 result 집계는 한 번만 실행
+            then(mongoTemplate).should(times(1)).aggregate(any(Aggregation.class), eq("result"), eq(Document.class));
+
+            // 번호별 insert 대신 upsert 를 모아 한 번만 실행
+            then(bulkOperations).should(times(3)).upsert(any(Query.class), any(Update.class));
+            then(bulkOperations).should(times(1)).execute();
+            then(mongoTemplate).should(times(0)).insert(any(Object.class), anyString());
+            then(eventPublisher).should(times(1)).publishEvent(any(StatLottoUpdateEvent.class));
         }
 
         @Test
         @DisplayName("실패")
         void fail() {
             // given
-            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(StatLotto.class))).willThrow(DataAccessResourceFailureException.class);
+            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(Document.class))).willThrow(DataAccessResourceFailureException.class);
 
             // when & then
             assertThatThrownBy(() -> statLottoService.calcStatLotto())
                     .isInstanceOf(DataAccessResourceFailureException.class);
 
+            then(eventPublisher).should(times(0)).publishEvent(any());
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("증분 갱신 테스트")
+    class Test_OnResultChange {
+
+        private ResultDTO resultDTO;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            resultDTO = ResultDTO.builder()
+                    .round(1111)
+                    .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                    .bonusNumber(7)
+                    .date(LocalDate.parse("2024-03-16"))
+                    .build();
+        }
+
+        // 1회차 (1 ~ 6, 보너스 7) 만 집계된 45개 번호 통계
+        private List<StatLotto> statLottoList(int round) {
+            List<StatLotto> statLottoList = new ArrayList<>();
+            for (int n = 45; n >= 1; n--) {
+                statLottoList.add(StatLotto.builder()
+                        .number(n)
+                        .count(n <= 6 ? round : 0)
+                        .bonusCount(n == 7 ? round : 0)
+                        .build());
+            }
+            return statLottoList;
+        }
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
+            // result 에는 이미 2회차까지 반영됨
+            given(mongoTemplate.count(any(Query.class), eq("result"))).willReturn(2L);
+            given(statLottoRepository.findAll()).willReturn(statLottoList(1)).willReturn(statLottoList(2));
+
+            // when
+            statLottoService.onResultChange(ResultChangeEvent.inserted(List.of(resultDTO)));
+
+            // then
+            // 번호 7개만 $inc, 확률은 45개 모두 다시 계산
+            then(bulkOperations).should(times(7)).upsert(any(Query.class), any(Update.class));
+            then(bulkOperations).should(times(45)).updateOne(any(Query.class), any(Update.class));
+            then(bulkOperations).should(times(2)).execute();
+            then(mongoTemplate).should(times(0)).aggregate(any(Aggregation.class), anyString(), eq(Document.class));
+
+            ArgumentCaptor<StatLottoUpdateEvent> captor = ArgumentCaptor.forClass(StatLottoUpdateEvent.class);
+            then(eventPublisher).should(times(1)).publishEvent(captor.capture());
+
+            List<StatLottoDTO> statLottoDTOList = captor.getValue().getStatLottoDTOList();
+            assertThat(statLottoDTOList).hasSize(45);
+            assertThat(statLottoDTOList.get(0).getNumber()).isEqualTo(1);
+            assertThat(statLottoDTOList.get(0).getProbability()).isCloseTo(100.0 / 6, within(1e-9));
+            assertThat(statLottoDTOList.get(6).getBonusProbability()).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("성공(통계가 불완전하면 전체 집계)")
+        void success_incomplete() {
+            // given
+            // calcStatLotto 를 한 번도 하지 않아 stat_lotto 가 비어 있음
+            Document facet = new Document()
+                    .append("numberCounts", Arrays.asList(new Document("_id", 1).append("count", 2)))
+                    .append("bonusCounts", Arrays.asList(new Document("_id", 7).append("count", 2)));
+            AggregationResults<Document> results = new AggregationResults<>(Arrays.asList(facet), new Document());
+
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
+            given(mongoTemplate.count(any(Query.class), eq("result"))).willReturn(2L);
+            given(statLottoRepository.findAll()).willReturn(List.of());
+            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(Document.class))).willReturn(results);
+
+            // when
+            statLottoService.onResultChange(ResultChangeEvent.inserted(List.of(resultDTO)));
+
+            // then
+            // $inc 는 실행하지 않고 전체 집계 결과만 반영
+            then(mongoTemplate).should(times(1)).aggregate(any(Aggregation.class), eq("result"), eq(Document.class));
+            then(bulkOperations).should(times(1)).execute();
+            then(bulkOperations).should(times(0)).updateOne(any(Query.class), any(Update.class));
+            then(eventPublisher).should(times(1)).publishEvent(any(StatLottoUpdateEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공(회차 합계가 맞지 않으면 전체 집계)")
+        void success_mismatch() {
+            // given
+            AggregationResults<Document> results = new AggregationResults<>(List.of(new Document()), new Document());
+
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
+            // stat_lotto 는 1회차 기준인데 result 에는 이미 10회차가 있음
+            given(mongoTemplate.count(any(Query.class), eq("result"))).willReturn(10L);
+            given(statLottoRepository.findAll()).willReturn(statLottoList(1));
+            given(mongoTemplate.aggregate(any(Aggregation.class), eq("result"), eq(Document.class))).willReturn(results);
+
+            // when
+            statLottoService.onResultChange(ResultChangeEvent.inserted(List.of(resultDTO)));
+
+            // then
+            then(mongoTemplate).should(times(1)).aggregate(any(Aggregation.class), eq("result"), eq(Document.class));
+            then(bulkOperations).should(times(0)).updateOne(any(Query.class), any(Update.class));
+        }
+
+        @Test
+        @DisplayName("성공(범위를 벗어난 번호는 무시)")
+        void success_outOfRange() {
+            // given
+            ResultDTO invalidDTO = ResultDTO.builder()
+                    .round(1112)
+                    .numbers(Arrays.asList(0, 46, -1, 4, 5, 6))
+                    .bonusNumber(46)
+                    .build();
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
+
+            // when
+            statLottoService.onResultChange(ResultChangeEvent.inserted(List.of(invalidDTO)));
+
+            // then
+            // 4, 5, 6 만 $inc
+            then(bulkOperations).should(times(3)).upsert(any(Query.class), any(Update.class));
+        }
+
+        @Test
+        @DisplayName("성공(번호 변경 없음)")
+        void success_unchanged() {
+            // given
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatLotto.class)).willReturn(bulkOperations);
+
+            // when
+            statLottoService.onResultChange(ResultChangeEvent.updated(resultDTO, resultDTO));
+
+            // then
+            then(bulkOperations).should(times(0)).execute();
+            then(statLottoRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
         }
 
     }
@@ -104,6 +285,14 @@ public class StatLottoServiceUnitTest {
     @DisplayName("read 테스트")
     class Test_Read {
 
+        private StatLottoSnapshot snapshot;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            snapshot = new StatLottoSnapshot(Arrays.asList(statLotto.toDTO()), "[]".getBytes());
+        }
+
         @Nested
         @DisplayName("readByNumber 테스트")
         class Test_ReadByNumber {
@@ -113,8 +302,7 @@ public class StatLottoServiceUnitTest {
             void success() {
                 // given
                 Integer number = 1;
-                given(statLottoRepository.existsByNumber(number)).willReturn(true);
-                given(statLottoRepository.findByNumber(number)).willReturn(statLotto);
+                given(statLottoReadModel.getSnapshot()).willReturn(snapshot);
 
                 // when
                 StatLottoDTO statLottoDTO = statLottoService.readByNumber(number);
@@ -123,24 +311,21 @@ public class StatLottoServiceUnitTest {
                 assertThat(statLottoDTO.getNumber())
                         .isEqualTo(number);
 
-                then(statLottoRepository).should(times(1)).existsByNumber(number);
-                then(statLottoRepository).should(times(1)).findByNumber(number);
+                // DB 조회 없음
+                then(statLottoRepository).shouldHaveNoInteractions();
             }
 
             @Test
             @DisplayName("실패")
             void fail() {
                 // given
-                Integer number = 1;
-                given(statLottoRepository.existsByNumber(number)).willReturn(false);
+                Integer number = 2;
+                given(statLottoReadModel.getSnapshot()).willReturn(snapshot);
 
                 // when & then
                 assertThatThrownBy(() -> statLottoService.readByNumber(number))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_STAT_LOTTO);
-
-                then(statLottoRepository).should(times(1)).existsByNumber(number);
-                then(statLottoRepository).should(times(0)).findByNumber(number);
             }
 
         }
@@ -153,9 +338,7 @@ public class StatLottoServiceUnitTest {
             void success() {
                 // given
                 List<Integer> numberList = Arrays.asList(1, 2, 3);
-                List<StatLotto> statLottoList = Arrays.asList(statLotto);
-
-                given(statLottoRepository.findByNumberIn(numberList)).willReturn(statLottoList);
+                given(statLottoReadModel.getSnapshot()).willReturn(snapshot);
 
                 // when
                 List<StatLottoDTO> statLottoDTOList = statLottoService.readByNumberList(numberList);
@@ -163,26 +346,23 @@ public class StatLottoServiceUnitTest {
                 // then
                 assertThat(statLottoDTOList)
                         .isNotEmpty();
+                assertThat(statLottoDTOList).extracting("number").containsExactly(1);
 
-                then(statLottoRepository).should(times(1)).findByNumberIn(numberList);
+                then(statLottoRepository).shouldHaveNoInteractions();
             }
 
             @Test
             @DisplayName("실패")
             void fail() {
                 // given
-                List<Integer> numberList = Arrays.asList(1, 2, 3);
-                List<StatLotto> statLottoList = new ArrayList<>();
-
-                given(statLottoRepository.findByNumberIn(numberList)).willReturn(statLottoList);
+                List<Integer> numberList = Arrays.asList(2, 3);
+                given(statLottoReadModel.getSnapshot()).willReturn(snapshot);
 
                 // when & then
                 assertThatThrownBy(() -> statLottoService.readByNumberList(numberList))
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_STAT_LOTTO);
 
-                then(statLottoRepository).should(times(1)).findByNumberIn(numberList);
-
             }
         }
 
@@ -193,35 +373,33 @@ public class StatLottoServiceUnitTest {
             @DisplayName("성공")
             void success() {
                 // given
-                List<StatLotto> statLottoList = Arrays.asList(statLotto);
-
-                given(statLottoRepository.findAll()).willReturn(statLottoList);
+                given(statLottoReadModel.getSnapshot()).willReturn(snapshot);
 
                 // when
                 List<StatLottoDTO> statLottoDTOList = statLottoService.readAll();
+                byte[] statLottoJson = statLottoService.readAllJson();
 
                 // then
                 assertThat(statLottoDTOList)
                         .isNotEmpty();
+                assertThat(statLottoJson).isSameAs(snapshot.getJson());
 
-
-                then(statLottoRepository).should(times(1)).findAll();
+                then(statLottoRepository).shouldHaveNoInteractions();
             }
 
             @Test
             @DisplayName("실패")
             void fail() {
                 // given
-                List<StatLotto> statLottoList = new ArrayList<>();
-
-                given(statLottoRepository.findAll()).willReturn(statLottoList);
+                given(statLottoReadModel.getSnapshot()).willReturn(StatLottoSnapshot.EMPTY);
 
                 // when & then
                 assertThatThrownBy(() -> statLottoService.readAll())
                         .isInstanceOf(CustomException.class)
                         .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_STAT_LOTTO_LIST);
-
-                then(statLottoRepository).should(times(1)).findAll();
+                assertThatThrownBy(() -> statLottoService.readAllJson())
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_STAT_LOTTO_LIST);
 
             }
         }
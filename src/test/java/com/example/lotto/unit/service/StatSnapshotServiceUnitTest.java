@@ -0,0 +1,215 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.configuration.SnapshotProperties;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.event.WinningReportChangeEvent;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.history.StatLottoReadModel;
+import com.example.lotto.history.StatLottoSnapshot;
+import com.example.lotto.history.StatSnapshotFile;
+import com.example.lotto.repository.ResultRepository;
+import com.example.lotto.service.CoOccurrenceService;
+import com.example.lotto.service.StatGapService;
+import com.example.lotto.service.StatSnapshotService;
+import com.example.lotto.service.StatWindowService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatSnapshotServiceUnitTest {
+
+    @Mock
+    private ResultRepository resultRepository;
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @Mock
+    private StatLottoReadModel statLottoReadModel;
+
+    @Mock
+    private StatWindowService statWindowService;
+
+    @Mock
+    private StatGapService statGapService;
+
+    @Mock
+    private CoOccurrenceService coOccurrenceService;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path snapshotPath;
+
+    private StatSnapshotService statSnapshotService;
+
+    private ResultHistory history;
+
+    private List<StatLottoDTO> statLottoDTOList;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        snapshotPath = tempDir.resolve("stat-snapshot.bin");
+        SnapshotProperties snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setPath(snapshotPath.toString());
+
+        statSnapshotService = new StatSnapshotService(resultRepository, resultHistoryStore, statLottoReadModel,
+                statWindowService, statGapService, coOccurrenceService, snapshotProperties);
+
+        history = ResultHistory.of(
+                Arrays.asList(
+                        Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                        Result.builder().round(2).numbers(Arrays.asList(10, 20, 30, 40, 41, 45)).bonusNumber(11).build()),
+                new ArrayList<>());
+
+        int[] count = new int[46];
+        count[1] = 3;
+        statLottoDTOList = StatLottoDTO.listOf(count, new int[46]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statSnapshotService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("warmStart 테스트")
+    class Test_WarmStart {
+
+        @Test
+        @DisplayName("성공(마지막 회차가 같으면 파일 사용)")
+        void success() throws IOException {
+            // given
+            StatSnapshotFile.write(snapshotPath, history, statLottoDTOList, 1L);
+            given(resultHistoryStore.getGeneration()).willReturn(3L);
+            given(resultRepository.findFirstByOrderByRoundDesc()).willReturn(Result.builder().round(2).build());
+            given(resultHistoryStore.preload(any(ResultHistory.class), eq(3L))).willReturn(true);
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            boolean warm = statSnapshotService.warmStart();
+
+            // then
+            assertThat(warm).isTrue();
+
+            ArgumentCaptor<ResultHistory> captor = ArgumentCaptor.forClass(ResultHistory.class);
+            then(resultHistoryStore).should(times(1)).preload(captor.capture(), eq(3L));
+            assertThat(captor.getValue().startsWith(history)).isTrue();
+            assertThat(captor.getValue().size()).isEqualTo(2);
+            then(statLottoReadModel).should(times(1)).preload(statLottoDTOList);
+
+            then(statWindowService).should(times(1)).getPrefixCount();
+            then(statGapService).should(times(1)).readAll();
+            then(coOccurrenceService).should(times(1)).getCoOccurrence();
+        }
+
+        @Test
+        @DisplayName("실패(오래된 파일)")
+        void fail_stale() throws IOException {
+            // given
+            StatSnapshotFile.write(snapshotPath, history, statLottoDTOList, 1L);
+            given(resultRepository.findFirstByOrderByRoundDesc()).willReturn(Result.builder().round(3).build());
+
+            // when
+            boolean warm = statSnapshotService.warmStart();
+
+            // then
+            assertThat(warm).isFalse();
+            then(resultHistoryStore).should(never()).preload(any(), anyLong());
+            then(statLottoReadModel).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패(파일 없음)")
+        void fail_missing() {
+            // when
+            boolean warm = statSnapshotService.warmStart();
+
+            // then
+            assertThat(warm).isFalse();
+            then(resultRepository).shouldHaveNoInteractions();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("refresh 테스트")
+    class Test_Refresh {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws IOException {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            given(statLottoReadModel.getSnapshot()).willReturn(new StatLottoSnapshot(statLottoDTOList, new byte[0]));
+
+            // when
+            statSnapshotService.refresh();
+
+            // then
+            StatSnapshotFile snapshotFile = StatSnapshotFile.open(snapshotPath);
+            assertThat(snapshotFile.getLatestRound()).isEqualTo(2);
+            assertThat(snapshotFile.toStatLottoList()).isEqualTo(statLottoDTOList);
+            then(coOccurrenceService).should(times(1)).getCoOccurrence();
+        }
+
+        @Test
+        @DisplayName("성공(결과가 없으면 쓰지 않음)")
+        void success_empty() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when
+            statSnapshotService.refresh();
+
+            // then
+            assertThat(Files.exists(snapshotPath)).isFalse();
+            then(statLottoReadModel).shouldHaveNoInteractions();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("onWinningReportChange 테스트")
+    class Test_OnWinningReportChange {
+
+        @Test
+        @DisplayName("성공(스냅샷 파일을 다시 씀)")
+        void success() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            given(statLottoReadModel.getSnapshot()).willReturn(new StatLottoSnapshot(statLottoDTOList, new byte[0]));
+
+            // when
+            statSnapshotService.onWinningReportChange(new WinningReportChangeEvent(List.of(2)));
+
+            // then
+            // 백그라운드 스레드에서 다시 씀
+            then(coOccurrenceService).should(timeout(1000)).getCoOccurrence();
+            then(statLottoReadModel).should(timeout(1000)).getSnapshot();
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.dto.StatWindowDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.PrefixCount;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.service.StatWindowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class StatWindowServiceUnitTest {
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @InjectMocks
+    private StatWindowService statWindowService;
+
+    private List<Result> resultList;
+    private ResultHistory history;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        // 2회차는 없음
+        resultList = new ArrayList<>(Arrays.asList(
+                Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                Result.builder().round(3).numbers(Arrays.asList(1, 2, 3, 10, 11, 12)).bonusNumber(7).build(),
+                Result.builder().round(4).numbers(Arrays.asList(1, 20, 21, 22, 23, 24)).bonusNumber(45).build()));
+        history = ResultHistory.of(resultList, List.of());
+    }
+
+    @Nested
+    @DisplayName("readWindow 테스트")
+    class Test_ReadWindow {
+
+        @Test
+        @DisplayName("성공(fromRound / toRound)")
+        void success_range() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            StatWindowDTO statWindowDTO = statWindowService.readWindow(2, 4, null);
+
+            // then
+            assertThat(statWindowDTO.getFromRound()).isEqualTo(3);
+            assertThat(statWindowDTO.getToRound()).isEqualTo(4);
+            assertThat(statWindowDTO.getRoundCount()).isEqualTo(2);
+            assertThat(statWindowDTO.getStatLottoList()).hasSize(13);
+            assertThat(statWindowDTO.getStatLottoList().get(0).getNumber()).isEqualTo(1);
+            assertThat(statWindowDTO.getStatLottoList().get(0).getCount()).isEqualTo(2);
+            assertThat(statWindowDTO.getStatLottoList().get(0).getProbability()).isCloseTo(2.0 / 12 * 100, within(1e-9));
+            assertThat(statWindowDTO.getStatLottoList()).filteredOn("number", 7)
+                    .extracting("bonusProbability").containsExactly(50.0);
+        }
+
+        @Test
+        @DisplayName("성공(lastN)")
+        void success_lastN() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            StatWindowDTO statWindowDTO = statWindowService.readWindow(null, null, 1);
+
+            // then
+            assertThat(statWindowDTO.getFromRound()).isEqualTo(4);
+            assertThat(statWindowDTO.getRoundCount()).isEqualTo(1);
+            assertThat(statWindowDTO.getStatLottoList()).extracting("number")
+                    .containsExactly(1, 20, 21, 22, 23, 24, 45);
+        }
+
+        @Test
+        @DisplayName("성공(전체)")
+        void success_all() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            StatWindowDTO statWindowDTO = statWindowService.readWindow(null, null, null);
+
+            // then
+            assertThat(statWindowDTO.getFromRound()).isEqualTo(1);
+            assertThat(statWindowDTO.getToRound()).isEqualTo(4);
+            assertThat(statWindowDTO.getStatLottoList().get(0).getCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공(회차 추가시 표 확장)")
+        void success_extend() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            PrefixCount first = statWindowService.getPrefixCount();
+
+            resultList.add(Result.builder().round(5).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build());
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.of(resultList, List.of()));
+
+            // when
+            StatWindowDTO statWindowDTO = statWindowService.readWindow(null, null, 2);
+
+            // then
+            assertThat(statWindowService.getPrefixCount()).isNotSameAs(first);
+            assertThat(statWindowDTO.getToRound()).isEqualTo(5);
+            assertThat(statWindowDTO.getStatLottoList().get(0).getCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패(lastN 과 회차 구간을 같이 지정)")
+        void fail_both() {
+            // when & then
+            assertThatThrownBy(() -> statWindowService.readWindow(1, null, 10))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ROUND_RANGE);
+        }
+
+        @Test
+        @DisplayName("실패(fromRound > toRound)")
+        void fail_range() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when & then
+            assertThatThrownBy(() -> statWindowService.readWindow(4, 3, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ROUND_RANGE);
+        }
+
+        @Test
+        @DisplayName("실패(구간 안에 회차 없음)")
+        void fail_empty() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when & then
+            assertThatThrownBy(() -> statWindowService.readWindow(2, 2, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT_ROUND);
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.example.lotto.unit.service;
+
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.domain.dto.TicketCheckDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.service.TicketCheckService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketCheckServiceUnitTest {
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @InjectMocks
+    private TicketCheckService ticketCheckService;
+
+    private ResultHistory history;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        List<Rank> rankList = new ArrayList<>();
+        long[] winningAmounts = {2_000_000_000L, 50_000_000L, 1_500_000L, 50_000L, 5_000L};
+        for (int ranking = 1; ranking <= 5; ranking++) {
+            rankList.add(Rank.builder()
+                    .ranking(ranking)
+                    .winningAmount(winningAmounts[ranking - 1])
+                    .build());
+        }
+
+        history = ResultHistory.of(
+                Arrays.asList(
+                        Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                        Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 4, 5, 8)).bonusNumber(9).build(),
+                        Result.builder().round(3).numbers(Arrays.asList(1, 2, 3, 40, 41, 42)).bonusNumber(7).build()),
+                Arrays.asList(
+                        WinningReport.builder().round(1).rankList(rankList).build(),
+                        WinningReport.builder().round(2).rankList(rankList).build()));
+    }
+
+    @Nested
+    @DisplayName("check 테스트")
+    class Test_Check {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            List<List<Integer>> ticketList = Arrays.asList(
+                    Arrays.asList(7, 5, 4, 3, 2, 1),
+                    Arrays.asList(20, 21, 22, 23, 24, 25));
+
+            // when
+            List<TicketCheckDTO> ticketCheckDTOList = ticketCheckService.check(ticketList);
+
+            // then
+            assertThat(ticketCheckDTOList).hasSize(2);
+
+            // 1회차 2등(보너스 7), 2회차 3등, 3회차 5등(당첨 내역 없음)
+            TicketCheckDTO first = ticketCheckDTOList.get(0);
+            assertThat(first.getNumbers()).containsExactly(1, 2, 3, 4, 5, 7);
+            assertThat(first.getWinList()).extracting("round").containsExactly(1, 2, 3);
+            assertThat(first.getWinList()).extracting("ranking").containsExactly(2, 3, 5);
+            assertThat(first.getWinList()).extracting("winningAmount").containsExactly(50_000_000L, 1_500_000L, 0L);
+            assertThat(first.getTotalWinningAmount()).isEqualTo(51_500_000L);
+
+            assertThat(ticketCheckDTOList.get(1).getWinList()).isEmpty();
+            assertThat(ticketCheckDTOList.get(1).getTotalWinningAmount()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패(중복 번호)")
+        void fail_duplicate() {
+            // given
+            List<List<Integer>> ticketList = List.of(Arrays.asList(1, 1, 2, 3, 4, 5));
+
+            // when & then
+            assertThatThrownBy(() -> ticketCheckService.check(ticketList))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TICKET);
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail_emptyHistory() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> ticketCheckService.check(List.of(Arrays.asList(1, 2, 3, 4, 5, 6))))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+}
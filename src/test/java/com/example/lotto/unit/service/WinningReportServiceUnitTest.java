@@ -1,8 +1,10 @@
 package com.example.lotto.unit.service;
 
+import com.example.lotto.configuration.PageProperties;
 import com.example.lotto.domain.Rank;
 import com.example.lotto.domain.WinningReport;
 import com.example.lotto.domain.dto.RankDTO;
+import com.example.lotto.domain.dto.SliceDTO;
 import com.example.lotto.domain.dto.WinningReportDTO;
 import com.example.lotto.error.CustomException;
 import com.example.lotto.error.ErrorCode;
@@ -15,8 +17,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -36,6 +44,12 @@ public class WinningReportServiceUnitTest {
     @Mock
     private WinningReportRepository winningReportRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PageProperties pageProperties = new PageProperties();
+
     @InjectMocks
     private WinningReportService winningReportService;
 
@@ -155,6 +169,79 @@ public class WinningReportServiceUnitTest {
 
         }
 
+        @Nested
+        @DisplayName("readBySlice 테스트")
+        class Test_ReadBySlice {
+
+            @Test
+            @DisplayName("성공")
+            void success() {
+                // given
+                Pageable pageable = PageRequest.of(0, 1);
+                Slice<WinningReport> winningReportSlice = new SliceImpl<>(Arrays.asList(winningReport), pageable, true);
+
+                given(winningReportRepository.findByRoundLessThanOrderByRoundDesc(1112, pageable)).willReturn(winningReportSlice);
+
+                // when
+                SliceDTO<WinningReportDTO> winningReportSliceDTO = winningReportService.readBySlice(1112, 1);
+
+                // then
+                assertThat(winningReportSliceDTO.getContent())
+                        .containsExactly(winningReport.toDTO());
+                assertThat(winningReportSliceDTO.getHasNext())
+                        .isTrue();
+                assertThat(winningReportSliceDTO.getNextCursor())
+                        .isEqualTo(1111);
+            }
+
+            @Test
+            @DisplayName("성공 - 첫 페이지, 기본 크기")
+            void success_first() {
+                // given
+                Pageable pageable = PageRequest.of(0, 10);
+                Slice<WinningReport> winningReportSlice = new SliceImpl<>(Arrays.asList(winningReport), pageable, false);
+
+                given(winningReportRepository.findByRoundLessThanOrderByRoundDesc(Integer.MAX_VALUE, pageable)).willReturn(winningReportSlice);
+
+                // when
+                SliceDTO<WinningReportDTO> winningReportSliceDTO = winningReportService.readBySlice(null, null);
+
+                // then
+                assertThat(winningReportSliceDTO.getSize())
+                        .isEqualTo(10);
+                assertThat(winningReportSliceDTO.getHasNext())
+                        .isFalse();
+                assertThat(winningReportSliceDTO.getNextCursor())
+                        .isNull();
+            }
+
+            @Test
+            @DisplayName("실패")
+            void fail() {
+                // given
+                Pageable pageable = PageRequest.of(0, 10);
+
+                given(winningReportRepository.findByRoundLessThanOrderByRoundDesc(1, pageable)).willReturn(new SliceImpl<>(new ArrayList<>(), pageable, false));
+
+                // when & then
+                assertThatThrownBy(() -> winningReportService.readBySlice(1, null))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_WINNING_REPORT);
+            }
+
+            @Test
+            @DisplayName("실패 - 페이지 크기 초과")
+            void fail_size() {
+                // when & then
+                assertThatThrownBy(() -> winningReportService.readBySlice(null, 101))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_SIZE);
+
+                then(winningReportRepository).shouldHaveNoInteractions();
+            }
+
+        }
+
         @Nested
         @DisplayName("readByTotalWinningAmount 테스트")
         class Test_ReadByTotalWinningAmount {
@@ -1,8 +1,22 @@
 package com.example.lotto.unit.simulation.controller;
 
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
 import com.example.lotto.simulation.controller.LottoMachineController;
+import com.example.lotto.simulation.model.BacktestReport;
+import com.example.lotto.simulation.model.DrawMode;
+import com.example.lotto.simulation.model.JobStatus;
 import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.simulation.model.RandomnessReport;
+import com.example.lotto.simulation.model.RandomnessSource;
+import com.example.lotto.simulation.model.StreamFormat;
+import com.example.lotto.simulation.model.TicketConstraint;
+import com.example.lotto.simulation.model.WeightVersion;
+import com.example.lotto.simulation.service.BacktestService;
 import com.example.lotto.simulation.service.LottoMachineService;
+import com.example.lotto.simulation.service.RandomnessService;
+import com.example.lotto.utils.StreamingTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,17 +25,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(LottoMachineController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -33,6 +54,12 @@ public class LottoMachineControllerUnitTest {
     @MockBean
     private LottoMachineService lottoMachineService;
 
+    @MockBean
+    private BacktestService backtestService;
+
+    @MockBean
+    private RandomnessService randomnessService;
+
     @Nested
     @DisplayName("GET 테스트")
     class Test_GET {
@@ -60,7 +87,7 @@ public class LottoMachineControllerUnitTest {
             void success() throws Exception {
                 // given
                 Integer count = 1;
-                given(lottoMachineService.drawNumbers()).willReturn(lottoNumber);
+                given(lottoMachineService.drawNumbers(count)).willReturn(Arrays.asList(lottoNumber));
 
                 // when & then
                 mvc.perform(get("/lottoMachine/get/count/" + count)
@@ -72,6 +99,361 @@ public class LottoMachineControllerUnitTest {
 
             }
 
+            @Test
+            @DisplayName("실패")
+            void fail() throws Exception {
+                // given
+                Integer count = 0;
+                given(lottoMachineService.drawNumbers(count))
+                        .willThrow(new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_DRAW_COUNT));
+
+                // when & then
+                mvc.perform(get("/lottoMachine/get/count/" + count)
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_DRAW_COUNT.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getNumberDrawParallel 테스트")
+        class Test_GetNumberDrawParallel {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                Integer count = 1;
+                Long seed = 42L;
+                Integer partitions = 4;
+                given(lottoMachineService.drawNumbersParallel(count, seed, partitions))
+                        .willReturn(Arrays.asList(lottoNumber));
+
+                // when & then
+                mvc.perform(get("/lottoMachine/get/parallel/" + count)
+                                .param("seed", String.valueOf(seed))
+                                .param("partitions", String.valueOf(partitions))
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].bonusNumber").value(lottoNumber.getBonusNumber()))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Valid)")
+            void fail_valid() throws Exception {
+                // given
+                Integer count = 1;
+
+                // when & then
+                mvc.perform(get("/lottoMachine/get/parallel/" + count)
+                                .param("partitions", "0")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+            }
+
+        }
+
+        @Nested
+        @DisplayName("postNumberDrawConstrained 테스트")
+        class Test_PostNumberDrawConstrained {
+
+            private final ObjectMapper objectMapper = new ObjectMapper();
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                Integer count = 1;
+                TicketConstraint constraint = TicketConstraint.builder()
+                        .forcedNumbers(Arrays.asList(1, 2))
+                        .maxSum(100)
+                        .build();
+                given(lottoMachineService.drawNumbersConstrained(count, constraint, DrawMode.MACHINE))
+                        .willReturn(Arrays.asList(lottoNumber));
+
+                // when & then
+                mvc.perform(post("/lottoMachine/post/constrained/" + count)
+                                .param("mode", "machine")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(constraint)))
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].numbers[0]").value(lottoNumber.getNumbers().get(0)))
+                        .andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("실패(Valid)")
+            void fail_valid() throws Exception {
+                // given
+                TicketConstraint constraint = TicketConstraint.builder()
+                        .maxOdd(7)
+                        .build();
+
+                // when & then
+                mvc.perform(post("/lottoMachine/post/constrained/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(constraint)))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION.getCode()))
+                        .andExpect(status().isBadRequest());
+
+                then(lottoMachineService).shouldHaveNoInteractions();
+            }
+
+        }
+
+        @Nested
+        @DisplayName("getNumberStream 테스트")
+        class Test_GetNumberStream {
+
+            @Test
+            @DisplayName("성공")
+            void success() throws Exception {
+                // given
+                Long count = 2L;
+                Semaphore permits = new Semaphore(0);
+                StreamingResponseBody body = outputStream ->
+                        outputStream.write("{\"numbers\":[1,2,3,4,5,6],\"bonusNumber\":7}\n".getBytes());
+                given(lottoMachineService.streamNumbers(count, StreamFormat.NDJSON))
+                        .willReturn(new StreamingTask(permits, 12345L, body));
+
+                // when
+                MvcResult mvcResult = mvc.perform(get("/lottoMachine/get/stream/" + count))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                // then
+                // 전역 설정이 아니라 이 요청에만 타임아웃 적용
+                assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(12345L);
+                mvc.perform(asyncDispatch(mvcResult))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                        .andExpect(content().string("{\"numbers\":[1,2,3,4,5,6],\"bonusNumber\":7}\n"));
+                assertThat(permits.availablePermits()).isEqualTo(1);
+            }
+
+            @Test
+            @DisplayName("실패(형식)")
+            void fail_format() throws Exception {
+                // given
+                Long count = 2L;
+
+                // when & then
+                mvc.perform(get("/lottoMachine/get/stream/" + count)
+                                .param("format", "xml"))
+                        .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_DRAW_FORMAT.getCode()))
+                        .andExpect(status().isBadRequest());
+
+                then(lottoMachineService).shouldHaveNoInteractions();
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Weight 테스트")
+    class Test_Weight {
+
+        private WeightVersion weightVersion;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            weightVersion = WeightVersion.builder()
+                    .version(2L)
+                    .createdAt(LocalDateTime.now())
+                    .numberWeights(new double[46])
+                    .bonusWeights(new double[46])
+                    .build();
+        }
+
+        @Test
+        @DisplayName("getWeightVersion 성공")
+        void success_get() throws Exception {
+            // given
+            given(lottoMachineService.readWeightVersion()).willReturn(weightVersion);
+
+            // when & then
+            mvc.perform(get("/lottoMachine/get/weight/version")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.version").value(weightVersion.getVersion()))
+                    .andExpect(jsonPath("$.numberWeights", hasSize(46)))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("refreshWeight 성공")
+        void success_refresh() throws Exception {
+            // given
+            given(lottoMachineService.refreshWeight()).willReturn(weightVersion);
+
+            // when & then
+            mvc.perform(post("/lottoMachine/post/weight/refresh")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.version").value(weightVersion.getVersion()))
+                    .andExpect(status().isOk());
+
+            then(lottoMachineService).should(times(1)).refreshWeight();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Backtest 테스트")
+    class Test_Backtest {
+
+        private BacktestReport backtestReport;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            backtestReport = BacktestReport.builder()
+                    .id("test-id")
+                    .mode(DrawMode.UNIFORM)
+                    .status(JobStatus.RUNNING)
+                    .ticketCount(1000L)
+                    .processedTickets(0L)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("postBacktest 성공")
+        void success_post() throws Exception {
+            // given
+            Long count = 1000L;
+            Long seed = 42L;
+            given(backtestService.submitBacktest(count, DrawMode.UNIFORM, seed)).willReturn(backtestReport);
+
+            // when & then
+            mvc.perform(post("/lottoMachine/post/backtest/" + count)
+                            .param("mode", "uniform")
+                            .param("seed", String.valueOf(seed))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(backtestReport.getId()))
+                    .andExpect(jsonPath("$.status").value(JobStatus.RUNNING.name()))
+                    .andExpect(status().isAccepted());
+        }
+
+        @Test
+        @DisplayName("postBacktest 실패(추첨 방식)")
+        void fail_post_mode() throws Exception {
+            // when & then
+            mvc.perform(post("/lottoMachine/post/backtest/1000")
+                            .param("mode", "random")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_DRAW_MODE.getCode()))
+                    .andExpect(status().isBadRequest());
+
+            then(backtestService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("getBacktest 성공")
+        void success_get() throws Exception {
+            // given
+            given(backtestService.readBacktest(backtestReport.getId())).willReturn(backtestReport);
+
+            // when & then
+            mvc.perform(get("/lottoMachine/get/backtest/" + backtestReport.getId())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.ticketCount").value(backtestReport.getTicketCount()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("getBacktest 실패")
+        void fail_get() throws Exception {
+            // given
+            given(backtestService.readBacktest("none"))
+                    .willThrow(new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_BACKTEST));
+
+            // when & then
+            mvc.perform(get("/lottoMachine/get/backtest/none")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.NOT_EXIST_BACKTEST.getCode()))
+                    .andExpect(status().isNotFound());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Randomness 테스트")
+    class Test_Randomness {
+
+        private RandomnessReport randomnessReport;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            randomnessReport = RandomnessReport.builder()
+                    .id("test-id")
+                    .source(RandomnessSource.MACHINE)
+                    .status(JobStatus.RUNNING)
+                    .sampleCount(1000L)
+                    .processedDraws(0L)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("postRandomness 성공")
+        void success_post() throws Exception {
+            // given
+            Long count = 1000L;
+            Long seed = 42L;
+            given(randomnessService.submitRandomness(RandomnessSource.MACHINE, count, seed)).willReturn(randomnessReport);
+
+            // when & then
+            mvc.perform(post("/lottoMachine/post/randomness")
+                            .param("source", "machine")
+                            .param("count", String.valueOf(count))
+                            .param("seed", String.valueOf(seed))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(randomnessReport.getId()))
+                    .andExpect(jsonPath("$.status").value(JobStatus.RUNNING.name()))
+                    .andExpect(status().isAccepted());
+        }
+
+        @Test
+        @DisplayName("postRandomness 실패(검정 대상)")
+        void fail_post_source() throws Exception {
+            // when & then
+            mvc.perform(post("/lottoMachine/post/randomness")
+                            .param("source", "random")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_RANDOMNESS_SOURCE.getCode()))
+                    .andExpect(status().isBadRequest());
+
+            then(randomnessService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("getRandomness 성공")
+        void success_get() throws Exception {
+            // given
+            given(randomnessService.readRandomness(randomnessReport.getId())).willReturn(randomnessReport);
+
+            // when & then
+            mvc.perform(get("/lottoMachine/get/randomness/" + randomnessReport.getId())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.sampleCount").value(randomnessReport.getSampleCount()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("getRandomness 실패")
+        void fail_get() throws Exception {
+            // given
+            given(randomnessService.readRandomness("none"))
+                    .willThrow(new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_EXIST_RANDOMNESS_REPORT));
+
+            // when & then
+            mvc.perform(get("/lottoMachine/get/randomness/none")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(ErrorCode.NOT_EXIST_RANDOMNESS_REPORT.getCode()))
+                    .andExpect(status().isNotFound());
         }
 
     }
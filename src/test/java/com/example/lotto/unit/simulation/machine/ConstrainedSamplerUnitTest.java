@@ -0,0 +1,140 @@
+package com.example.lotto.unit.simulation.machine;
+
+import com.example.lotto.simulation.machine.ConstrainedSampler;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ConstrainedSamplerUnitTest {
+
+    private final long excludedMask = TicketMask.of(Arrays.asList(1, 2, 3, 44));
+    private final long forcedMask = TicketMask.of(Arrays.asList(7, 20));
+
+    private final ConstrainedSampler.Key key =
+            new ConstrainedSampler.Key(excludedMask, forcedMask, 100, 150, 2, 4, 2);
+
+    // key 와 같은 조건을 직접 검사
+    private final LongPredicate admissible = (ticket) -> {
+        int[] numbers = new int[6];
+        TicketMask.toArray(ticket, numbers);
+
+        int sum = 0, odd = 0, run = 1, maxRun = 1;
+        for (int i = 0; i < 6; i++) {
+            sum += numbers[i];
+            odd += numbers[i] & 1;
+            run = i > 0 && numbers[i] == numbers[i - 1] + 1 ? run + 1 : 1;
+            maxRun = Math.max(maxRun, run);
+        }
+        return (ticket & excludedMask) == 0 && (ticket & forcedMask) == forcedMask
+                && sum >= 100 && sum <= 150 && odd >= 2 && odd <= 4 && maxRun <= 2;
+    };
+
+    @Nested
+    @DisplayName("균등 추첨 테스트")
+    class Test_Uniform {
+
+        @Test
+        @DisplayName("성공(조건 없음)")
+        void success_unconstrained() {
+            // given
+            ConstrainedSampler sampler = ConstrainedSampler.of(ConstrainedSampler.Key.unconstrained(), null);
+
+            // when & then
+            assertThat((long) sampler.total()).isEqualTo(Combination.COUNT);
+            for (int rank = 0; rank < Combination.COUNT; rank += 7_919) {
+                assertThat(sampler.unrank(rank)).isEqualTo(Combination.unrank(rank));
+            }
+        }
+
+        @Test
+        @DisplayName("성공(조건 있음)")
+        void success_constrained() {
+            // given
+            ConstrainedSampler sampler = ConstrainedSampler.of(key, null);
+
+            // 전체 조합을 colex 순서로 돌며 조건을 직접 검사한 결과와 비교
+            long expectedRank = 0;
+            for (long ticket = Combination.unrank(0); ticket != 0; ticket = Combination.next(ticket)) {
+                assertThat(sampler.accepts(ticket)).isEqualTo(admissible.test(ticket));
+                if (admissible.test(ticket)) {
+                    assertThat(sampler.rank(ticket)).isEqualTo(expectedRank);
+                    if (expectedRank % 101 == 0) {
+                        assertThat(sampler.unrank(expectedRank)).isEqualTo(ticket);
+                    }
+                    expectedRank++;
+                } else {
+                    assertThat(sampler.rank(ticket)).isEqualTo(-1);
+                }
+            }
+
+            // when & then
+            assertThat((long) sampler.total()).isEqualTo(expectedRank);
+
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(admissible.test(sampler.sample(random))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("성공(만족하는 조합 없음)")
+        void success_empty() {
+            // given
+            // 1 ~ 6 을 빼면 합이 25 이하일 수 없음
+            ConstrainedSampler.Key lowSum = new ConstrainedSampler.Key(
+                    TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6)), 0L, 21, 25, 0, 6, 6);
+            // 40, 41, 42 를 넣으면 합이 100 이하일 수 없음
+            ConstrainedSampler.Key forcedHigh = new ConstrainedSampler.Key(
+                    0L, TicketMask.of(Arrays.asList(40, 41, 42)), 21, 100, 0, 6, 6);
+            // 홀수만 6개, 연속 번호 없음은 가능 (1, 3, 5, 7, 9, 11 ...)
+            ConstrainedSampler.Key allOdd = new ConstrainedSampler.Key(0L, 0L, 21, 255, 6, 6, 1);
+
+            // when & then
+            assertThat(ConstrainedSampler.of(lowSum, null).isEmpty()).isTrue();
+            assertThat(ConstrainedSampler.of(forcedHigh, null).isEmpty()).isTrue();
+            assertThat((long) ConstrainedSampler.of(allOdd, null).total()).isEqualTo(Combination.binomial(23, 6));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("가중치 추첨 테스트")
+    class Test_Weighted {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            double[] weights = new double[46];
+            for (int n = 1; n <= 45; n++) {
+                weights[n] = n <= 30 ? 1.0 : 0.0;
+            }
+            ConstrainedSampler sampler = ConstrainedSampler.of(key, weights);
+            SplittableRandom random = new SplittableRandom(7);
+
+            for (int i = 0; i < 10_000; i++) {
+                // when
+                long ticket = sampler.sample(random);
+
+                // then
+                assertThat(admissible.test(ticket)).isTrue();
+                assertThat(TicketMask.toList(ticket)).allMatch(n -> n <= 30);
+                // 평균 1로 정규화하므로 번호마다 45 / 30
+                assertThat(sampler.weight(ticket)).isCloseTo(Math.pow(1.5, 6), within(1e-9));
+            }
+            assertThat(sampler.isWeighted()).isTrue();
+            assertThat(sampler.weight(TicketMask.of(Arrays.asList(7, 20, 29, 31, 33, 35)))).isZero();
+        }
+
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.example.lotto.unit.simulation.machine;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.dto.StatLottoDTO;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.event.StatLottoUpdateEvent;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.simulation.machine.ConstrainedSampler;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.OverlapSampler;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class LottoMachineUnitTest {
+
+    @Mock
+    private StatLottoRepository statLottoRepository;
+
+    @InjectMocks
+    private LottoMachine lottoMachine;
+
+    private List<StatLotto> statLottoList;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        statLottoList = new ArrayList<>();
+        for (int n = 1; n <= 45; n++) {
+            statLottoList.add(StatLotto.builder()
+                    .number(n)
+                    .count(n)
+                    .probability((double) n)
+                    .bonusCount(n)
+                    .bonusProbability((double) n)
+                    .build());
+        }
+    }
+
+    @Nested
+    @DisplayName("drawLottoNumbers 테스트")
+    class Test_DrawLottoNumbers {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            given(statLottoRepository.findAll()).willReturn(statLottoList);
+
+            for (int i = 0; i < 1000; i++) {
+                // when
+                LottoNumber lottoNumber = lottoMachine.drawLottoNumbers();
+
+                // then
+                assertThat(lottoNumber.getNumbers())
+                        .hasSize(6)
+                        .doesNotHaveDuplicates()
+                        .isSorted()
+                        .allMatch(n -> n >= 1 && n <= 45)
+                        .doesNotContain(lottoNumber.getBonusNumber());
+                assertThat(lottoNumber.getBonusNumber()).isBetween(1, 45);
+            }
+
+            then(statLottoRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(가중치가 0인 번호는 추첨되지 않음)")
+        void success_zeroWeight() {
+            // given
+            List<StatLotto> sevenNumbers = statLottoList.subList(0, 7);
+            given(statLottoRepository.findAll()).willReturn(sevenNumbers);
+
+            for (int i = 0; i < 100; i++) {
+                // when
+                LottoNumber lottoNumber = lottoMachine.drawLottoNumbers();
+
+                // then
+                assertThat(lottoNumber.getNumbers()).allMatch(n -> n <= 7);
+                assertThat(lottoNumber.getBonusNumber()).isLessThanOrEqualTo(7);
+            }
+        }
+
+        @Test
+        @DisplayName("실패")
+        void fail() {
+            // given
+            given(statLottoRepository.findAll()).willReturn(new ArrayList<>());
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachine.drawLottoNumbers())
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_STAT_LOTTO_LIST);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("WeightSnapshot 테스트")
+    class Test_WeightSnapshot {
+
+        @Test
+        @DisplayName("성공(refresh)")
+        void success_refresh() {
+            // given
+            given(statLottoRepository.findAll()).willReturn(statLottoList);
+
+            // when
+            WeightSnapshot first = lottoMachine.getWeightSnapshot();
+            WeightSnapshot refreshed = lottoMachine.refreshWeightSnapshot();
+
+            // then
+            assertThat(refreshed.getVersion()).isGreaterThan(first.getVersion());
+            assertThat(lottoMachine.getWeightSnapshot()).isSameAs(refreshed);
+            assertThat(refreshed.getNumberWeights()[45]).isEqualTo(45.0);
+
+            then(statLottoRepository).should(times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("성공(event)")
+        void success_event() {
+            // given
+            List<StatLottoDTO> statLottoDTOList = new ArrayList<>();
+            statLottoList.forEach(s -> statLottoDTOList.add(s.toDTO()));
+
+            // when
+            lottoMachine.onStatLottoUpdate(new StatLottoUpdateEvent(statLottoDTOList));
+            WeightSnapshot snapshot = lottoMachine.getWeightSnapshot();
+
+            // then
+            assertThat(snapshot.getVersion()).isEqualTo(1L);
+            assertThat(snapshot.getBonusWeights()[1]).isEqualTo(1.0);
+
+            then(statLottoRepository).should(times(0)).findAll();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getConstrainedSampler 테스트")
+    class Test_GetConstrainedSampler {
+
+        private ConstrainedSampler.Key key(int minSum) {
+            return new ConstrainedSampler.Key(0L, 0L, minSum, Integer.MAX_VALUE, 0, 6, 6);
+        }
+
+        @Test
+        @DisplayName("성공(같은 키는 한 번만 만듦)")
+        void success_sameKey() throws Exception {
+            // given
+            int threadCount = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ConstrainedSampler>> futureList = new ArrayList<>();
+
+            // when
+            try {
+                for (int i = 0; i < threadCount; i++) {
+                    futureList.add(executor.submit(() -> {
+                        start.await();
+                        return lottoMachine.getConstrainedSampler(key(100), null);
+                    }));
+                }
+                start.countDown();
+
+                // then
+                ConstrainedSampler first = futureList.get(0).get(10, TimeUnit.SECONDS);
+                for (Future<ConstrainedSampler> future : futureList) {
+                    assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("성공(캐시 크기 제한)")
+        void success_bounded() {
+            // given
+            ConstrainedSampler first = lottoMachine.getConstrainedSampler(key(21), null);
+
+            // when
+            // 다른 키로 캐시를 채워 가장 오래된 키를 밀어냄
+            for (int minSum = 22; minSum < 30; minSum++) {
+                lottoMachine.getConstrainedSampler(key(minSum), null);
+            }
+
+            // then
+            ConstrainedSampler rebuilt = lottoMachine.getConstrainedSampler(key(21), null);
+            assertThat(rebuilt).isNotSameAs(first);
+            assertThat(lottoMachine.getConstrainedSampler(key(21), null)).isSameAs(rebuilt);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getOverlapSampler 테스트")
+    class Test_GetOverlapSampler {
+
+        private ResultHistory history(int round) {
+            return ResultHistory.of(List.of(Result.builder()
+                    .round(round)
+                    .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                    .bonusNumber(7)
+                    .build()), List.of());
+        }
+
+        @Test
+        @DisplayName("성공(같은 조건, 같은 이미지는 한 번만 만듦)")
+        void success() {
+            // given
+            ConstrainedSampler.Key key = new ConstrainedSampler.Key(0L, TicketMask.bit(1), 21, 255, 0, 6, 6);
+            ResultHistory history = history(1);
+
+            // when
+            OverlapSampler first = lottoMachine.getOverlapSampler(key, null, history, 1);
+
+            // then
+            // 1 이 들어가므로 2 ~ 6 은 모두 빠짐, 7 ~ 45 중 5개
+            assertThat(first.count()).isEqualTo(Combination.binomial(39, 5));
+            assertThat(lottoMachine.getOverlapSampler(key, null, history, 1)).isSameAs(first);
+
+            // 지난 회차 이미지가 바뀌면 새로 만듦
+            assertThat(lottoMachine.getOverlapSampler(key, null, history(2), 1)).isNotSameAs(first);
+            assertThat(lottoMachine.getOverlapSampler(key, null, history, 0).isEmpty()).isTrue();
+        }
+
+    }
+
+}
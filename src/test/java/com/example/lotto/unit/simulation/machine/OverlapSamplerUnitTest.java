@@ -0,0 +1,193 @@
+package com.example.lotto.unit.simulation.machine;
+
+import com.example.lotto.simulation.machine.ConstrainedSampler;
+import com.example.lotto.simulation.machine.OverlapSampler;
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OverlapSamplerUnitTest {
+
+    private long[] pastMasks;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        Random random = new Random(42);
+        pastMasks = new long[50];
+        for (int i = 0; i < pastMasks.length; i++) {
+            List<Integer> numbers = random.ints(1, 46).distinct().limit(6).boxed().collect(Collectors.toList());
+            pastMasks[i] = TicketMask.of(numbers);
+        }
+    }
+
+    // 지난 회차와 겹치는 번호 수를 직접 검사
+    private boolean withinOverlap(long ticket, int maxOverlap) {
+        for (long pastMask : pastMasks) {
+            if (Long.bitCount(ticket & pastMask) > maxOverlap) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(long[] bits, int rank) {
+        return (bits[rank >>> 6] & (1L << rank)) != 0;
+    }
+
+    @Nested
+    @DisplayName("admissible 테스트")
+    class Test_Admissible {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            for (int maxOverlap : new int[]{1, 2, 5}) {
+                // when
+                long[] admissible = OverlapSampler.admissible(pastMasks, maxOverlap);
+
+                // then
+                // 전체 조합을 colex 순서로 돌며 직접 검사한 결과와 비교
+                int mismatchCount = 0;
+                long combination = Combination.unrank(0);
+                for (int rank = 0; rank < Combination.COUNT; rank++, combination = Combination.next(combination)) {
+                    if (contains(admissible, rank) != withinOverlap(combination, maxOverlap)) {
+                        mismatchCount++;
+                    }
+                }
+                assertThat(mismatchCount).as("maxOverlap " + maxOverlap).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("성공(조건 없음, 만족하는 조합 없음)")
+        void success_bounds() {
+            // when
+            long[] all = OverlapSampler.admissible(pastMasks, 6);
+            long[] none = OverlapSampler.admissible(pastMasks, -1);
+
+            // then
+            assertThat(Arrays.stream(all).map(Long::bitCount).sum()).isEqualTo(Combination.COUNT);
+            assertThat(Arrays.stream(none).allMatch(word -> word == 0)).isTrue();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("sample 테스트")
+    class Test_Sample {
+
+        @Test
+        @DisplayName("성공(교집합이 큼)")
+        void success_large() {
+            // given
+            ConstrainedSampler sampler = ConstrainedSampler.of(
+                    new ConstrainedSampler.Key(0L, 0L, 100, 180, 2, 4, 6), null);
+            long[] admissible = OverlapSampler.admissible(pastMasks, 2);
+
+            long expectedCount = 0;
+            for (long ticket = Combination.unrank(0); ticket != 0; ticket = Combination.next(ticket)) {
+                if (sampler.accepts(ticket) && withinOverlap(ticket, 2)) {
+                    expectedCount++;
+                }
+            }
+
+            // when
+            OverlapSampler overlapSampler = OverlapSampler.of(sampler, admissible);
+
+            // then
+            assertThat(overlapSampler.count()).isEqualTo(expectedCount);
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < 10_000; i++) {
+                long ticket = overlapSampler.sample(random);
+                assertThat(sampler.accepts(ticket)).isTrue();
+                assertThat(withinOverlap(ticket, 2)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("성공(교집합이 작으면 모든 조합이 나옴)")
+        void success_small() {
+            // given
+            // 4개를 넣으면 남은 2개만 고르므로 C(41, 2) 개 이하
+            long forcedMask = TicketMask.of(Arrays.asList(10, 20, 30, 40));
+            ConstrainedSampler sampler = ConstrainedSampler.of(
+                    new ConstrainedSampler.Key(0L, forcedMask, 21, 255, 0, 6, 6), null);
+
+            Set<Long> expected = new HashSet<>();
+            for (long ticket = Combination.unrank(0); ticket != 0; ticket = Combination.next(ticket)) {
+                if (sampler.accepts(ticket) && withinOverlap(ticket, 3)) {
+                    expected.add(ticket);
+                }
+            }
+
+            // when
+            OverlapSampler overlapSampler = OverlapSampler.of(sampler, OverlapSampler.admissible(pastMasks, 3));
+
+            // then
+            assertThat(overlapSampler.count()).isEqualTo(expected.size());
+            SplittableRandom random = new SplittableRandom(7);
+            Set<Long> sampled = new HashSet<>();
+            for (int i = 0; i < 50_000; i++) {
+                sampled.add(overlapSampler.sample(random));
+            }
+            assertThat(sampled).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("성공(가중치)")
+        void success_weighted() {
+            // given
+            double[] weights = new double[46];
+            for (int n = 1; n <= 45; n++) {
+                weights[n] = n <= 30 ? 1.0 : 0.0;
+            }
+            ConstrainedSampler sampler = ConstrainedSampler.of(ConstrainedSampler.Key.unconstrained(), weights);
+
+            // when
+            OverlapSampler overlapSampler = OverlapSampler.of(sampler, OverlapSampler.admissible(pastMasks, 2));
+
+            // then
+            // 가중치가 0 인 번호가 들어간 조합은 제외
+            assertThat(overlapSampler.count()).isLessThanOrEqualTo(Combination.binomial(30, 6));
+            SplittableRandom random = new SplittableRandom(11);
+            for (int i = 0; i < 10_000; i++) {
+                long ticket = overlapSampler.sample(random);
+                assertThat(TicketMask.toList(ticket)).allMatch(n -> n <= 30);
+                assertThat(withinOverlap(ticket, 2)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("성공(만족하는 조합 없음)")
+        void success_empty() {
+            // given
+            // 1 을 넣어야 하는데 1 이 나온 회차와 하나도 겹치면 안 됨
+            pastMasks = new long[]{TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6))};
+            ConstrainedSampler sampler = ConstrainedSampler.of(
+                    new ConstrainedSampler.Key(0L, TicketMask.bit(1), 21, 255, 0, 6, 6), null);
+
+            // when
+            OverlapSampler overlapSampler = OverlapSampler.of(sampler, OverlapSampler.admissible(pastMasks, 0));
+
+            // then
+            assertThat(overlapSampler.isEmpty()).isTrue();
+            assertThat(overlapSampler.sample(new SplittableRandom(1))).isZero();
+        }
+
+    }
+
+}
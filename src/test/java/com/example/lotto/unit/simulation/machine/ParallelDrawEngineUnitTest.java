@@ -0,0 +1,90 @@
+package com.example.lotto.unit.simulation.machine;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ParallelDrawEngineUnitTest {
+
+    @Mock
+    private StatLottoRepository statLottoRepository;
+
+    private ParallelDrawEngine parallelDrawEngine;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        List<StatLotto> statLottoList = new ArrayList<>();
+        for (int n = 1; n <= 45; n++) {
+            statLottoList.add(StatLotto.builder()
+                    .number(n)
+                    .probability((double) n)
+                    .bonusProbability((double) (46 - n))
+                    .build());
+        }
+        given(statLottoRepository.findAll()).willReturn(statLottoList);
+
+        LottoMachineProperties lottoMachineProperties = new LottoMachineProperties();
+        lottoMachineProperties.getParallel().setParallelism(4);
+
+        parallelDrawEngine = new ParallelDrawEngine(new LottoMachine(statLottoRepository), lottoMachineProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelDrawEngine.shutdown();
+    }
+
+    @Nested
+    @DisplayName("draw 테스트")
+    class Test_Draw {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            int count = 10_000;
+            long[] tickets = parallelDrawEngine.draw(count, null, null);
+
+            // then
+            assertThat(tickets).hasSize(count);
+            for (long ticket : tickets) {
+                assertThat(TicketMask.isValid(ticket)).isTrue();
+                assertThat(TicketMask.bonus(ticket)).isBetween(1, 45);
+            }
+        }
+
+        @Test
+        @DisplayName("성공(같은 seed, 같은 파티션이면 같은 결과)")
+        void success_deterministic() {
+            // when
+            long[] first = parallelDrawEngine.draw(5_000, 42L, 8);
+            long[] second = parallelDrawEngine.draw(5_000, 42L, 8);
+            long[] otherSeed = parallelDrawEngine.draw(5_000, 43L, 8);
+
+            // then
+            assertThat(second).isEqualTo(first);
+            assertThat(otherSeed).isNotEqualTo(first);
+        }
+
+    }
+
+}
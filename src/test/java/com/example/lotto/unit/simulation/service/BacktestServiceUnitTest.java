@@ -0,0 +1,269 @@
+package com.example.lotto.unit.simulation.service;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.domain.Rank;
+import com.example.lotto.domain.Result;
+import com.example.lotto.domain.StatLotto;
+import com.example.lotto.domain.WinningReport;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.model.BacktestReport;
+import com.example.lotto.simulation.model.DrawMode;
+import com.example.lotto.simulation.model.JobStatus;
+import com.example.lotto.simulation.service.BacktestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+public class BacktestServiceUnitTest {
+
+    private static final long[] PRIZES = {2_000_000_000L, 50_000_000L, 1_500_000L, 50_000L, 5_000L};
+
+    @Mock
+    private StatLottoRepository statLottoRepository;
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    private ParallelDrawEngine parallelDrawEngine;
+
+    private BacktestService backtestService;
+
+    private ResultHistory history;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        List<Rank> rankList = new ArrayList<>();
+        for (int ranking = 1; ranking <= 5; ranking++) {
+            rankList.add(Rank.builder()
+                    .ranking(ranking)
+                    .winningAmount(PRIZES[ranking - 1])
+                    .build());
+        }
+
+        List<Result> resultList = Arrays.asList(
+                Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                Result.builder().round(2).numbers(Arrays.asList(10, 20, 30, 40, 41, 45)).bonusNumber(11).build());
+        List<WinningReport> winningReportList = Arrays.asList(
+                WinningReport.builder().round(1).rankList(rankList).build(),
+                WinningReport.builder().round(2).rankList(rankList).build());
+        history = ResultHistory.of(resultList, winningReportList);
+
+        LottoMachineProperties lottoMachineProperties = new LottoMachineProperties();
+        lottoMachineProperties.getParallel().setParallelism(4);
+
+        LottoMachine lottoMachine = new LottoMachine(statLottoRepository);
+        parallelDrawEngine = new ParallelDrawEngine(lottoMachine, lottoMachineProperties);
+        backtestService = new BacktestService(lottoMachine, parallelDrawEngine, resultHistoryStore, lottoMachineProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backtestService.shutdown();
+        parallelDrawEngine.shutdown();
+    }
+
+    private long sumPrize(BacktestReport report) {
+        long totalPrize = 0;
+        for (int i = 0; i < 5; i++) {
+            totalPrize += report.getRankCountList().get(i) * PRIZES[i];
+        }
+        return totalPrize;
+    }
+
+    @Nested
+    @DisplayName("runBacktest 테스트")
+    class Test_RunBacktest {
+
+        @Test
+        @DisplayName("성공(UNIFORM)")
+        void success_uniform() {
+            // given
+            Long count = 20_000L;
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            BacktestReport report = backtestService.runBacktest(count, DrawMode.UNIFORM, 42L);
+            BacktestReport again = backtestService.runBacktest(count, DrawMode.UNIFORM, 42L);
+
+            // then
+            assertThat(report.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(report.getProcessedTickets()).isEqualTo(count);
+            assertThat(report.getEvaluations()).isEqualTo(count * 2);
+            assertThat(report.getRankCountList().stream().mapToLong(Long::longValue).sum() + report.getLoseCount())
+                    .isEqualTo(report.getEvaluations());
+            assertThat(report.getTotalPrize()).isEqualTo(sumPrize(report));
+            assertThat(report.getTotalCost()).isEqualTo(count * 2 * 1000);
+            assertThat(report.getWeightVersion()).isNull();
+
+            // 시드가 같으면 같은 결과
+            assertThat(again.getRankCountList()).isEqualTo(report.getRankCountList());
+        }
+
+        @Test
+        @DisplayName("성공(MACHINE)")
+        void success_machine() {
+            // given
+            List<StatLotto> statLottoList = new ArrayList<>();
+            for (int n = 1; n <= 7; n++) {
+                statLottoList.add(StatLotto.builder()
+                        .number(n)
+                        .probability(1.0)
+                        .bonusProbability(1.0)
+                        .build());
+            }
+            given(statLottoRepository.findAll()).willReturn(statLottoList);
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            BacktestReport report = backtestService.runBacktest(1_000L, DrawMode.MACHINE, 7L);
+
+            // then
+            // 1~7 중 6개만 나오므로 1회차는 1등 아니면 2등, 2회차는 모두 낙첨
+            List<Long> rankCountList = report.getRankCountList();
+            assertThat(rankCountList.get(0) + rankCountList.get(1)).isEqualTo(1_000L);
+            assertThat(rankCountList.subList(2, 5)).containsOnly(0L);
+            assertThat(report.getLoseCount()).isEqualTo(1_000L);
+            assertThat(report.getTotalPrize()).isEqualTo(sumPrize(report));
+            assertThat(report.getWeightVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("실패(추첨 개수)")
+        void fail_count() {
+            // when & then
+            assertThatThrownBy(() -> backtestService.runBacktest(0L, DrawMode.UNIFORM, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail_emptyHistory() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> backtestService.runBacktest(10L, DrawMode.UNIFORM, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("submitBacktest 테스트")
+    class Test_SubmitBacktest {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws InterruptedException {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            // when
+            BacktestReport submitted = backtestService.submitBacktest(5_000L, DrawMode.UNIFORM, 1L);
+
+            BacktestReport report = backtestService.readBacktest(submitted.getId());
+            for (int i = 0; i < 500 && (report.getStatus() == JobStatus.QUEUED || report.getStatus() == JobStatus.RUNNING); i++) {
+                Thread.sleep(10);
+                report = backtestService.readBacktest(submitted.getId());
+            }
+
+            // then
+            assertThat(report.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(report.getProcessedTickets()).isEqualTo(5_000L);
+            assertThat(report.getReturnRate()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("실패(대기 작업 초과)")
+        void fail_exceed() throws InterruptedException {
+            // given
+            // 첫 작업이 끝나지 않도록 막아 둠
+            CountDownLatch latch = new CountDownLatch(1);
+            ParallelDrawEngine blockingEngine = mock(ParallelDrawEngine.class);
+            willAnswer(invocation -> {
+                latch.await();
+                return null;
+            }).given(blockingEngine).forEachPartition(anyLong(), any(), any(), any());
+
+            LottoMachineProperties lottoMachineProperties = new LottoMachineProperties();
+            lottoMachineProperties.getBacktest().setMaxJobs(2);
+            BacktestService limitedService = new BacktestService(new LottoMachine(statLottoRepository),
+                    blockingEngine, resultHistoryStore, lottoMachineProperties);
+            given(resultHistoryStore.getHistory()).willReturn(history);
+
+            try {
+                BacktestReport running = limitedService.submitBacktest(10L, DrawMode.UNIFORM, 1L);
+                BacktestReport queued = limitedService.submitBacktest(10L, DrawMode.UNIFORM, 1L);
+
+                // when & then
+                assertThatThrownBy(() -> limitedService.submitBacktest(10L, DrawMode.UNIFORM, 1L))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXCEED_SIMULATION_JOB);
+
+                // 실제로 시작해야 RUNNING, 시작 전에는 경과 시간이 없음
+                BacktestReport queuedReport = limitedService.readBacktest(queued.getId());
+                assertThat(queuedReport.getStatus()).isEqualTo(JobStatus.QUEUED);
+                assertThat(queuedReport.getElapsedMillis()).isNull();
+                BacktestReport runningReport = limitedService.readBacktest(running.getId());
+                for (int i = 0; i < 500 && runningReport.getStatus() == JobStatus.QUEUED; i++) {
+                    Thread.sleep(10);
+                    runningReport = limitedService.readBacktest(running.getId());
+                }
+                assertThat(runningReport.getStatus()).isEqualTo(JobStatus.RUNNING);
+                assertThat(runningReport.getElapsedMillis()).isNotNull();
+
+                // 작업이 끝나면 다시 받음
+                latch.countDown();
+                BacktestReport queuedDone = limitedService.readBacktest(queued.getId());
+                for (int i = 0; i < 500 && queuedDone.getStatus() != JobStatus.DONE; i++) {
+                    Thread.sleep(10);
+                    queuedDone = limitedService.readBacktest(queued.getId());
+                }
+                assertThat(queuedDone.getStatus()).isEqualTo(JobStatus.DONE);
+                assertThat(limitedService.submitBacktest(10L, DrawMode.UNIFORM, 1L)).isNotNull();
+            } finally {
+                latch.countDown();
+                limitedService.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("실패(작업 없음)")
+        void fail() {
+            // when & then
+            assertThatThrownBy(() -> backtestService.readBacktest("none"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_BACKTEST);
+        }
+
+    }
+
+}
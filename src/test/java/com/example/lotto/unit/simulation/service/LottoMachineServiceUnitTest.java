@@ -1,8 +1,24 @@
 package com.example.lotto.unit.simulation.service;
 
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.domain.Result;
+import com.example.lotto.simulation.machine.ConstrainedSampler;
 import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.OverlapSampler;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.machine.WeightSnapshot;
+import com.example.lotto.simulation.model.DrawMode;
 import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.simulation.model.StreamFormat;
+import com.example.lotto.simulation.model.TicketConstraint;
+import com.example.lotto.simulation.model.WeightVersion;
 import com.example.lotto.simulation.service.LottoMachineService;
+import com.example.lotto.utils.StreamingTask;
+import com.example.lotto.utils.TicketMask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,16 +26,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +54,15 @@ public class LottoMachineServiceUnitTest {
     @Mock
     private LottoMachine lottoMachine;
 
+    @Mock
+    private ParallelDrawEngine parallelDrawEngine;
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @Spy
+    private LottoMachineProperties lottoMachineProperties = new LottoMachineProperties();
+
     @InjectMocks
     private LottoMachineService lottoMachineService;
 
@@ -69,4 +104,300 @@ public class LottoMachineServiceUnitTest {
 
     }
 
+    @Nested
+    @DisplayName("Weight 테스트")
+    class Test_Weight {
+
+        private WeightSnapshot weightSnapshot;
+
+        @BeforeEach
+        @DisplayName("데이터 설정")
+        void setUp() {
+            double[] weights = new double[46];
+            Arrays.fill(weights, 1, 46, 1.0);
+            weightSnapshot = new WeightSnapshot(3L, weights, weights);
+        }
+
+        @Test
+        @DisplayName("readWeightVersion 성공")
+        void success_read() {
+            // given
+            given(lottoMachine.getWeightSnapshot()).willReturn(weightSnapshot);
+
+            // when
+            WeightVersion weightVersion = lottoMachineService.readWeightVersion();
+
+            // then
+            assertThat(weightVersion.getVersion()).isEqualTo(weightSnapshot.getVersion());
+            assertThat(weightVersion.getNumberWeights()).hasSize(46);
+
+            then(lottoMachine).should(times(1)).getWeightSnapshot();
+        }
+
+        @Test
+        @DisplayName("refreshWeight 성공")
+        void success_refresh() {
+            // given
+            given(lottoMachine.refreshWeightSnapshot()).willReturn(weightSnapshot);
+
+            // when
+            WeightVersion weightVersion = lottoMachineService.refreshWeight();
+
+            // then
+            assertThat(weightVersion.getVersion()).isEqualTo(weightSnapshot.getVersion());
+
+            then(lottoMachine).should(times(1)).refreshWeightSnapshot();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Stream 테스트")
+    class Test_Stream {
+
+        @Test
+        @DisplayName("성공(NDJSON)")
+        void success_ndjson() throws Exception {
+            // given
+            long ticket = TicketMask.of(Arrays.asList(1, 9, 17, 25, 33, 41), 45);
+            given(lottoMachine.drawTicket()).willReturn(ticket);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // when
+            StreamingResponseBody body = lottoMachineService.streamNumbers(2L, StreamFormat.NDJSON);
+            body.writeTo(outputStream);
+
+            // then
+            String line = "{\"numbers\":[1,9,17,25,33,41],\"bonusNumber\":45}\n";
+            assertThat(outputStream.toString(StandardCharsets.US_ASCII)).isEqualTo(line + line);
+
+            then(lottoMachine).should(times(2)).drawTicket();
+        }
+
+        @Test
+        @DisplayName("성공(BINARY)")
+        void success_binary() throws Exception {
+            // given
+            given(lottoMachine.drawTicket()).willReturn(TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6), 7));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // when
+            StreamingResponseBody body = lottoMachineService.streamNumbers(10_000L, StreamFormat.BINARY);
+            body.writeTo(outputStream);
+
+            // then
+            assertThat(outputStream.size()).isEqualTo(10_000 * 7);
+        }
+
+        @Test
+        @DisplayName("실패(개수 초과)")
+        void fail_count() {
+            // given
+            Long count = lottoMachineProperties.getStream().getMaxCount() + 1;
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.streamNumbers(count, StreamFormat.NDJSON))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DRAW_COUNT);
+
+            then(lottoMachine).should(times(0)).drawTicket();
+        }
+
+        @Test
+        @DisplayName("실패(동시 요청 초과)")
+        void fail_concurrent() {
+            // given
+            int maxConcurrent = lottoMachineProperties.getStream().getMaxConcurrent();
+            for (int i = 0; i < maxConcurrent; i++) {
+                lottoMachineService.streamNumbers(1L, StreamFormat.NDJSON);
+            }
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.streamNumbers(1L, StreamFormat.NDJSON))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXCEED_DRAW_STREAM);
+        }
+
+        @Test
+        @DisplayName("성공(본문이 실행되지 않아도 요청이 끝나면 permit 반환)")
+        void success_release() throws Exception {
+            // given
+            int maxConcurrent = lottoMachineProperties.getStream().getMaxConcurrent();
+            List<StreamingTask> streamingTaskList = new ArrayList<>();
+            for (int i = 0; i < maxConcurrent; i++) {
+                streamingTaskList.add(lottoMachineService.streamNumbers(1L, StreamFormat.NDJSON));
+            }
+
+            // when
+            // 타임아웃 등으로 본문 없이 비동기 요청이 끝남, 두 번 끝나도 한 번만 반환
+            StreamingTask streamingTask = streamingTaskList.get(0);
+            streamingTask.afterCompletion(null, null);
+            streamingTask.afterCompletion(null, null);
+
+            // then
+            assertThat(streamingTask.getTimeout()).isEqualTo(lottoMachineProperties.getStream().getTimeout());
+            assertThat(lottoMachineService.streamNumbers(1L, StreamFormat.NDJSON)).isNotNull();
+            assertThatThrownBy(() -> lottoMachineService.streamNumbers(1L, StreamFormat.NDJSON))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXCEED_DRAW_STREAM);
+            then(lottoMachine).should(times(0)).drawTicket();
+        }
+
+        @Test
+        @DisplayName("drawNumbers(count) 실패")
+        void fail_list() {
+            // given
+            Integer count = lottoMachineProperties.getMaxListCount() + 1;
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.drawNumbers(count))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parallel 테스트")
+    class Test_Parallel {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            Integer count = 2;
+            Long seed = 1L;
+            Integer partitions = 2;
+            long[] tickets = {
+                    TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6), 7),
+                    TicketMask.of(Arrays.asList(10, 20, 30, 40, 41, 42), 45)
+            };
+            given(parallelDrawEngine.draw(count, seed, partitions)).willReturn(tickets);
+
+            // when
+            List<LottoNumber> lottoNumberList = lottoMachineService.drawNumbersParallel(count, seed, partitions);
+
+            // then
+            assertThat(lottoNumberList).hasSize(2);
+            assertThat(lottoNumberList.get(0).getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(lottoNumberList.get(0).getBonusNumber()).isEqualTo(7);
+            assertThat(lottoNumberList.get(1).getNumbers()).containsExactly(10, 20, 30, 40, 41, 42);
+            assertThat(lottoNumberList.get(1).getBonusNumber()).isEqualTo(45);
+
+            then(parallelDrawEngine).should(times(1)).draw(count, seed, partitions);
+        }
+
+        @Test
+        @DisplayName("실패")
+        void fail() {
+            // given
+            Integer count = 0;
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.drawNumbersParallel(count, null, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DRAW_COUNT);
+
+            then(parallelDrawEngine).shouldHaveNoInteractions();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Constrained 테스트")
+    class Test_Constrained {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            TicketConstraint constraint = TicketConstraint.builder()
+                    .forcedNumbers(Arrays.asList(1, 2))
+                    .maxRun(2)
+                    .maxOverlap(3)
+                    .build();
+            List<Integer> pastNumbers = Arrays.asList(1, 2, 4, 5, 7, 8);
+            long pastMask = TicketMask.of(pastNumbers);
+            ResultHistory history = ResultHistory.of(List.of(Result.builder()
+                    .round(1)
+                    .numbers(pastNumbers)
+                    .bonusNumber(9)
+                    .build()), List.of());
+
+            given(lottoMachine.getConstrainedSampler(any(ConstrainedSampler.Key.class), isNull()))
+                    .willAnswer(invocation -> ConstrainedSampler.of(invocation.getArgument(0), null));
+            given(lottoMachine.drawBonus(anyLong(), any(), isNull()))
+                    .willAnswer(invocation -> TicketMask.withBonus(invocation.getArgument(0), 45));
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            given(lottoMachine.getOverlapSampler(any(ConstrainedSampler.Key.class), isNull(), eq(history), eq(3)))
+                    .willAnswer(invocation -> OverlapSampler.of(ConstrainedSampler.of(invocation.getArgument(0), null),
+                            OverlapSampler.admissible(history.copyNumberMasks(), 3)));
+
+            // when
+            List<LottoNumber> lottoNumberList = lottoMachineService.drawNumbersConstrained(500, constraint, DrawMode.UNIFORM);
+
+            // then
+            assertThat(lottoNumberList).hasSize(500);
+            for (LottoNumber lottoNumber : lottoNumberList) {
+                // 1, 2 를 넣었으므로 연속 2개 제한으로 3 은 나올 수 없음
+                assertThat(lottoNumber.getNumbers()).contains(1, 2).doesNotContain(3);
+                // 1회차와 겹치는 번호는 최대 3개
+                assertThat(TicketMask.matchCount(lottoNumber.toMask(), pastMask)).isLessThanOrEqualTo(3);
+            }
+
+            then(lottoMachine).should(times(0)).getWeightSnapshot();
+        }
+
+        @Test
+        @DisplayName("실패(만족하는 조합 없음)")
+        void fail() {
+            // given
+            TicketConstraint constraint = TicketConstraint.builder()
+                    .forcedNumbers(Arrays.asList(40, 41, 42))
+                    .maxSum(100)
+                    .build();
+
+            given(lottoMachine.getConstrainedSampler(any(ConstrainedSampler.Key.class), isNull()))
+                    .willAnswer(invocation -> ConstrainedSampler.of(invocation.getArgument(0), null));
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.drawNumbersConstrained(1, constraint, DrawMode.UNIFORM))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INFEASIBLE_CONSTRAINT);
+
+            then(resultHistoryStore).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패(지난 회차 겹침 조건까지 만족하는 조합 없음)")
+        void fail_overlap() {
+            // given
+            // 1 을 넣어야 하는데 1 이 나온 회차와 하나도 겹치면 안 됨
+            TicketConstraint constraint = TicketConstraint.builder()
+                    .forcedNumbers(List.of(1))
+                    .maxOverlap(0)
+                    .build();
+            ResultHistory history = ResultHistory.of(List.of(Result.builder()
+                    .round(1)
+                    .numbers(Arrays.asList(1, 2, 3, 4, 5, 6))
+                    .bonusNumber(7)
+                    .build()), List.of());
+
+            given(lottoMachine.getConstrainedSampler(any(ConstrainedSampler.Key.class), isNull()))
+                    .willAnswer(invocation -> ConstrainedSampler.of(invocation.getArgument(0), null));
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            given(lottoMachine.getOverlapSampler(any(ConstrainedSampler.Key.class), isNull(), eq(history), eq(0)))
+                    .willAnswer(invocation -> OverlapSampler.of(ConstrainedSampler.of(invocation.getArgument(0), null),
+                            OverlapSampler.admissible(history.copyNumberMasks(), 0)));
+
+            // when & then
+            assertThatThrownBy(() -> lottoMachineService.drawNumbersConstrained(1, constraint, DrawMode.UNIFORM))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INFEASIBLE_CONSTRAINT);
+
+            then(lottoMachine).should(never()).drawBonus(anyLong(), any(), any());
+        }
+
+    }
+
 }
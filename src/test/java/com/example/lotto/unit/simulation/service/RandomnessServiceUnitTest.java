@@ -0,0 +1,324 @@
+package com.example.lotto.unit.simulation.service;
+
+import com.example.lotto.configuration.LottoMachineProperties;
+import com.example.lotto.domain.Result;
+import com.example.lotto.error.CustomException;
+import com.example.lotto.error.ErrorCode;
+import com.example.lotto.history.ResultHistory;
+import com.example.lotto.history.ResultHistoryStore;
+import com.example.lotto.repository.RandomnessReportRepository;
+import com.example.lotto.repository.StatLottoRepository;
+import com.example.lotto.simulation.machine.LottoMachine;
+import com.example.lotto.simulation.machine.ParallelDrawEngine;
+import com.example.lotto.simulation.model.JobStatus;
+import com.example.lotto.simulation.model.RandomnessReport;
+import com.example.lotto.simulation.model.RandomnessSource;
+import com.example.lotto.simulation.model.RandomnessTestResult;
+import com.example.lotto.simulation.service.RandomnessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RandomnessServiceUnitTest {
+
+    @Mock
+    private StatLottoRepository statLottoRepository;
+
+    @Mock
+    private ResultHistoryStore resultHistoryStore;
+
+    @Mock
+    private RandomnessReportRepository randomnessReportRepository;
+
+    private LottoMachineProperties lottoMachineProperties;
+
+    private LottoMachine lottoMachine;
+
+    private ParallelDrawEngine parallelDrawEngine;
+
+    private RandomnessService randomnessService;
+
+    @BeforeEach
+    @DisplayName("데이터 설정")
+    void setUp() {
+        lottoMachineProperties = new LottoMachineProperties();
+        lottoMachineProperties.getParallel().setParallelism(4);
+
+        lottoMachine = new LottoMachine(statLottoRepository);
+        parallelDrawEngine = new ParallelDrawEngine(lottoMachine, lottoMachineProperties);
+        randomnessService = new RandomnessService(lottoMachine, parallelDrawEngine, resultHistoryStore,
+                randomnessReportRepository, lottoMachineProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        randomnessService.shutdown();
+        parallelDrawEngine.shutdown();
+    }
+
+    private static void assertSameTest(RandomnessTestResult actual, RandomnessTestResult expected) {
+        assertThat(actual.getStatistic()).isEqualTo(expected.getStatistic());
+        assertThat(actual.getPValue()).isEqualTo(expected.getPValue());
+    }
+
+    @Nested
+    @DisplayName("runRandomness 테스트")
+    class Test_RunRandomness {
+
+        @Test
+        @DisplayName("성공(HISTORY)")
+        void success_history() {
+            // given
+            // 번호 1은 1, 2, 4회차 (간격 1, 2), 번호 합은 모두 138 미만
+            ResultHistory history = ResultHistory.of(Arrays.asList(
+                    Result.builder().round(1).numbers(Arrays.asList(1, 2, 3, 4, 5, 6)).bonusNumber(7).build(),
+                    Result.builder().round(2).numbers(Arrays.asList(1, 2, 3, 10, 11, 12)).bonusNumber(45).build(),
+                    Result.builder().round(3).numbers(Arrays.asList(20, 21, 22, 23, 24, 25)).bonusNumber(7).build(),
+                    Result.builder().round(4).numbers(Arrays.asList(1, 8, 9, 13, 14, 15)).bonusNumber(2).build()),
+                    new ArrayList<>());
+            given(resultHistoryStore.getHistory()).willReturn(history);
+            given(randomnessReportRepository.save(any(RandomnessReport.class))).willAnswer(returnsFirstArg());
+
+            // when
+            RandomnessReport report = randomnessService.runRandomness(RandomnessSource.HISTORY, null, null);
+
+            // then
+            assertThat(report.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(report.getSampleCount()).isEqualTo(4L);
+            assertThat(report.getProcessedDraws()).isEqualTo(4L);
+            assertThat(report.getLatestRound()).isEqualTo(4);
+            assertThat(report.getNumberCountList()).hasSize(45);
+            assertThat(report.getNumberCountList().get(0)).isEqualTo(3L);
+            assertThat(report.getNumberCountList().get(44)).isEqualTo(0L);
+            assertThat(report.getBonusCountList().get(6)).isEqualTo(2L);
+
+            assertThat(report.getFrequencyTest().getDegreesOfFreedom()).isEqualTo(44);
+            assertThat(report.getFrequencyTest().getPValue()).isBetween(0.0, 1.0);
+            assertThat(report.getGapTest().getDegreesOfFreedom()).isEqualTo(31);
+            assertThat(report.getGapTest().getPValue()).isNotNull();
+            // 한쪽으로만 치우쳐 있으면 runs 검정을 할 수 없음
+            assertThat(report.getRunsTest().getPValue()).isNull();
+            assertThat(report.getSerialCorrelationTest().getPValue()).isNotNull();
+
+            then(randomnessReportRepository).should(times(1)).save(any(RandomnessReport.class));
+        }
+
+        @Test
+        @DisplayName("성공(UNIFORM)")
+        void success_uniform() {
+            // given
+            Long count = 200_000L;
+            given(randomnessReportRepository.save(any(RandomnessReport.class))).willAnswer(returnsFirstArg());
+
+            // when
+            RandomnessReport report = randomnessService.runRandomness(RandomnessSource.UNIFORM, count, 42L);
+            RandomnessReport again = randomnessService.runRandomness(RandomnessSource.UNIFORM, count, 42L);
+
+            // then
+            assertThat(report.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(report.getProcessedDraws()).isEqualTo(count);
+            assertThat(report.getNumberCountList().stream().mapToLong(Long::longValue).sum()).isEqualTo(count * 6);
+            assertThat(report.getBonusCountList().stream().mapToLong(Long::longValue).sum()).isEqualTo(count);
+            assertThat(report.getWeightVersion()).isNull();
+
+            // 균등 추첨기는 어떤 검정에서도 기각되지 않아야 함
+            assertThat(report.getFrequencyTest().getPValue()).isGreaterThan(1e-4);
+            assertThat(report.getRunsTest().getPValue()).isGreaterThan(1e-4);
+            assertThat(report.getSerialCorrelationTest().getPValue()).isGreaterThan(1e-4);
+            assertThat(report.getGapTest().getPValue()).isGreaterThan(1e-4);
+
+            // 시드가 같으면 같은 결과
+            assertThat(again.getNumberCountList()).isEqualTo(report.getNumberCountList());
+            assertSameTest(again.getGapTest(), report.getGapTest());
+        }
+
+        @Test
+        @DisplayName("성공(파티션으로 나눠도 순서대로 집계한 것과 같음)")
+        void success_partition() {
+            // given
+            int count = 5_000;
+            SplittableRandom random = new SplittableRandom(7L);
+            long[] tickets = new long[count];
+            for (int i = 0; i < count; i++) {
+                tickets[i] = lottoMachine.drawBonus(lottoMachine.drawUniformTicket(random), random, null);
+            }
+
+            // 추첨기는 파티션마다 받은 생성기로 자기 구간의 티켓을 순서대로 반환
+            Map<RandomGenerator, int[]> cursorMap = new HashMap<>();
+            LottoMachine stubMachine = mock(LottoMachine.class);
+            given(stubMachine.drawUniformTicket(any())).willAnswer(invocation -> {
+                int[] cursor = cursorMap.get(invocation.<RandomGenerator>getArgument(0));
+                return tickets[cursor[0]++];
+            });
+            given(stubMachine.drawBonus(anyLong(), any(), isNull())).willAnswer(returnsFirstArg());
+
+            ParallelDrawEngine stubEngine = mock(ParallelDrawEngine.class);
+            AtomicReference<long[]> bounds = new AtomicReference<>();
+            willAnswer(invocation -> {
+                ParallelDrawEngine.PartitionTask task = invocation.getArgument(3);
+                long[] b = bounds.get();
+                // 늦게 시작한 구간이 먼저 끝나도록 역순 실행
+                for (int p = b.length - 2; p >= 0; p--) {
+                    RandomGenerator generator = new SplittableRandom(p);
+                    cursorMap.put(generator, new int[]{(int) b[p]});
+                    task.run(b[p], b[p + 1], generator);
+                }
+                return null;
+            }).given(stubEngine).forEachPartition(eq((long) count), any(), isNull(), any());
+
+            given(randomnessReportRepository.save(any(RandomnessReport.class))).willAnswer(returnsFirstArg());
+            RandomnessService stubService = new RandomnessService(stubMachine, stubEngine, resultHistoryStore,
+                    randomnessReportRepository, lottoMachineProperties);
+
+            // when
+            bounds.set(new long[]{0, count});
+            RandomnessReport sequential = stubService.runRandomness(RandomnessSource.UNIFORM, (long) count, null);
+            bounds.set(new long[]{0, 1, 777, 2_500, 2_501, 4_999, count});
+            RandomnessReport partitioned = stubService.runRandomness(RandomnessSource.UNIFORM, (long) count, null);
+            stubService.shutdown();
+
+            // then
+            assertThat(partitioned.getProcessedDraws()).isEqualTo(count);
+            assertThat(partitioned.getNumberCountList()).isEqualTo(sequential.getNumberCountList());
+            assertThat(partitioned.getBonusCountList()).isEqualTo(sequential.getBonusCountList());
+            assertSameTest(partitioned.getFrequencyTest(), sequential.getFrequencyTest());
+            assertSameTest(partitioned.getRunsTest(), sequential.getRunsTest());
+            assertSameTest(partitioned.getSerialCorrelationTest(), sequential.getSerialCorrelationTest());
+            assertSameTest(partitioned.getGapTest(), sequential.getGapTest());
+        }
+
+        @Test
+        @DisplayName("실패(추첨 개수)")
+        void fail_count() {
+            // when & then
+            assertThatThrownBy(() -> randomnessService.runRandomness(RandomnessSource.UNIFORM, 0L, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DRAW_COUNT);
+        }
+
+        @Test
+        @DisplayName("실패(결과 없음)")
+        void fail_emptyHistory() {
+            // given
+            given(resultHistoryStore.getHistory()).willReturn(ResultHistory.EMPTY);
+
+            // when & then
+            assertThatThrownBy(() -> randomnessService.runRandomness(RandomnessSource.HISTORY, null, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RESULT);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("submitRandomness 테스트")
+    class Test_SubmitRandomness {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws InterruptedException {
+            // given
+            AtomicReference<RandomnessReport> saved = new AtomicReference<>();
+            given(randomnessReportRepository.save(any(RandomnessReport.class))).willAnswer(invocation -> {
+                saved.set(invocation.getArgument(0));
+                return saved.get();
+            });
+            given(randomnessReportRepository.findById(anyString())).willAnswer(invocation -> Optional.ofNullable(saved.get()));
+
+            // when
+            RandomnessReport submitted = randomnessService.submitRandomness(RandomnessSource.UNIFORM, 10_000L, 1L);
+
+            RandomnessReport report = randomnessService.readRandomness(submitted.getId());
+            for (int i = 0; i < 500 && (report.getStatus() == JobStatus.QUEUED || report.getStatus() == JobStatus.RUNNING); i++) {
+                Thread.sleep(10);
+                report = randomnessService.readRandomness(submitted.getId());
+            }
+
+            // then
+            assertThat(submitted.getStatus()).isEqualTo(JobStatus.QUEUED);
+            assertThat(submitted.getElapsedMillis()).isNull();
+            assertThat(report.getStatus()).isEqualTo(JobStatus.DONE);
+            assertThat(report.getProcessedDraws()).isEqualTo(10_000L);
+            assertThat(report.getFrequencyTest()).isNotNull();
+            // 상태가 DONE 이 된 뒤에 저장하므로 저장이 끝날 때까지 기다림
+            then(randomnessReportRepository).should(timeout(1000).times(2)).save(any(RandomnessReport.class));
+        }
+
+        @Test
+        @DisplayName("실패(대기 작업 초과)")
+        void fail_exceed() throws InterruptedException {
+            // given
+            // 첫 작업이 끝나지 않도록 막아 둠
+            CountDownLatch latch = new CountDownLatch(1);
+            ParallelDrawEngine blockingEngine = mock(ParallelDrawEngine.class);
+            willAnswer(invocation -> {
+                latch.await();
+                return null;
+            }).given(blockingEngine).forEachPartition(anyLong(), any(), any(), any());
+            given(randomnessReportRepository.save(any(RandomnessReport.class))).willAnswer(returnsFirstArg());
+
+            lottoMachineProperties.getRandomness().setMaxJobs(2);
+            RandomnessService limitedService = new RandomnessService(lottoMachine, blockingEngine, resultHistoryStore,
+                    randomnessReportRepository, lottoMachineProperties);
+
+            try {
+                RandomnessReport running = limitedService.submitRandomness(RandomnessSource.UNIFORM, 10L, 1L);
+                RandomnessReport queued = limitedService.submitRandomness(RandomnessSource.UNIFORM, 10L, 1L);
+
+                // when & then
+                assertThatThrownBy(() -> limitedService.submitRandomness(RandomnessSource.UNIFORM, 10L, 1L))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXCEED_SIMULATION_JOB);
+
+                // 실제로 시작해야 RUNNING
+                assertThat(limitedService.readRandomness(queued.getId()).getStatus()).isEqualTo(JobStatus.QUEUED);
+                RandomnessReport runningReport = limitedService.readRandomness(running.getId());
+                for (int i = 0; i < 500 && runningReport.getStatus() == JobStatus.QUEUED; i++) {
+                    Thread.sleep(10);
+                    runningReport = limitedService.readRandomness(running.getId());
+                }
+                assertThat(runningReport.getStatus()).isEqualTo(JobStatus.RUNNING);
+                assertThat(runningReport.getElapsedMillis()).isNotNull();
+            } finally {
+                latch.countDown();
+                limitedService.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("실패(보고서 없음)")
+        void fail() {
+            // given
+            given(randomnessReportRepository.findById("none")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> randomnessService.readRandomness("none"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXIST_RANDOMNESS_REPORT);
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.lotto.unit.utils;
+
+import com.example.lotto.utils.Combination;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CombinationUnitTest {
+
+    @Nested
+    @DisplayName("rank / unrank 테스트")
+    class Test_Rank {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            long first = TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 6));
+            long last = TicketMask.of(Arrays.asList(40, 41, 42, 43, 44, 45));
+
+            // when & then
+            assertThat(Combination.binomial(45, 6)).isEqualTo(Combination.COUNT);
+            assertThat(Combination.rank(first)).isZero();
+            assertThat(Combination.rank(last)).isEqualTo(Combination.COUNT - 1);
+            assertThat(Combination.unrank(0)).isEqualTo(first);
+            assertThat(Combination.unrank(Combination.COUNT - 1)).isEqualTo(last);
+
+            for (int rank = 0; rank < Combination.COUNT; rank += 9_973) {
+                long ticket = Combination.unrank(rank);
+                assertThat(Long.bitCount(ticket)).isEqualTo(6);
+                assertThat(Combination.rank(ticket)).isEqualTo(rank);
+            }
+        }
+
+        @Test
+        @DisplayName("실패")
+        void fail() {
+            // when & then
+            assertThatThrownBy(() -> Combination.unrank(Combination.COUNT))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("next 테스트")
+    class Test_Next {
+
+        @Test
+        @DisplayName("성공(colex 순서)")
+        void success() {
+            // given
+            long ticket = Combination.unrank(0);
+
+            for (int rank = 1; rank < 100_000; rank++) {
+                // when
+                ticket = Combination.next(ticket);
+
+                // then
+                assertThat(ticket).isEqualTo(Combination.unrank(rank));
+            }
+        }
+
+        @Test
+        @DisplayName("성공(마지막 조합)")
+        void success_last() {
+            // when & then
+            assertThat(Combination.next(Combination.unrank(Combination.COUNT - 1))).isZero();
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.lotto.unit.utils;
+
+import com.example.lotto.utils.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class StatisticsUnitTest {
+
+    @Nested
+    @DisplayName("p-value 테스트")
+    class Test_PValue {
+
+        @Test
+        @DisplayName("성공(카이제곱)")
+        void success_chiSquare() {
+            // 자유도 1 의 5% 임계값
+            assertThat(Statistics.chiSquarePValue(3.841458820694124, 1)).isCloseTo(0.05, within(1e-9));
+            // 자유도 2 는 exp(-x / 2)
+            assertThat(Statistics.chiSquarePValue(5.0, 2)).isCloseTo(Math.exp(-2.5), within(1e-12));
+            assertThat(Statistics.chiSquarePValue(0.5, 2)).isCloseTo(Math.exp(-0.25), within(1e-12));
+            assertThat(Statistics.chiSquarePValue(0.0, 44)).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공(정규분포)")
+        void success_normal() {
+            assertThat(Statistics.normalTwoSidedPValue(1.959963984540054)).isCloseTo(0.05, within(1e-9));
+            assertThat(Statistics.normalTwoSidedPValue(-1.959963984540054)).isCloseTo(0.05, within(1e-9));
+            assertThat(Statistics.normalTwoSidedPValue(0.0)).isEqualTo(1.0);
+            assertThat(Statistics.logGamma(5.0)).isCloseTo(Math.log(24.0), within(1e-10));
+        }
+
+        @Test
+        @DisplayName("실패(자유도)")
+        void fail() {
+            // when & then
+            assertThatThrownBy(() -> Statistics.chiSquarePValue(1.0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.lotto.unit.utils;
+
+import com.example.lotto.domain.Result;
+import com.example.lotto.simulation.model.LottoNumber;
+import com.example.lotto.utils.TicketMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TicketMaskUnitTest {
+
+    private final List<Integer> numbers = Arrays.asList(3, 13, 30, 33, 43, 45);
+    private final Integer bonusNumber = 4;
+
+    @Nested
+    @DisplayName("변환 테스트")
+    class Test_Convert {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // when
+            long ticket = TicketMask.of(numbers, bonusNumber);
+
+            // then
+            assertThat(TicketMask.isValid(ticket)).isTrue();
+            assertThat(TicketMask.toList(ticket)).isEqualTo(numbers);
+            assertThat(TicketMask.bonus(ticket)).isEqualTo(bonusNumber);
+            assertThat(Long.bitCount(TicketMask.numbers(ticket))).isEqualTo(6);
+
+            LottoNumber lottoNumber = LottoNumber.of(ticket);
+            assertThat(lottoNumber.getNumbers()).isEqualTo(numbers);
+            assertThat(lottoNumber.getBonusNumber()).isEqualTo(bonusNumber);
+            assertThat(lottoNumber.toMask()).isEqualTo(ticket);
+
+            Result result = Result.builder().numbers(numbers).bonusNumber(bonusNumber).build();
+            assertThat(result.toMask()).isEqualTo(ticket);
+        }
+
+        @Test
+        @DisplayName("실패")
+        void fail() {
+            // when & then
+            assertThatThrownBy(() -> TicketMask.of(Arrays.asList(0, 1, 2, 3, 4, 5)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TicketMask.of(Arrays.asList(1, 2, 3, 4, 5, 46)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(TicketMask.isValid(TicketMask.of(Arrays.asList(1, 2, 3, 4, 5)))).isFalse();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("rank 테스트")
+    class Test_Rank {
+
+        @Test
+        @DisplayName("성공")
+        void success() {
+            // given
+            long winning = TicketMask.of(numbers, bonusNumber);
+
+            // when & then
+            assertThat(TicketMask.rank(TicketMask.of(numbers), winning)).isEqualTo(1);
+            assertThat(TicketMask.rank(TicketMask.of(Arrays.asList(3, 4, 13, 30, 33, 43)), winning)).isEqualTo(2);
+            assertThat(TicketMask.rank(TicketMask.of(Arrays.asList(3, 5, 13, 30, 33, 43)), winning)).isEqualTo(3);
+            assertThat(TicketMask.rank(TicketMask.of(Arrays.asList(1, 2, 13, 30, 33, 43)), winning)).isEqualTo(4);
+            assertThat(TicketMask.rank(TicketMask.of(Arrays.asList(1, 2, 4, 30, 33, 43)), winning)).isEqualTo(5);
+            assertThat(TicketMask.rank(TicketMask.of(Arrays.asList(1, 2, 4, 5, 33, 43)), winning)).isEqualTo(0);
+        }
+
+    }
+
+}